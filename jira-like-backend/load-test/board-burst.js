@@ -0,0 +1,48 @@
+// Morning-burst load test: many users opening boards at once.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e PROJECT_IDS=1,2,3 load-test/board-burst.js
+//
+// Run once against each threading mode (see README, "Virtual Threads") and compare
+// http_req_duration percentiles, http_req_failed and the share of 503 responses.
+import http from 'k6/http';
+import { check } from 'k6';
+import { Rate } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const PROJECT_IDS = (__ENV.PROJECT_IDS || '1').split(',');
+
+const busy = new Rate('busy_503');
+
+export const options = {
+  scenarios: {
+    morning_burst: {
+      executor: 'ramping-arrival-rate',
+      startRate: 20,
+      timeUnit: '1s',
+      preAllocatedVUs: 200,
+      maxVUs: 2000,
+      stages: [
+        { target: 50, duration: '30s' },
+        { target: 800, duration: '15s' },
+        { target: 800, duration: '60s' },
+        { target: 50, duration: '15s' },
+      ],
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.05'],
+    http_req_duration: ['p(95)<1500'],
+  },
+};
+
+export default function () {
+  const projectId = PROJECT_IDS[Math.floor(Math.random() * PROJECT_IDS.length)];
+  const responses = http.batch([
+    ['GET', `${BASE_URL}/api/projects/${projectId}/columns`],
+    ['GET', `${BASE_URL}/api/projects/${projectId}/facets`],
+  ]);
+  for (const res of responses) {
+    busy.add(res.status === 503);
+    check(res, { 'status is 200': (r) => r.status === 200 });
+  }
+}
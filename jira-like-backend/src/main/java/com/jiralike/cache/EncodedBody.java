@@ -0,0 +1,42 @@
+package com.jiralike.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A response body (JSON or one of the binary formats) serialized once and compressed once,
+ * ready to be written as-is. {@code gzip} is null for bodies too small to be worth compressing.
+ */
+public record EncodedBody(byte[] identity, byte[] gzip, long serializeNanos) {
+
+    /** Below this, gzip framing and the extra header cost about what compression saves. */
+    static final int MIN_COMPRESS_BYTES = 1024;
+
+    /** {@code serializeNanos} is the time it took to produce {@code body}, i.e. what a reuse saves. */
+    public static EncodedBody of(byte[] body, long serializeNanos) {
+        return new EncodedBody(body, body.length < MIN_COMPRESS_BYTES ? null : gzip(body), serializeNanos);
+    }
+
+    /** Bytes held in memory: both encodings. */
+    public long size() {
+        return identity.length + (gzip != null ? gzip.length : 0);
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        // Compressed once per board version and then reused, so spend the extra CPU on level 9.
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8192) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,174 @@
+package com.jiralike.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Small LRU cache for per-project read models keyed by projects.board_version.
+ *
+ * Each (project, variant) slot holds the value computed for one board version; a read
+ * with a newer version recomputes and replaces it, so no explicit invalidation is needed.
+ * The variant distinguishes different views of the same project (e.g. facet filters).
+ * With a weigher the cache is also bounded by the total weight of its values, evicting the
+ * least recently used entries first; a value heavier than the bound is not cached at all.
+ */
+public class ProjectVersionCache<V> {
+
+    private final Map<Key, Entry<V>> entries;
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    private long weight;
+    private long hits;
+    private long misses;
+    private long generation;
+
+    public ProjectVersionCache(int maxEntries) {
+        this(maxEntries, Long.MAX_VALUE, value -> 0L);
+    }
+
+    public ProjectVersionCache(int maxEntries, long maxWeight, ToLongFunction<V> weigher) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry<V>> eldest) {
+                if (size() > maxEntries) {
+                    weight -= eldest.getValue().weight;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public V get(Long projectId, String variant, long version, Supplier<V> loader) {
+        V cached = getIfCurrent(projectId, variant, version);
+        if (cached != null) {
+            return cached;
+        }
+        // Computed outside the lock; concurrent misses may compute twice, last writer wins.
+        long generation = generation();
+        V value = loader.get();
+        put(projectId, variant, version, generation, value);
+        return value;
+    }
+
+    /** Returns the value cached for exactly this version, or null; for callers that load misses in bulk. */
+    public synchronized V getIfCurrent(Long projectId, String variant, long version) {
+        Entry<V> entry = entries.get(new Key(projectId, variant));
+        if (entry != null && entry.version == version) {
+            hits++;
+            return entry.value;
+        }
+        misses++;
+        return null;
+    }
+
+    /** Stores a value unless a newer version is already cached. */
+    public synchronized void put(Long projectId, String variant, long version, V value) {
+        Key key = new Key(projectId, variant);
+        Entry<V> current = entries.get(key);
+        if (current != null && current.version > version) {
+            return;
+        }
+        long valueWeight = weigher.applyAsLong(value);
+        if (valueWeight > maxWeight) {
+            return;
+        }
+        Entry<V> replaced = entries.put(key, new Entry<>(version, value, valueWeight));
+        weight += valueWeight - (replaced != null ? replaced.weight : 0);
+        Iterator<Entry<V>> eldest = entries.values().iterator();
+        while (weight > maxWeight) {
+            weight -= eldest.next().weight;
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Stores a value loaded after {@link #generation()} returned {@code generation}, unless the
+     * cache was cleared since: the load may then have read data the clear was meant to drop.
+     */
+    public synchronized void put(Long projectId, String variant, long version, long generation, V value) {
+        if (generation == this.generation) {
+            put(projectId, variant, version, value);
+        }
+    }
+
+    /** Changes on every {@link #clear()}; read it before a load that will be stored. */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    public synchronized void evictProject(Long projectId) {
+        entries.entrySet().removeIf(entry -> {
+            if (entry.getKey().projectId.equals(projectId)) {
+                weight -= entry.getValue().weight;
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /** For changes the board version does not track, such as user renames. */
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+        generation++;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /** Total weight of the cached values; always 0 without a weigher. */
+    public synchronized long weight() {
+        return weight;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    private static final class Key {
+        final Long projectId;
+        final String variant;
+
+        Key(Long projectId, String variant) {
+            this.projectId = projectId;
+            this.variant = variant;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return projectId.equals(other.projectId) && Objects.equals(variant, other.variant);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(projectId, variant);
+        }
+    }
+
+    private static final class Entry<V> {
+        final long version;
+        final V value;
+        final long weight;
+
+        Entry(long version, V value, long weight) {
+            this.version = version;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.jiralike.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into one computation.
+ *
+ * The first caller for a key (the leader) runs the loader on its own thread; callers that
+ * arrive while it is running wait for its result, or its exception, instead of loading
+ * again. Nothing is kept once the leader finishes, so this is not a cache: the next call
+ * for the key starts a new flight.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong flights = new AtomicLong();
+    private final AtomicLong collapsed = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    /**
+     * Returns the loader's value for {@code key}. Only callers that join another caller's
+     * flight are subject to {@code timeoutMillis}; the leader runs the loader to completion.
+     *
+     * @throws TimeoutException if a joined flight did not finish in time
+     */
+    public Result<V> execute(K key, long timeoutMillis, Supplier<V> loader) throws TimeoutException {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, own);
+        if (running == null) {
+            flights.incrementAndGet();
+            try {
+                V value = loader.get();
+                own.complete(value);
+                return new Result<>(value, false);
+            } catch (RuntimeException | Error e) {
+                failures.incrementAndGet();
+                own.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, own);
+            }
+        }
+
+        collapsed.incrementAndGet();
+        try {
+            return new Result<>(running.get(timeoutMillis, TimeUnit.MILLISECONDS), true);
+        } catch (TimeoutException e) {
+            timeouts.incrementAndGet();
+            throw e;
+        } catch (ExecutionException e) {
+            // The leader's own exception, so followers see the same status and message.
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + key, e);
+        }
+    }
+
+    /** Loads that actually ran. */
+    public long getFlights() {
+        return flights.get();
+    }
+
+    /** Calls that were served by another caller's load. */
+    public long getCollapsed() {
+        return collapsed.get();
+    }
+
+    public long getTimeouts() {
+        return timeouts.get();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    /** {@code shared} is true when the value came from another caller's flight. */
+    public record Result<V>(V value, boolean shared) {
+    }
+}
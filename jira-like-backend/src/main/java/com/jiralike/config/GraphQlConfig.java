@@ -0,0 +1,35 @@
+package com.jiralike.config;
+
+import com.jiralike.graphql.FieldTimingInstrumentation;
+import com.jiralike.graphql.ListComplexityCalculator;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Limits for /api/graphql, checked before any resolver runs, and the per-field timing used
+ * by {@code debug=true}. Spring Boot adds every Instrumentation bean to the GraphQL engine.
+ */
+@Configuration
+public class GraphQlConfig {
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(
+            @Value("${jiralike.graphql.max-depth:8}") int maxDepth) {
+        return new MaxQueryDepthInstrumentation(maxDepth);
+    }
+
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(
+            @Value("${jiralike.graphql.max-complexity:2000}") int maxComplexity,
+            @Value("${jiralike.graphql.list-weight:10}") int listWeight) {
+        return new MaxQueryComplexityInstrumentation(maxComplexity, new ListComplexityCalculator(listWeight));
+    }
+
+    @Bean
+    public FieldTimingInstrumentation fieldTimingInstrumentation() {
+        return new FieldTimingInstrumentation();
+    }
+}
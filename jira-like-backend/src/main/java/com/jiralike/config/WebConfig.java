@@ -1,6 +1,11 @@
 package com.jiralike.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jiralike.cache.BodyFormat;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -13,6 +18,20 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins("http://localhost:3000")
                 .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("X-Next-Cursor", "Server-Timing", "X-Filter-Plan", "X-Board-Snapshot")
                 .allowCredentials(true);
     }
+
+    // CBOR and Smile for clients that send a matching Accept (or Content-Type); JSON stays the
+    // default. These replace MVC's own binary converters, which would not share the JSON
+    // mapper's configuration and so would write timestamps as numbers.
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2CborHttpMessageConverter(BodyFormat.CBOR.mapper(objectMapper));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2SmileHttpMessageConverter(BodyFormat.SMILE.mapper(objectMapper));
+    }
 }
@@ -0,0 +1,47 @@
+package com.jiralike.controller;
+
+import com.jiralike.dto.BurndownDto;
+import com.jiralike.dto.CumulativeFlowDto;
+import com.jiralike.dto.CycleTimeDto;
+import com.jiralike.dto.VelocityDto;
+import com.jiralike.service.FlowAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final FlowAnalyticsService flowAnalyticsService;
+
+    @GetMapping("/projects/{projectId}/analytics/cumulative-flow")
+    public CumulativeFlowDto cumulativeFlow(@PathVariable Long projectId,
+                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return flowAnalyticsService.cumulativeFlow(projectId, from, to);
+    }
+
+    @GetMapping("/projects/{projectId}/analytics/cycle-time")
+    public CycleTimeDto cycleTime(@PathVariable Long projectId,
+                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return flowAnalyticsService.cycleTime(projectId, from, to);
+    }
+
+    @GetMapping("/projects/{projectId}/analytics/burndown")
+    public BurndownDto burndown(@PathVariable Long projectId,
+                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return flowAnalyticsService.burndown(projectId, from, to);
+    }
+
+    @GetMapping("/projects/{projectId}/analytics/velocity")
+    public VelocityDto velocity(@PathVariable Long projectId,
+                                @RequestParam(required = false) Integer weeks) {
+        return flowAnalyticsService.velocity(projectId, weeks);
+    }
+}
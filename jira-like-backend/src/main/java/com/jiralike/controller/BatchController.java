@@ -0,0 +1,26 @@
+package com.jiralike.controller;
+
+import com.jiralike.dto.BatchRequestDto;
+import com.jiralike.dto.BatchResponseDto;
+import com.jiralike.service.BatchService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class BatchController {
+
+    private final BatchService batchService;
+    private final BatchDispatcher dispatcher;
+
+    // Several API calls in one round trip; always 200, each operation carries its own status
+    @PostMapping("/batch")
+    public BatchResponseDto execute(@Valid @RequestBody BatchRequestDto dto,
+                                    HttpServletRequest request, HttpServletResponse response) {
+        return batchService.execute(dto, operation -> dispatcher.dispatch(request, response, operation));
+    }
+}
@@ -0,0 +1,603 @@
+package com.jiralike.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.jiralike.dto.BatchOperationDto;
+import com.jiralike.dto.BatchResultDto;
+import com.jiralike.service.BatchService;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.validation.BindException;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+/**
+ * Runs one batch operation through Spring MVC in-process: handler mapping, argument binding,
+ * validation, message converters and exception resolvers are those a standalone request would
+ * use, without a second pass through Tomcat and the servlet filters. Interceptors are skipped;
+ * the enclosing {@code /api/batch} request already ran them, open-in-view included, which is what
+ * lets the operations share one persistence context.
+ */
+@Slf4j
+@Component
+public class BatchDispatcher {
+
+    private static final List<Class<?>> ASYNC_TYPES = List.of(Callable.class, DeferredResult.class,
+            WebAsyncTask.class, ResponseBodyEmitter.class, StreamingResponseBody.class);
+    private static final Set<String> OMITTED_HEADERS =
+            Set.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_LENGTH, HttpHeaders.VARY);
+
+    private final RequestMappingHandlerMapping handlerMapping;
+    private final RequestMappingHandlerAdapter handlerAdapter;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final ObjectMapper objectMapper;
+
+    public BatchDispatcher(RequestMappingHandlerMapping handlerMapping,
+                           RequestMappingHandlerAdapter handlerAdapter,
+                           @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+                           ObjectMapper objectMapper) {
+        this.handlerMapping = handlerMapping;
+        this.handlerAdapter = handlerAdapter;
+        this.exceptionResolver = exceptionResolver;
+        this.objectMapper = objectMapper;
+    }
+
+    public BatchResultDto dispatch(HttpServletRequest batchRequest, HttpServletResponse batchResponse,
+                                   BatchOperationDto operation) {
+        if (!operation.getPath().startsWith("/api/")) {
+            return BatchService.failure(HttpStatus.BAD_REQUEST, "Only /api paths can be batched");
+        }
+        OperationRequest request;
+        try {
+            byte[] body = operation.getBody() == null ? new byte[0] : objectMapper.writeValueAsBytes(operation.getBody());
+            request = new OperationRequest(batchRequest, operation.getMethod(), operation.getPath(), body);
+        } catch (IOException | IllegalArgumentException e) {
+            return BatchService.failure(HttpStatus.BAD_REQUEST, "Invalid operation: " + e.getMessage());
+        }
+        OperationResponse response = new OperationResponse(batchResponse);
+
+        Object handler = null;
+        try {
+            ServletRequestPathUtils.parseAndCache(request);
+            HandlerExecutionChain chain = handlerMapping.getHandler(request);
+            if (chain == null) {
+                return BatchService.failure(HttpStatus.NOT_FOUND,
+                        "No endpoint for " + operation.getMethod() + " " + request.getRequestURI());
+            }
+            handler = chain.getHandler();
+            String unsupported = unsupported(handler);
+            if (unsupported != null) {
+                return BatchService.failure(HttpStatus.BAD_REQUEST, unsupported);
+            }
+            handlerAdapter.handle(request, response, handler);
+        } catch (Exception e) {
+            if (exceptionResolver.resolveException(request, response, handler, e) == null) {
+                log.error("Batch operation {} {} failed", operation.getMethod(), operation.getPath(), e);
+                return BatchService.failure(HttpStatus.INTERNAL_SERVER_ERROR, "Internal error");
+            }
+            if (e instanceof BindException bind && response.getStatus() == HttpStatus.BAD_REQUEST.value()) {
+                response.error = bind.getFieldErrors().stream()
+                        .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                        .collect(Collectors.joining("; "));
+            }
+        }
+        return response.toResult(objectMapper);
+    }
+
+    /** Nested batches and async handlers (reactive reads, emitters) cannot complete inside a batch. */
+    private static String unsupported(Object handler) {
+        if (!(handler instanceof HandlerMethod method)) {
+            return "Endpoint cannot be batched";
+        }
+        if (method.getBeanType() == BatchController.class) {
+            return "Batches cannot be nested";
+        }
+        MethodParameter returnType = method.getReturnType();
+        Class<?> type = HttpEntity.class.isAssignableFrom(returnType.getParameterType())
+                ? returnType.nested().getNestedParameterType() : returnType.getParameterType();
+        if (ReactiveAdapterRegistry.getSharedInstance().getAdapter(type) != null
+                || ASYNC_TYPES.stream().anyMatch(async -> async.isAssignableFrom(type))) {
+            return "Asynchronous endpoints cannot be batched";
+        }
+        return null;
+    }
+
+    /**
+     * The operation as a request: its own method, URI, parameters, JSON body and attributes, so
+     * nothing MVC stores while handling it leaks into the batch request. Everything else
+     * (locale, remote address, servlet mapping) is the batch request's.
+     */
+    static final class OperationRequest extends HttpServletRequestWrapper {
+
+        private final String method;
+        private final String uri;
+        private final String query;
+        private final MultiValueMap<String, String> parameters = new LinkedMultiValueMap<>();
+        private final byte[] body;
+        private final HttpHeaders headers = new HttpHeaders();
+        private final Map<String, Object> attributes = new HashMap<>();
+
+        OperationRequest(HttpServletRequest batchRequest, String method, String path, byte[] body) {
+            super(batchRequest);
+            var components = UriComponentsBuilder.fromUriString(path).build();
+            this.method = method;
+            this.uri = components.getPath();
+            this.query = components.getQuery();
+            components.getQueryParams().forEach((name, values) -> values.forEach(value ->
+                    parameters.add(decode(name), value == null ? "" : decode(value))));
+            this.body = body;
+            headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+            if (body.length > 0) {
+                headers.setContentType(MediaType.APPLICATION_JSON);
+                headers.setContentLength(body.length);
+            }
+        }
+
+        private static String decode(String value) {
+            return UriUtils.decode(value, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String getMethod() {
+            return method;
+        }
+
+        @Override
+        public String getRequestURI() {
+            return uri;
+        }
+
+        @Override
+        public StringBuffer getRequestURL() {
+            return new StringBuffer(getScheme()).append("://").append(getServerName()).append(':')
+                    .append(getServerPort()).append(uri);
+        }
+
+        @Override
+        public String getServletPath() {
+            return uri.substring(getContextPath().length());
+        }
+
+        @Override
+        public String getPathInfo() {
+            return null;
+        }
+
+        @Override
+        public String getQueryString() {
+            return query;
+        }
+
+        @Override
+        public String getParameter(String name) {
+            return parameters.getFirst(name);
+        }
+
+        @Override
+        public Map<String, String[]> getParameterMap() {
+            Map<String, String[]> map = new LinkedHashMap<>();
+            parameters.forEach((name, values) -> map.put(name, values.toArray(String[]::new)));
+            return map;
+        }
+
+        @Override
+        public Enumeration<String> getParameterNames() {
+            return Collections.enumeration(parameters.keySet());
+        }
+
+        @Override
+        public String[] getParameterValues(String name) {
+            List<String> values = parameters.get(name);
+            return values == null ? null : values.toArray(String[]::new);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return headers.getFirst(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return Collections.enumeration(headers.getOrEmpty(name));
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            return Collections.enumeration(headers.keySet());
+        }
+
+        @Override
+        public int getIntHeader(String name) {
+            String value = getHeader(name);
+            return value == null ? -1 : Integer.parseInt(value);
+        }
+
+        @Override
+        public long getDateHeader(String name) {
+            return headers.getFirstDate(name);
+        }
+
+        @Override
+        public String getContentType() {
+            return getHeader(HttpHeaders.CONTENT_TYPE);
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+
+        @Override
+        public String getCharacterEncoding() {
+            return StandardCharsets.UTF_8.name();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            return attributes.get(name);
+        }
+
+        @Override
+        public Enumeration<String> getAttributeNames() {
+            return Collections.enumeration(attributes.keySet());
+        }
+
+        @Override
+        public void setAttribute(String name, Object value) {
+            if (value == null) {
+                attributes.remove(name);
+            } else {
+                attributes.put(name, value);
+            }
+        }
+
+        @Override
+        public void removeAttribute(String name) {
+            attributes.remove(name);
+        }
+
+        @Override
+        public boolean isAsyncSupported() {
+            return false;
+        }
+
+        @Override
+        public boolean isAsyncStarted() {
+            return false;
+        }
+
+        @Override
+        public AsyncContext startAsync() {
+            throw new IllegalStateException("Async processing is not available in a batch");
+        }
+
+        @Override
+        public AsyncContext startAsync(ServletRequest request, ServletResponse response) {
+            throw new IllegalStateException("Async processing is not available in a batch");
+        }
+    }
+
+    /** Buffers status, headers and body; nothing reaches the batch response or commits it. */
+    static final class OperationResponse extends HttpServletResponseWrapper {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private final HttpHeaders headers = new HttpHeaders();
+        private int status = HttpStatus.OK.value();
+        private String error;
+        private String characterEncoding = StandardCharsets.UTF_8.name();
+        private PrintWriter writer;
+
+        OperationResponse(HttpServletResponse batchResponse) {
+            super(batchResponse);
+        }
+
+        BatchResultDto toResult(ObjectMapper objectMapper) {
+            if (writer != null) {
+                writer.flush();
+            }
+            BatchResultDto result = new BatchResultDto();
+            result.setStatus(status);
+            headers.forEach((name, values) -> {
+                if (OMITTED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                    result.getHeaders().put(name, String.join(", ", values));
+                }
+            });
+            if (status >= 400) {
+                result.setError(error != null ? error : reason(status));
+            }
+            byte[] bytes = body.toByteArray();
+            if (bytes.length > 0) {
+                result.setBody(parse(bytes, objectMapper));
+            }
+            return result;
+        }
+
+        private JsonNode parse(byte[] bytes, ObjectMapper objectMapper) {
+            MediaType type = headers.getContentType();
+            if (type != null && (type.isCompatibleWith(MediaType.APPLICATION_JSON) || type.getSubtype().endsWith("+json"))) {
+                try {
+                    return objectMapper.readTree(bytes);
+                } catch (IOException e) {
+                    log.warn("Batch operation returned invalid JSON", e);
+                }
+            }
+            return new TextNode(new String(bytes, StandardCharsets.UTF_8));
+        }
+
+        private static String reason(int status) {
+            HttpStatus resolved = HttpStatus.resolve(status);
+            return resolved != null ? resolved.getReasonPhrase() : String.valueOf(status);
+        }
+
+        @Override
+        public void setStatus(int sc) {
+            status = sc;
+        }
+
+        @Override
+        public int getStatus() {
+            return status;
+        }
+
+        @Override
+        public void sendError(int sc) {
+            sendError(sc, null);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) {
+            status = sc;
+            error = msg;
+        }
+
+        @Override
+        public void sendRedirect(String location) {
+            status = HttpStatus.FOUND.value();
+            headers.setLocation(URI.create(location));
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            headers.set(name, value);
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            headers.add(name, value);
+        }
+
+        @Override
+        public void setIntHeader(String name, int value) {
+            setHeader(name, String.valueOf(value));
+        }
+
+        @Override
+        public void addIntHeader(String name, int value) {
+            addHeader(name, String.valueOf(value));
+        }
+
+        @Override
+        public void setDateHeader(String name, long date) {
+            headers.setDate(name, date);
+        }
+
+        @Override
+        public void addDateHeader(String name, long date) {
+            addHeader(name, DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(date).atZone(ZoneOffset.UTC)));
+        }
+
+        @Override
+        public boolean containsHeader(String name) {
+            return headers.containsKey(name);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return headers.getFirst(name);
+        }
+
+        @Override
+        public Collection<String> getHeaders(String name) {
+            return headers.getOrEmpty(name);
+        }
+
+        @Override
+        public Collection<String> getHeaderNames() {
+            return headers.keySet();
+        }
+
+        @Override
+        public void setContentType(String type) {
+            if (type == null) {
+                headers.remove(HttpHeaders.CONTENT_TYPE);
+            } else {
+                headers.set(HttpHeaders.CONTENT_TYPE, type);
+            }
+        }
+
+        @Override
+        public String getContentType() {
+            return headers.getFirst(HttpHeaders.CONTENT_TYPE);
+        }
+
+        @Override
+        public void setCharacterEncoding(String charset) {
+            characterEncoding = charset;
+        }
+
+        @Override
+        public String getCharacterEncoding() {
+            return characterEncoding;
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            // the body is buffered; its length is known at the end
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            // the body is buffered; its length is known at the end
+        }
+
+        @Override
+        public void setLocale(Locale locale) {
+            // would set Content-Language on the batch response
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return new ServletOutputStream() {
+                @Override
+                public void write(int b) {
+                    body.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    body.write(b, off, len);
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(body, Charset.forName(characterEncoding)));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() {
+            if (writer != null) {
+                writer.flush();
+            }
+        }
+
+        @Override
+        public boolean isCommitted() {
+            return false;
+        }
+
+        @Override
+        public void reset() {
+            resetBuffer();
+            headers.clear();
+            status = HttpStatus.OK.value();
+            error = null;
+        }
+
+        @Override
+        public void resetBuffer() {
+            body.reset();
+        }
+    }
+}
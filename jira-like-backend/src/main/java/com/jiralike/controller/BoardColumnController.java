@@ -1,11 +1,17 @@
 package com.jiralike.controller;
 
+import com.jiralike.cache.BodyFormat;
 import com.jiralike.dto.BoardColumnCreateDto;
 import com.jiralike.dto.BoardColumnDto;
+import com.jiralike.dto.BoardJsonCheckDto;
 import com.jiralike.service.BoardColumnService;
+import com.jiralike.service.BoardSnapshotService;
+import com.jiralike.service.TicketFilterService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -16,10 +22,40 @@ import java.util.List;
 public class BoardColumnController {
 
     private final BoardColumnService columnService;
+    private final BoardSnapshotService snapshotService;
+    private final TicketFilterService filterService;
 
+    // filter: board filter expression; me: user id that "me" resolves to; debug: adds timing headers;
+    // userDictionary: returns {items, users} with users listed once and referenced by id.
+    // The plain board is a cached, pre-serialized (and pre-gzipped) snapshot of the board version,
+    // in JSON, CBOR or Smile as negotiated from Accept.
     @GetMapping("/projects/{projectId}/columns")
-    public List<BoardColumnDto> getByProject(@PathVariable Long projectId) {
-        return columnService.findByProject(projectId);
+    public ResponseEntity<?> getByProject(@PathVariable Long projectId,
+                                          @RequestParam(required = false) String filter,
+                                          @RequestParam(required = false) Long me,
+                                          @RequestParam(defaultValue = "false") boolean debug,
+                                          @RequestParam(defaultValue = "false") boolean userDictionary,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                          String acceptEncoding) {
+        boolean unfiltered = filter == null || filter.isBlank();
+        if (unfiltered && !userDictionary) {
+            BodyFormat format = SnapshotResponses.negotiate(accept);
+            return SnapshotResponses.toResponse(snapshotService, snapshotService.getBoard(projectId, format),
+                    format, acceptEncoding, debug);
+        }
+        ResponseEntity<List<BoardColumnDto>> response = unfiltered
+                ? ResponseEntity.ok(columnService.findByProject(projectId))
+                : FilterResponses.toResponse(filterService.findBoard(projectId, filter, me), debug);
+        return userDictionary
+                ? FilterResponses.withUserDictionary(response, column -> column.getTickets().stream())
+                : response;
+    }
+
+    // Compares the SQL-assembled board JSON with the DTO serialization, byte for byte.
+    @GetMapping("/projects/{projectId}/columns/json-check")
+    public BoardJsonCheckDto checkSqlJson(@PathVariable Long projectId) {
+        return snapshotService.checkSqlJson(projectId);
     }
 
     @PostMapping("/columns")
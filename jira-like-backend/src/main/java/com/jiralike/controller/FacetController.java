@@ -0,0 +1,21 @@
+package com.jiralike.controller;
+
+import com.jiralike.dto.FacetCountsDto;
+import com.jiralike.service.BoardFacetService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class FacetController {
+
+    private final BoardFacetService facetService;
+
+    @GetMapping("/projects/{projectId}/facets")
+    public FacetCountsDto getFacets(@PathVariable Long projectId,
+                                    @RequestParam(required = false) String filter,
+                                    @RequestParam(required = false) Long me) {
+        return facetService.getFacets(projectId, filter, me);
+    }
+}
@@ -0,0 +1,54 @@
+package com.jiralike.controller;
+
+import com.jiralike.dto.FilteredResultDto;
+import com.jiralike.dto.TicketDto;
+import com.jiralike.dto.UserDictionaryDto;
+import com.jiralike.dto.UserDto;
+import org.springframework.http.ResponseEntity;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/** Shared response shaping for filtered ticket and board reads. */
+final class FilterResponses {
+
+    static final String PLAN_HEADER = "X-Filter-Plan";
+
+    private FilterResponses() {
+    }
+
+    static <T> ResponseEntity<List<T>> toResponse(FilteredResultDto<T> result, boolean debug) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (debug) {
+            response.header("Server-Timing", result.getTiming().toServerTiming());
+            response.header(PLAN_HEADER, result.getTiming().getPlan());
+        }
+        return response.body(result.getItems());
+    }
+
+    /**
+     * Moves the embedded assignee/reporter of every ticket into a top-level dictionary keyed
+     * by user id, keeping the headers of {@code response}. The ticket DTOs are modified in place.
+     */
+    static <T> ResponseEntity<UserDictionaryDto<T>> withUserDictionary(ResponseEntity<List<T>> response,
+                                                                      Function<T, Stream<TicketDto>> tickets) {
+        List<T> items = response.getBody();
+        Map<Long, UserDto> users = new LinkedHashMap<>();
+        items.stream().flatMap(tickets).forEach(ticket -> {
+            if (ticket.getAssignee() != null) {
+                users.putIfAbsent(ticket.getAssignee().getId(), ticket.getAssignee());
+                ticket.setAssignee(null);
+            }
+            if (ticket.getReporter() != null) {
+                users.putIfAbsent(ticket.getReporter().getId(), ticket.getReporter());
+                ticket.setReporter(null);
+            }
+        });
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .body(new UserDictionaryDto<>(items, users));
+    }
+}
@@ -0,0 +1,169 @@
+package com.jiralike.controller;
+
+import com.jiralike.dto.BoardColumnDto;
+import com.jiralike.dto.CommentDto;
+import com.jiralike.dto.ProjectDto;
+import com.jiralike.dto.TicketDto;
+import com.jiralike.dto.UserDto;
+import com.jiralike.service.BoardColumnService;
+import com.jiralike.service.CommentService;
+import com.jiralike.service.MarkdownService;
+import com.jiralike.service.ProjectService;
+import com.jiralike.service.TicketService;
+import com.jiralike.service.UserService;
+import org.dataloader.DataLoader;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * GraphQL reads (schema in resources/graphql). Every nested list and every field not on the
+ * card projection is resolved by a batch loader, so a query costs one statement per field
+ * level regardless of how many parents it has. Lists that can grow without bound (a
+ * project's tickets, a ticket's comments) are paged with {@code first}/{@code after}.
+ */
+@Controller
+public class GraphQlController {
+
+    private final ProjectService projectService;
+    private final BoardColumnService boardColumnService;
+    private final TicketService ticketService;
+    private final CommentService commentService;
+    private final UserService userService;
+    private final MarkdownService markdownService;
+
+    public GraphQlController(ProjectService projectService, BoardColumnService boardColumnService,
+                             TicketService ticketService, CommentService commentService, UserService userService,
+                             MarkdownService markdownService, BatchLoaderRegistry registry) {
+        this.projectService = projectService;
+        this.boardColumnService = boardColumnService;
+        this.ticketService = ticketService;
+        this.commentService = commentService;
+        this.userService = userService;
+        this.markdownService = markdownService;
+        // Shared by description and renderedDescription, so selecting both costs one query.
+        registry.forTypePair(Long.class, String.class)
+                .withName("ticketDescriptions")
+                .registerMappedBatchLoader((ids, env) -> Mono.fromCallable(() -> ticketService.findDescriptions(ids)));
+        registry.<PageKey, List<TicketDto>>forName("projectTicketPages")
+                .registerMappedBatchLoader((keys, env) -> Mono.fromCallable(
+                        () -> loadPages(keys, ticketService::findCardPagesByProjects)));
+        registry.<PageKey, List<CommentDto>>forName("ticketCommentPages")
+                .registerMappedBatchLoader((keys, env) -> Mono.fromCallable(
+                        () -> loadPages(keys, commentService::findPages)));
+    }
+
+    /** One paged child list of a parent; parents asking for the same page share a query. */
+    record PageKey(Long parentId, int first, Long after) {
+    }
+
+    @FunctionalInterface
+    interface PageLoader<C> {
+        Map<Long, List<C>> load(List<Long> parentIds, int first, Long after);
+    }
+
+    @QueryMapping
+    public List<ProjectDto> projects() {
+        return projectService.findAll();
+    }
+
+    @QueryMapping
+    public ProjectDto project(@Argument Long id) {
+        return projectService.findWithoutColumns(id);
+    }
+
+    @QueryMapping
+    public TicketDto ticket(@Argument Long id) {
+        return ticketService.findById(id);
+    }
+
+    @QueryMapping
+    public List<UserDto> users() {
+        return userService.findAll();
+    }
+
+    @QueryMapping
+    public UserDto user(@Argument Long id) {
+        return userService.findById(id);
+    }
+
+    @BatchMapping(typeName = "Project")
+    public List<List<BoardColumnDto>> columns(List<ProjectDto> projects) {
+        return inOrder(projects, ProjectDto::getId, boardColumnService::findByProjects);
+    }
+
+    @SchemaMapping(typeName = "Project", field = "tickets")
+    public CompletableFuture<List<TicketDto>> projectTickets(ProjectDto project, @Argument int first, @Argument Long after,
+                                                             DataLoader<PageKey, List<TicketDto>> projectTicketPages) {
+        return projectTicketPages.load(new PageKey(project.getId(), first, after));
+    }
+
+    @BatchMapping(typeName = "Column", field = "tickets")
+    public List<List<TicketDto>> columnTickets(List<BoardColumnDto> columns) {
+        return inOrder(columns, BoardColumnDto::getId, ticketService::findCardsByColumns);
+    }
+
+    @SchemaMapping(typeName = "Ticket")
+    public CompletableFuture<List<CommentDto>> comments(TicketDto ticket, @Argument int first, @Argument Long after,
+                                                        DataLoader<PageKey, List<CommentDto>> ticketCommentPages) {
+        return ticketCommentPages.load(new PageKey(ticket.getId(), first, after));
+    }
+
+    @BatchMapping(typeName = "Ticket")
+    public List<Long> commentCount(List<TicketDto> tickets) {
+        Map<Long, Long> counts = ticketService.countComments(tickets);
+        return tickets.stream().map(t -> counts.getOrDefault(t.getId(), 0L)).collect(Collectors.toList());
+    }
+
+    /** Cards are loaded without descriptions; single-ticket reads already have one. */
+    @SchemaMapping(typeName = "Ticket")
+    public CompletableFuture<String> description(TicketDto ticket, DataLoader<Long, String> ticketDescriptions) {
+        if (ticket.getDescription() != null) {
+            return CompletableFuture.completedFuture(ticket.getDescription());
+        }
+        return ticketDescriptions.load(ticket.getId());
+    }
+
+    @SchemaMapping(typeName = "Ticket")
+    public CompletableFuture<String> renderedDescription(TicketDto ticket,
+                                                         DataLoader<Long, String> ticketDescriptions) {
+        if (ticket.getRenderedDescription() != null) {
+            return CompletableFuture.completedFuture(ticket.getRenderedDescription());
+        }
+        return ticketDescriptions.load(ticket.getId()).thenApply(markdownService::render);
+    }
+
+    /** Loads each distinct (first, after) once for all its parents; parents without children get an empty list. */
+    private static <C> Map<PageKey, List<C>> loadPages(Set<PageKey> keys, PageLoader<C> loader) {
+        Map<PageKey, List<C>> pages = new HashMap<>();
+        keys.stream()
+                .collect(Collectors.groupingBy(key -> new PageKey(null, key.first(), key.after())))
+                .forEach((page, parents) -> {
+                    Map<Long, List<C>> children = loader.load(
+                            parents.stream().map(PageKey::parentId).collect(Collectors.toList()),
+                            page.first(), page.after());
+                    parents.forEach(key -> pages.put(key, children.getOrDefault(key.parentId(), List.of())));
+                });
+        return pages;
+    }
+
+    /** One child list per parent, in parent order; parents without children get an empty list. */
+    private static <P, C> List<List<C>> inOrder(List<P> parents, Function<P, Long> id,
+                                                Function<List<Long>, Map<Long, List<C>>> load) {
+        List<Long> ids = parents.stream().map(id).collect(Collectors.toList());
+        Map<Long, List<C>> children = load.apply(ids);
+        return ids.stream().map(key -> children.getOrDefault(key, List.of())).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,56 @@
+package com.jiralike.controller;
+
+import com.jiralike.service.ReactiveBoardService;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * Non-blocking read endpoints. With {@code Accept: application/x-ndjson} each element is
+ * written as soon as it is read, one per line, with backpressure from the client; with
+ * {@code application/json} the same elements arrive as a single JSON array. Any other Accept,
+ * a wildcard or none included, gets the array; NDJSON must be asked for by name.
+ */
+@RestController
+@RequestMapping(value = "/api/reactive",
+        produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+@RequiredArgsConstructor
+public class ReactiveReadController {
+
+    private final ReactiveBoardService boardService;
+
+    @GetMapping("/projects/{projectId}/columns")
+    public Publisher<?> getBoard(@PathVariable Long projectId,
+                                 @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return negotiate(boardService.board(projectId), accept);
+    }
+
+    @GetMapping("/projects/{projectId}/tickets")
+    public Publisher<?> getTickets(@PathVariable Long projectId,
+                                   @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return negotiate(boardService.tickets(projectId), accept);
+    }
+
+    @GetMapping("/tickets/{ticketId}/comments")
+    public Publisher<?> getComments(@PathVariable Long ticketId,
+                                    @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return negotiate(boardService.comments(ticketId), accept);
+    }
+
+    /**
+     * MVC streams a Flux as NDJSON whenever that type is acceptable, which includes a wildcard
+     * Accept; collecting the elements first makes it write one JSON array instead.
+     */
+    static Publisher<?> negotiate(Flux<?> elements, String accept) {
+        boolean ndjson = accept != null && MediaType.parseMediaTypes(accept).stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+        return ndjson ? elements : elements.collectList();
+    }
+}
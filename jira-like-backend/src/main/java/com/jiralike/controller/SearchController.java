@@ -0,0 +1,53 @@
+package com.jiralike.controller;
+
+import com.jiralike.dto.TicketSearchPageDto;
+import com.jiralike.dto.TicketSuggestionDto;
+import com.jiralike.search.EmbeddedTicketIndex;
+import com.jiralike.service.TicketSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class SearchController {
+
+    static final int DEFAULT_SUGGEST_LIMIT = 10;
+    static final int MAX_SUGGEST_LIMIT = 50;
+
+    private final TicketSearchService searchService;
+    private final ObjectProvider<EmbeddedTicketIndex> embeddedIndex;
+
+    @GetMapping("/search/tickets")
+    public TicketSearchPageDto searchAll(@RequestParam("q") String query,
+                                         @RequestParam(required = false) String cursor,
+                                         @RequestParam(required = false) Integer limit) {
+        return searchService.search(query, null, cursor, limit);
+    }
+
+    @GetMapping("/projects/{projectId}/search/tickets")
+    public TicketSearchPageDto searchProject(@PathVariable Long projectId,
+                                             @RequestParam("q") String query,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(required = false) Integer limit) {
+        return searchService.search(query, projectId, cursor, limit);
+    }
+
+    // Typeahead served from the optional in-process index (jiralike.search.embedded.enabled)
+    @GetMapping("/search/tickets/suggest")
+    public List<TicketSuggestionDto> suggest(@RequestParam("q") String query,
+                                             @RequestParam(required = false) String projectKey,
+                                             @RequestParam(required = false) Integer limit) {
+        EmbeddedTicketIndex index = embeddedIndex.getIfAvailable();
+        if (index == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Embedded search index is disabled");
+        }
+        int size = (limit == null) ? DEFAULT_SUGGEST_LIMIT : Math.max(1, Math.min(limit, MAX_SUGGEST_LIMIT));
+        return index.suggest(query, projectKey, size);
+    }
+}
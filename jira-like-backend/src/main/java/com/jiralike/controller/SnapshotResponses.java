@@ -0,0 +1,108 @@
+package com.jiralike.controller;
+
+import com.jiralike.cache.BodyFormat;
+import com.jiralike.cache.EncodedBody;
+import com.jiralike.service.BoardSnapshotService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes pre-serialized board snapshots in the format the client asked for, choosing the stored
+ * gzip body when the client accepts it.
+ */
+final class SnapshotResponses {
+
+    static final String SNAPSHOT_HEADER = "X-Board-Snapshot";
+
+    private SnapshotResponses() {
+    }
+
+    static ResponseEntity<byte[]> toResponse(BoardSnapshotService snapshotService, BoardSnapshotService.Snapshot snapshot,
+                                             BodyFormat format, String acceptEncoding, boolean debug) {
+        EncodedBody body = snapshot.body();
+        boolean gzip = body.gzip() != null && acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            snapshotService.recordCompressed(body);
+        }
+        if (debug) {
+            response.header(SNAPSHOT_HEADER, "cached=" + snapshot.cached() + "; shared=" + snapshot.shared()
+                    + "; format=" + format.name().toLowerCase(Locale.ROOT) + "; encoding=" + (gzip ? "gzip" : "identity")
+                    + "; " + snapshotService.stats());
+        }
+        return response.body(gzip ? body.gzip() : body.identity());
+    }
+
+    /**
+     * The acceptable format with the highest quality, the first listed on a tie. Wildcards, a
+     * missing or unparseable header and types we cannot produce all mean JSON, as before.
+     */
+    static BodyFormat negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return BodyFormat.JSON;
+        }
+        List<MediaType> types;
+        try {
+            types = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return BodyFormat.JSON;
+        }
+        BodyFormat best = BodyFormat.JSON;
+        double bestQuality = 0;
+        for (MediaType type : types) {
+            double quality = type.getQualityValue();
+            if (quality <= bestQuality) {
+                continue;
+            }
+            for (BodyFormat format : BodyFormat.values()) {
+                if (type.includes(format.getMediaType())) {
+                    best = format;
+                    bestQuality = quality;
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    /** True if gzip is acceptable: listed (or matched by *) without q=0. */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String coding = params[0].trim();
+            if (coding.equalsIgnoreCase("gzip")) {
+                return !zeroQuality(params);
+            }
+            if (coding.equals("*")) {
+                wildcard = !zeroQuality(params);
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private static boolean zeroQuality(String[] params) {
+        for (int i = 1; i < params.length; i++) {
+            String param = params[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2)) == 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -1,26 +1,57 @@
 package com.jiralike.controller;
 
+import com.jiralike.cache.BodyFormat;
 import com.jiralike.dto.*;
+import com.jiralike.service.BoardSnapshotService;
 import com.jiralike.service.CommentService;
+import com.jiralike.service.TicketFilterService;
 import com.jiralike.service.TicketService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api")
 @RequiredArgsConstructor
 public class TicketController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final TicketService ticketService;
     private final CommentService commentService;
+    private final TicketFilterService filterService;
+    private final BoardSnapshotService snapshotService;
 
+    // filter: board filter expression; me: user id that "me" resolves to; debug: adds timing headers;
+    // userDictionary: returns {items, users} with users listed once and referenced by id.
+    // The plain list is a cached, pre-serialized (and pre-gzipped) snapshot of the board version,
+    // in JSON, CBOR or Smile as negotiated from Accept.
     @GetMapping("/projects/{projectId}/tickets")
-    public List<TicketDto> getByProject(@PathVariable Long projectId) {
-        return ticketService.findByProject(projectId);
+    public ResponseEntity<?> getByProject(@PathVariable Long projectId,
+                                          @RequestParam(required = false) String filter,
+                                          @RequestParam(required = false) Long me,
+                                          @RequestParam(defaultValue = "false") boolean debug,
+                                          @RequestParam(defaultValue = "false") boolean userDictionary,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                          String acceptEncoding) {
+        boolean unfiltered = filter == null || filter.isBlank();
+        if (unfiltered && !userDictionary) {
+            BodyFormat format = SnapshotResponses.negotiate(accept);
+            return SnapshotResponses.toResponse(snapshotService, snapshotService.getTickets(projectId, format),
+                    format, acceptEncoding, debug);
+        }
+        ResponseEntity<List<TicketDto>> response = unfiltered
+                ? ResponseEntity.ok(ticketService.findByProject(projectId))
+                : FilterResponses.toResponse(filterService.findTickets(projectId, filter, me), debug);
+        return userDictionary ? FilterResponses.withUserDictionary(response, Stream::of) : response;
     }
 
     @GetMapping("/tickets/{id}")
@@ -51,9 +82,17 @@ public class TicketController {
     }
 
     // Comments nested under tickets
+    // Body stays a plain list; the next page's cursor, if any, is in X-Next-Cursor.
     @GetMapping("/tickets/{ticketId}/comments")
-    public List<CommentDto> getComments(@PathVariable Long ticketId) {
-        return commentService.findByTicket(ticketId);
+    public ResponseEntity<List<CommentDto>> getComments(@PathVariable Long ticketId,
+                                                        @RequestParam(required = false) String cursor,
+                                                        @RequestParam(required = false) Integer limit) {
+        CommentPageDto page = commentService.findPage(ticketId, cursor, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getComments());
     }
 
     @PostMapping("/tickets/{ticketId}/comments")
@@ -62,6 +101,13 @@ public class TicketController {
         return commentService.create(ticketId, dto);
     }
 
+    // Board hover previews and exports: newest comments for many tickets in one call
+    @GetMapping("/comments/latest")
+    public Map<Long, List<CommentDto>> getLatestComments(@RequestParam List<Long> ticketIds,
+                                                         @RequestParam(required = false) Integer perTicket) {
+        return commentService.findLatest(ticketIds, perTicket);
+    }
+
     @PutMapping("/comments/{id}")
     public CommentDto updateComment(@PathVariable Long id, @Valid @RequestBody CommentCreateDto dto) {
         return commentService.update(id, dto);
@@ -1,14 +1,26 @@
 package com.jiralike.controller;
 
+import com.jiralike.dto.NotificationDto;
+import com.jiralike.dto.TicketSummaryPageDto;
 import com.jiralike.dto.UserCreateDto;
 import com.jiralike.dto.UserDto;
+import com.jiralike.dto.UserSummaryDto;
+import com.jiralike.dto.UserSyncDto;
+import com.jiralike.dto.UserSyncResultDto;
+import com.jiralike.entity.BoardColumn;
+import com.jiralike.entity.Ticket;
+import com.jiralike.service.MyWorkService;
+import com.jiralike.service.NotificationService;
 import com.jiralike.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/users")
@@ -16,10 +28,19 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final MyWorkService myWorkService;
+    private final NotificationService notificationService;
 
+    // ids: batch lookup of specific users, e.g. to resolve references in a user-dictionary response
     @GetMapping
-    public List<UserDto> getAll() {
-        return userService.findAll();
+    public List<UserDto> getAll(@RequestParam(required = false) List<Long> ids) {
+        return ids == null ? userService.findAll() : userService.findByIds(ids);
+    }
+
+    @GetMapping("/suggest")
+    public List<UserSummaryDto> suggest(@RequestParam("q") String query,
+                                        @RequestParam(required = false) Integer limit) {
+        return userService.suggest(query, limit);
     }
 
     @GetMapping("/{id}")
@@ -27,12 +48,45 @@ public class UserController {
         return userService.findById(id);
     }
 
+    @GetMapping("/{id}/tickets")
+    public TicketSummaryPageDto getAssignedTickets(@PathVariable Long id,
+                                                   @RequestParam(required = false) List<Ticket.Priority> priority,
+                                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueBefore,
+                                                   @RequestParam(required = false) List<BoardColumn.Category> category,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(required = false) Integer limit) {
+        return myWorkService.findAssigned(id, priority, dueBefore, category, cursor, limit);
+    }
+
+    @GetMapping("/{id}/notifications")
+    public List<NotificationDto> getNotifications(@PathVariable Long id,
+                                                  @RequestParam(required = false) Integer limit) {
+        return notificationService.findLatest(id, limit);
+    }
+
+    @GetMapping("/{id}/notifications/unread-count")
+    public Map<String, Integer> getUnreadCount(@PathVariable Long id) {
+        return Map.of("unread", notificationService.getUnreadCount(id));
+    }
+
+    @PostMapping("/{id}/notifications/read")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void markNotificationsRead(@PathVariable Long id) {
+        notificationService.markAllRead(id);
+    }
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public UserDto create(@Valid @RequestBody UserCreateDto dto) {
         return userService.create(dto);
     }
 
+    // Directory sync: bulk upsert by username; returns created/updated/unchanged counts and conflicts
+    @PostMapping("/sync")
+    public UserSyncResultDto sync(@Valid @RequestBody UserSyncDto dto) {
+        return userService.sync(dto.getUsers());
+    }
+
     @PutMapping("/{id}")
     public UserDto update(@PathVariable Long id, @Valid @RequestBody UserCreateDto dto) {
         return userService.update(id, dto);
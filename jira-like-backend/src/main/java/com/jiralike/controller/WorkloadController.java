@@ -0,0 +1,26 @@
+package com.jiralike.controller;
+
+import com.jiralike.dto.ProjectWorkloadDto;
+import com.jiralike.service.WorkloadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class WorkloadController {
+
+    private final WorkloadService workloadService;
+
+    @GetMapping("/workload")
+    public List<ProjectWorkloadDto> getWorkload(@RequestParam List<Long> projectIds) {
+        return workloadService.getWorkload(projectIds);
+    }
+
+    @GetMapping("/projects/{projectId}/workload")
+    public ProjectWorkloadDto getProjectWorkload(@PathVariable Long projectId) {
+        return workloadService.getWorkload(List.of(projectId)).get(0);
+    }
+}
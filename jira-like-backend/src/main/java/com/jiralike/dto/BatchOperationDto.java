@@ -0,0 +1,20 @@
+package com.jiralike.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+@Data
+public class BatchOperationDto {
+    @NotBlank
+    @Pattern(regexp = "GET|POST|PUT|PATCH|DELETE")
+    private String method;
+
+    /** An /api path with optional query string; may reference earlier results as ${index.field}. */
+    @NotBlank
+    private String path;
+
+    /** JSON request body; string values that are exactly a ${index.field} reference are replaced. */
+    private JsonNode body;
+}
@@ -0,0 +1,18 @@
+package com.jiralike.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchRequestDto {
+    /** Runs all operations in one transaction and rolls it back when any of them fails; writes only. */
+    private boolean atomic;
+
+    @NotNull
+    @Size(min = 1, max = 50)
+    private List<@Valid @NotNull BatchOperationDto> operations;
+}
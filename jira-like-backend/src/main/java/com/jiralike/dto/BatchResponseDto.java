@@ -0,0 +1,14 @@
+package com.jiralike.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class BatchResponseDto {
+    /** True when an atomic batch failed and none of its writes were kept. */
+    private boolean rolledBack;
+    /** One result per operation, in request order. */
+    private List<BatchResultDto> results = new ArrayList<>();
+}
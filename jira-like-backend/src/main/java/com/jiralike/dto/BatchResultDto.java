@@ -0,0 +1,17 @@
+package com.jiralike.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+public class BatchResultDto {
+    private int status;
+    /** Headers the endpoint set beyond Content-Type, e.g. X-Next-Cursor. */
+    private Map<String, String> headers = new LinkedHashMap<>();
+    private JsonNode body;
+    /** Reason for a 4xx/5xx status, or why the operation was not run. */
+    private String error;
+}
@@ -10,5 +10,7 @@ public class BoardColumnDto {
     private Integer position;
     private String color;
     private Long projectId;
+    private int ticketCount;
+    private long storyPoints;
     private List<TicketDto> tickets;
 }
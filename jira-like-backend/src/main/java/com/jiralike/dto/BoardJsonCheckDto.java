@@ -0,0 +1,17 @@
+package com.jiralike.dto;
+
+import lombok.Data;
+
+/** Byte-for-byte comparison of the DTO-serialized board with the SQL-assembled one. */
+@Data
+public class BoardJsonCheckDto {
+    private Long projectId;
+    private boolean matches;
+    private int dtoBytes;
+    private int sqlBytes;
+    /** Offset of the first differing byte, or -1 when the documents match. */
+    private int firstDifference = -1;
+    /** Up to 80 characters of each document around the first difference. */
+    private String dtoExcerpt;
+    private String sqlExcerpt;
+}
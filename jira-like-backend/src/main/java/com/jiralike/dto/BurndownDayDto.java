@@ -0,0 +1,19 @@
+package com.jiralike.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/** Story points at the end of {@code date}; added/removed are that day's scope change. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BurndownDayDto {
+    private LocalDate date;
+    private long remaining;
+    private long completed;
+    private long added;
+    private long removed;
+}
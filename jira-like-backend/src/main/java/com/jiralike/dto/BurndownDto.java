@@ -0,0 +1,14 @@
+package com.jiralike.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+public class BurndownDto {
+    private LocalDate from;
+    private LocalDate to;
+    private Long doneColumnId;
+    private List<BurndownDayDto> days;
+}
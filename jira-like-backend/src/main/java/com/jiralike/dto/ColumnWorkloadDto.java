@@ -0,0 +1,14 @@
+package com.jiralike.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ColumnWorkloadDto {
+    private Long columnId;
+    private long ticketCount;
+    private long storyPoints;
+}
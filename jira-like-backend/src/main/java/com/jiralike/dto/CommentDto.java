@@ -7,6 +7,8 @@ import java.time.Instant;
 public class CommentDto {
     private Long id;
     private String content;
+    /** Sanitized HTML of content. */
+    private String rendered;
     private Long ticketId;
     private UserDto author;
     private Instant createdAt;
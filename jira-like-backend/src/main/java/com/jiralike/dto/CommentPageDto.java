@@ -0,0 +1,10 @@
+package com.jiralike.dto;
+
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class CommentPageDto {
+    private List<CommentDto> comments;
+    private String nextCursor;
+}
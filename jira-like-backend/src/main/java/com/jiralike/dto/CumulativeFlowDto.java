@@ -0,0 +1,13 @@
+package com.jiralike.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+public class CumulativeFlowDto {
+    private LocalDate from;
+    private LocalDate to;
+    private List<CumulativeFlowSeriesDto> series;
+}
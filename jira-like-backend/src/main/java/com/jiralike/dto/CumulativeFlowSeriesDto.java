@@ -0,0 +1,20 @@
+package com.jiralike.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * End-of-day ticket counts for one column, one entry per day of the requested range. Columns
+ * deleted since come after the board's columns with a null {@code columnName}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CumulativeFlowSeriesDto {
+    private Long columnId;
+    private String columnName;
+    private List<Long> counts;
+}
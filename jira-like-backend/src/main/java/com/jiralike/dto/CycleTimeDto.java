@@ -0,0 +1,15 @@
+package com.jiralike.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/** Percentiles are in hours over tickets that reached the done column within the range. */
+@Data
+public class CycleTimeDto {
+    private LocalDate from;
+    private LocalDate to;
+    private long completed;
+    private PercentilesDto cycleTimeHours;
+    private PercentilesDto leadTimeHours;
+}
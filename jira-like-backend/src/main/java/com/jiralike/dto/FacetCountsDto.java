@@ -0,0 +1,15 @@
+package com.jiralike.dto;
+
+import lombok.Data;
+import java.util.List;
+
+/** Filter sidebar counts. Assignee buckets use the user id (null = unassigned), column buckets the column id. */
+@Data
+public class FacetCountsDto {
+    private long boardVersion;
+    private long total;
+    private List<FacetBucketDto> priority;
+    private List<FacetBucketDto> ticketType;
+    private List<FacetBucketDto> assignee;
+    private List<FacetBucketDto> column;
+}
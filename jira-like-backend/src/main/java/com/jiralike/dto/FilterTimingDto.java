@@ -0,0 +1,21 @@
+package com.jiralike.dto;
+
+import lombok.Data;
+
+import java.util.Locale;
+
+/** Per-phase timings of a filtered read, reported in debug mode. */
+@Data
+public class FilterTimingDto {
+    private String plan;
+    private double parseMs;
+    private double compileMs;
+    private double queryMs;
+    private double mapMs;
+
+    /** Renders the timings as a Server-Timing header value, which browser dev tools display. */
+    public String toServerTiming() {
+        return String.format(Locale.ROOT, "parse;dur=%.3f, compile;dur=%.3f, query;dur=%.3f, map;dur=%.3f",
+                parseMs, compileMs, queryMs, mapMs);
+    }
+}
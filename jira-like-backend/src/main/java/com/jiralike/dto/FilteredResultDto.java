@@ -0,0 +1,15 @@
+package com.jiralike.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FilteredResultDto<T> {
+    private List<T> items;
+    private FilterTimingDto timing;
+}
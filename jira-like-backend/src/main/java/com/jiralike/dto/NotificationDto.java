@@ -0,0 +1,15 @@
+package com.jiralike.dto;
+
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+public class NotificationDto {
+    private Long id;
+    private Long ticketId;
+    private Long commentId;
+    private Long actorId;
+    private Instant createdAt;
+    private boolean read;
+}
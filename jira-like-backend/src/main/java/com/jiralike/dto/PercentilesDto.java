@@ -0,0 +1,14 @@
+package com.jiralike.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PercentilesDto {
+    private Double p50;
+    private Double p85;
+    private Double p95;
+}
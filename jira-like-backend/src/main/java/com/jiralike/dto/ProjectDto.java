@@ -12,5 +12,8 @@ public class ProjectDto {
     private String description;
     private Instant createdAt;
     private Instant updatedAt;
+    private int ticketCount;
+    private int openTicketCount;
+    private long storyPoints;
     private List<BoardColumnDto> columns;
 }
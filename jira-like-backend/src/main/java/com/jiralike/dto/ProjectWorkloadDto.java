@@ -0,0 +1,12 @@
+package com.jiralike.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ProjectWorkloadDto {
+    private Long projectId;
+    private long boardVersion;
+    private List<UserWorkloadDto> users;
+}
@@ -13,6 +13,8 @@ public class TicketDto {
     private Long id;
     private String title;
     private String description;
+    /** Sanitized HTML of description; only filled on single-ticket reads. */
+    private String renderedDescription;
     private Priority priority;
     private TicketType ticketType;
     private Integer position;
@@ -23,8 +25,11 @@ public class TicketDto {
     private Long columnId;
     private String columnName;
     private UserDto assignee;
+    private Long assigneeId;
     private UserDto reporter;
+    private Long reporterId;
     private List<CommentDto> comments;
+    private Long commentCount;
     private Instant createdAt;
     private Instant updatedAt;
 }
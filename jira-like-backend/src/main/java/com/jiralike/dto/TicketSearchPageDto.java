@@ -0,0 +1,10 @@
+package com.jiralike.dto;
+
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class TicketSearchPageDto {
+    private List<TicketSearchResultDto> results;
+    private String nextCursor;
+}
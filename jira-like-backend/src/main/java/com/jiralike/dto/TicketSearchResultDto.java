@@ -0,0 +1,19 @@
+package com.jiralike.dto;
+
+import com.jiralike.entity.Ticket.Priority;
+import com.jiralike.entity.Ticket.TicketType;
+import lombok.Data;
+
+@Data
+public class TicketSearchResultDto {
+    private Long id;
+    private Long projectId;
+    private String projectKey;
+    private Long columnId;
+    private String title;
+    private Priority priority;
+    private TicketType ticketType;
+    private Float rank;
+    private String titleHighlight;
+    private String descriptionHighlight;
+}
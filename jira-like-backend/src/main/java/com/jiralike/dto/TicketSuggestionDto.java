@@ -0,0 +1,17 @@
+package com.jiralike.dto;
+
+import com.jiralike.entity.Ticket.Priority;
+import com.jiralike.entity.Ticket.TicketType;
+import lombok.Data;
+
+@Data
+public class TicketSuggestionDto {
+    private Long id;
+    private Long projectId;
+    private String projectKey;
+    private String title;
+    private TicketType ticketType;
+    private Priority priority;
+    private String assigneeName;
+    private Float score;
+}
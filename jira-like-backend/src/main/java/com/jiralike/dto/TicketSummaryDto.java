@@ -0,0 +1,23 @@
+package com.jiralike.dto;
+
+import com.jiralike.entity.BoardColumn;
+import com.jiralike.entity.Ticket;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/** Lightweight ticket for cross-project lists; users and description are not included. */
+@Data
+public class TicketSummaryDto {
+    private Long id;
+    private String title;
+    private Ticket.Priority priority;
+    private Ticket.TicketType ticketType;
+    private Integer storyPoints;
+    private LocalDate dueDate;
+    private Long projectId;
+    private String projectKey;
+    private Long columnId;
+    private String columnName;
+    private BoardColumn.Category category;
+}
@@ -0,0 +1,10 @@
+package com.jiralike.dto;
+
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class TicketSummaryPageDto {
+    private List<TicketSummaryDto> results;
+    private String nextCursor;
+}
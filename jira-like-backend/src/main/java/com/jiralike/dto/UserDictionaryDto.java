@@ -0,0 +1,20 @@
+package com.jiralike.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * List response in user-dictionary mode: every user appears once in {@code users} and
+ * tickets reference them through assigneeId/reporterId instead of embedding them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDictionaryDto<T> {
+    private List<T> items;
+    private Map<Long, UserDto> users;
+}
@@ -0,0 +1,16 @@
+package com.jiralike.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Slim user shape for pickers and typeahead: no email, no timestamps. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummaryDto {
+    private Long id;
+    private String username;
+    private String displayName;
+    private String avatarUrl;
+}
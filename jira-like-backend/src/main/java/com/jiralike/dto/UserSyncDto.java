@@ -0,0 +1,15 @@
+package com.jiralike.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class UserSyncDto {
+    @NotNull
+    @Size(max = 100_000)
+    private List<@Valid UserCreateDto> users;
+}
@@ -0,0 +1,15 @@
+package com.jiralike.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class UserSyncResultDto {
+    private int created;
+    private int updated;
+    private int unchanged;
+    /** Usernames skipped because their email belongs to another user (in the database or earlier in the list). */
+    private List<String> conflicts = new ArrayList<>();
+}
@@ -0,0 +1,15 @@
+package com.jiralike.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** One assignee's load in a project; {@code user} is null for unassigned tickets. */
+@Data
+public class UserWorkloadDto {
+    private UserSummaryDto user;
+    private long ticketCount;
+    private long storyPoints;
+    private List<ColumnWorkloadDto> columns = new ArrayList<>();
+}
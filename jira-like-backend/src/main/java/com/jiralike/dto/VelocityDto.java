@@ -0,0 +1,13 @@
+package com.jiralike.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/** Points completed per ISO week, oldest first. */
+@Data
+public class VelocityDto {
+    private Long doneColumnId;
+    private List<VelocityWeekDto> weeks;
+    private double average;
+}
@@ -15,6 +15,9 @@ import java.util.List;
 @AllArgsConstructor
 public class BoardColumn {
 
+    /** Derived from position: the first column is TODO, the last DONE, everything between IN_PROGRESS. */
+    public enum Category { TODO, IN_PROGRESS, DONE }
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -28,11 +31,18 @@ public class BoardColumn {
     @Column(name = "color", length = 20)
     private String color;
 
+    // Counters are maintained with SQL increments; never written from the entity.
+    @Column(name = "ticket_count", insertable = false, updatable = false)
+    private int ticketCount;
+
+    @Column(name = "story_points", insertable = false, updatable = false)
+    private long storyPoints;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
 
     @OneToMany(mappedBy = "column", fetch = FetchType.LAZY)
-    @OrderBy("position ASC")
+    @OrderBy("position ASC, id ASC")
     private List<Ticket> tickets = new ArrayList<>();
 }
@@ -39,8 +39,18 @@ public class Project {
     @Column(name = "updated_at")
     private Instant updatedAt;
 
+    // Counters are maintained with SQL increments; never written from the entity.
+    @Column(name = "ticket_count", insertable = false, updatable = false)
+    private int ticketCount;
+
+    @Column(name = "open_ticket_count", insertable = false, updatable = false)
+    private int openTicketCount;
+
+    @Column(name = "story_points", insertable = false, updatable = false)
+    private long storyPoints;
+
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
-    @OrderBy("position ASC")
+    @OrderBy("position ASC, id ASC")
     private List<BoardColumn> columns = new ArrayList<>();
 
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -0,0 +1,36 @@
+package com.jiralike.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.Instant;
+
+/** One column change of a ticket. Ids are plain columns so the history survives ticket deletes. */
+@Entity
+@Table(name = "ticket_transitions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketTransition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "ticket_id", nullable = false)
+    private Long ticketId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "from_column_id")
+    private Long fromColumnId;
+
+    @Column(name = "to_column_id")
+    private Long toColumnId;
+
+    @Column(name = "transitioned_at", nullable = false)
+    private Instant transitionedAt;
+}
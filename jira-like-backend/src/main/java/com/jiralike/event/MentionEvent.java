@@ -0,0 +1,20 @@
+package com.jiralike.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Set;
+
+/**
+ * Usernames newly @mentioned by a comment (commentId set) or a ticket description.
+ * Published with the write; NotificationService resolves and stores them later in batches.
+ */
+@Data
+@AllArgsConstructor
+public class MentionEvent {
+
+    private Long ticketId;
+    private Long commentId;
+    private Long actorId;
+    private Set<String> usernames;
+}
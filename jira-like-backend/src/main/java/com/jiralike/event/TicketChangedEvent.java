@@ -0,0 +1,21 @@
+package com.jiralike.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Published by TicketService whenever a ticket is written, and as DELETED for the
+ * tickets removed with their column or project.
+ * Listeners that keep derived read models (search index, caches) subscribe
+ * with @TransactionalEventListener so they only see committed changes.
+ */
+@Data
+@AllArgsConstructor
+public class TicketChangedEvent {
+
+    public enum ChangeType { CREATED, UPDATED, MOVED, DELETED }
+
+    private Long ticketId;
+    private Long projectId;
+    private ChangeType changeType;
+}
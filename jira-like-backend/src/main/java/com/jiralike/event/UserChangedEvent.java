@@ -0,0 +1,20 @@
+package com.jiralike.event;
+
+import com.jiralike.dto.UserSummaryDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Published by UserService whenever a user is written.
+ * Carries the post-change summary (null for deletes) so listeners need no reload.
+ */
+@Data
+@AllArgsConstructor
+public class UserChangedEvent {
+
+    public enum ChangeType { CREATED, UPDATED, DELETED }
+
+    private Long userId;
+    private UserSummaryDto user;
+    private ChangeType changeType;
+}
@@ -0,0 +1,16 @@
+package com.jiralike.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Published once per bulk directory sync instead of one UserChangedEvent per user;
+ * listeners reload rather than apply thousands of single-user updates.
+ */
+@Data
+@AllArgsConstructor
+public class UsersSyncedEvent {
+
+    private int created;
+    private int updated;
+}
@@ -0,0 +1,285 @@
+package com.jiralike.filter;
+
+import com.jiralike.entity.AppUser;
+import com.jiralike.entity.Ticket;
+import com.jiralike.filter.FilterNode.Comparison;
+import com.jiralike.filter.FilterNode.Operator;
+import com.jiralike.repository.AppUserRepository;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Compiles a filter AST into a JPA Criteria Specification over Ticket.
+ *
+ * All literal values are resolved up front (usernames to ids, relative dates to dates,
+ * priorities to enum sets) and bound as query parameters, so user and priority filters
+ * hit the existing assignee_id / reporter_id indexes instead of joining app_users.
+ */
+public class FilterCompiler {
+
+    private static final Pattern RELATIVE_DATE = Pattern.compile("([+-])(\\d+)([dwm])", Pattern.CASE_INSENSITIVE);
+
+    private final AppUserRepository userRepository;
+    private final Long currentUserId;
+    private final LocalDate today;
+
+    public FilterCompiler(AppUserRepository userRepository, Long currentUserId, LocalDate today) {
+        this.userRepository = userRepository;
+        this.currentUserId = currentUserId;
+        this.today = today;
+    }
+
+    public Specification<Ticket> compile(FilterNode node) {
+        if (node instanceof FilterNode.And and) {
+            return Specification.allOf(and.getOperands().stream().map(this::compile).collect(Collectors.toList()));
+        }
+        if (node instanceof FilterNode.Or or) {
+            return Specification.anyOf(or.getOperands().stream().map(this::compile).collect(Collectors.toList()));
+        }
+        if (node instanceof FilterNode.Not not) {
+            return Specification.not(compile(not.getOperand()));
+        }
+        return compileComparison((Comparison) node);
+    }
+
+    private Specification<Ticket> compileComparison(Comparison c) {
+        switch (c.getField()) {
+            case "assignee":
+            case "reporter":
+                return userField(c);
+            case "priority":
+                return priorityField(c);
+            case "type":
+                return enumField(c, "ticketType", v -> parseEnum(Ticket.TicketType.class, c, v));
+            case "column":
+                return columnField(c);
+            case "points":
+                return comparableField(c, "storyPoints", v -> parseInteger(c, v));
+            case "due":
+                return comparableField(c, "dueDate", v -> parseDate(c, v));
+            case "created":
+                return instantField(c, "createdAt");
+            case "updated":
+                return instantField(c, "updatedAt");
+            case "title":
+            case "description":
+                return textField(c, c.getField());
+            case "text":
+                return textField(c, "title").or(textField(c, "description"));
+            default:
+                throw new FilterSyntaxException("Unknown field '" + c.getField() + "'");
+        }
+    }
+
+    private Specification<Ticket> userField(Comparison c) {
+        String attribute = c.getField();
+        switch (c.getOperator()) {
+            case IS_EMPTY:
+                return (root, query, cb) -> cb.isNull(root.get(attribute));
+            case IS_NOT_EMPTY:
+                return (root, query, cb) -> cb.isNotNull(root.get(attribute));
+            case IN: {
+                List<Long> ids = c.getValues().stream().map(this::resolveUserId).collect(Collectors.toList());
+                return (root, query, cb) -> root.get(attribute).get("id").in(ids);
+            }
+            case EQ: {
+                Long id = resolveUserId(c.getValues().get(0));
+                return (root, query, cb) -> cb.equal(root.get(attribute).get("id"), id);
+            }
+            case NE: {
+                Long id = resolveUserId(c.getValues().get(0));
+                return (root, query, cb) -> cb.or(cb.isNull(root.get(attribute)),
+                        cb.notEqual(root.get(attribute).get("id"), id));
+            }
+            default:
+                throw unsupported(c);
+        }
+    }
+
+    private Specification<Ticket> priorityField(Comparison c) {
+        Operator op = c.getOperator();
+        if (op == Operator.EQ || op == Operator.NE || op == Operator.IN) {
+            return enumField(c, "priority", v -> parseEnum(Ticket.Priority.class, c, v));
+        }
+        if (op == Operator.CONTAINS || op == Operator.IS_EMPTY || op == Operator.IS_NOT_EMPTY) {
+            throw unsupported(c);
+        }
+        // Priorities are stored as strings, so ordering is compiled to an IN over the matching levels.
+        int pivot = parseEnum(Ticket.Priority.class, c, c.getValues().get(0)).ordinal();
+        List<Ticket.Priority> matching = Arrays.stream(Ticket.Priority.values())
+                .filter(p -> compareMatches(op, Integer.compare(p.ordinal(), pivot)))
+                .collect(Collectors.toList());
+        return (root, query, cb) -> root.get("priority").in(matching);
+    }
+
+    private <E extends Enum<E>> Specification<Ticket> enumField(Comparison c, String attribute, Function<String, E> parser) {
+        switch (c.getOperator()) {
+            case EQ: {
+                E value = parser.apply(c.getValues().get(0));
+                return (root, query, cb) -> cb.equal(root.get(attribute), value);
+            }
+            case NE: {
+                E value = parser.apply(c.getValues().get(0));
+                return (root, query, cb) -> cb.notEqual(root.get(attribute), value);
+            }
+            case IN: {
+                List<E> values = c.getValues().stream().map(parser).collect(Collectors.toList());
+                return (root, query, cb) -> root.get(attribute).in(values);
+            }
+            default:
+                throw unsupported(c);
+        }
+    }
+
+    private Specification<Ticket> columnField(Comparison c) {
+        List<String> names = c.getValues().stream().map(v -> v.toLowerCase(Locale.ROOT)).collect(Collectors.toList());
+        switch (c.getOperator()) {
+            case EQ:
+                return (root, query, cb) -> cb.equal(cb.lower(root.get("column").get("name")), names.get(0));
+            case NE:
+                return (root, query, cb) -> cb.notEqual(cb.lower(root.get("column").get("name")), names.get(0));
+            case IN:
+                return (root, query, cb) -> cb.lower(root.get("column").get("name")).in(names);
+            default:
+                throw unsupported(c);
+        }
+    }
+
+    private <T extends Comparable<? super T>> Specification<Ticket> comparableField(Comparison c, String attribute,
+                                                                                   Function<String, T> parser) {
+        Operator op = c.getOperator();
+        switch (op) {
+            case IS_EMPTY:
+                return (root, query, cb) -> cb.isNull(root.get(attribute));
+            case IS_NOT_EMPTY:
+                return (root, query, cb) -> cb.isNotNull(root.get(attribute));
+            case IN: {
+                List<T> values = c.getValues().stream().map(parser).collect(Collectors.toList());
+                return (root, query, cb) -> root.get(attribute).in(values);
+            }
+            case CONTAINS:
+                throw unsupported(c);
+            default:
+                break;
+        }
+        T value = parser.apply(c.getValues().get(0));
+        return (root, query, cb) -> {
+            Path<T> path = root.get(attribute);
+            switch (op) {
+                case EQ: return cb.equal(path, value);
+                case NE: return cb.notEqual(path, value);
+                case LT: return cb.lessThan(path, value);
+                case LE: return cb.lessThanOrEqualTo(path, value);
+                case GT: return cb.greaterThan(path, value);
+                default: return cb.greaterThanOrEqualTo(path, value);
+            }
+        };
+    }
+
+    /** Timestamps are compared by whole UTC days, so "created = 2024-05-01" covers that day. */
+    private Specification<Ticket> instantField(Comparison c, String attribute) {
+        Operator op = c.getOperator();
+        if (op != Operator.EQ && op != Operator.LT && op != Operator.LE && op != Operator.GT && op != Operator.GE) {
+            throw unsupported(c);
+        }
+        LocalDate day = parseDate(c, c.getValues().get(0));
+        Instant start = day.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant end = day.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        return (root, query, cb) -> {
+            Expression<Instant> path = root.get(attribute);
+            switch (op) {
+                case EQ: return cb.and(cb.greaterThanOrEqualTo(path, start), cb.lessThan(path, end));
+                case LT: return cb.lessThan(path, start);
+                case LE: return cb.lessThan(path, end);
+                case GT: return cb.greaterThanOrEqualTo(path, end);
+                default: return cb.greaterThanOrEqualTo(path, start);
+            }
+        };
+    }
+
+    private Specification<Ticket> textField(Comparison c, String attribute) {
+        if (c.getOperator() != Operator.CONTAINS) {
+            throw unsupported(c);
+        }
+        String pattern = "%" + c.getValues().get(0).toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get(attribute)), pattern, '\\');
+    }
+
+    private Long resolveUserId(String value) {
+        if (value.equalsIgnoreCase("me")) {
+            if (currentUserId == null) {
+                throw new FilterSyntaxException("Filter uses 'me' but no current user was given");
+            }
+            return currentUserId;
+        }
+        return userRepository.findByUsername(value)
+                .map(AppUser::getId)
+                .orElseThrow(() -> new FilterSyntaxException("Unknown user '" + value + "'"));
+    }
+
+    private LocalDate parseDate(Comparison c, String value) {
+        if (value.equalsIgnoreCase("today")) {
+            return today;
+        }
+        Matcher relative = RELATIVE_DATE.matcher(value);
+        if (relative.matches()) {
+            long amount = Long.parseLong(relative.group(2)) * (relative.group(1).equals("-") ? -1 : 1);
+            switch (relative.group(3).toLowerCase(Locale.ROOT)) {
+                case "d": return today.plusDays(amount);
+                case "w": return today.plusWeeks(amount);
+                default: return today.plusMonths(amount);
+            }
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new FilterSyntaxException("Invalid date '" + value + "' for field '" + c.getField()
+                    + "' (use YYYY-MM-DD, today, or +Nd/-Nw/+Nm)");
+        }
+    }
+
+    private static Integer parseInteger(Comparison c, String value) {
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new FilterSyntaxException("Invalid number '" + value + "' for field '" + c.getField() + "'");
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, Comparison c, String value) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new FilterSyntaxException("Invalid value '" + value + "' for field '" + c.getField()
+                    + "' (expected one of " + Arrays.toString(type.getEnumConstants()) + ")");
+        }
+    }
+
+    private static boolean compareMatches(Operator op, int comparison) {
+        switch (op) {
+            case LT: return comparison < 0;
+            case LE: return comparison <= 0;
+            case GT: return comparison > 0;
+            default: return comparison >= 0;
+        }
+    }
+
+    private static FilterSyntaxException unsupported(Comparison c) {
+        return new FilterSyntaxException("Operator " + c.getOperator().symbol()
+                + " is not supported for field '" + c.getField() + "'");
+    }
+}
@@ -0,0 +1,83 @@
+package com.jiralike.filter;
+
+import lombok.Value;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * AST of a board filter expression. toString() renders the canonical form,
+ * which is also what debug responses report as the filter plan.
+ */
+public interface FilterNode {
+
+    enum Operator {
+        EQ("="), NE("!="), LT("<"), LE("<="), GT(">"), GE(">="), CONTAINS("~"),
+        IN("IN"), IS_EMPTY("IS EMPTY"), IS_NOT_EMPTY("IS NOT EMPTY");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public String symbol() {
+            return symbol;
+        }
+    }
+
+    @Value
+    class And implements FilterNode {
+        List<FilterNode> operands;
+
+        @Override
+        public String toString() {
+            return operands.stream().map(FilterNode::toString).collect(Collectors.joining(" AND ", "(", ")"));
+        }
+    }
+
+    @Value
+    class Or implements FilterNode {
+        List<FilterNode> operands;
+
+        @Override
+        public String toString() {
+            return operands.stream().map(FilterNode::toString).collect(Collectors.joining(" OR ", "(", ")"));
+        }
+    }
+
+    @Value
+    class Not implements FilterNode {
+        FilterNode operand;
+
+        @Override
+        public String toString() {
+            return "NOT " + operand;
+        }
+    }
+
+    @Value
+    class Comparison implements FilterNode {
+        String field;
+        Operator operator;
+        List<String> values;
+
+        @Override
+        public String toString() {
+            switch (operator) {
+                case IS_EMPTY:
+                case IS_NOT_EMPTY:
+                    return field + " " + operator.symbol();
+                case IN:
+                    return field + " IN " + values.stream().map(Comparison::quote)
+                            .collect(Collectors.joining(", ", "(", ")"));
+                default:
+                    return field + " " + operator.symbol() + " " + quote(values.get(0));
+            }
+        }
+
+        private static String quote(String value) {
+            return value.matches("[A-Za-z0-9_.@+:-]+") ? value : '"' + value.replace("\"", "\\\"") + '"';
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.jiralike.filter;
+
+import com.jiralike.filter.FilterNode.Operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Recursive-descent parser for board filters, e.g.
+ * {@code assignee = me AND priority >= HIGH AND (type = BUG OR type = STORY) AND due < +7d}.
+ *
+ * <pre>
+ * expr       := and (OR and)*
+ * and        := unary (AND unary)*
+ * unary      := NOT unary | '(' expr ')' | comparison
+ * comparison := FIELD op value | FIELD IN '(' value (',' value)* ')' | FIELD IS [NOT] EMPTY
+ * op         := = | != | &lt; | &lt;= | &gt; | &gt;= | ~
+ * </pre>
+ * Keywords are case-insensitive; values are bare words or single/double quoted strings.
+ */
+public class FilterParser {
+
+    private enum Kind { WORD, STRING, OP, LPAREN, RPAREN, COMMA, END }
+
+    private static final class Token {
+        final Kind kind;
+        final String text;
+        final int offset;
+
+        Token(Kind kind, String text, int offset) {
+            this.kind = kind;
+            this.text = text;
+            this.offset = offset;
+        }
+
+        boolean isKeyword(String keyword) {
+            return kind == Kind.WORD && text.equalsIgnoreCase(keyword);
+        }
+    }
+
+    private final List<Token> tokens;
+    private int pos;
+
+    private FilterParser(String input) {
+        this.tokens = tokenize(input);
+    }
+
+    public static FilterNode parse(String input) {
+        if (input == null || input.isBlank()) {
+            throw new FilterSyntaxException("Filter is empty");
+        }
+        FilterParser parser = new FilterParser(input);
+        FilterNode node = parser.parseOr();
+        Token trailing = parser.peek();
+        if (trailing.kind != Kind.END) {
+            throw parser.error("Unexpected '" + trailing.text + "'", trailing);
+        }
+        return node;
+    }
+
+    private FilterNode parseOr() {
+        List<FilterNode> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (peek().isKeyword("OR")) {
+            pos++;
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new FilterNode.Or(operands);
+    }
+
+    private FilterNode parseAnd() {
+        List<FilterNode> operands = new ArrayList<>();
+        operands.add(parseUnary());
+        while (peek().isKeyword("AND")) {
+            pos++;
+            operands.add(parseUnary());
+        }
+        return operands.size() == 1 ? operands.get(0) : new FilterNode.And(operands);
+    }
+
+    private FilterNode parseUnary() {
+        Token token = peek();
+        if (token.isKeyword("NOT")) {
+            pos++;
+            return new FilterNode.Not(parseUnary());
+        }
+        if (token.kind == Kind.LPAREN) {
+            pos++;
+            FilterNode inner = parseOr();
+            expect(Kind.RPAREN, "')'");
+            return inner;
+        }
+        return parseComparison();
+    }
+
+    private FilterNode parseComparison() {
+        Token field = expect(Kind.WORD, "a field name");
+        String name = field.text.toLowerCase(Locale.ROOT);
+        Token next = peek();
+
+        if (next.isKeyword("IN")) {
+            pos++;
+            expect(Kind.LPAREN, "'('");
+            List<String> values = new ArrayList<>();
+            values.add(parseValue());
+            while (peek().kind == Kind.COMMA) {
+                pos++;
+                values.add(parseValue());
+            }
+            expect(Kind.RPAREN, "')'");
+            return new FilterNode.Comparison(name, Operator.IN, values);
+        }
+        if (next.isKeyword("IS")) {
+            pos++;
+            boolean negated = peek().isKeyword("NOT");
+            if (negated) {
+                pos++;
+            }
+            Token empty = expect(Kind.WORD, "EMPTY");
+            if (!empty.isKeyword("EMPTY")) {
+                throw error("Expected EMPTY", empty);
+            }
+            return new FilterNode.Comparison(name, negated ? Operator.IS_NOT_EMPTY : Operator.IS_EMPTY, List.of());
+        }
+
+        Token op = expect(Kind.OP, "an operator");
+        return new FilterNode.Comparison(name, toOperator(op.text), List.of(parseValue()));
+    }
+
+    private String parseValue() {
+        Token token = peek();
+        if (token.kind == Kind.WORD || token.kind == Kind.STRING) {
+            pos++;
+            return token.text;
+        }
+        throw error("Expected a value", token);
+    }
+
+    private static Operator toOperator(String symbol) {
+        switch (symbol) {
+            case "=": return Operator.EQ;
+            case "!=": return Operator.NE;
+            case "<": return Operator.LT;
+            case "<=": return Operator.LE;
+            case ">": return Operator.GT;
+            case ">=": return Operator.GE;
+            default: return Operator.CONTAINS;
+        }
+    }
+
+    private Token peek() {
+        return tokens.get(pos);
+    }
+
+    private Token expect(Kind kind, String description) {
+        Token token = peek();
+        if (token.kind != kind) {
+            throw error("Expected " + description, token);
+        }
+        pos++;
+        return token;
+    }
+
+    private FilterSyntaxException error(String message, Token token) {
+        String found = token.kind == Kind.END ? "end of input" : "'" + token.text + "'";
+        return new FilterSyntaxException(message + " at position " + token.offset + " (found " + found + ")");
+    }
+
+    private static List<Token> tokenize(String input) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < input.length()) {
+            char c = input.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(') {
+                tokens.add(new Token(Kind.LPAREN, "(", i++));
+            } else if (c == ')') {
+                tokens.add(new Token(Kind.RPAREN, ")", i++));
+            } else if (c == ',') {
+                tokens.add(new Token(Kind.COMMA, ",", i++));
+            } else if (c == '"' || c == '\'') {
+                int start = i++;
+                StringBuilder value = new StringBuilder();
+                while (i < input.length() && input.charAt(i) != c) {
+                    if (input.charAt(i) == '\\' && i + 1 < input.length()) {
+                        i++;
+                    }
+                    value.append(input.charAt(i++));
+                }
+                if (i >= input.length()) {
+                    throw new FilterSyntaxException("Unterminated string starting at position " + start);
+                }
+                i++;
+                tokens.add(new Token(Kind.STRING, value.toString(), start));
+            } else if (c == '=' || c == '~') {
+                tokens.add(new Token(Kind.OP, String.valueOf(c), i++));
+            } else if (c == '!' || c == '<' || c == '>') {
+                boolean withEquals = i + 1 < input.length() && input.charAt(i + 1) == '=';
+                if (c == '!' && !withEquals) {
+                    throw new FilterSyntaxException("Expected '!=' at position " + i);
+                }
+                tokens.add(new Token(Kind.OP, withEquals ? c + "=" : String.valueOf(c), i));
+                i += withEquals ? 2 : 1;
+            } else if (isWordChar(c)) {
+                int start = i;
+                while (i < input.length() && isWordChar(input.charAt(i))) {
+                    i++;
+                }
+                tokens.add(new Token(Kind.WORD, input.substring(start, i), start));
+            } else {
+                throw new FilterSyntaxException("Unexpected character '" + c + "' at position " + i);
+            }
+        }
+        tokens.add(new Token(Kind.END, "", input.length()));
+        return tokens;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '.' || c == '@' || c == '+' || c == '-' || c == ':';
+    }
+}
@@ -0,0 +1,9 @@
+package com.jiralike.filter;
+
+/** Raised for malformed or semantically invalid filter expressions. */
+public class FilterSyntaxException extends RuntimeException {
+
+    public FilterSyntaxException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,55 @@
+package com.jiralike.graphql;
+
+import graphql.ExecutionResult;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.GraphQLTypeUtil;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Times every non-trivial field resolver of a request whose GraphQL context carries a
+ * {@link FieldTimings} (see {@link GraphQlDebugInterceptor}) and reports the totals in the
+ * {@value #EXTENSION} response extension. Plain property reads are not timed, and requests
+ * without the context entry pay nothing.
+ */
+public class FieldTimingInstrumentation extends SimplePerformantInstrumentation {
+
+    public static final String EXTENSION = "fieldTiming";
+
+    @Override
+    public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+        return parameters.getExecutionInput().getGraphQLContext().get(FieldTimings.class);
+    }
+
+    @Override
+    public InstrumentationContext<Object> beginFieldFetch(InstrumentationFieldFetchParameters parameters,
+                                                          InstrumentationState state) {
+        if (state == null || parameters.isTrivialDataFetcher()) {
+            return SimpleInstrumentationContext.noOp();
+        }
+        DataFetchingEnvironment env = parameters.getEnvironment();
+        String field = GraphQLTypeUtil.simplePrint(env.getParentType()) + "." + env.getField().getName();
+        long start = System.nanoTime();
+        return SimpleInstrumentationContext.whenCompleted(
+                (result, error) -> ((FieldTimings) state).record(field, System.nanoTime() - start));
+    }
+
+    @Override
+    public CompletableFuture<ExecutionResult> instrumentExecutionResult(ExecutionResult result,
+                                                                        InstrumentationExecutionParameters parameters,
+                                                                        InstrumentationState state) {
+        FieldTimings timings = (FieldTimings) state;
+        if (timings == null || timings.isEmpty()) {
+            return CompletableFuture.completedFuture(result);
+        }
+        return CompletableFuture.completedFuture(
+                result.transform(builder -> builder.addExtension(EXTENSION, timings.toExtension())));
+    }
+}
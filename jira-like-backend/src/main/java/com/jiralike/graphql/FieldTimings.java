@@ -0,0 +1,65 @@
+package com.jiralike.graphql;
+
+import graphql.execution.instrumentation.InstrumentationState;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Resolver time per schema field ({@code Type.field}) for one GraphQL request, collected in
+ * debug mode. A batched field counts one call per parent, each timed until its batch completes,
+ * so the calls overlap and {@code maxMs} is close to the wall time of the batch.
+ */
+public class FieldTimings implements InstrumentationState {
+
+    private record Stat(long calls, long totalNanos, long maxNanos) {
+        Stat plus(Stat other) {
+            return new Stat(calls + other.calls, totalNanos + other.totalNanos, Math.max(maxNanos, other.maxNanos));
+        }
+    }
+
+    private final Map<String, Stat> fields = new ConcurrentHashMap<>();
+
+    public void record(String field, long nanos) {
+        fields.merge(field, new Stat(1, nanos, nanos), Stat::plus);
+    }
+
+    public boolean isEmpty() {
+        return fields.isEmpty();
+    }
+
+    /** {@code {"Type.field": {calls, totalMs, maxMs}}}, slowest field first. */
+    public Map<String, Map<String, Object>> toExtension() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        sorted().forEach(e -> {
+            Map<String, Object> stat = new LinkedHashMap<>();
+            stat.put("calls", e.getValue().calls());
+            stat.put("totalMs", millis(e.getValue().totalNanos()));
+            stat.put("maxMs", millis(e.getValue().maxNanos()));
+            result.put(e.getKey(), stat);
+        });
+        return result;
+    }
+
+    /** Renders the field totals as a Server-Timing header value, which browser dev tools display. */
+    public String toServerTiming() {
+        return sorted()
+                .map(e -> String.format(Locale.ROOT, "%s;dur=%.3f", e.getKey(), millis(e.getValue().totalNanos())))
+                .collect(Collectors.joining(", "));
+    }
+
+    private Stream<Map.Entry<String, Stat>> sorted() {
+        return fields.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Stat> e) -> e.getValue().totalNanos()).reversed()
+                        .thenComparing(Map.Entry::getKey));
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
@@ -0,0 +1,33 @@
+package com.jiralike.graphql;
+
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * With {@code debug=true} on the request URL, collects per-field resolver timings and returns
+ * them in a {@code Server-Timing} header as well as the response extensions, like the
+ * {@code debug} flag of the REST reads.
+ */
+@Component
+public class GraphQlDebugInterceptor implements WebGraphQlInterceptor {
+
+    @Override
+    public Mono<WebGraphQlResponse> intercept(WebGraphQlRequest request, Chain chain) {
+        if (!Boolean.parseBoolean(request.getUri().getQueryParams().getFirst("debug"))) {
+            return chain.next(request);
+        }
+        FieldTimings timings = new FieldTimings();
+        request.configureExecutionInput((input, builder) ->
+                builder.graphQLContext(Map.of(FieldTimings.class, timings)).build());
+        return chain.next(request).doOnNext(response -> {
+            if (!timings.isEmpty()) {
+                response.getResponseHeaders().add("Server-Timing", timings.toServerTiming());
+            }
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package com.jiralike.graphql;
+
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Reports the services' 4xx {@link ResponseStatusException}s as GraphQL errors with their
+ * reason, so a missing project nulls one field instead of failing as an internal error.
+ */
+@Component
+public class GraphQlExceptionResolver extends DataFetcherExceptionResolverAdapter {
+
+    @Override
+    protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment env) {
+        if (!(ex instanceof ResponseStatusException status) || !status.getStatusCode().is4xxClientError()) {
+            return null;
+        }
+        ErrorType type = status.getStatusCode().isSameCodeAs(HttpStatus.NOT_FOUND) ? ErrorType.NOT_FOUND
+                : ErrorType.BAD_REQUEST;
+        return GraphqlErrorBuilder.newError(env)
+                .errorType(type)
+                .message(status.getReason())
+                .build();
+    }
+}
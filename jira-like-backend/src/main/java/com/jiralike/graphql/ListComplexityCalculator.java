@@ -0,0 +1,25 @@
+package com.jiralike.graphql;
+
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.schema.GraphQLTypeUtil;
+
+/**
+ * Scores each field 1 plus its selection, and multiplies the selection of list fields by
+ * {@code listWeight} as a stand-in for the number of elements. Nesting a list inside a list
+ * therefore grows the score geometrically, which is where the query cost grows too.
+ */
+public class ListComplexityCalculator implements FieldComplexityCalculator {
+
+    private final int listWeight;
+
+    public ListComplexityCalculator(int listWeight) {
+        this.listWeight = listWeight;
+    }
+
+    @Override
+    public int calculate(FieldComplexityEnvironment environment, int childComplexity) {
+        boolean list = GraphQLTypeUtil.isList(GraphQLTypeUtil.unwrapNonNull(environment.getFieldDefinition().getType()));
+        return 1 + (list ? childComplexity * listWeight : childComplexity);
+    }
+}
@@ -1,15 +1,24 @@
 package com.jiralike.repository;
 
 import com.jiralike.entity.AppUser;
+import com.jiralike.repository.projection.UserListRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface AppUserRepository extends JpaRepository<AppUser, Long> {
+public interface AppUserRepository extends JpaRepository<AppUser, Long>, AppUserRepositoryCustom {
     Optional<AppUser> findByUsername(String username);
+    List<AppUser> findByUsernameIn(Collection<String> usernames);
     Optional<AppUser> findByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.id AS id, u.username AS username, u.email AS email, u.displayName AS displayName, "
+            + "u.avatarUrl AS avatarUrl, u.createdAt AS createdAt FROM AppUser u ORDER BY u.id")
+    List<UserListRow> findAllRows();
 }
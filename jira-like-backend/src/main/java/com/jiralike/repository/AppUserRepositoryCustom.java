@@ -0,0 +1,16 @@
+package com.jiralike.repository;
+
+import com.jiralike.entity.AppUser;
+import com.jiralike.repository.projection.UserUpsertRow;
+
+import java.util.List;
+
+public interface AppUserRepositoryCustom {
+
+    /**
+     * Inserts or updates the users by username in one INSERT ... ON CONFLICT statement.
+     * Only username, email, displayName and avatarUrl are read. Usernames must be distinct.
+     * A user whose email is held by a different username is skipped and reported as CONFLICT.
+     */
+    List<UserUpsertRow> upsertBatch(List<AppUser> users);
+}
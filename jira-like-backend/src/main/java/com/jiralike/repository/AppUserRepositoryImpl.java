@@ -0,0 +1,79 @@
+package com.jiralike.repository;
+
+import com.jiralike.entity.AppUser;
+import com.jiralike.repository.projection.UserUpsertRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+public class AppUserRepositoryImpl implements AppUserRepositoryCustom {
+
+    // The batch arrives as four parallel arrays. Unchanged rows are filtered by the DO UPDATE
+    // WHERE clause and so are not RETURNed; xmax = 0 marks a freshly inserted row. The final
+    // SELECT sees app_users as of statement start, like the NOT EXISTS guard.
+    private static final String UPSERT_SQL = """
+            WITH input AS (
+                SELECT * FROM unnest(?::text[], ?::text[], ?::text[], ?::text[])
+                       AS t(username, email, display_name, avatar_url)
+            ),
+            upserted AS (
+                INSERT INTO app_users (username, email, display_name, avatar_url)
+                SELECT i.username, i.email, i.display_name, i.avatar_url
+                  FROM input i
+                 WHERE NOT EXISTS (SELECT 1 FROM app_users e WHERE e.email = i.email AND e.username <> i.username)
+                ON CONFLICT (username) DO UPDATE
+                   SET email = EXCLUDED.email,
+                       display_name = EXCLUDED.display_name,
+                       avatar_url = EXCLUDED.avatar_url
+                 WHERE (app_users.email, app_users.display_name, app_users.avatar_url)
+                       IS DISTINCT FROM (EXCLUDED.email, EXCLUDED.display_name, EXCLUDED.avatar_url)
+                RETURNING username, (xmax = 0) AS inserted
+            )
+            SELECT i.username,
+                   CASE WHEN u.username IS NOT NULL THEN CASE WHEN u.inserted THEN 'CREATED' ELSE 'UPDATED' END
+                        WHEN EXISTS (SELECT 1 FROM app_users e WHERE e.email = i.email AND e.username <> i.username)
+                             THEN 'CONFLICT'
+                        ELSE 'UNCHANGED'
+                   END
+              FROM input i
+              LEFT JOIN upserted u ON u.username = i.username
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserUpsertRow> upsertBatch(List<AppUser> users) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT_SQL)) {
+                statement.setArray(1, textArray(connection, users, AppUser::getUsername));
+                statement.setArray(2, textArray(connection, users, AppUser::getEmail));
+                statement.setArray(3, textArray(connection, users, AppUser::getDisplayName));
+                statement.setArray(4, textArray(connection, users, AppUser::getAvatarUrl));
+                List<UserUpsertRow> rows = new ArrayList<>(users.size());
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        rows.add(new OutcomeRow(resultSet.getString(1), resultSet.getString(2)));
+                    }
+                }
+                return rows;
+            }
+        });
+    }
+
+    private static java.sql.Array textArray(Connection connection, List<AppUser> users,
+                                            Function<AppUser, String> field) throws SQLException {
+        return connection.createArrayOf("text", users.stream().map(field).toArray());
+    }
+
+    private record OutcomeRow(String getUsername, String getOutcome) implements UserUpsertRow {
+    }
+}
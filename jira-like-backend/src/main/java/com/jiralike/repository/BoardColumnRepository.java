@@ -2,12 +2,89 @@ package com.jiralike.repository;
 
 import com.jiralike.entity.BoardColumn;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BoardColumnRepository extends JpaRepository<BoardColumn, Long> {
-    List<BoardColumn> findByProjectIdOrderByPositionAsc(Long projectId);
+    /**
+     * Board order. Positions can repeat (a column created after a delete takes the count as its
+     * position), so id breaks ties as in findBoardJson and the card queries.
+     */
+    List<BoardColumn> findByProjectIdOrderByPositionAscIdAsc(Long projectId);
+    List<BoardColumn> findByProjectIdInOrderByPositionAscIdAsc(Collection<Long> projectIds);
     int countByProjectId(Long projectId);
+
+    /** The done column: right-most by position, ties broken by id as in the counter and flow-time queries. */
+    Optional<BoardColumn> findFirstByProjectIdOrderByPositionDescIdDesc(Long projectId);
+
+    // Flushed before, like the project counters; loaded columns are refreshed by TicketCounterService.
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE board_columns SET ticket_count = ticket_count + :tickets, story_points = story_points + :points WHERE id = :id",
+            nativeQuery = true)
+    int adjustCounters(@Param("id") Long id, @Param("tickets") int tickets, @Param("points") long points);
+
+    /** Recomputes counters from tickets for one project's columns, or all when {@code projectId} is null. */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE board_columns c
+               SET ticket_count = s.cnt, story_points = s.pts
+              FROM (SELECT c2.id, COUNT(t.id) AS cnt, COALESCE(SUM(t.story_points), 0) AS pts
+                      FROM board_columns c2
+                      LEFT JOIN tickets t ON t.column_id = c2.id
+                     WHERE CAST(:projectId AS BIGINT) IS NULL OR c2.project_id = :projectId
+                     GROUP BY c2.id) s
+             WHERE c.id = s.id
+               AND (c.ticket_count <> s.cnt OR c.story_points <> s.pts)
+            """, nativeQuery = true)
+    int reconcileCounters(@Param("projectId") Long projectId);
+
+    /**
+     * The project's board as a JSON array in exactly the shape and property order Jackson writes
+     * for List&lt;BoardColumnDto&gt;, assembled in PostgreSQL. row_to_json plus string_agg keep
+     * the output compact (json_build_object/json_agg would add whitespace); timestamps go
+     * through json_instant (V10). Returns [] for unknown projects.
+     */
+    @Query(value = """
+            SELECT COALESCE('[' || string_agg(CAST(row_to_json(col) AS TEXT), ',' ORDER BY col.position, col.id) || ']', '[]')
+              FROM (SELECT c.id, c.name, c.position, c.color, c.project_id AS "projectId",
+                           c.ticket_count AS "ticketCount", c.story_points AS "storyPoints",
+                           (SELECT CAST(COALESCE('[' || string_agg(CAST(row_to_json(tk) AS TEXT), ',' ORDER BY tk.position, tk.id) || ']', '[]') AS JSON)
+                              FROM (SELECT t.id, t.title, CAST(NULL AS TEXT) AS description,
+                                           CAST(NULL AS TEXT) AS "renderedDescription",
+                                           t.priority, t.ticket_type AS "ticketType", t.position,
+                                           t.story_points AS "storyPoints", t.due_date AS "dueDate",
+                                           t.project_id AS "projectId", p.key AS "projectKey",
+                                           t.column_id AS "columnId", c.name AS "columnName",
+                                           CASE WHEN a.id IS NOT NULL THEN
+                                               (SELECT row_to_json(u) FROM (SELECT a.id, a.username, a.email,
+                                                        a.display_name AS "displayName", a.avatar_url AS "avatarUrl",
+                                                        json_instant(a.created_at) AS "createdAt") u)
+                                           END AS assignee,
+                                           t.assignee_id AS "assigneeId",
+                                           CASE WHEN r.id IS NOT NULL THEN
+                                               (SELECT row_to_json(u) FROM (SELECT r.id, r.username, r.email,
+                                                        r.display_name AS "displayName", r.avatar_url AS "avatarUrl",
+                                                        json_instant(r.created_at) AS "createdAt") u)
+                                           END AS reporter,
+                                           t.reporter_id AS "reporterId",
+                                           CAST(NULL AS JSON) AS comments,
+                                           (SELECT COUNT(*) FROM comments cm WHERE cm.ticket_id = t.id) AS "commentCount",
+                                           json_instant(t.created_at) AS "createdAt",
+                                           json_instant(t.updated_at) AS "updatedAt"
+                                      FROM tickets t
+                                      JOIN projects p ON p.id = t.project_id
+                                      LEFT JOIN app_users a ON a.id = t.assignee_id
+                                      LEFT JOIN app_users r ON r.id = t.reporter_id
+                                     WHERE t.column_id = c.id) tk) AS tickets
+                      FROM board_columns c
+                     WHERE c.project_id = :projectId) col
+            """, nativeQuery = true)
+    String findBoardJson(@Param("projectId") Long projectId);
 }
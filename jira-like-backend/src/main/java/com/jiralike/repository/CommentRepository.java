@@ -1,12 +1,93 @@
 package com.jiralike.repository;
 
 import com.jiralike.entity.Comment;
+import com.jiralike.repository.projection.LatestCommentRow;
+import com.jiralike.repository.projection.TicketCommentCount;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByTicketIdOrderByCreatedAtAsc(Long ticketId);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.ticket.id = :ticketId ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findFirstPage(@Param("ticketId") Long ticketId, Pageable pageable);
+
+    /** Keyset continuation on (createdAt, id), served by idx_comments_ticket_created. */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.ticket.id = :ticketId "
+            + "AND (c.createdAt > :afterCreatedAt OR (c.createdAt = :afterCreatedAt AND c.id > :afterId)) "
+            + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findPageAfter(@Param("ticketId") Long ticketId,
+                                @Param("afterCreatedAt") Instant afterCreatedAt,
+                                @Param("afterId") Long afterId,
+                                Pageable pageable);
+
+    /**
+     * One grouped count for a whole board; tickets without comments are absent. Joined on the
+     * project rather than binding every ticket id, which large boards would exceed.
+     */
+    @Query("SELECT c.ticket.id AS ticketId, COUNT(c) AS count FROM Comment c WHERE c.ticket.project.id = :projectId GROUP BY c.ticket.id")
+    List<TicketCommentCount> countByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Newest {@code perTicket} comments of each ticket, with authors, in one statement. The
+     * LATERAL subquery walks idx_comments_ticket_created backwards once per ticket.
+     */
+    @Query(value = """
+            SELECT c.id AS "id", c.ticket_id AS "ticketId", c.content AS "content",
+                   CAST(EXTRACT(EPOCH FROM c.created_at) * 1000000 AS BIGINT) AS "createdAtMicros",
+                   CAST(EXTRACT(EPOCH FROM c.updated_at) * 1000000 AS BIGINT) AS "updatedAtMicros",
+                   u.id AS "authorId", u.username AS "authorUsername", u.email AS "authorEmail",
+                   u.display_name AS "authorDisplayName", u.avatar_url AS "authorAvatarUrl",
+                   CAST(EXTRACT(EPOCH FROM u.created_at) * 1000000 AS BIGINT) AS "authorCreatedAtMicros"
+            FROM tickets t
+            CROSS JOIN LATERAL (
+                SELECT lc.id, lc.ticket_id, lc.content, lc.created_at, lc.updated_at, lc.author_id
+                FROM comments lc
+                WHERE lc.ticket_id = t.id
+                ORDER BY lc.created_at DESC, lc.id DESC
+                LIMIT :perTicket
+            ) c
+            JOIN app_users u ON u.id = c.author_id
+            WHERE t.id IN (:ticketIds)
+            ORDER BY c.ticket_id, c.created_at DESC, c.id DESC
+            """, nativeQuery = true)
+    List<LatestCommentRow> findLatestByTicketIds(@Param("ticketIds") Collection<Long> ticketIds,
+                                                 @Param("perTicket") int perTicket);
+
+    /**
+     * Oldest-first page of each ticket's comments, with authors, in one statement: at most
+     * {@code first} per ticket, after the comment {@code afterId} when it is not null.
+     */
+    @Query(value = """
+            SELECT c.id AS "id", c.ticket_id AS "ticketId", c.content AS "content",
+                   CAST(EXTRACT(EPOCH FROM c.created_at) * 1000000 AS BIGINT) AS "createdAtMicros",
+                   CAST(EXTRACT(EPOCH FROM c.updated_at) * 1000000 AS BIGINT) AS "updatedAtMicros",
+                   u.id AS "authorId", u.username AS "authorUsername", u.email AS "authorEmail",
+                   u.display_name AS "authorDisplayName", u.avatar_url AS "authorAvatarUrl",
+                   CAST(EXTRACT(EPOCH FROM u.created_at) * 1000000 AS BIGINT) AS "authorCreatedAtMicros"
+            FROM tickets t
+            CROSS JOIN LATERAL (
+                SELECT lc.id, lc.ticket_id, lc.content, lc.created_at, lc.updated_at, lc.author_id
+                FROM comments lc
+                WHERE lc.ticket_id = t.id
+                  AND (CAST(:afterId AS BIGINT) IS NULL
+                       OR (lc.created_at, lc.id) > (SELECT a.created_at, a.id FROM comments a WHERE a.id = :afterId))
+                ORDER BY lc.created_at ASC, lc.id ASC
+                LIMIT :first
+            ) c
+            JOIN app_users u ON u.id = c.author_id
+            WHERE t.id IN (:ticketIds)
+            ORDER BY c.ticket_id, c.created_at ASC, c.id ASC
+            """, nativeQuery = true)
+    List<LatestCommentRow> findPageByTicketIds(@Param("ticketIds") Collection<Long> ticketIds,
+                                               @Param("first") int first,
+                                               @Param("afterId") Long afterId);
 }
@@ -0,0 +1,68 @@
+package com.jiralike.repository;
+
+import com.jiralike.entity.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId ORDER BY n.id DESC")
+    List<Notification> findLatest(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(value = "SELECT unread FROM user_notification_counts WHERE user_id = :userId", nativeQuery = true)
+    Integer findUnreadCount(@Param("userId") Long userId);
+
+    /**
+     * The given tickets that still exist, key-share locked so they cannot be deleted before
+     * the notifications referencing them are inserted.
+     */
+    @Query(value = "SELECT id FROM tickets WHERE id IN (:ids) FOR KEY SHARE", nativeQuery = true)
+    List<Long> lockExistingTicketIds(@Param("ids") Collection<Long> ids);
+
+    /** Same as {@link #lockExistingTicketIds} for comments. */
+    @Query(value = "SELECT id FROM comments WHERE id IN (:ids) FOR KEY SHARE", nativeQuery = true)
+    List<Long> lockExistingCommentIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_notification_counts (user_id, unread)
+            VALUES (:userId, :delta)
+            ON CONFLICT (user_id) DO UPDATE
+               SET unread = user_notification_counts.unread + EXCLUDED.unread
+            """, nativeQuery = true)
+    int addUnread(@Param("userId") Long userId, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "UPDATE notifications SET read_at = NOW() WHERE user_id = :userId AND read_at IS NULL",
+            nativeQuery = true)
+    int markAllRead(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "UPDATE user_notification_counts SET unread = 0 WHERE user_id = :userId", nativeQuery = true)
+    int resetUnread(@Param("userId") Long userId);
+
+    /**
+     * Recomputes drifted unread counts, e.g. after unread notifications were removed with
+     * their comment or ticket. Returns the number of users fixed.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE user_notification_counts c
+               SET unread = actual.unread
+              FROM (SELECT u.user_id, COUNT(n.id) AS unread
+                      FROM user_notification_counts u
+                      LEFT JOIN notifications n ON n.user_id = u.user_id AND n.read_at IS NULL
+                     GROUP BY u.user_id) actual
+             WHERE c.user_id = actual.user_id
+               AND c.unread <> actual.unread
+            """, nativeQuery = true)
+    int reconcileUnreadCounts();
+}
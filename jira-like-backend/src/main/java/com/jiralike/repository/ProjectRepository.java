@@ -1,10 +1,15 @@
 package com.jiralike.repository;
 
 import com.jiralike.entity.Project;
+import com.jiralike.repository.projection.ProjectListRow;
+import com.jiralike.repository.projection.ProjectVersionRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +18,66 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     Optional<Project> findByKey(String key);
     boolean existsByKey(String key);
 
+    @Query("""
+            SELECT p.id AS id, p.name AS name, p.key AS key, p.description AS description,
+                   p.createdAt AS createdAt, p.updatedAt AS updatedAt, p.ticketCount AS ticketCount,
+                   p.openTicketCount AS openTicketCount, p.storyPoints AS storyPoints
+              FROM Project p
+             ORDER BY p.id
+            """)
+    List<ProjectListRow> findAllRows();
+
     @Query("SELECT p FROM Project p LEFT JOIN FETCH p.columns c ORDER BY p.createdAt DESC")
     List<Project> findAllWithColumns();
+
+    @Query(value = "SELECT board_version FROM projects WHERE id = :id", nativeQuery = true)
+    Long findBoardVersion(@Param("id") Long id);
+
+    @Query(value = "SELECT id AS \"id\", board_version AS \"boardVersion\" FROM projects WHERE id IN (:ids)", nativeQuery = true)
+    List<ProjectVersionRow> findBoardVersions(@Param("ids") Collection<Long> ids);
+
+    // The counter and version updates below flush pending writes first. They bypass the
+    // persistence context; TicketCounterService refreshes a Project it already holds.
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE projects SET board_version = board_version + 1 WHERE id = :id", nativeQuery = true)
+    int incrementBoardVersion(@Param("id") Long id);
+
+    /** Open tickets are those outside the project's right-most column; null column ids mean create/delete. */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE projects p
+               SET ticket_count = p.ticket_count + :tickets,
+                   story_points = p.story_points + :points,
+                   open_ticket_count = p.open_ticket_count
+                       + CASE WHEN CAST(:toColumnId AS BIGINT) <> d.id THEN 1 ELSE 0 END
+                       - CASE WHEN CAST(:fromColumnId AS BIGINT) <> d.id THEN 1 ELSE 0 END
+              FROM (SELECT c.id FROM board_columns c WHERE c.project_id = :id
+                    ORDER BY c.position DESC, c.id DESC LIMIT 1) d
+             WHERE p.id = :id
+            """, nativeQuery = true)
+    int adjustCounters(@Param("id") Long id,
+                       @Param("tickets") int tickets,
+                       @Param("points") long points,
+                       @Param("fromColumnId") Long fromColumnId,
+                       @Param("toColumnId") Long toColumnId);
+
+    /** Recomputes counters from tickets for one project, or for all when {@code id} is null; returns rows fixed. */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE projects p
+               SET ticket_count = s.cnt, open_ticket_count = s.open_cnt, story_points = s.pts
+              FROM (SELECT p2.id,
+                           COUNT(t.id) AS cnt,
+                           COUNT(t.id) FILTER (WHERE t.column_id <> (SELECT c.id FROM board_columns c
+                                                                      WHERE c.project_id = p2.id
+                                                                      ORDER BY c.position DESC, c.id DESC LIMIT 1)) AS open_cnt,
+                           COALESCE(SUM(t.story_points), 0) AS pts
+                      FROM projects p2
+                      LEFT JOIN tickets t ON t.project_id = p2.id
+                     WHERE CAST(:id AS BIGINT) IS NULL OR p2.id = :id
+                     GROUP BY p2.id) s
+             WHERE p.id = s.id
+               AND (p.ticket_count <> s.cnt OR p.open_ticket_count <> s.open_cnt OR p.story_points <> s.pts)
+            """, nativeQuery = true)
+    int reconcileCounters(@Param("id") Long id);
 }
@@ -0,0 +1,154 @@
+package com.jiralike.repository;
+
+import com.jiralike.dto.BoardColumnDto;
+import com.jiralike.dto.CommentDto;
+import com.jiralike.dto.TicketDto;
+import com.jiralike.dto.UserDto;
+import com.jiralike.entity.Ticket;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+/**
+ * Non-blocking board, ticket and comment reads over R2DBC for the /api/reactive endpoints.
+ * Rows are mapped straight into the shared DTOs; writes stay on JPA.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveReadRepository {
+
+    /** The blocking board's card columns ({@code TicketCardRow}): no description. */
+    private static final String CARD_SELECT = """
+            SELECT t.id, t.title, t.priority, t.ticket_type, t.position, t.story_points,
+                   t.due_date, t.project_id, p.key AS project_key, t.column_id, c.name AS column_name,
+                   t.created_at, t.updated_at,
+                   (SELECT COUNT(*) FROM comments cm WHERE cm.ticket_id = t.id) AS comment_count,
+                   a.id AS a_id, a.username AS a_username, a.email AS a_email, a.display_name AS a_display_name,
+                   a.avatar_url AS a_avatar_url, a.created_at AS a_created_at,
+                   r.id AS r_id, r.username AS r_username, r.email AS r_email, r.display_name AS r_display_name,
+                   r.avatar_url AS r_avatar_url, r.created_at AS r_created_at
+              FROM tickets t
+              JOIN projects p ON p.id = t.project_id
+              JOIN board_columns c ON c.id = t.column_id
+              LEFT JOIN app_users a ON a.id = t.assignee_id
+              LEFT JOIN app_users r ON r.id = t.reporter_id
+            """;
+
+    /** Cards plus the description, like the blocking project ticket list ({@code TicketListRow}). */
+    private static final String LIST_SELECT = CARD_SELECT.replaceFirst("SELECT ", "SELECT t.description, ");
+
+    private static final String PROJECT_ORDER = " WHERE t.project_id = :projectId ORDER BY c.position, c.id, t.position, t.id";
+
+    private final DatabaseClient client;
+
+    public Flux<BoardColumnDto> findColumns(Long projectId) {
+        return client.sql("""
+                        SELECT id, name, position, color, project_id, ticket_count, story_points
+                          FROM board_columns
+                         WHERE project_id = :projectId
+                         ORDER BY position, id
+                        """)
+                .bind("projectId", projectId)
+                .map(row -> {
+                    BoardColumnDto dto = new BoardColumnDto();
+                    dto.setId(row.get("id", Long.class));
+                    dto.setName(row.get("name", String.class));
+                    dto.setPosition(row.get("position", Integer.class));
+                    dto.setColor(row.get("color", String.class));
+                    dto.setProjectId(row.get("project_id", Long.class));
+                    dto.setTicketCount(row.get("ticket_count", Integer.class));
+                    dto.setStoryPoints(row.get("story_points", Long.class));
+                    dto.setTickets(new ArrayList<>());
+                    return dto;
+                })
+                .all();
+    }
+
+    public Flux<TicketDto> findCardsByProject(Long projectId) {
+        return client.sql(CARD_SELECT + PROJECT_ORDER)
+                .bind("projectId", projectId)
+                .map(ReactiveReadRepository::toCard)
+                .all();
+    }
+
+    public Flux<TicketDto> findTicketsByProject(Long projectId) {
+        return client.sql(LIST_SELECT + PROJECT_ORDER)
+                .bind("projectId", projectId)
+                .map(row -> {
+                    TicketDto dto = toCard(row);
+                    dto.setDescription(row.get("description", String.class));
+                    return dto;
+                })
+                .all();
+    }
+
+    /** Oldest first, same order as the keyset-paged blocking endpoint. */
+    public Flux<CommentDto> findComments(Long ticketId) {
+        return client.sql("""
+                        SELECT cm.id, cm.content, cm.ticket_id, cm.created_at, cm.updated_at,
+                               a.id AS a_id, a.username AS a_username, a.email AS a_email,
+                               a.display_name AS a_display_name, a.avatar_url AS a_avatar_url,
+                               a.created_at AS a_created_at
+                          FROM comments cm
+                          JOIN app_users a ON a.id = cm.author_id
+                         WHERE cm.ticket_id = :ticketId
+                         ORDER BY cm.created_at, cm.id
+                        """)
+                .bind("ticketId", ticketId)
+                .map(row -> {
+                    CommentDto dto = new CommentDto();
+                    dto.setId(row.get("id", Long.class));
+                    dto.setContent(row.get("content", String.class));
+                    dto.setTicketId(row.get("ticket_id", Long.class));
+                    dto.setAuthor(toUser(row, "a_"));
+                    dto.setCreatedAt(row.get("created_at", Instant.class));
+                    dto.setUpdatedAt(row.get("updated_at", Instant.class));
+                    return dto;
+                })
+                .all();
+    }
+
+    private static TicketDto toCard(Readable row) {
+        TicketDto dto = new TicketDto();
+        dto.setId(row.get("id", Long.class));
+        dto.setTitle(row.get("title", String.class));
+        dto.setPriority(Ticket.Priority.valueOf(row.get("priority", String.class)));
+        dto.setTicketType(Ticket.TicketType.valueOf(row.get("ticket_type", String.class)));
+        dto.setPosition(row.get("position", Integer.class));
+        dto.setStoryPoints(row.get("story_points", Integer.class));
+        dto.setDueDate(row.get("due_date", LocalDate.class));
+        dto.setProjectId(row.get("project_id", Long.class));
+        dto.setProjectKey(row.get("project_key", String.class));
+        dto.setColumnId(row.get("column_id", Long.class));
+        dto.setColumnName(row.get("column_name", String.class));
+        dto.setCommentCount(row.get("comment_count", Long.class));
+        dto.setAssignee(toUser(row, "a_"));
+        dto.setAssigneeId(row.get("a_id", Long.class));
+        dto.setReporter(toUser(row, "r_"));
+        dto.setReporterId(row.get("r_id", Long.class));
+        dto.setCreatedAt(row.get("created_at", Instant.class));
+        dto.setUpdatedAt(row.get("updated_at", Instant.class));
+        return dto;
+    }
+
+    private static UserDto toUser(Readable row, String prefix) {
+        Long id = row.get(prefix + "id", Long.class);
+        if (id == null) {
+            return null;
+        }
+        UserDto dto = new UserDto();
+        dto.setId(id);
+        dto.setUsername(row.get(prefix + "username", String.class));
+        dto.setEmail(row.get(prefix + "email", String.class));
+        dto.setDisplayName(row.get(prefix + "display_name", String.class));
+        dto.setAvatarUrl(row.get(prefix + "avatar_url", String.class));
+        dto.setCreatedAt(row.get(prefix + "created_at", Instant.class));
+        return dto;
+    }
+}
@@ -1,23 +1,201 @@
 package com.jiralike.repository;
 
 import com.jiralike.entity.Ticket;
+import com.jiralike.repository.projection.FacetCountRow;
+import com.jiralike.repository.projection.TicketCardRow;
+import com.jiralike.repository.projection.TicketDescriptionRow;
+import com.jiralike.repository.projection.TicketListRow;
+import com.jiralike.repository.projection.TicketSearchHit;
+import com.jiralike.repository.projection.TicketSummaryRow;
+import com.jiralike.repository.projection.WorkloadRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TicketRepository extends JpaRepository<Ticket, Long> {
-    List<Ticket> findByProjectIdOrderByPositionAsc(Long projectId);
+public interface TicketRepository extends JpaRepository<Ticket, Long>, JpaSpecificationExecutor<Ticket>,
+        TicketRepositoryCustom {
+    List<Ticket> findByProjectIdOrderByPositionAscIdAsc(Long projectId);
     List<Ticket> findByColumnIdOrderByPositionAsc(Long columnId);
 
-    @Query("SELECT t FROM Ticket t LEFT JOIN FETCH t.assignee LEFT JOIN FETCH t.reporter WHERE t.project.id = :projectId ORDER BY t.column.position ASC, t.position ASC")
-    List<Ticket> findByProjectIdWithUsers(@Param("projectId") Long projectId);
+    /** Select list shared by the card and list projections; no entities are loaded or tracked. */
+    String CARD_COLUMNS = """
+            SELECT t.id AS id, t.title AS title, t.priority AS priority, t.ticketType AS ticketType,
+                   t.position AS position, t.storyPoints AS storyPoints, t.dueDate AS dueDate,
+                   p.id AS projectId, p.key AS projectKey, c.id AS columnId, c.name AS columnName,
+                   t.createdAt AS createdAt, t.updatedAt AS updatedAt,
+                   a.id AS assigneeId, a.username AS assigneeUsername, a.email AS assigneeEmail,
+                   a.displayName AS assigneeDisplayName, a.avatarUrl AS assigneeAvatarUrl, a.createdAt AS assigneeCreatedAt,
+                   r.id AS reporterId, r.username AS reporterUsername, r.email AS reporterEmail,
+                   r.displayName AS reporterDisplayName, r.avatarUrl AS reporterAvatarUrl, r.createdAt AS reporterCreatedAt
+            """;
+
+    String CARD_FROM = " FROM Ticket t JOIN t.project p JOIN t.column c LEFT JOIN t.assignee a LEFT JOIN t.reporter r ";
+
+    String CARD_ORDER = " ORDER BY c.position ASC, c.id ASC, t.position ASC, t.id ASC";
+
+    @Query(CARD_COLUMNS + CARD_FROM + "WHERE p.id = :projectId" + CARD_ORDER)
+    List<TicketCardRow> findCardsByProject(@Param("projectId") Long projectId);
+
+    @Query(CARD_COLUMNS + ", t.description AS description" + CARD_FROM + "WHERE p.id = :projectId" + CARD_ORDER)
+    List<TicketListRow> findListByProject(@Param("projectId") Long projectId);
+
+    @Query(CARD_COLUMNS + CARD_FROM + "WHERE t.id IN :ids" + CARD_ORDER)
+    List<TicketCardRow> findCardsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Ids of at most {@code first} tickets per project in board order (column position and id,
+     * then ticket position and id), after the ticket {@code afterId} when it is not null.
+     */
+    @Query(value = """
+            SELECT t.id
+            FROM projects p
+            CROSS JOIN LATERAL (
+                SELECT lt.id
+                FROM tickets lt
+                JOIN board_columns lc ON lc.id = lt.column_id
+                WHERE lt.project_id = p.id
+                  AND (CAST(:afterId AS BIGINT) IS NULL
+                       OR (lc.position, lc.id, lt.position, lt.id) > (SELECT ac.position, ac.id, a.position, a.id
+                                                                         FROM tickets a
+                                                                         JOIN board_columns ac ON ac.id = a.column_id
+                                                                        WHERE a.id = :afterId))
+                ORDER BY lc.position ASC, lc.id ASC, lt.position ASC, lt.id ASC
+                LIMIT :first
+            ) t
+            WHERE p.id IN (:projectIds)
+            """, nativeQuery = true)
+    List<Long> findPageIdsByProjectIds(@Param("projectIds") Collection<Long> projectIds,
+                                       @Param("first") int first,
+                                       @Param("afterId") Long afterId);
+
+    @Query(CARD_COLUMNS + CARD_FROM + "WHERE c.id IN :columnIds" + CARD_ORDER)
+    List<TicketCardRow> findCardsByColumnIds(@Param("columnIds") Collection<Long> columnIds);
+
+    @Query("SELECT t.id AS id, t.description AS description FROM Ticket t WHERE t.id IN :ids")
+    List<TicketDescriptionRow> findDescriptions(@Param("ids") Collection<Long> ids);
 
     int countByColumnId(Long columnId);
 
+    @Query("SELECT t.id FROM Ticket t WHERE t.project.id = :projectId")
+    List<Long> findIdsByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT t FROM Ticket t JOIN FETCH t.project LEFT JOIN FETCH t.assignee WHERE t.id = :id")
+    Optional<Ticket> findByIdForIndexing(@Param("id") Long id);
+
+    @Query("SELECT t FROM Ticket t JOIN FETCH t.project LEFT JOIN FETCH t.assignee WHERE t.id > :afterId ORDER BY t.id ASC")
+    List<Ticket> findBatchForIndexing(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT t FROM Ticket t JOIN FETCH t.project LEFT JOIN FETCH t.assignee WHERE t.id IN :ids")
+    List<Ticket> findAllByIdForIndexing(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT MAX(t.position) FROM Ticket t WHERE t.column.id = :columnId")
     Integer findMaxPositionInColumn(@Param("columnId") Long columnId);
+
+    /**
+     * Ranked full-text search over the trigger-maintained search_vector column (GIN indexed).
+     * Keyset paginated on (rank DESC, id DESC); pass null afterRank/afterId for the first page.
+     * Highlights are computed only for the rows of the returned page. They are raw text with each
+     * match between U+0002 and U+0003, which are stripped from the source first; callers escape the
+     * text before turning those markers into HTML.
+     */
+    @Query(value = """
+            WITH q AS (SELECT websearch_to_tsquery('english', :query) AS query),
+            hits AS (
+                SELECT t.id, t.project_id, t.column_id, t.title, t.description, t.priority, t.ticket_type,
+                       ts_rank_cd(t.search_vector, q.query) AS rank, q.query
+                FROM tickets t, q
+                WHERE t.search_vector @@ q.query
+                  AND (CAST(:projectId AS BIGINT) IS NULL OR t.project_id = :projectId)
+            )
+            SELECT h.id AS "id", h.project_id AS "projectId", p.key AS "projectKey", h.column_id AS "columnId",
+                   h.title AS "title", h.priority AS "priority", h.ticket_type AS "ticketType", h.rank AS "rank",
+                   ts_headline('english', translate(h.title, chr(2) || chr(3), ''), h.query,
+                               'StartSel=' || chr(2) || ', StopSel=' || chr(3) || ', HighlightAll=true') AS "titleHighlight",
+                   ts_headline('english', translate(COALESCE(h.description, ''), chr(2) || chr(3), ''), h.query,
+                               'StartSel=' || chr(2) || ', StopSel=' || chr(3) || ', MaxFragments=2, MaxWords=20, MinWords=5')
+                       AS "descriptionHighlight"
+            FROM hits h
+            JOIN projects p ON p.id = h.project_id
+            WHERE CAST(:afterRank AS REAL) IS NULL
+               OR h.rank < CAST(:afterRank AS REAL)
+               OR (h.rank = CAST(:afterRank AS REAL) AND h.id < :afterId)
+            ORDER BY h.rank DESC, h.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<TicketSearchHit> search(@Param("query") String query,
+                                 @Param("projectId") Long projectId,
+                                 @Param("afterRank") Float afterRank,
+                                 @Param("afterId") Long afterId,
+                                 @Param("limit") int limit);
+
+    /** Facet counts for a whole project in one pass: one GROUPING SET per facet plus the total. */
+    @Query(value = """
+            SELECT GROUPING(t.priority, t.ticket_type, t.assignee_id, t.column_id) AS "grouping",
+                   t.priority AS "priority", t.ticket_type AS "ticketType",
+                   t.assignee_id AS "assigneeId", t.column_id AS "columnId",
+                   COUNT(*) AS "count"
+            FROM tickets t
+            WHERE t.project_id = :projectId
+            GROUP BY GROUPING SETS ((t.priority), (t.ticket_type), (t.assignee_id), (t.column_id), ())
+            """, nativeQuery = true)
+    List<FacetCountRow> countFacets(@Param("projectId") Long projectId);
+
+    /**
+     * Tickets assigned to a user across all projects, keyset paginated on (due date nulls last, id)
+     * to match idx_tickets_assignee_due. Pass null afterDue/afterId for the first page.
+     */
+    @Query(value = """
+            SELECT w.* FROM (
+                SELECT t.id AS "id", t.title AS "title", t.priority AS "priority", t.ticket_type AS "ticketType",
+                       t.story_points AS "storyPoints", to_char(t.due_date, 'YYYY-MM-DD') AS "dueDate",
+                       t.project_id AS "projectId", p.key AS "projectKey",
+                       t.column_id AS "columnId", c.name AS "columnName",
+                       CASE WHEN c.position = b.last_pos THEN 'DONE'
+                            WHEN c.position = b.first_pos THEN 'TODO'
+                            ELSE 'IN_PROGRESS' END AS "category",
+                       COALESCE(t.due_date, DATE '9999-12-31') AS due_key
+                FROM tickets t
+                JOIN projects p ON p.id = t.project_id
+                JOIN board_columns c ON c.id = t.column_id
+                JOIN LATERAL (SELECT MIN(bc.position) AS first_pos, MAX(bc.position) AS last_pos
+                              FROM board_columns bc WHERE bc.project_id = t.project_id) b ON TRUE
+                WHERE t.assignee_id = :userId
+                  AND t.priority IN (:priorities)
+                  AND (CAST(:dueBefore AS DATE) IS NULL OR t.due_date <= CAST(:dueBefore AS DATE))
+                  AND (CAST(:afterDue AS DATE) IS NULL
+                       OR (COALESCE(t.due_date, DATE '9999-12-31'), t.id) > (CAST(:afterDue AS DATE), :afterId))
+            ) w
+            WHERE w."category" IN (:categories)
+            ORDER BY w.due_key, w."id"
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<TicketSummaryRow> findAssigned(@Param("userId") Long userId,
+                                        @Param("priorities") List<String> priorities,
+                                        @Param("categories") List<String> categories,
+                                        @Param("dueBefore") LocalDate dueBefore,
+                                        @Param("afterDue") LocalDate afterDue,
+                                        @Param("afterId") Long afterId,
+                                        @Param("limit") int limit);
+
+    /** Workload for any number of projects in one grouped pass; served by idx_tickets_project_facets. */
+    @Query(value = """
+            SELECT t.project_id AS "projectId", t.assignee_id AS "assigneeId",
+                   u.username AS "username", u.display_name AS "displayName", u.avatar_url AS "avatarUrl",
+                   t.column_id AS "columnId",
+                   COUNT(*) AS "ticketCount", COALESCE(SUM(t.story_points), 0) AS "storyPoints"
+            FROM tickets t
+            LEFT JOIN app_users u ON u.id = t.assignee_id
+            WHERE t.project_id IN (:projectIds)
+            GROUP BY t.project_id, t.assignee_id, u.username, u.display_name, u.avatar_url, t.column_id
+            """, nativeQuery = true)
+    List<WorkloadRow> findWorkload(@Param("projectIds") Collection<Long> projectIds);
 }
@@ -0,0 +1,16 @@
+package com.jiralike.repository;
+
+import com.jiralike.entity.Ticket;
+import com.jiralike.repository.projection.FacetCountRow;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface TicketRepositoryCustom {
+
+    /**
+     * Counts tickets matching the specification per (priority, type, assignee, column)
+     * combination in one grouped statement. Rows have grouping = 0.
+     */
+    List<FacetCountRow> countFacetCombinations(Specification<Ticket> spec);
+}
@@ -0,0 +1,66 @@
+package com.jiralike.repository;
+
+import com.jiralike.entity.Ticket;
+import com.jiralike.repository.projection.FacetCountRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class TicketRepositoryImpl implements TicketRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<FacetCountRow> countFacetCombinations(Specification<Ticket> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Ticket> root = query.from(Ticket.class);
+
+        Path<Ticket.Priority> priority = root.get("priority");
+        Path<Ticket.TicketType> ticketType = root.get("ticketType");
+        Path<Long> assigneeId = root.get("assignee").get("id");
+        Path<Long> columnId = root.get("column").get("id");
+
+        query.multiselect(priority, ticketType, assigneeId, columnId, cb.count(root))
+                .where(spec.toPredicate(root, query, cb))
+                .groupBy(priority, ticketType, assigneeId, columnId);
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(tuple -> new CombinationRow(
+                        tuple.get(0, Ticket.Priority.class).name(),
+                        tuple.get(1, Ticket.TicketType.class).name(),
+                        tuple.get(2, Long.class),
+                        tuple.get(3, Long.class),
+                        tuple.get(4, Long.class)))
+                .collect(Collectors.toList());
+    }
+
+    private static final class CombinationRow implements FacetCountRow {
+        private final String priority;
+        private final String ticketType;
+        private final Long assigneeId;
+        private final Long columnId;
+        private final Long count;
+
+        CombinationRow(String priority, String ticketType, Long assigneeId, Long columnId, Long count) {
+            this.priority = priority;
+            this.ticketType = ticketType;
+            this.assigneeId = assigneeId;
+            this.columnId = columnId;
+            this.count = count;
+        }
+
+        @Override public Integer getGrouping() { return 0; }
+        @Override public String getPriority() { return priority; }
+        @Override public String getTicketType() { return ticketType; }
+        @Override public Long getAssigneeId() { return assigneeId; }
+        @Override public Long getColumnId() { return columnId; }
+        @Override public Long getCount() { return count; }
+    }
+}
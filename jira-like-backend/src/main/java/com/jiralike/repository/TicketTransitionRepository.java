@@ -0,0 +1,210 @@
+package com.jiralike.repository;
+
+import com.jiralike.entity.TicketTransition;
+import com.jiralike.repository.projection.BurndownRow;
+import com.jiralike.repository.projection.CumulativeFlowRow;
+import com.jiralike.repository.projection.FlowTimePercentiles;
+import com.jiralike.repository.projection.VelocityRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TicketTransitionRepository extends JpaRepository<TicketTransition, Long> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO column_daily_flow (project_id, column_id, day, entered, exited)
+            VALUES (:projectId, :columnId, :day, :entered, :exited)
+            ON CONFLICT (project_id, column_id, day) DO UPDATE
+               SET entered = column_daily_flow.entered + EXCLUDED.entered,
+                   exited  = column_daily_flow.exited  + EXCLUDED.exited
+            """, nativeQuery = true)
+    int addDailyFlow(@Param("projectId") Long projectId,
+                     @Param("columnId") Long columnId,
+                     @Param("day") LocalDate day,
+                     @Param("entered") int entered,
+                     @Param("exited") int exited);
+
+    /**
+     * The project's right-most column counts as done; a ticket created there is started and
+     * completed at once.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO ticket_flow_times (ticket_id, project_id, created_at, started_at, completed_at)
+            SELECT :ticketId, :projectId, CAST(:at AS TIMESTAMPTZ), d.done_at, d.done_at
+            FROM (SELECT CASE WHEN :columnId = (SELECT c.id FROM board_columns c WHERE c.project_id = :projectId
+                                                ORDER BY c.position DESC, c.id DESC LIMIT 1)
+                              THEN CAST(:at AS TIMESTAMPTZ) END AS done_at) d
+            ON CONFLICT (ticket_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertFlowTimes(@Param("ticketId") Long ticketId,
+                        @Param("projectId") Long projectId,
+                        @Param("columnId") Long columnId,
+                        @Param("at") Instant at);
+
+    /** Started is the first move off the creation column; completed is cleared if the ticket leaves done. */
+    @Modifying
+    @Query(value = """
+            UPDATE ticket_flow_times
+               SET started_at = COALESCE(started_at, :at),
+                   completed_at = CASE WHEN :columnId = (SELECT c.id FROM board_columns c WHERE c.project_id = :projectId
+                                                         ORDER BY c.position DESC, c.id DESC LIMIT 1)
+                                       THEN CAST(:at AS TIMESTAMPTZ) END
+             WHERE ticket_id = :ticketId
+            """, nativeQuery = true)
+    int updateFlowTimes(@Param("ticketId") Long ticketId,
+                        @Param("projectId") Long projectId,
+                        @Param("columnId") Long columnId,
+                        @Param("at") Instant at);
+
+    /** Deleted tickets leave the cycle and lead time percentiles; their transitions are kept. */
+    @Modifying
+    @Query(value = "DELETE FROM ticket_flow_times WHERE ticket_id = :ticketId", nativeQuery = true)
+    int deleteFlowTimes(@Param("ticketId") Long ticketId);
+
+    /**
+     * End-of-day ticket count per column for every day in [from, to]. The baseline before the
+     * range and the running sum inside it both come from the daily rollup, so cost grows with
+     * days x columns, not with the number of transitions. Columns come from the rollup as well
+     * as the board, so a deleted column keeps its counts on the days before it was removed.
+     */
+    @Query(value = """
+            WITH days AS (
+                SELECT CAST(d AS DATE) AS day
+                FROM generate_series(CAST(:from AS DATE), CAST(:to AS DATE), INTERVAL '1 day') d
+            ),
+            baseline AS (
+                SELECT column_id, SUM(entered - exited) AS wip
+                FROM column_daily_flow
+                WHERE project_id = :projectId AND day < CAST(:from AS DATE)
+                GROUP BY column_id
+            ),
+            columns AS (
+                SELECT id AS column_id FROM board_columns WHERE project_id = :projectId
+                UNION
+                SELECT DISTINCT column_id FROM column_daily_flow
+                WHERE project_id = :projectId AND day <= CAST(:to AS DATE)
+            ),
+            grid AS (
+                SELECT k.column_id, d.day,
+                       COALESCE(f.entered, 0) - COALESCE(f.exited, 0) AS delta
+                FROM columns k
+                CROSS JOIN days d
+                LEFT JOIN column_daily_flow f
+                       ON f.project_id = :projectId AND f.column_id = k.column_id AND f.day = d.day
+            )
+            SELECT g.column_id AS "columnId",
+                   CAST(g.day - CAST(:from AS DATE) AS INTEGER) AS "dayIndex",
+                   COALESCE(b.wip, 0) + SUM(g.delta) OVER (PARTITION BY g.column_id ORDER BY g.day) AS "count"
+            FROM grid g
+            LEFT JOIN baseline b ON b.column_id = g.column_id
+            ORDER BY g.column_id, g.day
+            """, nativeQuery = true)
+    List<CumulativeFlowRow> cumulativeFlow(@Param("projectId") Long projectId,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to);
+
+    @Query(value = """
+            SELECT COUNT(*) AS "completed",
+                   percentile_cont(0.50) WITHIN GROUP (ORDER BY cycle_hours) AS "cycleP50",
+                   percentile_cont(0.85) WITHIN GROUP (ORDER BY cycle_hours) AS "cycleP85",
+                   percentile_cont(0.95) WITHIN GROUP (ORDER BY cycle_hours) AS "cycleP95",
+                   percentile_cont(0.50) WITHIN GROUP (ORDER BY lead_hours)  AS "leadP50",
+                   percentile_cont(0.85) WITHIN GROUP (ORDER BY lead_hours)  AS "leadP85",
+                   percentile_cont(0.95) WITHIN GROUP (ORDER BY lead_hours)  AS "leadP95"
+            FROM (
+                SELECT EXTRACT(EPOCH FROM completed_at - started_at) / 3600.0 AS cycle_hours,
+                       EXTRACT(EPOCH FROM completed_at - created_at) / 3600.0 AS lead_hours
+                FROM ticket_flow_times
+                WHERE project_id = :projectId
+                  AND completed_at >= :fromTs AND completed_at < :toTs
+            ) t
+            """, nativeQuery = true)
+    FlowTimePercentiles flowTimePercentiles(@Param("projectId") Long projectId,
+                                            @Param("fromTs") Instant fromTs,
+                                            @Param("toTs") Instant toTs);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO column_daily_points (project_id, column_id, day, entered, exited, added, removed)
+            VALUES (:projectId, :columnId, :day, :entered, :exited, :added, :removed)
+            ON CONFLICT (project_id, column_id, day) DO UPDATE
+               SET entered = column_daily_points.entered + EXCLUDED.entered,
+                   exited  = column_daily_points.exited  + EXCLUDED.exited,
+                   added   = column_daily_points.added   + EXCLUDED.added,
+                   removed = column_daily_points.removed + EXCLUDED.removed
+            """, nativeQuery = true)
+    int addDailyPoints(@Param("projectId") Long projectId,
+                       @Param("columnId") Long columnId,
+                       @Param("day") LocalDate day,
+                       @Param("entered") int entered,
+                       @Param("exited") int exited,
+                       @Param("added") int added,
+                       @Param("removed") int removed);
+
+    /**
+     * Same shape as {@link #cumulativeFlow} but over story points, with the day's scope change per
+     * column. Deleted columns are included too, so past scope and remaining points do not change.
+     */
+    @Query(value = """
+            WITH days AS (
+                SELECT CAST(d AS DATE) AS day
+                FROM generate_series(CAST(:from AS DATE), CAST(:to AS DATE), INTERVAL '1 day') d
+            ),
+            baseline AS (
+                SELECT column_id, SUM(entered - exited) AS points
+                FROM column_daily_points
+                WHERE project_id = :projectId AND day < CAST(:from AS DATE)
+                GROUP BY column_id
+            ),
+            columns AS (
+                SELECT id AS column_id FROM board_columns WHERE project_id = :projectId
+                UNION
+                SELECT DISTINCT column_id FROM column_daily_points
+                WHERE project_id = :projectId AND day <= CAST(:to AS DATE)
+            ),
+            grid AS (
+                SELECT k.column_id, d.day,
+                       COALESCE(p.entered, 0) - COALESCE(p.exited, 0) AS delta,
+                       COALESCE(p.added, 0) AS added,
+                       COALESCE(p.removed, 0) AS removed
+                FROM columns k
+                CROSS JOIN days d
+                LEFT JOIN column_daily_points p
+                       ON p.project_id = :projectId AND p.column_id = k.column_id AND p.day = d.day
+            )
+            SELECT g.column_id AS "columnId",
+                   CAST(g.day - CAST(:from AS DATE) AS INTEGER) AS "dayIndex",
+                   COALESCE(b.points, 0) + SUM(g.delta) OVER (PARTITION BY g.column_id ORDER BY g.day) AS "points",
+                   CAST(g.added AS BIGINT) AS "added",
+                   CAST(g.removed AS BIGINT) AS "removed"
+            FROM grid g
+            LEFT JOIN baseline b ON b.column_id = g.column_id
+            ORDER BY g.column_id, g.day
+            """, nativeQuery = true)
+    List<BurndownRow> burndown(@Param("projectId") Long projectId,
+                               @Param("from") LocalDate from,
+                               @Param("to") LocalDate to);
+
+    @Query(value = """
+            SELECT to_char(date_trunc('week', day), 'YYYY-MM-DD') AS "weekStart",
+                   SUM(entered - exited) AS "points"
+            FROM column_daily_points
+            WHERE project_id = :projectId AND column_id = :columnId
+              AND day >= :from AND day <= :to
+            GROUP BY date_trunc('week', day)
+            ORDER BY date_trunc('week', day)
+            """, nativeQuery = true)
+    List<VelocityRow> velocity(@Param("projectId") Long projectId,
+                               @Param("columnId") Long columnId,
+                               @Param("from") LocalDate from,
+                               @Param("to") LocalDate to);
+}
@@ -0,0 +1,10 @@
+package com.jiralike.repository.projection;
+
+/** Story points in a column at the end of day {@code dayIndex}, plus that day's scope change. */
+public interface BurndownRow {
+    Long getColumnId();
+    Integer getDayIndex();
+    Long getPoints();
+    Long getAdded();
+    Long getRemoved();
+}
@@ -0,0 +1,8 @@
+package com.jiralike.repository.projection;
+
+/** Tickets in a column at the end of the day {@code dayIndex} days after the range start. */
+public interface CumulativeFlowRow {
+    Long getColumnId();
+    Integer getDayIndex();
+    Long getCount();
+}
@@ -0,0 +1,15 @@
+package com.jiralike.repository.projection;
+
+/**
+ * One row of a facet aggregate. grouping is the PostgreSQL GROUPING() bitmask over
+ * (priority, ticket_type, assignee_id, column_id): a set bit means that column was
+ * rolled up in this row, so 0 is a full combination and 15 the grand total.
+ */
+public interface FacetCountRow {
+    Integer getGrouping();
+    String getPriority();
+    String getTicketType();
+    Long getAssigneeId();
+    Long getColumnId();
+    Long getCount();
+}
@@ -0,0 +1,12 @@
+package com.jiralike.repository.projection;
+
+/** Cycle and lead time percentiles in hours; null when no ticket completed in the range. */
+public interface FlowTimePercentiles {
+    Long getCompleted();
+    Double getCycleP50();
+    Double getCycleP85();
+    Double getCycleP95();
+    Double getLeadP50();
+    Double getLeadP85();
+    Double getLeadP95();
+}
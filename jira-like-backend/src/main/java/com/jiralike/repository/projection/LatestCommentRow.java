@@ -0,0 +1,19 @@
+package com.jiralike.repository.projection;
+
+/**
+ * Comment joined with its author for the batched latest-comments and comment-page queries.
+ * Timestamps are epoch microseconds so no JDBC temporal conversion is involved.
+ */
+public interface LatestCommentRow {
+    Long getId();
+    Long getTicketId();
+    String getContent();
+    Long getCreatedAtMicros();
+    Long getUpdatedAtMicros();
+    Long getAuthorId();
+    String getAuthorUsername();
+    String getAuthorEmail();
+    String getAuthorDisplayName();
+    String getAuthorAvatarUrl();
+    Long getAuthorCreatedAtMicros();
+}
@@ -0,0 +1,15 @@
+package com.jiralike.repository.projection;
+
+import java.time.Instant;
+
+public interface ProjectListRow {
+    Long getId();
+    String getName();
+    String getKey();
+    String getDescription();
+    Instant getCreatedAt();
+    Instant getUpdatedAt();
+    int getTicketCount();
+    int getOpenTicketCount();
+    long getStoryPoints();
+}
@@ -0,0 +1,6 @@
+package com.jiralike.repository.projection;
+
+public interface ProjectVersionRow {
+    Long getId();
+    Long getBoardVersion();
+}
@@ -0,0 +1,37 @@
+package com.jiralike.repository.projection;
+
+import com.jiralike.entity.Ticket;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/** Board card columns of a ticket with its assignee and reporter flattened in; no description. */
+public interface TicketCardRow {
+    Long getId();
+    String getTitle();
+    Ticket.Priority getPriority();
+    Ticket.TicketType getTicketType();
+    Integer getPosition();
+    Integer getStoryPoints();
+    LocalDate getDueDate();
+    Long getProjectId();
+    String getProjectKey();
+    Long getColumnId();
+    String getColumnName();
+    Instant getCreatedAt();
+    Instant getUpdatedAt();
+
+    Long getAssigneeId();
+    String getAssigneeUsername();
+    String getAssigneeEmail();
+    String getAssigneeDisplayName();
+    String getAssigneeAvatarUrl();
+    Instant getAssigneeCreatedAt();
+
+    Long getReporterId();
+    String getReporterUsername();
+    String getReporterEmail();
+    String getReporterDisplayName();
+    String getReporterAvatarUrl();
+    Instant getReporterCreatedAt();
+}
@@ -0,0 +1,6 @@
+package com.jiralike.repository.projection;
+
+public interface TicketCommentCount {
+    Long getTicketId();
+    Long getCount();
+}
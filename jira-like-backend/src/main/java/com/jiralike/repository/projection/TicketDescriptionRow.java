@@ -0,0 +1,6 @@
+package com.jiralike.repository.projection;
+
+public interface TicketDescriptionRow {
+    Long getId();
+    String getDescription();
+}
@@ -0,0 +1,6 @@
+package com.jiralike.repository.projection;
+
+/** A card row plus the description, for the project ticket list. */
+public interface TicketListRow extends TicketCardRow {
+    String getDescription();
+}
@@ -0,0 +1,19 @@
+package com.jiralike.repository.projection;
+
+/**
+ * Row returned by the full-text ticket search query.
+ * Highlights are produced by ts_headline as unescaped text with matches between U+0002 and U+0003;
+ * TicketSearchService turns them into escaped HTML.
+ */
+public interface TicketSearchHit {
+    Long getId();
+    Long getProjectId();
+    String getProjectKey();
+    Long getColumnId();
+    String getTitle();
+    String getPriority();
+    String getTicketType();
+    Float getRank();
+    String getTitleHighlight();
+    String getDescriptionHighlight();
+}
@@ -0,0 +1,16 @@
+package com.jiralike.repository.projection;
+
+/** Flat row for the "my work" list; dueDate is ISO yyyy-MM-dd or null. */
+public interface TicketSummaryRow {
+    Long getId();
+    String getTitle();
+    String getPriority();
+    String getTicketType();
+    Integer getStoryPoints();
+    String getDueDate();
+    Long getProjectId();
+    String getProjectKey();
+    Long getColumnId();
+    String getColumnName();
+    String getCategory();
+}
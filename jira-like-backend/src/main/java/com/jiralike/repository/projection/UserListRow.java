@@ -0,0 +1,12 @@
+package com.jiralike.repository.projection;
+
+import java.time.Instant;
+
+public interface UserListRow {
+    Long getId();
+    String getUsername();
+    String getEmail();
+    String getDisplayName();
+    String getAvatarUrl();
+    Instant getCreatedAt();
+}
@@ -0,0 +1,7 @@
+package com.jiralike.repository.projection;
+
+/** Outcome of one row of a bulk user upsert: CREATED, UPDATED, UNCHANGED or CONFLICT. */
+public interface UserUpsertRow {
+    String getUsername();
+    String getOutcome();
+}
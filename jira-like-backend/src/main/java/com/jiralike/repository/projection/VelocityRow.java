@@ -0,0 +1,7 @@
+package com.jiralike.repository.projection;
+
+/** Net points that reached the done column during the week starting on {@code weekStart} (ISO yyyy-MM-dd). */
+public interface VelocityRow {
+    String getWeekStart();
+    Long getPoints();
+}
@@ -0,0 +1,13 @@
+package com.jiralike.repository.projection;
+
+/** Ticket count and story points for one (project, assignee, column); assignee fields are null when unassigned. */
+public interface WorkloadRow {
+    Long getProjectId();
+    Long getAssigneeId();
+    String getUsername();
+    String getDisplayName();
+    String getAvatarUrl();
+    Long getColumnId();
+    Long getTicketCount();
+    Long getStoryPoints();
+}
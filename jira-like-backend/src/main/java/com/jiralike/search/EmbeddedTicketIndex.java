@@ -0,0 +1,275 @@
+package com.jiralike.search;
+
+import com.jiralike.dto.TicketSuggestionDto;
+import com.jiralike.entity.AppUser;
+import com.jiralike.entity.Ticket;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Optional in-process Lucene index over tickets, used for per-keystroke typeahead.
+ * Lives in an MMapDirectory on local disk; writes go straight to the IndexWriter and
+ * become visible through a near-real-time searcher refreshed in the background.
+ * Every document carries the generation it was written in, so a rebuild can replace
+ * the index in place: it writes a new generation over the old one, which stays
+ * searchable until the rebuild removes what it did not rewrite.
+ * The database stays the source of truth: see TicketIndexSynchronizer.
+ */
+@Component
+@ConditionalOnProperty(name = "jiralike.search.embedded.enabled", havingValue = "true")
+public class EmbeddedTicketIndex {
+
+    static final String ID = "id";
+    static final String PROJECT_ID = "projectId";
+    static final String PROJECT_KEY = "projectKey";
+    static final String TITLE = "title";
+    static final String DESCRIPTION = "description";
+    static final String TYPE = "type";
+    static final String PRIORITY = "priority";
+    static final String ASSIGNEE = "assignee";
+    static final String ASSIGNEE_NAME = "assigneeName";
+    static final String ASSIGNEE_ID = "assigneeId";
+    static final String KEYWORDS = "keywords";
+    static final String GENERATION = "generation";
+
+    /** Searched fields and their boosts: title hits outrank description hits. */
+    private static final Map<String, Float> SEARCH_FIELDS = Map.of(
+            TITLE, 4f,
+            KEYWORDS, 2f,
+            ASSIGNEE, 2f,
+            DESCRIPTION, 1f);
+
+    private static final double MAX_STALE_SECONDS = 1.0;
+    private static final double MIN_STALE_SECONDS = 0.025;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+    private volatile String generation = UUID.randomUUID().toString();
+
+    public EmbeddedTicketIndex(@Value("${jiralike.search.embedded.path:${java.io.tmpdir}/jira-like-index}") String path)
+            throws IOException {
+        this.directory = new MMapDirectory(Paths.get(path));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+        this.reopenThread = new ControlledRealTimeReopenThread<>(writer, searcherManager, MAX_STALE_SECONDS, MIN_STALE_SECONDS);
+        reopenThread.setName("ticket-index-nrt-reopen");
+        reopenThread.setDaemon(true);
+        reopenThread.start();
+    }
+
+    /** Adds or replaces the document for this ticket. Project and assignee must be initialized. */
+    public void index(Ticket ticket) {
+        try {
+            writer.updateDocument(new Term(ID, ticket.getId().toString()), toDocument(ticket));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(Long ticketId) {
+        try {
+            writer.deleteDocuments(new Term(ID, ticketId.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Starts a new generation: documents indexed from now on are stamped with it. */
+    public String startGeneration() {
+        generation = UUID.randomUUID().toString();
+        return generation;
+    }
+
+    /** Removes every document not (re)written in the given generation. */
+    public void deleteOtherGenerations(String keep) {
+        try {
+            writer.deleteDocuments(new BooleanQuery.Builder()
+                    .add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST)
+                    .add(new TermQuery(new Term(GENERATION, keep)), BooleanClause.Occur.MUST_NOT)
+                    .build());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Makes pending writes durable and immediately visible to searchers. */
+    public void commit() {
+        try {
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Ids of the tickets indexed with this assignee. Answered from the index rather than the
+     * database, which no longer links a deleted user's tickets to them.
+     */
+    public List<Long> findTicketIdsByAssignee(Long userId) {
+        try {
+            searcherManager.maybeRefreshBlocking();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TermQuery query = new TermQuery(new Term(ASSIGNEE_ID, userId.toString()));
+                TopDocs top = searcher.search(query, Math.max(1, searcher.count(query)));
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> ids = new ArrayList<>(top.scoreDocs.length);
+                for (ScoreDoc hit : top.scoreDocs) {
+                    ids.add(Long.valueOf(storedFields.document(hit.doc).get(ID)));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Commits if anything was written since the last commit; returns whether it did. */
+    public boolean commitPending() {
+        if (!writer.hasUncommittedChanges()) {
+            return false;
+        }
+        commit();
+        return true;
+    }
+
+    public int size() {
+        return writer.getDocStats().numDocs;
+    }
+
+    /**
+     * Typeahead query: every token must match in some field; the last token is a prefix
+     * unless the input ends in whitespace. Optionally restricted to one project key.
+     */
+    public List<TicketSuggestionDto> suggest(String text, String projectKey, int limit) {
+        List<String> tokens = analyze(text);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        boolean lastIsPrefix = !Character.isWhitespace(text.charAt(text.length() - 1));
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (int i = 0; i < tokens.size(); i++) {
+            boolean prefix = lastIsPrefix && i == tokens.size() - 1;
+            BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+            for (Map.Entry<String, Float> field : SEARCH_FIELDS.entrySet()) {
+                Term term = new Term(field.getKey(), tokens.get(i));
+                Query clause = prefix ? new PrefixQuery(term) : new TermQuery(term);
+                anyField.add(new BoostQuery(clause, field.getValue()), BooleanClause.Occur.SHOULD);
+            }
+            query.add(anyField.build(), BooleanClause.Occur.MUST);
+        }
+        if (projectKey != null && !projectKey.isBlank()) {
+            query.add(new TermQuery(new Term(PROJECT_KEY, projectKey.toUpperCase())), BooleanClause.Occur.FILTER);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs top = searcher.search(query.build(), limit);
+                StoredFields storedFields = searcher.storedFields();
+                List<TicketSuggestionDto> results = new ArrayList<>(top.scoreDocs.length);
+                for (ScoreDoc hit : top.scoreDocs) {
+                    results.add(toSuggestion(storedFields.document(hit.doc), hit.score));
+                }
+                return results;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        reopenThread.close();
+        searcherManager.close();
+        writer.commit();
+        writer.close();
+        directory.close();
+    }
+
+    private Document toDocument(Ticket ticket) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, ticket.getId().toString(), Field.Store.YES));
+        doc.add(new StringField(GENERATION, generation, Field.Store.NO));
+        doc.add(new StoredField(PROJECT_ID, ticket.getProject().getId()));
+        doc.add(new StringField(PROJECT_KEY, ticket.getProject().getKey(), Field.Store.YES));
+        doc.add(new TextField(TITLE, ticket.getTitle(), Field.Store.YES));
+        if (ticket.getDescription() != null) {
+            doc.add(new TextField(DESCRIPTION, ticket.getDescription(), Field.Store.NO));
+        }
+        doc.add(new StringField(TYPE, ticket.getTicketType().name(), Field.Store.YES));
+        doc.add(new StringField(PRIORITY, ticket.getPriority().name(), Field.Store.YES));
+        doc.add(new TextField(KEYWORDS, ticket.getProject().getKey() + " " + ticket.getTicketType().name()
+                + " " + ticket.getPriority().name(), Field.Store.NO));
+        AppUser assignee = ticket.getAssignee();
+        if (assignee != null) {
+            doc.add(new TextField(ASSIGNEE, assignee.getUsername() + " " + assignee.getDisplayName(), Field.Store.NO));
+            doc.add(new StoredField(ASSIGNEE_NAME, assignee.getDisplayName()));
+            doc.add(new StringField(ASSIGNEE_ID, assignee.getId().toString(), Field.Store.NO));
+        }
+        return doc;
+    }
+
+    private TicketSuggestionDto toSuggestion(Document doc, float score) {
+        TicketSuggestionDto dto = new TicketSuggestionDto();
+        dto.setId(Long.valueOf(doc.get(ID)));
+        dto.setProjectId(doc.getField(PROJECT_ID).numericValue().longValue());
+        dto.setProjectKey(doc.get(PROJECT_KEY));
+        dto.setTitle(doc.get(TITLE));
+        dto.setTicketType(Ticket.TicketType.valueOf(doc.get(TYPE)));
+        dto.setPriority(Ticket.Priority.valueOf(doc.get(PRIORITY)));
+        dto.setAssigneeName(doc.get(ASSIGNEE_NAME));
+        dto.setScore(score);
+        return dto;
+    }
+
+    private List<String> analyze(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        try (TokenStream stream = analyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,149 @@
+package com.jiralike.search;
+
+import com.jiralike.entity.Ticket;
+import com.jiralike.event.TicketChangedEvent;
+import com.jiralike.event.UserChangedEvent;
+import com.jiralike.event.UsersSyncedEvent;
+import com.jiralike.repository.TicketRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Keeps EmbeddedTicketIndex in line with the database: rebuilds it at startup
+ * and applies each committed ticket change incrementally. Assignee names are
+ * indexed too, so user changes re-index the tickets assigned to that user.
+ * Incremental changes are searchable at once and committed to disk periodically.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jiralike.search.embedded.enabled", havingValue = "true")
+public class TicketIndexSynchronizer {
+
+    static final int BATCH_SIZE = 500;
+
+    private final EmbeddedTicketIndex index;
+    private final TicketRepository ticketRepository;
+    private final TransactionTemplate readTransaction;
+    private final boolean rebuildOnStartup;
+
+    public TicketIndexSynchronizer(EmbeddedTicketIndex index,
+                                   TicketRepository ticketRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${jiralike.search.embedded.rebuild-on-startup:true}") boolean rebuildOnStartup) {
+        this.index = index;
+        this.ticketRepository = ticketRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        // Runs after the writing transaction has committed, so it needs its own.
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Replaces the whole index with the current contents of the tickets table. The old
+     * documents keep answering typeahead until the new generation is complete.
+     */
+    public synchronized int rebuild() {
+        long start = System.currentTimeMillis();
+        String generation = index.startGeneration();
+        long lastId = 0L;
+        int total = 0;
+        while (true) {
+            final long afterId = lastId;
+            List<Ticket> batch = readTransaction.execute(status -> {
+                List<Ticket> tickets = ticketRepository.findBatchForIndexing(afterId, PageRequest.of(0, BATCH_SIZE));
+                tickets.forEach(index::index);
+                return tickets;
+            });
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            total += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+            if (batch.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+        index.deleteOtherGenerations(generation);
+        index.commit();
+        log.info("Rebuilt embedded ticket index: {} tickets in {} ms", total, System.currentTimeMillis() - start);
+        return total;
+    }
+
+    @Scheduled(fixedDelayString = "${jiralike.search.embedded.commit-delay-ms:30000}")
+    public void commitPending() {
+        try {
+            index.commitPending();
+        } catch (RuntimeException e) {
+            log.warn("Failed to commit embedded ticket index", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        try {
+            if (event.getChangeType() == TicketChangedEvent.ChangeType.DELETED) {
+                index.delete(event.getTicketId());
+                return;
+            }
+            readTransaction.executeWithoutResult(status ->
+                    ticketRepository.findByIdForIndexing(event.getTicketId()).ifPresent(index::index));
+        } catch (RuntimeException e) {
+            // The write has already committed; a stale index entry is fixed by the next change or rebuild.
+            log.warn("Failed to update embedded ticket index for ticket {}", event.getTicketId(), e);
+        }
+    }
+
+    /**
+     * Renames re-index the user's tickets with the new name; on delete the database has already
+     * cleared their assignee, so re-indexing drops the old name. New users have no tickets.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getChangeType() == UserChangedEvent.ChangeType.CREATED) {
+            return;
+        }
+        try {
+            List<Long> ticketIds = index.findTicketIdsByAssignee(event.getUserId());
+            for (int from = 0; from < ticketIds.size(); from += BATCH_SIZE) {
+                List<Long> batch = ticketIds.subList(from, Math.min(from + BATCH_SIZE, ticketIds.size()));
+                readTransaction.executeWithoutResult(status ->
+                        ticketRepository.findAllByIdForIndexing(batch).forEach(index::index));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to update embedded ticket index for user {}", event.getUserId(), e);
+        }
+    }
+
+    /** A sync can rename any number of users, so it is handled like a restart. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUsersSynced(UsersSyncedEvent event) {
+        if (event.getUpdated() == 0) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Failed to rebuild embedded ticket index after user sync", e);
+        }
+    }
+}
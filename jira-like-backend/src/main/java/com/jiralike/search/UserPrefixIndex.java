@@ -0,0 +1,197 @@
+package com.jiralike.search;
+
+import com.jiralike.dto.UserSummaryDto;
+import com.jiralike.event.UserChangedEvent;
+import com.jiralike.event.UsersSyncedEvent;
+import com.jiralike.repository.AppUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory prefix index over usernames and display names for the assignee/reporter pickers.
+ *
+ * Keys (username, full display name and each display name word, lower-cased) are kept in one
+ * sorted array with a parallel array of user ids, so a lookup is a binary search for the first
+ * key >= prefix followed by a short scan. Writers build a new snapshot with a linear merge and
+ * publish it through a volatile field; readers never lock.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserPrefixIndex {
+
+    private final AppUserRepository userRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        replaceAll(userRepository.findAll().stream()
+                .map(u -> new UserSummaryDto(u.getId(), u.getUsername(), u.getDisplayName(), u.getAvatarUrl()))
+                .collect(Collectors.toList()));
+        log.info("Loaded user prefix index: {} users", size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getChangeType() == UserChangedEvent.ChangeType.DELETED) {
+            remove(event.getUserId());
+        } else {
+            put(event.getUser());
+        }
+    }
+
+    /** A bulk sync may touch thousands of users; one reload beats thousands of merges. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUsersSynced(UsersSyncedEvent event) {
+        load();
+    }
+
+    public synchronized void replaceAll(Collection<UserSummaryDto> users) {
+        List<Entry> entries = new ArrayList<>();
+        Map<Long, UserSummaryDto> byId = new HashMap<>();
+        for (UserSummaryDto user : users) {
+            byId.put(user.getId(), user);
+            keysOf(user).forEach(key -> entries.add(new Entry(key, user.getId())));
+        }
+        entries.sort(Entry.ORDER);
+        snapshot = Snapshot.of(entries, byId);
+    }
+
+    public synchronized void put(UserSummaryDto user) {
+        Snapshot current = snapshot;
+        List<Entry> added = keysOf(user).stream().map(key -> new Entry(key, user.getId())).sorted(Entry.ORDER).toList();
+        List<Entry> merged = new ArrayList<>(current.keys.length + added.size());
+        int a = 0;
+        for (int i = 0; i < current.keys.length; i++) {
+            if (current.ids[i] == user.getId()) {
+                continue;
+            }
+            Entry existing = new Entry(current.keys[i], current.ids[i]);
+            while (a < added.size() && Entry.ORDER.compare(added.get(a), existing) < 0) {
+                merged.add(added.get(a++));
+            }
+            merged.add(existing);
+        }
+        while (a < added.size()) {
+            merged.add(added.get(a++));
+        }
+        Map<Long, UserSummaryDto> byId = new HashMap<>(current.users);
+        byId.put(user.getId(), user);
+        snapshot = Snapshot.of(merged, byId);
+    }
+
+    public synchronized void remove(Long userId) {
+        Snapshot current = snapshot;
+        if (!current.users.containsKey(userId)) {
+            return;
+        }
+        List<Entry> kept = new ArrayList<>(current.keys.length);
+        for (int i = 0; i < current.keys.length; i++) {
+            if (current.ids[i] != userId) {
+                kept.add(new Entry(current.keys[i], current.ids[i]));
+            }
+        }
+        Map<Long, UserSummaryDto> byId = new HashMap<>(current.users);
+        byId.remove(userId);
+        snapshot = Snapshot.of(kept, byId);
+    }
+
+    public int size() {
+        return snapshot.users.size();
+    }
+
+    /** Returns up to limit distinct users having a key that starts with the prefix, in key order. */
+    public List<UserSummaryDto> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        Snapshot current = snapshot;
+        Set<Long> seen = new LinkedHashSet<>();
+        for (int i = lowerBound(current.keys, normalized);
+             i < current.keys.length && seen.size() < limit && current.keys[i].startsWith(normalized); i++) {
+            seen.add(current.ids[i]);
+        }
+        List<UserSummaryDto> results = new ArrayList<>(seen.size());
+        for (Long id : seen) {
+            results.add(current.users.get(id));
+        }
+        return results;
+    }
+
+    private static int lowerBound(String[] keys, String key) {
+        int lo = 0;
+        int hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static Set<String> keysOf(UserSummaryDto user) {
+        Set<String> keys = new TreeSet<>();
+        keys.add(normalize(user.getUsername()));
+        String displayName = normalize(user.getDisplayName());
+        keys.add(displayName);
+        for (String word : displayName.split("\\s+")) {
+            keys.add(word);
+        }
+        keys.remove("");
+        return keys;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+        static final Comparator<Entry> ORDER = Comparator.<Entry, String>comparing(e -> e.key).thenComparingLong(e -> e.id);
+
+        final String key;
+        final long id;
+
+        Entry(String key, long id) {
+            this.key = key;
+            this.id = id;
+        }
+    }
+
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(new String[0], new long[0], Map.of());
+
+        final String[] keys;
+        final long[] ids;
+        final Map<Long, UserSummaryDto> users;
+
+        private Snapshot(String[] keys, long[] ids, Map<Long, UserSummaryDto> users) {
+            this.keys = keys;
+            this.ids = ids;
+            this.users = users;
+        }
+
+        static Snapshot of(List<Entry> sortedEntries, Map<Long, UserSummaryDto> users) {
+            String[] keys = new String[sortedEntries.size()];
+            long[] ids = new long[sortedEntries.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = sortedEntries.get(i).key;
+                ids[i] = sortedEntries.get(i).id;
+            }
+            return new Snapshot(keys, ids, users);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.jiralike.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.jiralike.dto.BatchOperationDto;
+import com.jiralike.dto.BatchRequestDto;
+import com.jiralike.dto.BatchResponseDto;
+import com.jiralike.dto.BatchResultDto;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs the operations of a {@code POST /api/batch} in order. Consecutive reads share one
+ * read-only transaction, and through open-in-view every operation shares the request's
+ * persistence context, so an entity one operation loaded is not fetched again by the next.
+ * Writes commit one by one unless the batch is atomic: then they share one transaction that is
+ * rolled back on the first failure, and the operations after it are not run.
+ *
+ * Atomic batches may not contain reads. Inside the uncommitted transaction a read would see the
+ * batch's own board versions and could seed the per-version snapshot, facet and workload caches
+ * with rows that are then rolled back; the writes' own responses carry their results anyway.
+ */
+@Service
+public class BatchService {
+
+    /** {@code ${index}} or {@code ${index.field.field}}: the body, or a field of it, of an earlier operation. */
+    static final Pattern REFERENCE = Pattern.compile("\\$\\{(\\d+)((?:\\.[A-Za-z0-9_]+)*)}");
+
+    private final TransactionTemplate readOnly;
+    private final TransactionTemplate readWrite;
+
+    public BatchService(PlatformTransactionManager transactionManager) {
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    /** {@code dispatcher} runs one operation against the API and reports its outcome; it must not throw. */
+    public BatchResponseDto execute(BatchRequestDto request, Function<BatchOperationDto, BatchResultDto> dispatcher) {
+        List<BatchOperationDto> operations = request.getOperations();
+        BatchResponseDto response = new BatchResponseDto();
+        if (request.isAtomic()) {
+            if (operations.stream().anyMatch(BatchService::isRead)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Atomic batches may only contain writes; each write's result is in its response");
+            }
+            readWrite.executeWithoutResult(status -> {
+                if (!run(operations, 0, operations.size(), dispatcher, response.getResults(), true)) {
+                    status.setRollbackOnly();
+                    response.setRolledBack(true);
+                }
+            });
+            return response;
+        }
+
+        int from = 0;
+        while (from < operations.size()) {
+            if (!isRead(operations.get(from))) {
+                run(operations, from, from + 1, dispatcher, response.getResults(), false);
+                from++;
+                continue;
+            }
+            int start = from;
+            int end = from;
+            while (end < operations.size() && isRead(operations.get(end))) {
+                end++;
+            }
+            int stop = end;
+            readOnly.executeWithoutResult(status -> {
+                // A failed read may have marked the shared transaction rollback-only; ending it
+                // as a local rollback avoids an UnexpectedRollbackException for the whole batch.
+                if (!run(operations, start, stop, dispatcher, response.getResults(), false)) {
+                    status.setRollbackOnly();
+                }
+            });
+            from = end;
+        }
+        return response;
+    }
+
+    /** Runs operations [from, to) and appends their results; returns false if any failed. */
+    private boolean run(List<BatchOperationDto> operations, int from, int to,
+                        Function<BatchOperationDto, BatchResultDto> dispatcher,
+                        List<BatchResultDto> results, boolean stopOnFailure) {
+        boolean succeeded = true;
+        for (int i = from; i < to; i++) {
+            BatchResultDto result;
+            try {
+                result = dispatcher.apply(resolve(operations.get(i), results));
+            } catch (IllegalArgumentException e) {
+                result = failure(HttpStatus.BAD_REQUEST, e.getMessage());
+            }
+            results.add(result);
+            if (!isSuccess(result)) {
+                succeeded = false;
+                if (stopOnFailure) {
+                    for (int skipped = i + 1; skipped < to; skipped++) {
+                        results.add(failure(HttpStatus.FAILED_DEPENDENCY, "Not run: operation " + i + " failed"));
+                    }
+                    break;
+                }
+            }
+        }
+        return succeeded;
+    }
+
+    /** Replaces references in the path and in body strings that consist of exactly one reference. */
+    static BatchOperationDto resolve(BatchOperationDto operation, List<BatchResultDto> results) {
+        BatchOperationDto resolved = new BatchOperationDto();
+        resolved.setMethod(operation.getMethod());
+        Matcher matcher = REFERENCE.matcher(operation.getPath());
+        StringBuilder path = new StringBuilder();
+        while (matcher.find()) {
+            JsonNode value = lookup(matcher, results);
+            if (!value.isValueNode()) {
+                throw new IllegalArgumentException(matcher.group() + " is not a single value");
+            }
+            matcher.appendReplacement(path, Matcher.quoteReplacement(value.asText()));
+        }
+        matcher.appendTail(path);
+        resolved.setPath(path.toString());
+        resolved.setBody(operation.getBody() == null ? null : substitute(operation.getBody().deepCopy(), results));
+        return resolved;
+    }
+
+    private static JsonNode substitute(JsonNode node, List<BatchResultDto> results) {
+        if (node.isTextual()) {
+            Matcher matcher = REFERENCE.matcher(node.textValue());
+            return matcher.matches() ? lookup(matcher, results) : node;
+        }
+        if (node.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                ((ObjectNode) node).set(field.getKey(), substitute(field.getValue(), results));
+            }
+        } else if (node.isArray()) {
+            for (int i = 0; i < node.size(); i++) {
+                ((ArrayNode) node).set(i, substitute(node.get(i), results));
+            }
+        }
+        return node;
+    }
+
+    private static JsonNode lookup(Matcher reference, List<BatchResultDto> results) {
+        int index = Integer.parseInt(reference.group(1));
+        if (index >= results.size()) {
+            throw new IllegalArgumentException(reference.group() + " refers to an operation that has not run");
+        }
+        BatchResultDto result = results.get(index);
+        if (!isSuccess(result) || result.getBody() == null) {
+            throw new IllegalArgumentException(reference.group() + " refers to operation " + index
+                    + ", which failed or returned no body");
+        }
+        JsonNode value = result.getBody();
+        for (String field : reference.group(2).split("\\.")) {
+            if (!field.isEmpty()) {
+                value = value.isArray() && field.chars().allMatch(Character::isDigit)
+                        ? value.path(Integer.parseInt(field)) : value.path(field);
+            }
+        }
+        if (value.isMissingNode() || value.isNull()) {
+            throw new IllegalArgumentException(reference.group() + " does not match a value");
+        }
+        return value;
+    }
+
+    private static boolean isRead(BatchOperationDto operation) {
+        return "GET".equals(operation.getMethod());
+    }
+
+    private static boolean isSuccess(BatchResultDto result) {
+        return result.getStatus() < 400;
+    }
+
+    public static BatchResultDto failure(HttpStatus status, String error) {
+        BatchResultDto result = new BatchResultDto();
+        result.setStatus(status.value());
+        result.setError(error);
+        return result;
+    }
+}
@@ -3,16 +3,24 @@ package com.jiralike.service;
 import com.jiralike.dto.BoardColumnCreateDto;
 import com.jiralike.dto.BoardColumnDto;
 import com.jiralike.dto.TicketDto;
+import com.jiralike.dto.UserDto;
 import com.jiralike.entity.BoardColumn;
+import com.jiralike.entity.Ticket;
+import com.jiralike.event.TicketChangedEvent;
 import com.jiralike.repository.BoardColumnRepository;
 import com.jiralike.repository.TicketRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,12 +31,35 @@ public class BoardColumnService {
     private final TicketRepository ticketRepository;
     private final ProjectService projectService;
     private final TicketService ticketService;
+    private final TicketCounterService counterService;
+    private final TicketTransitionService transitionService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /** Two queries for the tickets of a whole board: the card projection, then the comment counts. */
     @Transactional(readOnly = true)
     public List<BoardColumnDto> findByProject(Long projectId) {
-        return columnRepository.findByProjectIdOrderByPositionAsc(projectId).stream()
-                .map(this::toDtoWithTickets)
+        List<TicketDto> cards = ticketService.findCardsByProject(projectId, new HashMap<>());
+        Map<Long, List<TicketDto>> byColumn = new HashMap<>();
+        for (TicketDto card : cards) {
+            byColumn.computeIfAbsent(card.getColumnId(), id -> new ArrayList<>()).add(card);
+        }
+        List<BoardColumnDto> columns = columnRepository.findByProjectIdOrderByPositionAscIdAsc(projectId).stream()
+                .map(column -> {
+                    BoardColumnDto dto = projectService.toColumnDtoWithoutTickets(column);
+                    dto.setTickets(byColumn.getOrDefault(column.getId(), new ArrayList<>()));
+                    return dto;
+                })
                 .collect(Collectors.toList());
+        ticketService.withCommentCounts(cards);
+        return columns;
+    }
+
+    /** Columns of several projects without tickets, keyed by project id, each in board order. */
+    @Transactional(readOnly = true)
+    public Map<Long, List<BoardColumnDto>> findByProjects(Collection<Long> projectIds) {
+        return columnRepository.findByProjectIdInOrderByPositionAscIdAsc(projectIds).stream()
+                .map(projectService::toColumnDtoWithoutTickets)
+                .collect(Collectors.groupingBy(BoardColumnDto::getProjectId));
     }
 
     @Transactional
@@ -39,7 +70,11 @@ public class BoardColumnService {
         column.setColor(dto.getColor());
         column.setPosition(position);
         column.setProject(projectService.getProjectOrThrow(dto.getProjectId()));
-        return toDtoWithTickets(columnRepository.save(column));
+        BoardColumn saved = columnRepository.save(column);
+        // A new right-most column becomes the done column, which changes the open count.
+        counterService.recount(dto.getProjectId());
+        projectService.touchBoard(dto.getProjectId());
+        return toDtoWithTickets(saved);
     }
 
     @Transactional
@@ -48,13 +83,28 @@ public class BoardColumnService {
         column.setName(dto.getName());
         if (dto.getColor() != null)
             column.setColor(dto.getColor());
-        return toDtoWithTickets(columnRepository.save(column));
+        BoardColumn saved = columnRepository.save(column);
+        projectService.touchBoard(column.getProject().getId());
+        return toDtoWithTickets(saved);
     }
 
     @Transactional
     public void delete(Long id) {
-        getColumnOrThrow(id);
+        BoardColumn column = getColumnOrThrow(id);
+        // Tickets in the column are removed by the FK cascade; record them leaving and publish
+        // their deletes as a ticket delete would, so the flow and points rollups keep the
+        // column's history and the search index drops them.
+        for (Ticket ticket : ticketRepository.findByColumnIdOrderByPositionAsc(id)) {
+            transitionService.record(ticket, id, null);
+            transitionService.recordPoints(ticket, id, ticket.getStoryPoints(), null, null);
+            eventPublisher.publishEvent(new TicketChangedEvent(ticket.getId(), column.getProject().getId(),
+                    TicketChangedEvent.ChangeType.DELETED));
+        }
         columnRepository.deleteById(id);
+        columnRepository.flush();
+        // The cascade bypasses TicketService, so recount rather than adjust.
+        counterService.recount(column.getProject().getId());
+        projectService.touchBoard(column.getProject().getId());
     }
 
     private BoardColumn getColumnOrThrow(Long id) {
@@ -63,9 +113,13 @@ public class BoardColumnService {
     }
 
     public BoardColumnDto toDtoWithTickets(BoardColumn column) {
+        return toDtoWithTickets(column, new HashMap<>());
+    }
+
+    private BoardColumnDto toDtoWithTickets(BoardColumn column, Map<Long, UserDto> users) {
         BoardColumnDto dto = projectService.toColumnDtoWithoutTickets(column);
         List<TicketDto> tickets = ticketRepository.findByColumnIdOrderByPositionAsc(column.getId()).stream()
-                .map(ticketService::toDto)
+                .map(t -> ticketService.toDto(t, users))
                 .collect(Collectors.toList());
         dto.setTickets(tickets);
         return dto;
@@ -0,0 +1,95 @@
+package com.jiralike.service;
+
+import com.jiralike.cache.ProjectVersionCache;
+import com.jiralike.dto.FacetBucketDto;
+import com.jiralike.dto.FacetCountsDto;
+import com.jiralike.entity.Ticket;
+import com.jiralike.repository.TicketRepository;
+import com.jiralike.repository.projection.FacetCountRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Facet counts (priority, type, assignee, column) for the board filter sidebar.
+ * Each request is answered from one grouped statement and cached per board version.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardFacetService {
+
+    static final int CACHE_SIZE = 512;
+
+    private final TicketRepository ticketRepository;
+    private final ProjectService projectService;
+    private final TicketFilterService filterService;
+
+    private final ProjectVersionCache<FacetCountsDto> cache = new ProjectVersionCache<>(CACHE_SIZE);
+
+    @Transactional(readOnly = true)
+    public FacetCountsDto getFacets(Long projectId, String filter, Long currentUserId) {
+        // Version is read before the aggregate, so a cached value is never older than its key.
+        long version = projectService.getBoardVersionOrThrow(projectId);
+        if (filter == null || filter.isBlank()) {
+            return cache.get(projectId, "", version, () -> fold(ticketRepository.countFacets(projectId), version));
+        }
+        Specification<Ticket> spec = filterService.compileForProject(projectId, filter, currentUserId);
+        // Relative dates and "me" make the result depend on the day and the caller, not just the text.
+        String variant = filter.trim() + "|me=" + currentUserId + "|" + LocalDate.now(ZoneOffset.UTC);
+        return cache.get(projectId, variant, version,
+                () -> fold(ticketRepository.countFacetCombinations(spec), version));
+    }
+
+    ProjectVersionCache<FacetCountsDto> getCache() {
+        return cache;
+    }
+
+    private FacetCountsDto fold(List<FacetCountRow> rows, long version) {
+        Map<String, Long> priority = new LinkedHashMap<>();
+        Arrays.stream(Ticket.Priority.values()).forEach(p -> priority.put(p.name(), 0L));
+        Map<String, Long> ticketType = new LinkedHashMap<>();
+        Arrays.stream(Ticket.TicketType.values()).forEach(t -> ticketType.put(t.name(), 0L));
+        Map<String, Long> assignee = new HashMap<>();
+        Map<String, Long> column = new HashMap<>();
+        long total = 0;
+
+        for (FacetCountRow row : rows) {
+            int grouping = row.getGrouping();
+            long count = row.getCount();
+            // A set bit means the dimension is rolled up; 0 means a full combination row.
+            if ((grouping & 0b1000) == 0) priority.merge(row.getPriority(), count, Long::sum);
+            if ((grouping & 0b0100) == 0) ticketType.merge(row.getTicketType(), count, Long::sum);
+            if ((grouping & 0b0010) == 0) assignee.merge(idOrNull(row.getAssigneeId()), count, Long::sum);
+            if ((grouping & 0b0001) == 0) column.merge(idOrNull(row.getColumnId()), count, Long::sum);
+            if (grouping == 0 || grouping == 0b1111) total += count;
+        }
+
+        FacetCountsDto dto = new FacetCountsDto();
+        dto.setBoardVersion(version);
+        dto.setTotal(total);
+        dto.setPriority(toBuckets(priority, false));
+        dto.setTicketType(toBuckets(ticketType, false));
+        dto.setAssignee(toBuckets(assignee, true));
+        dto.setColumn(toBuckets(column, true));
+        return dto;
+    }
+
+    private static String idOrNull(Long id) {
+        return id == null ? null : id.toString();
+    }
+
+    private static List<FacetBucketDto> toBuckets(Map<String, Long> counts, boolean byCountDesc) {
+        List<FacetBucketDto> buckets = new ArrayList<>();
+        counts.forEach((value, count) -> buckets.add(new FacetBucketDto(value, count)));
+        if (byCountDesc) {
+            buckets.sort(Comparator.comparingLong(FacetBucketDto::getCount).reversed());
+        }
+        return buckets;
+    }
+}
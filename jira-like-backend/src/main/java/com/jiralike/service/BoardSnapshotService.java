@@ -0,0 +1,213 @@
+package com.jiralike.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jiralike.cache.BodyFormat;
+import com.jiralike.cache.EncodedBody;
+import com.jiralike.cache.ProjectVersionCache;
+import com.jiralike.cache.SingleFlight;
+import com.jiralike.dto.BoardJsonCheckDto;
+import com.jiralike.event.UserChangedEvent;
+import com.jiralike.event.UsersSyncedEvent;
+import com.jiralike.repository.BoardColumnRepository;
+import com.jiralike.repository.ProjectRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * The unfiltered board and ticket list as ready-to-write bodies, serialized and gzipped once per
+ * board version and {@link BodyFormat}. Identical concurrent misses (same project, view and version) share one load,
+ * so a board opened by a whole team at once costs one pipeline run rather than one per person.
+ *
+ * With {@code jiralike.board.json-source=sql} the board document is assembled by PostgreSQL
+ * ({@link BoardColumnRepository#findBoardJson}) instead of loading entities and serializing
+ * DTOs; {@link #checkSqlJson} compares the two for a given project.
+ */
+@Service
+public class BoardSnapshotService {
+
+    static final int CACHE_SIZE = 256;
+    static final String BOARD = "board";
+    static final String TICKETS = "tickets";
+    static final int EXCERPT_RADIUS = 40;
+
+    private final BoardColumnService columnService;
+    private final TicketService ticketService;
+    private final ProjectRepository projectRepository;
+    private final BoardColumnRepository columnRepository;
+    private final Map<BodyFormat, ObjectMapper> mappers = new EnumMap<>(BodyFormat.class);
+    private final long timeoutMs;
+    private final boolean sqlBoardJson;
+
+    private final ProjectVersionCache<EncodedBody> cache;
+    private final SingleFlight<SnapshotKey, EncodedBody> flights = new SingleFlight<>();
+    private final AtomicLong serializeNanosSaved = new AtomicLong();
+    private final AtomicLong compressedBytesSaved = new AtomicLong();
+
+    public BoardSnapshotService(BoardColumnService columnService,
+                                TicketService ticketService,
+                                ProjectRepository projectRepository,
+                                BoardColumnRepository columnRepository,
+                                ObjectMapper objectMapper,
+                                @Value("${jiralike.board.coalesce-timeout-ms:5000}") long timeoutMs,
+                                @Value("${jiralike.board.json-source:dto}") String jsonSource,
+                                @Value("${jiralike.board.snapshot-cache-max-bytes:67108864}") long cacheMaxBytes) {
+        this.columnService = columnService;
+        this.ticketService = ticketService;
+        this.projectRepository = projectRepository;
+        this.columnRepository = columnRepository;
+        for (BodyFormat format : BodyFormat.values()) {
+            mappers.put(format, format.mapper(objectMapper));
+        }
+        this.timeoutMs = timeoutMs;
+        this.sqlBoardJson = "sql".equalsIgnoreCase(jsonSource);
+        this.cache = new ProjectVersionCache<>(CACHE_SIZE, cacheMaxBytes, EncodedBody::size);
+    }
+
+    /** The SQL-assembled document only replaces JSON; the binary formats always serialize DTOs. */
+    public Snapshot getBoard(Long projectId, BodyFormat format) {
+        return get(projectId, view(BOARD, format), () -> sqlBoardJson && format == BodyFormat.JSON
+                ? sqlBoard(projectId)
+                : serialize(columnService.findByProject(projectId), format));
+    }
+
+    public Snapshot getTickets(Long projectId, BodyFormat format) {
+        return get(projectId, view(TICKETS, format), () -> serialize(ticketService.findByProject(projectId), format));
+    }
+
+    /**
+     * Builds the board both ways and compares the bytes. The two reads are not in one
+     * transaction, so a write landing in between shows up as a difference; check again.
+     */
+    public BoardJsonCheckDto checkSqlJson(Long projectId) {
+        byte[] dto = serialize(columnService.findByProject(projectId), BodyFormat.JSON).identity();
+        byte[] sql = sqlBoard(projectId).identity();
+        int mismatch = Arrays.mismatch(dto, sql);
+
+        BoardJsonCheckDto check = new BoardJsonCheckDto();
+        check.setProjectId(projectId);
+        check.setMatches(mismatch == -1);
+        check.setDtoBytes(dto.length);
+        check.setSqlBytes(sql.length);
+        check.setFirstDifference(mismatch);
+        if (mismatch != -1) {
+            check.setDtoExcerpt(excerpt(dto, mismatch));
+            check.setSqlExcerpt(excerpt(sql, mismatch));
+        }
+        return check;
+    }
+
+    /**
+     * Keyed by the version read before the load, so a cached or joined body is never older
+     * than the version the caller saw. User changes do not bump versions; the cache generation
+     * covers them, so a load that overlaps a clear is neither stored nor joined by later readers.
+     * Unknown projects are neither cached nor coalesced.
+     */
+    private Snapshot get(Long projectId, String view, Supplier<EncodedBody> loader) {
+        long generation = cache.generation();
+        Long version = projectRepository.findBoardVersion(projectId);
+        if (version == null) {
+            return new Snapshot(loader.get(), false, false);
+        }
+        EncodedBody cached = cache.getIfCurrent(projectId, view, version);
+        if (cached != null) {
+            serializeNanosSaved.addAndGet(cached.serializeNanos());
+            return new Snapshot(cached, true, false);
+        }
+        try {
+            SingleFlight.Result<EncodedBody> result = flights.execute(new SnapshotKey(projectId, view, version, generation),
+                    timeoutMs, () -> {
+                        EncodedBody body = loader.get();
+                        cache.put(projectId, view, version, generation, body);
+                        return body;
+                    });
+            if (result.shared()) {
+                serializeNanosSaved.addAndGet(result.value().serializeNanos());
+            }
+            return new Snapshot(result.value(), false, result.shared());
+        } catch (TimeoutException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Board " + projectId + " is still loading, retry shortly");
+        }
+    }
+
+    /** Counts what sending {@code body} gzipped saved over sending it as-is. */
+    public void recordCompressed(EncodedBody body) {
+        compressedBytesSaved.addAndGet(body.identity().length - body.gzip().length);
+    }
+
+    /** Renames and avatar changes do not bump board versions. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        cache.clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUsersSynced(UsersSyncedEvent event) {
+        cache.clear();
+    }
+
+    /** For the debug header: cache hits, flights and what reuse has saved so far. */
+    public String stats() {
+        return "hits=" + cache.getHits() + "; misses=" + cache.getMisses() + "; cachedBytes=" + cache.weight()
+                + "; flights=" + flights.getFlights() + "; collapsed=" + flights.getCollapsed()
+                + "; timeouts=" + flights.getTimeouts() + "; failures=" + flights.getFailures()
+                + "; serializationMsSaved=" + serializeNanosSaved.get() / 1_000_000
+                + "; bytesSaved=" + compressedBytesSaved.get();
+    }
+
+    ProjectVersionCache<EncodedBody> getCache() {
+        return cache;
+    }
+
+    SingleFlight<SnapshotKey, EncodedBody> getFlights() {
+        return flights;
+    }
+
+    /** No entities or DTOs: the query returns the finished document; its time is what a reuse saves. */
+    private EncodedBody sqlBoard(Long projectId) {
+        long start = System.nanoTime();
+        byte[] json = columnRepository.findBoardJson(projectId).getBytes(StandardCharsets.UTF_8);
+        return EncodedBody.of(json, System.nanoTime() - start);
+    }
+
+    private EncodedBody serialize(Object value, BodyFormat format) {
+        long start = System.nanoTime();
+        try {
+            byte[] body = mappers.get(format).writeValueAsBytes(value);
+            return EncodedBody.of(body, System.nanoTime() - start);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize board snapshot", e);
+        }
+    }
+
+    /** Cache view per format: "board", "board.cbor", "board.smile", and likewise for tickets. */
+    static String view(String base, BodyFormat format) {
+        return format == BodyFormat.JSON ? base : base + "." + format.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static String excerpt(byte[] json, int offset) {
+        int from = Math.max(0, offset - EXCERPT_RADIUS);
+        int to = Math.min(json.length, offset + EXCERPT_RADIUS);
+        return new String(json, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    /** {@code cached}: served from the version cache; {@code shared}: served by another request's load. */
+    public record Snapshot(EncodedBody body, boolean cached, boolean shared) {
+    }
+
+    record SnapshotKey(Long projectId, String view, long version, long generation) {
+    }
+}
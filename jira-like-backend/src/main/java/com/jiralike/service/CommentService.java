@@ -2,31 +2,116 @@ package com.jiralike.service;
 
 import com.jiralike.dto.CommentCreateDto;
 import com.jiralike.dto.CommentDto;
+import com.jiralike.dto.CommentPageDto;
+import com.jiralike.dto.UserDto;
 import com.jiralike.entity.Comment;
 import com.jiralike.entity.Ticket;
+import com.jiralike.event.MentionEvent;
 import com.jiralike.repository.CommentRepository;
 import com.jiralike.repository.TicketRepository;
+import com.jiralike.repository.projection.LatestCommentRow;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.List;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 500;
+    static final int DEFAULT_LATEST_PER_TICKET = 1;
+    static final int MAX_LATEST_PER_TICKET = 20;
+    static final int MAX_LATEST_TICKETS = 500;
+
     private final CommentRepository commentRepository;
     private final TicketRepository ticketRepository;
     private final UserService userService;
+    private final MarkdownService markdownService;
+    private final ProjectService projectService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Oldest-first page of a ticket's comments. The cursor is the opaque nextCursor of the
+     * previous page (null for the first page).
+     */
+    @Transactional(readOnly = true)
+    public CommentPageDto findPage(Long ticketId, String cursor, Integer limit) {
+        int pageSize = (limit == null) ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        PageRequest page = PageRequest.of(0, pageSize);
+
+        List<Comment> comments;
+        if (cursor == null || cursor.isBlank()) {
+            comments = commentRepository.findFirstPage(ticketId, page);
+        } else {
+            String[] parts = cursor.split("_", 2);
+            Instant afterCreatedAt;
+            Long afterId;
+            try {
+                afterCreatedAt = Instant.parse(parts[0]);
+                afterId = Long.valueOf(parts[1]);
+            } catch (RuntimeException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid comment cursor: " + cursor);
+            }
+            comments = commentRepository.findPageAfter(ticketId, afterCreatedAt, afterId, page);
+        }
+
+        CommentPageDto dto = new CommentPageDto();
+        dto.setComments(comments.stream().map(this::toDto).collect(Collectors.toList()));
+        if (comments.size() == pageSize) {
+            Comment last = comments.get(comments.size() - 1);
+            dto.setNextCursor(last.getCreatedAt() + "_" + last.getId());
+        }
+        return dto;
+    }
+
+    /**
+     * Newest comments of each ticket, newest first, keyed in the order of {@code ticketIds}.
+     * Tickets without comments (or that do not exist) map to an empty list.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<CommentDto>> findLatest(Collection<Long> ticketIds, Integer perTicket) {
+        Set<Long> ids = new LinkedHashSet<>(ticketIds);
+        if (ids.isEmpty() || ids.size() > MAX_LATEST_TICKETS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Between 1 and " + MAX_LATEST_TICKETS + " ticket ids are required");
+        }
+        int limit = (perTicket == null) ? DEFAULT_LATEST_PER_TICKET : perTicket;
+        if (limit < 1 || limit > MAX_LATEST_PER_TICKET) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "perTicket must be between 1 and " + MAX_LATEST_PER_TICKET);
+        }
 
-    public List<CommentDto> findByTicket(Long ticketId) {
-        return commentRepository.findByTicketIdOrderByCreatedAtAsc(ticketId).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        Map<Long, List<CommentDto>> result = new LinkedHashMap<>();
+        ids.forEach(id -> result.put(id, new ArrayList<>()));
+        for (LatestCommentRow row : commentRepository.findLatestByTicketIds(ids, limit)) {
+            result.get(row.getTicketId()).add(fromRow(row));
+        }
+        return result;
+    }
+
+    /**
+     * Oldest-first page of several tickets' comments in one query, at most {@code first} per
+     * ticket and after the comment {@code afterId} if given; keyed by ticket id, tickets
+     * without comments are absent.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<CommentDto>> findPages(Collection<Long> ticketIds, int first, Long afterId) {
+        if (first < 1 || first > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "first must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return commentRepository.findPageByTicketIds(ticketIds, first, afterId).stream()
+                .map(this::fromRow)
+                .collect(Collectors.groupingBy(CommentDto::getTicketId));
     }
 
     @Transactional
@@ -39,20 +124,38 @@ public class CommentService {
         comment.setTicket(ticket);
         comment.setAuthor(userService.getUserOrThrow(dto.getAuthorId()));
 
-        return toDto(commentRepository.save(comment));
+        Comment saved = commentRepository.save(comment);
+        publishMentions(saved, MentionParser.parse(saved.getContent()));
+        // Board cards carry commentCount, so a new comment is a board change.
+        projectService.touchBoard(ticket.getProject().getId());
+        return toDto(saved);
     }
 
     @Transactional
     public CommentDto update(Long id, CommentCreateDto dto) {
         Comment comment = getCommentOrThrow(id);
+        Set<String> mentioned = MentionParser.added(comment.getContent(), dto.getContent());
+        if (!comment.getContent().equals(dto.getContent())) {
+            markdownService.evict(comment.getContent());
+        }
         comment.setContent(dto.getContent());
-        return toDto(commentRepository.save(comment));
+        Comment saved = commentRepository.save(comment);
+        publishMentions(saved, mentioned);
+        return toDto(saved);
     }
 
     @Transactional
     public void delete(Long id) {
-        getCommentOrThrow(id);
+        Comment comment = getCommentOrThrow(id);
         commentRepository.deleteById(id);
+        projectService.touchBoard(comment.getTicket().getProject().getId());
+    }
+
+    private void publishMentions(Comment comment, Set<String> usernames) {
+        if (!usernames.isEmpty()) {
+            eventPublisher.publishEvent(new MentionEvent(comment.getTicket().getId(), comment.getId(),
+                    comment.getAuthor().getId(), usernames));
+        }
     }
 
     private Comment getCommentOrThrow(Long id) {
@@ -60,10 +163,35 @@ public class CommentService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Comment not found: " + id));
     }
 
+    private CommentDto fromRow(LatestCommentRow row) {
+        UserDto author = new UserDto();
+        author.setId(row.getAuthorId());
+        author.setUsername(row.getAuthorUsername());
+        author.setEmail(row.getAuthorEmail());
+        author.setDisplayName(row.getAuthorDisplayName());
+        author.setAvatarUrl(row.getAuthorAvatarUrl());
+        author.setCreatedAt(fromMicros(row.getAuthorCreatedAtMicros()));
+
+        CommentDto dto = new CommentDto();
+        dto.setId(row.getId());
+        dto.setContent(row.getContent());
+        dto.setRendered(markdownService.render(row.getContent()));
+        dto.setTicketId(row.getTicketId());
+        dto.setAuthor(author);
+        dto.setCreatedAt(fromMicros(row.getCreatedAtMicros()));
+        dto.setUpdatedAt(fromMicros(row.getUpdatedAtMicros()));
+        return dto;
+    }
+
+    private static Instant fromMicros(Long micros) {
+        return micros == null ? null : Instant.EPOCH.plus(micros, ChronoUnit.MICROS);
+    }
+
     public CommentDto toDto(Comment comment) {
         CommentDto dto = new CommentDto();
         dto.setId(comment.getId());
         dto.setContent(comment.getContent());
+        dto.setRendered(markdownService.render(comment.getContent()));
         dto.setTicketId(comment.getTicket().getId());
         dto.setAuthor(userService.toDto(comment.getAuthor()));
         dto.setCreatedAt(comment.getCreatedAt());
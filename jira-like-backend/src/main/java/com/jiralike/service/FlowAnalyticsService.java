@@ -0,0 +1,193 @@
+package com.jiralike.service;
+
+import com.jiralike.dto.BurndownDayDto;
+import com.jiralike.dto.BurndownDto;
+import com.jiralike.dto.CumulativeFlowDto;
+import com.jiralike.dto.CumulativeFlowSeriesDto;
+import com.jiralike.dto.CycleTimeDto;
+import com.jiralike.dto.PercentilesDto;
+import com.jiralike.dto.VelocityDto;
+import com.jiralike.dto.VelocityWeekDto;
+import com.jiralike.entity.BoardColumn;
+import com.jiralike.repository.BoardColumnRepository;
+import com.jiralike.repository.TicketTransitionRepository;
+import com.jiralike.repository.projection.BurndownRow;
+import com.jiralike.repository.projection.CumulativeFlowRow;
+import com.jiralike.repository.projection.FlowTimePercentiles;
+import com.jiralike.repository.projection.VelocityRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+
+/**
+ * Cumulative flow, cycle time, burndown and velocity, read only from the rollups kept by
+ * {@link TicketTransitionService}. The project's right-most column counts as done.
+ */
+@Service
+@RequiredArgsConstructor
+public class FlowAnalyticsService {
+
+    static final int DEFAULT_RANGE_DAYS = 30;
+    static final int MAX_RANGE_DAYS = 366;
+    static final int DEFAULT_VELOCITY_WEEKS = 8;
+    static final int MAX_VELOCITY_WEEKS = 52;
+
+    private final TicketTransitionRepository transitionRepository;
+    private final BoardColumnRepository columnRepository;
+    private final ProjectService projectService;
+
+    @Transactional(readOnly = true)
+    public CumulativeFlowDto cumulativeFlow(Long projectId, LocalDate from, LocalDate to) {
+        projectService.getProjectOrThrow(projectId);
+        LocalDate end = to != null ? to : LocalDate.now(ZoneOffset.UTC);
+        LocalDate start = resolveStart(from, end);
+        int days = (int) ChronoUnit.DAYS.between(start, end) + 1;
+
+        Map<Long, Long[]> countsByColumn = new HashMap<>();
+        for (CumulativeFlowRow row : transitionRepository.cumulativeFlow(projectId, start, end)) {
+            countsByColumn.computeIfAbsent(row.getColumnId(), id -> new Long[days])[row.getDayIndex()] = row.getCount();
+        }
+
+        List<CumulativeFlowSeriesDto> series = new ArrayList<>();
+        for (BoardColumn column : columnRepository.findByProjectIdOrderByPositionAscIdAsc(projectId)) {
+            Long[] counts = countsByColumn.remove(column.getId());
+            series.add(new CumulativeFlowSeriesDto(column.getId(), column.getName(), values(counts, days)));
+        }
+        // Columns deleted since keep their history; those empty over the whole range are left out.
+        new TreeMap<>(countsByColumn).forEach((columnId, counts) -> {
+            List<Long> values = values(counts, days);
+            if (values.stream().anyMatch(count -> count != 0)) {
+                series.add(new CumulativeFlowSeriesDto(columnId, null, values));
+            }
+        });
+
+        CumulativeFlowDto dto = new CumulativeFlowDto();
+        dto.setFrom(start);
+        dto.setTo(end);
+        dto.setSeries(series);
+        return dto;
+    }
+
+    @Transactional(readOnly = true)
+    public CycleTimeDto cycleTime(Long projectId, LocalDate from, LocalDate to) {
+        projectService.getProjectOrThrow(projectId);
+        LocalDate end = to != null ? to : LocalDate.now(ZoneOffset.UTC);
+        LocalDate start = resolveStart(from, end);
+
+        FlowTimePercentiles p = transitionRepository.flowTimePercentiles(projectId,
+                start.atStartOfDay(ZoneOffset.UTC).toInstant(),
+                end.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant());
+
+        CycleTimeDto dto = new CycleTimeDto();
+        dto.setFrom(start);
+        dto.setTo(end);
+        dto.setCompleted(p.getCompleted() != null ? p.getCompleted() : 0);
+        dto.setCycleTimeHours(new PercentilesDto(p.getCycleP50(), p.getCycleP85(), p.getCycleP95()));
+        dto.setLeadTimeHours(new PercentilesDto(p.getLeadP50(), p.getLeadP85(), p.getLeadP95()));
+        return dto;
+    }
+
+    @Transactional(readOnly = true)
+    public BurndownDto burndown(Long projectId, LocalDate from, LocalDate to) {
+        projectService.getProjectOrThrow(projectId);
+        LocalDate end = to != null ? to : LocalDate.now(ZoneOffset.UTC);
+        LocalDate start = resolveStart(from, end);
+        int days = (int) ChronoUnit.DAYS.between(start, end) + 1;
+        Long doneColumnId = doneColumnId(projectId);
+
+        long[] remaining = new long[days];
+        long[] completed = new long[days];
+        long[] added = new long[days];
+        long[] removed = new long[days];
+        for (BurndownRow row : transitionRepository.burndown(projectId, start, end)) {
+            int i = row.getDayIndex();
+            if (row.getColumnId().equals(doneColumnId)) {
+                completed[i] += row.getPoints();
+            } else {
+                remaining[i] += row.getPoints();
+            }
+            added[i] += row.getAdded();
+            removed[i] += row.getRemoved();
+        }
+
+        List<BurndownDayDto> result = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            result.add(new BurndownDayDto(start.plusDays(i), remaining[i], completed[i], added[i], removed[i]));
+        }
+        BurndownDto dto = new BurndownDto();
+        dto.setFrom(start);
+        dto.setTo(end);
+        dto.setDoneColumnId(doneColumnId);
+        dto.setDays(result);
+        return dto;
+    }
+
+    @Transactional(readOnly = true)
+    public VelocityDto velocity(Long projectId, Integer weeks) {
+        projectService.getProjectOrThrow(projectId);
+        int count = weeks != null ? weeks : DEFAULT_VELOCITY_WEEKS;
+        if (count < 1 || count > MAX_VELOCITY_WEEKS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "weeks must be between 1 and " + MAX_VELOCITY_WEEKS);
+        }
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        LocalDate firstWeek = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).minusWeeks(count - 1);
+        Long doneColumnId = doneColumnId(projectId);
+
+        Map<LocalDate, Long> pointsByWeek = new HashMap<>();
+        if (doneColumnId != null) {
+            for (VelocityRow row : transitionRepository.velocity(projectId, doneColumnId, firstWeek, today)) {
+                pointsByWeek.put(LocalDate.parse(row.getWeekStart()), row.getPoints());
+            }
+        }
+
+        List<VelocityWeekDto> result = new ArrayList<>(count);
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            LocalDate week = firstWeek.plusWeeks(i);
+            long points = pointsByWeek.getOrDefault(week, 0L);
+            result.add(new VelocityWeekDto(week, points));
+            total += points;
+        }
+        VelocityDto dto = new VelocityDto();
+        dto.setDoneColumnId(doneColumnId);
+        dto.setWeeks(result);
+        dto.setAverage((double) total / count);
+        return dto;
+    }
+
+    private Long doneColumnId(Long projectId) {
+        return columnRepository.findFirstByProjectIdOrderByPositionDescIdDesc(projectId)
+                .map(BoardColumn::getId)
+                .orElse(null);
+    }
+
+    private static List<Long> values(Long[] counts, int days) {
+        List<Long> values = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            values.add(counts != null && counts[i] != null ? counts[i] : 0L);
+        }
+        return values;
+    }
+
+    private static LocalDate resolveStart(LocalDate from, LocalDate end) {
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        if (start.isAfter(end)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_RANGE_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+        return start;
+    }
+}
@@ -0,0 +1,91 @@
+package com.jiralike.service;
+
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders comment and description markdown to HTML that is safe to inject: raw HTML is
+ * escaped and javascript:/vbscript: style link targets are dropped. Output is cached in a
+ * bounded LRU keyed by the SHA-256 of the source, so unchanged text is parsed once.
+ */
+@Service
+public class MarkdownService {
+
+    static final int CACHE_SIZE = 2048;
+
+    private final Parser parser;
+    private final HtmlRenderer renderer;
+    private final Map<String, String> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    public MarkdownService() {
+        List<Extension> extensions = List.of(TablesExtension.create());
+        this.parser = Parser.builder().extensions(extensions).build();
+        this.renderer = HtmlRenderer.builder()
+                .extensions(extensions)
+                .escapeHtml(true)
+                .sanitizeUrls(true)
+                .build();
+    }
+
+    /** Sanitized HTML for {@code markdown}, or null when there is nothing to render. */
+    public String render(String markdown) {
+        if (markdown == null || markdown.isBlank()) {
+            return null;
+        }
+        String key = hash(markdown);
+        synchronized (cache) {
+            String cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        // Rendered outside the lock; concurrent misses on the same text render twice.
+        String html = renderer.render(parser.parse(markdown));
+        synchronized (cache) {
+            cache.put(key, html);
+        }
+        return html;
+    }
+
+    /** Drops the cached rendering of text that is being replaced. */
+    public void evict(String markdown) {
+        if (markdown == null || markdown.isBlank()) {
+            return;
+        }
+        String key = hash(markdown);
+        synchronized (cache) {
+            cache.remove(key);
+        }
+    }
+
+    int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private static String hash(String markdown) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(markdown.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
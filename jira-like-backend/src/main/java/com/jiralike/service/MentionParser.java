@@ -0,0 +1,39 @@
+package com.jiralike.service;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/** Extracts @username mentions from comment and description text. */
+public final class MentionParser {
+
+    // Not preceded by a word character or @, so e-mail addresses and "@@x" are ignored.
+    private static final Pattern MENTION = Pattern.compile("(?<![\\w@])@([A-Za-z0-9._-]{1,50})");
+
+    private MentionParser() {
+    }
+
+    /** Distinct mentioned usernames in order of first appearance; trailing punctuation is dropped. */
+    public static Set<String> parse(String text) {
+        Set<String> usernames = new LinkedHashSet<>();
+        if (text == null || text.indexOf('@') < 0) {
+            return usernames;
+        }
+        Matcher matcher = MENTION.matcher(text);
+        while (matcher.find()) {
+            String username = matcher.group(1).replaceAll("[.-]+$", "");
+            if (!username.isEmpty()) {
+                usernames.add(username);
+            }
+        }
+        return usernames;
+    }
+
+    /** Mentions in {@code after} that were not already in {@code before}, so edits only notify new names. */
+    public static Set<String> added(String before, String after) {
+        Set<String> usernames = parse(after);
+        usernames.removeAll(parse(before));
+        return usernames;
+    }
+}
@@ -0,0 +1,91 @@
+package com.jiralike.service;
+
+import com.jiralike.dto.TicketSummaryDto;
+import com.jiralike.dto.TicketSummaryPageDto;
+import com.jiralike.entity.BoardColumn;
+import com.jiralike.entity.Ticket;
+import com.jiralike.repository.TicketRepository;
+import com.jiralike.repository.projection.TicketSummaryRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/** Tickets assigned to one user across all projects, soonest due first. */
+@Service
+@RequiredArgsConstructor
+public class MyWorkService {
+
+    static final int DEFAULT_LIMIT = 25;
+    static final int MAX_LIMIT = 100;
+    static final List<BoardColumn.Category> DEFAULT_CATEGORIES =
+            List.of(BoardColumn.Category.TODO, BoardColumn.Category.IN_PROGRESS);
+
+    private final TicketRepository ticketRepository;
+    private final UserService userService;
+
+    /**
+     * Empty priority list means any priority; empty category list means everything not done.
+     * The cursor is the opaque nextCursor of the previous page (null for the first page).
+     */
+    @Transactional(readOnly = true)
+    public TicketSummaryPageDto findAssigned(Long userId, List<Ticket.Priority> priorities, LocalDate dueBefore,
+                                             List<BoardColumn.Category> categories, String cursor, Integer limit) {
+        userService.getUserOrThrow(userId);
+        int pageSize = (limit == null) ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        LocalDate afterDue = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = cursor.split("_", 2);
+            try {
+                afterDue = LocalDate.parse(parts[0]);
+                afterId = Long.valueOf(parts[1]);
+            } catch (RuntimeException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor: " + cursor);
+            }
+        }
+
+        List<TicketSummaryRow> rows = ticketRepository.findAssigned(userId,
+                names(priorities == null || priorities.isEmpty() ? Arrays.asList(Ticket.Priority.values()) : priorities),
+                names(categories == null || categories.isEmpty() ? DEFAULT_CATEGORIES : categories),
+                dueBefore, afterDue, afterId, pageSize);
+
+        TicketSummaryPageDto page = new TicketSummaryPageDto();
+        page.setResults(rows.stream().map(this::toDto).collect(Collectors.toList()));
+        if (rows.size() == pageSize) {
+            TicketSummaryRow last = rows.get(rows.size() - 1);
+            // Undated tickets sort last, matching the COALESCE in the query and index.
+            String due = last.getDueDate() != null ? last.getDueDate() : "9999-12-31";
+            page.setNextCursor(due + "_" + last.getId());
+        }
+        return page;
+    }
+
+    private static List<String> names(Collection<? extends Enum<?>> values) {
+        return values.stream().map(Enum::name).distinct().collect(Collectors.toList());
+    }
+
+    private TicketSummaryDto toDto(TicketSummaryRow row) {
+        TicketSummaryDto dto = new TicketSummaryDto();
+        dto.setId(row.getId());
+        dto.setTitle(row.getTitle());
+        dto.setPriority(Ticket.Priority.valueOf(row.getPriority()));
+        dto.setTicketType(Ticket.TicketType.valueOf(row.getTicketType()));
+        dto.setStoryPoints(row.getStoryPoints());
+        dto.setDueDate(row.getDueDate() != null ? LocalDate.parse(row.getDueDate()) : null);
+        dto.setProjectId(row.getProjectId());
+        dto.setProjectKey(row.getProjectKey());
+        dto.setColumnId(row.getColumnId());
+        dto.setColumnName(row.getColumnName());
+        dto.setCategory(BoardColumn.Category.valueOf(row.getCategory()));
+        return dto;
+    }
+}
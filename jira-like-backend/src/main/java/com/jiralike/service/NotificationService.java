@@ -0,0 +1,163 @@
+package com.jiralike.service;
+
+import com.jiralike.dto.NotificationDto;
+import com.jiralike.entity.AppUser;
+import com.jiralike.entity.Notification;
+import com.jiralike.event.MentionEvent;
+import com.jiralike.repository.AppUserRepository;
+import com.jiralike.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Turns committed {@link MentionEvent}s into notification rows. Events are queued in memory
+ * and flushed by a scheduled worker: each batch resolves all usernames in one query and
+ * bumps each recipient's unread counter once. Mentions whose ticket or comment was deleted
+ * while queued are dropped. The queue is best-effort; mentions still queued when the
+ * process stops are lost.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationService {
+
+    static final int QUEUE_CAPACITY = 10_000;
+    static final int BATCH_SIZE = 500;
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 200;
+
+    private final NotificationRepository notificationRepository;
+    private final AppUserRepository userRepository;
+
+    private final BlockingQueue<MentionEvent> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMention(MentionEvent event) {
+        if (!queue.offer(event)) {
+            log.warn("Notification queue full; dropping mentions of {} on ticket {}",
+                    event.getUsernames(), event.getTicketId());
+        }
+    }
+
+    /** Writes up to one batch of queued mentions; returns the number of notifications created. */
+    @Scheduled(fixedDelayString = "${jiralike.notifications.flush-delay-ms:1000}")
+    @Transactional
+    public int flush() {
+        List<MentionEvent> batch = new ArrayList<>();
+        queue.drainTo(batch, BATCH_SIZE);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> usernames = batch.stream()
+                .flatMap(e -> e.getUsernames().stream())
+                .collect(Collectors.toSet());
+        Map<String, Long> userIds = userRepository.findByUsernameIn(usernames).stream()
+                .collect(Collectors.toMap(AppUser::getUsername, AppUser::getId));
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> ticketIds = existingTicketIds(batch);
+        Set<Long> commentIds = existingCommentIds(batch);
+
+        Instant now = Instant.now();
+        List<Notification> notifications = new ArrayList<>();
+        Map<Long, Integer> unreadByUser = new TreeMap<>();
+        for (MentionEvent event : batch) {
+            if (!ticketIds.contains(event.getTicketId())
+                    || (event.getCommentId() != null && !commentIds.contains(event.getCommentId()))) {
+                continue;
+            }
+            for (String username : event.getUsernames()) {
+                Long userId = userIds.get(username);
+                if (userId == null || userId.equals(event.getActorId())) {
+                    continue;
+                }
+                notifications.add(new Notification(null, userId, event.getTicketId(),
+                        event.getCommentId(), event.getActorId(), now, null));
+                unreadByUser.merge(userId, 1, Integer::sum);
+            }
+        }
+        if (notifications.isEmpty()) {
+            return 0;
+        }
+        notificationRepository.saveAll(notifications);
+        // Sorted by user id so concurrent flushes lock counter rows in the same order.
+        unreadByUser.forEach(notificationRepository::addUnread);
+        return notifications.size();
+    }
+
+    @Transactional(readOnly = true)
+    public int getUnreadCount(Long userId) {
+        Integer unread = notificationRepository.findUnreadCount(userId);
+        return unread != null ? unread : 0;
+    }
+
+    @Transactional(readOnly = true)
+    public List<NotificationDto> findLatest(Long userId, Integer limit) {
+        int size = (limit == null) ? DEFAULT_LIMIT : limit;
+        if (size < 1 || size > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_LIMIT);
+        }
+        return notificationRepository.findLatest(userId, PageRequest.of(0, size)).stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public void markAllRead(Long userId) {
+        notificationRepository.markAllRead(userId);
+        notificationRepository.resetUnread(userId);
+    }
+
+    @Scheduled(cron = "${jiralike.notifications.reconcile-cron:0 45 3 * * *}")
+    @Transactional
+    public void reconcileUnreadCounts() {
+        int fixed = notificationRepository.reconcileUnreadCounts();
+        if (fixed > 0) {
+            log.info("Recomputed unread notification counts for {} user(s)", fixed);
+        }
+    }
+
+    private Set<Long> existingTicketIds(List<MentionEvent> batch) {
+        Set<Long> ids = batch.stream().map(MentionEvent::getTicketId).collect(Collectors.toSet());
+        return new HashSet<>(notificationRepository.lockExistingTicketIds(ids));
+    }
+
+    private Set<Long> existingCommentIds(List<MentionEvent> batch) {
+        Set<Long> ids = batch.stream()
+                .map(MentionEvent::getCommentId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return ids.isEmpty() ? Set.of() : new HashSet<>(notificationRepository.lockExistingCommentIds(ids));
+    }
+
+    int queuedCount() {
+        return queue.size();
+    }
+
+    private NotificationDto toDto(Notification notification) {
+        NotificationDto dto = new NotificationDto();
+        dto.setId(notification.getId());
+        dto.setTicketId(notification.getTicketId());
+        dto.setCommentId(notification.getCommentId());
+        dto.setActorId(notification.getActorId());
+        dto.setCreatedAt(notification.getCreatedAt());
+        dto.setRead(notification.getReadAt() != null);
+        return dto;
+    }
+}
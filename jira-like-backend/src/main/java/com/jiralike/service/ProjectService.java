@@ -5,9 +5,13 @@ import com.jiralike.dto.ProjectCreateDto;
 import com.jiralike.dto.ProjectDto;
 import com.jiralike.entity.BoardColumn;
 import com.jiralike.entity.Project;
+import com.jiralike.event.TicketChangedEvent;
 import com.jiralike.repository.BoardColumnRepository;
 import com.jiralike.repository.ProjectRepository;
+import com.jiralike.repository.TicketRepository;
+import com.jiralike.repository.projection.ProjectListRow;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,10 +26,12 @@ public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final BoardColumnRepository columnRepository;
+    private final TicketRepository ticketRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<ProjectDto> findAll() {
-        return projectRepository.findAll().stream()
-                .map(this::toDtoWithoutTickets)
+        return projectRepository.findAllRows().stream()
+                .map(ProjectService::fromRow)
                 .collect(Collectors.toList());
     }
 
@@ -34,6 +40,11 @@ public class ProjectService {
         return toDtoWithColumns(project);
     }
 
+    /** Project fields and counters only; for callers that load the columns themselves. */
+    public ProjectDto findWithoutColumns(Long id) {
+        return toDtoWithoutTickets(getProjectOrThrow(id));
+    }
+
     public ProjectDto findByKey(String key) {
         Project project = projectRepository.findByKey(key)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found: " + key));
@@ -65,10 +76,19 @@ public class ProjectService {
         return toDtoWithColumns(projectRepository.save(project));
     }
 
+    /**
+     * Columns, tickets and everything hanging off them go with the project through the FK
+     * cascades. A bulk delete leaves that to the database; cascading through the entities made
+     * Hibernate null each ticket's column before deleting it, which the NOT NULL rejects.
+     * Deletes are published for the removed tickets, as a ticket delete would.
+     */
     @Transactional
     public void delete(Long id) {
         getProjectOrThrow(id);
-        projectRepository.deleteById(id);
+        List<Long> ticketIds = ticketRepository.findIdsByProjectId(id);
+        projectRepository.deleteAllByIdInBatch(List.of(id));
+        ticketIds.forEach(ticketId -> eventPublisher.publishEvent(
+                new TicketChangedEvent(ticketId, id, TicketChangedEvent.ChangeType.DELETED)));
     }
 
     private void createDefaultColumns(Project project) {
@@ -88,6 +108,20 @@ public class ProjectService {
         }
     }
 
+    /** Marks the project's board as changed; called from every ticket and column write. */
+    @Transactional
+    public void touchBoard(Long projectId) {
+        projectRepository.incrementBoardVersion(projectId);
+    }
+
+    public long getBoardVersionOrThrow(Long projectId) {
+        Long version = projectRepository.findBoardVersion(projectId);
+        if (version == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found: " + projectId);
+        }
+        return version;
+    }
+
     public Project getProjectOrThrow(Long id) {
         return projectRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found: " + id));
@@ -101,12 +135,29 @@ public class ProjectService {
         dto.setDescription(project.getDescription());
         dto.setCreatedAt(project.getCreatedAt());
         dto.setUpdatedAt(project.getUpdatedAt());
+        dto.setTicketCount(project.getTicketCount());
+        dto.setOpenTicketCount(project.getOpenTicketCount());
+        dto.setStoryPoints(project.getStoryPoints());
+        return dto;
+    }
+
+    private static ProjectDto fromRow(ProjectListRow row) {
+        ProjectDto dto = new ProjectDto();
+        dto.setId(row.getId());
+        dto.setName(row.getName());
+        dto.setKey(row.getKey());
+        dto.setDescription(row.getDescription());
+        dto.setCreatedAt(row.getCreatedAt());
+        dto.setUpdatedAt(row.getUpdatedAt());
+        dto.setTicketCount(row.getTicketCount());
+        dto.setOpenTicketCount(row.getOpenTicketCount());
+        dto.setStoryPoints(row.getStoryPoints());
         return dto;
     }
 
     private ProjectDto toDtoWithColumns(Project project) {
         ProjectDto dto = toDtoWithoutTickets(project);
-        List<BoardColumn> cols = columnRepository.findByProjectIdOrderByPositionAsc(project.getId());
+        List<BoardColumn> cols = columnRepository.findByProjectIdOrderByPositionAscIdAsc(project.getId());
         dto.setColumns(cols.stream().map(this::toColumnDtoWithoutTickets).collect(Collectors.toList()));
         return dto;
     }
@@ -118,6 +169,8 @@ public class ProjectService {
         dto.setPosition(col.getPosition());
         dto.setColor(col.getColor());
         dto.setProjectId(col.getProject().getId());
+        dto.setTicketCount(col.getTicketCount());
+        dto.setStoryPoints(col.getStoryPoints());
         return dto;
     }
 }
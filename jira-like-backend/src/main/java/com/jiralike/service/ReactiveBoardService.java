@@ -0,0 +1,56 @@
+package com.jiralike.service;
+
+import com.jiralike.dto.BoardColumnDto;
+import com.jiralike.dto.CommentDto;
+import com.jiralike.dto.TicketDto;
+import com.jiralike.repository.ReactiveReadRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Read-only board, ticket list and comment reads over R2DBC. Same DTOs and ordering as the
+ * blocking endpoints; nothing here holds a request thread or a JDBC connection while waiting.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveBoardService {
+
+    private final ReactiveReadRepository readRepository;
+    private final MarkdownService markdownService;
+
+    /**
+     * Columns in board order, each with its ticket cards (no description, as on the blocking
+     * board). Two queries per board: the columns, then every card of the project grouped by column.
+     */
+    public Flux<BoardColumnDto> board(Long projectId) {
+        return Mono.zip(readRepository.findColumns(projectId).collectList(),
+                        readRepository.findCardsByProject(projectId).collectMultimap(TicketDto::getColumnId))
+                .flatMapIterable(t -> {
+                    List<BoardColumnDto> columns = t.getT1();
+                    columns.forEach(column -> {
+                        Collection<TicketDto> tickets = t.getT2().get(column.getId());
+                        if (tickets != null) {
+                            column.getTickets().addAll(tickets);
+                        }
+                    });
+                    return columns;
+                });
+    }
+
+    public Flux<TicketDto> tickets(Long projectId) {
+        return readRepository.findTicketsByProject(projectId);
+    }
+
+    public Flux<CommentDto> comments(Long ticketId) {
+        return readRepository.findComments(ticketId)
+                .map(comment -> {
+                    comment.setRendered(markdownService.render(comment.getContent()));
+                    return comment;
+                });
+    }
+}
@@ -0,0 +1,93 @@
+package com.jiralike.service;
+
+import com.jiralike.entity.BoardColumn;
+import com.jiralike.entity.Project;
+import com.jiralike.repository.BoardColumnRepository;
+import com.jiralike.repository.ProjectRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+
+/**
+ * Keeps the ticket count, open count and story point counters on projects and columns in step
+ * with ticket writes, and periodically reconciles them against the tickets table. The updates
+ * are SQL increments; a project or column this transaction has already loaded is refreshed
+ * afterwards so that later reads in the same transaction (e.g. a batch) see the new counts.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TicketCounterService {
+
+    private final ProjectRepository projectRepository;
+    private final BoardColumnRepository columnRepository;
+    private final EntityManager entityManager;
+
+    /** Column ids follow {@link TicketTransitionService#record}; null points count as zero. */
+    @Transactional
+    public void apply(Long projectId, Long fromColumnId, Integer fromPoints, Long toColumnId, Integer toPoints) {
+        int before = fromPoints != null ? fromPoints : 0;
+        int after = toPoints != null ? toPoints : 0;
+
+        if (Objects.equals(fromColumnId, toColumnId)) {
+            if (fromColumnId != null && before != after) {
+                columnRepository.adjustCounters(fromColumnId, 0, after - before);
+                projectRepository.adjustCounters(projectId, 0, after - before, null, null);
+                refreshIfLoaded(BoardColumn.class, fromColumnId);
+                refreshIfLoaded(Project.class, projectId);
+            }
+            return;
+        }
+        if (fromColumnId != null) {
+            columnRepository.adjustCounters(fromColumnId, -1, -before);
+        }
+        if (toColumnId != null) {
+            columnRepository.adjustCounters(toColumnId, 1, after);
+        }
+        int tickets = (toColumnId != null ? 1 : 0) - (fromColumnId != null ? 1 : 0);
+        projectRepository.adjustCounters(projectId, tickets, after - before, fromColumnId, toColumnId);
+        if (fromColumnId != null) {
+            refreshIfLoaded(BoardColumn.class, fromColumnId);
+        }
+        if (toColumnId != null) {
+            refreshIfLoaded(BoardColumn.class, toColumnId);
+        }
+        refreshIfLoaded(Project.class, projectId);
+    }
+
+    /** Recounts one project; used when columns are added or removed, which can change the done column. */
+    @Transactional
+    public void recount(Long projectId) {
+        columnRepository.reconcileCounters(projectId);
+        projectRepository.reconcileCounters(projectId);
+        refreshIfLoaded(Project.class, projectId);
+    }
+
+    @Scheduled(cron = "${jiralike.counters.reconcile-cron:0 30 3 * * *}")
+    @Transactional
+    public void reconcileAll() {
+        int columns = columnRepository.reconcileCounters(null);
+        int projects = projectRepository.reconcileCounters(null);
+        if (columns > 0 || projects > 0) {
+            log.warn("Ticket counters drifted; fixed {} column(s) and {} project(s)", columns, projects);
+        }
+    }
+
+    /**
+     * Re-reads the counters of an entity already loaded in this persistence context. An
+     * unloaded one is left alone: getReference only adds a proxy, which loads current values
+     * when first used.
+     */
+    private void refreshIfLoaded(Class<?> type, Long id) {
+        Object entity = entityManager.getReference(type, id);
+        if (Hibernate.isInitialized(entity)) {
+            entityManager.refresh(entity);
+        }
+    }
+}
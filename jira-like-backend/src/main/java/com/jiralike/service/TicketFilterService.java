@@ -0,0 +1,139 @@
+package com.jiralike.service;
+
+import com.jiralike.dto.BoardColumnDto;
+import com.jiralike.dto.FilterTimingDto;
+import com.jiralike.dto.FilteredResultDto;
+import com.jiralike.dto.TicketDto;
+import com.jiralike.dto.UserDto;
+import com.jiralike.entity.Ticket;
+import com.jiralike.filter.FilterCompiler;
+import com.jiralike.filter.FilterNode;
+import com.jiralike.filter.FilterParser;
+import com.jiralike.filter.FilterSyntaxException;
+import com.jiralike.repository.AppUserRepository;
+import com.jiralike.repository.BoardColumnRepository;
+import com.jiralike.repository.TicketRepository;
+import jakarta.persistence.criteria.JoinType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Runs board filter expressions (see FilterParser) against a project's tickets.
+ * The filter is compiled to a Criteria query that always carries the project_id predicate,
+ * so the database does the filtering instead of the browser.
+ */
+@Service
+@RequiredArgsConstructor
+public class TicketFilterService {
+
+    private static final Sort BOARD_ORDER = Sort.by("column.position", "position");
+
+    private final TicketRepository ticketRepository;
+    private final BoardColumnRepository columnRepository;
+    private final AppUserRepository userRepository;
+    private final TicketService ticketService;
+    private final ProjectService projectService;
+
+    @Transactional(readOnly = true)
+    public FilteredResultDto<TicketDto> findTickets(Long projectId, String filter, Long currentUserId) {
+        FilterTimingDto timing = new FilterTimingDto();
+        List<Ticket> tickets = query(projectId, filter, currentUserId, timing);
+
+        long start = System.nanoTime();
+        Map<Long, UserDto> users = new HashMap<>();
+        List<TicketDto> dtos = ticketService.withCommentCounts(
+                tickets.stream().map(t -> ticketService.toDto(t, users)).collect(Collectors.toList()));
+        timing.setMapMs(millisSince(start));
+        return new FilteredResultDto<>(dtos, timing);
+    }
+
+    @Transactional(readOnly = true)
+    public FilteredResultDto<BoardColumnDto> findBoard(Long projectId, String filter, Long currentUserId) {
+        FilterTimingDto timing = new FilterTimingDto();
+        List<Ticket> tickets = query(projectId, filter, currentUserId, timing);
+
+        long start = System.nanoTime();
+        Map<Long, UserDto> users = new HashMap<>();
+        Map<Long, List<TicketDto>> byColumn = tickets.stream()
+                .collect(Collectors.groupingBy(t -> t.getColumn().getId(),
+                        Collectors.mapping(t -> ticketService.toDto(t, users), Collectors.toList())));
+        ticketService.withCommentCounts(byColumn.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+        List<BoardColumnDto> columns = columnRepository.findByProjectIdOrderByPositionAscIdAsc(projectId).stream()
+                .map(column -> {
+                    BoardColumnDto dto = projectService.toColumnDtoWithoutTickets(column);
+                    dto.setTickets(byColumn.getOrDefault(column.getId(), List.of()));
+                    return dto;
+                })
+                .collect(Collectors.toList());
+        timing.setMapMs(millisSince(start));
+        return new FilteredResultDto<>(columns, timing);
+    }
+
+    /**
+     * Compiles a filter into a Specification scoped to the project, for callers that build
+     * their own query over the filtered tickets (e.g. facet counts).
+     */
+    public Specification<Ticket> compileForProject(Long projectId, String filter, Long currentUserId) {
+        return compileForProject(projectId, filter, currentUserId, new FilterTimingDto());
+    }
+
+    private Specification<Ticket> compileForProject(Long projectId, String filter, Long currentUserId,
+                                                    FilterTimingDto timing) {
+        try {
+            long start = System.nanoTime();
+            FilterNode ast = FilterParser.parse(filter);
+            timing.setParseMs(millisSince(start));
+            timing.setPlan(ast.toString());
+
+            start = System.nanoTime();
+            Specification<Ticket> spec = new FilterCompiler(userRepository, currentUserId, LocalDate.now(ZoneOffset.UTC))
+                    .compile(ast);
+            timing.setCompileMs(millisSince(start));
+            return inProject(projectId).and(spec);
+        } catch (FilterSyntaxException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid filter: " + e.getMessage());
+        }
+    }
+
+    private List<Ticket> query(Long projectId, String filter, Long currentUserId, FilterTimingDto timing) {
+        Specification<Ticket> spec = compileForProject(projectId, filter, currentUserId, timing);
+        long start = System.nanoTime();
+        List<Ticket> tickets = ticketRepository.findAll(withUsers().and(spec), BOARD_ORDER);
+        timing.setQueryMs(millisSince(start));
+        return tickets;
+    }
+
+    // Always scoped to one project, so idx_tickets_project_id drives the scan.
+    private static Specification<Ticket> inProject(Long projectId) {
+        return (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+    }
+
+    // Fetches assignee/reporter in the same statement; adds no predicate.
+    private static Specification<Ticket> withUsers() {
+        return (root, query, cb) -> {
+            if (query.getResultType() == Ticket.class) {
+                root.fetch("assignee", JoinType.LEFT);
+                root.fetch("reporter", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+
+    private static double millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,91 @@
+package com.jiralike.service;
+
+import com.jiralike.dto.TicketSearchPageDto;
+import com.jiralike.dto.TicketSearchResultDto;
+import com.jiralike.entity.Ticket;
+import com.jiralike.repository.TicketRepository;
+import com.jiralike.repository.projection.TicketSearchHit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TicketSearchService {
+
+    static final int DEFAULT_LIMIT = 20;
+    static final int MAX_LIMIT = 100;
+
+    private static final String MATCH_START = "\u0002";
+    private static final String MATCH_END = "\u0003";
+
+    private final TicketRepository ticketRepository;
+
+    /**
+     * Full-text search across all projects, or within one project when projectId is given.
+     * The cursor is the opaque nextCursor of the previous page (null for the first page).
+     */
+    @Transactional(readOnly = true)
+    public TicketSearchPageDto search(String query, Long projectId, String cursor, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search query must not be blank");
+        }
+        int pageSize = (limit == null) ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        Float afterRank = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = cursor.split("_", 2);
+            try {
+                afterRank = Float.valueOf(parts[0]);
+                afterId = Long.valueOf(parts[1]);
+            } catch (RuntimeException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid search cursor: " + cursor);
+            }
+        }
+
+        List<TicketSearchHit> hits = ticketRepository.search(query.trim(), projectId, afterRank, afterId, pageSize);
+
+        TicketSearchPageDto page = new TicketSearchPageDto();
+        page.setResults(hits.stream().map(this::toDto).collect(Collectors.toList()));
+        if (hits.size() == pageSize) {
+            TicketSearchHit last = hits.get(hits.size() - 1);
+            page.setNextCursor(last.getRank() + "_" + last.getId());
+        }
+        return page;
+    }
+
+    private TicketSearchResultDto toDto(TicketSearchHit hit) {
+        TicketSearchResultDto dto = new TicketSearchResultDto();
+        dto.setId(hit.getId());
+        dto.setProjectId(hit.getProjectId());
+        dto.setProjectKey(hit.getProjectKey());
+        dto.setColumnId(hit.getColumnId());
+        dto.setTitle(hit.getTitle());
+        dto.setPriority(Ticket.Priority.valueOf(hit.getPriority()));
+        dto.setTicketType(Ticket.TicketType.valueOf(hit.getTicketType()));
+        dto.setRank(hit.getRank());
+        dto.setTitleHighlight(toHtml(hit.getTitleHighlight()));
+        dto.setDescriptionHighlight(toHtml(hit.getDescriptionHighlight()));
+        return dto;
+    }
+
+    /**
+     * Ticket text is user input, so the highlight is escaped as a whole and only the match
+     * markers become markup.
+     */
+    static String toHtml(String highlight) {
+        if (highlight == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(highlight)
+                .replace(MATCH_START, "<mark>")
+                .replace(MATCH_END, "</mark>");
+    }
+}
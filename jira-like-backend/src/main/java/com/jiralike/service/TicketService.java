@@ -2,36 +2,139 @@ package com.jiralike.service;
 
 import com.jiralike.dto.*;
 import com.jiralike.entity.*;
+import com.jiralike.event.MentionEvent;
+import com.jiralike.event.TicketChangedEvent;
+import com.jiralike.event.TicketChangedEvent.ChangeType;
 import com.jiralike.repository.BoardColumnRepository;
+import com.jiralike.repository.CommentRepository;
 import com.jiralike.repository.TicketRepository;
+import com.jiralike.repository.projection.TicketCardRow;
+import com.jiralike.repository.projection.TicketDescriptionRow;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TicketService {
 
+    static final int MAX_PAGE_SIZE = 500;
+
     private final TicketRepository ticketRepository;
     private final BoardColumnRepository columnRepository;
+    private final CommentRepository commentRepository;
     private final ProjectService projectService;
     private final UserService userService;
+    private final MarkdownService markdownService;
+    private final TicketTransitionService transitionService;
+    private final TicketCounterService counterService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<TicketDto> findByProject(Long projectId) {
-        return ticketRepository.findByProjectIdWithUsers(projectId).stream()
-                .map(this::toDto)
+        Map<Long, UserDto> users = new HashMap<>();
+        return withCommentCounts(ticketRepository.findListByProject(projectId).stream()
+                .map(row -> {
+                    TicketDto dto = toDto(row, users);
+                    dto.setDescription(row.getDescription());
+                    return dto;
+                })
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Board cards for the whole project in board order: no description and no comment
+     * counts (the caller adds those once for the whole board).
+     */
+    @Transactional(readOnly = true)
+    public List<TicketDto> findCardsByProject(Long projectId, Map<Long, UserDto> users) {
+        return ticketRepository.findCardsByProject(projectId).stream()
+                .map(row -> toDto(row, users))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * A page of cards of several projects in board order, at most {@code first} per project and
+     * after the ticket {@code afterId} if given: one query for the ids, one for the cards.
+     * Keyed by project id; projects without tickets are absent.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<TicketDto>> findCardPagesByProjects(Collection<Long> projectIds, int first, Long afterId) {
+        if (first < 1 || first > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "first must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        List<Long> ids = ticketRepository.findPageIdsByProjectIds(projectIds, first, afterId);
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, UserDto> users = new HashMap<>();
+        return ticketRepository.findCardsByIds(ids).stream()
+                .map(row -> toDto(row, users))
+                .collect(Collectors.groupingBy(TicketDto::getProjectId));
+    }
+
+    /** Cards of several columns in one query, keyed by column id; empty columns are absent. */
+    @Transactional(readOnly = true)
+    public Map<Long, List<TicketDto>> findCardsByColumns(Collection<Long> columnIds) {
+        Map<Long, UserDto> users = new HashMap<>();
+        return ticketRepository.findCardsByColumnIds(columnIds).stream()
+                .map(row -> toDto(row, users))
+                .collect(Collectors.groupingBy(TicketDto::getColumnId));
+    }
+
+    /** Raw descriptions by ticket id; a ticket without a description maps to null. */
+    @Transactional(readOnly = true)
+    public Map<Long, String> findDescriptions(Collection<Long> ticketIds) {
+        Map<Long, String> descriptions = new HashMap<>();
+        for (TicketDescriptionRow row : ticketRepository.findDescriptions(ticketIds)) {
+            descriptions.put(row.getId(), row.getDescription());
+        }
+        return descriptions;
+    }
+
+    /** Fills commentCount on every ticket with one grouped query per project; returns the same list. */
+    public List<TicketDto> withCommentCounts(List<TicketDto> tickets) {
+        if (tickets.isEmpty()) {
+            return tickets;
+        }
+        Map<Long, Long> counts = countComments(tickets);
+        tickets.forEach(t -> t.setCommentCount(counts.getOrDefault(t.getId(), 0L)));
+        return tickets;
+    }
+
+    /**
+     * Comment counts by ticket id, one grouped query per project of the given tickets;
+     * tickets without comments are absent and other tickets of those projects may be present.
+     */
+    public Map<Long, Long> countComments(Collection<TicketDto> tickets) {
+        Map<Long, Long> counts = new HashMap<>();
+        tickets.stream().map(TicketDto::getProjectId).distinct().forEach(projectId ->
+                commentRepository.countByProjectId(projectId)
+                        .forEach(c -> counts.put(c.getTicketId(), c.getCount())));
+        return counts;
+    }
+
+    /** Every endpoint that returns one ticket includes its rendered description; lists do not. */
+    private TicketDto withRenderedDescription(TicketDto dto) {
+        dto.setRenderedDescription(markdownService.render(dto.getDescription()));
+        return dto;
+    }
+
     @Transactional(readOnly = true)
     public TicketDto findById(Long id) {
-        return toDto(getTicketOrThrow(id));
+        return withRenderedDescription(toDto(getTicketOrThrow(id)));
     }
 
     @Transactional
@@ -60,12 +163,22 @@ public class TicketService {
             ticket.setReporter(userService.getUserOrThrow(dto.getReporterId()));
         }
 
-        return toDto(ticketRepository.save(ticket));
+        Ticket saved = ticketRepository.save(ticket);
+        publishMentions(saved, MentionParser.parse(saved.getDescription()));
+        trackColumnChange(saved, null, null, column.getId(), saved.getStoryPoints());
+        recordChange(saved, ChangeType.CREATED);
+        return withRenderedDescription(toDto(saved));
     }
 
     @Transactional
     public TicketDto update(Long id, TicketCreateDto dto) {
         Ticket ticket = getTicketOrThrow(id);
+        Long fromColumnId = ticket.getColumn().getId();
+        Integer fromPoints = ticket.getStoryPoints();
+        Set<String> mentioned = MentionParser.added(ticket.getDescription(), dto.getDescription());
+        if (!Objects.equals(ticket.getDescription(), dto.getDescription())) {
+            markdownService.evict(ticket.getDescription());
+        }
 
         ticket.setTitle(dto.getTitle());
         ticket.setDescription(dto.getDescription());
@@ -86,13 +199,18 @@ public class TicketService {
             ticket.setReporter(userService.getUserOrThrow(dto.getReporterId()));
         }
 
-        return toDto(ticketRepository.save(ticket));
+        Ticket saved = ticketRepository.save(ticket);
+        publishMentions(saved, mentioned);
+        trackColumnChange(saved, fromColumnId, fromPoints, saved.getColumn().getId(), saved.getStoryPoints());
+        recordChange(saved, ChangeType.UPDATED);
+        return withRenderedDescription(toDto(saved));
     }
 
     @Transactional
     public TicketDto move(Long id, TicketMoveDto dto) {
         Ticket ticket = getTicketOrThrow(id);
         BoardColumn targetColumn = getColumnOrThrow(dto.getColumnId());
+        Long fromColumnId = ticket.getColumn().getId();
 
         // Shift positions of tickets in target column at or after the target position
         List<Ticket> ticketsInColumn = ticketRepository.findByColumnIdOrderByPositionAsc(targetColumn.getId());
@@ -105,13 +223,59 @@ public class TicketService {
 
         ticket.setColumn(targetColumn);
         ticket.setPosition(dto.getPosition());
-        return toDto(ticketRepository.save(ticket));
+        Ticket saved = ticketRepository.save(ticket);
+        trackColumnChange(saved, fromColumnId, saved.getStoryPoints(), targetColumn.getId(), saved.getStoryPoints());
+        recordChange(saved, ChangeType.MOVED);
+        return withRenderedDescription(toDto(saved));
     }
 
     @Transactional
     public void delete(Long id) {
-        getTicketOrThrow(id);
+        Ticket ticket = getTicketOrThrow(id);
         ticketRepository.deleteById(id);
+        trackColumnChange(ticket, ticket.getColumn().getId(), ticket.getStoryPoints(), null, null);
+        recordChange(ticket, ChangeType.DELETED);
+    }
+
+    /** History, rollups and counters; column ids are null on create (from) and delete (to). */
+    private void trackColumnChange(Ticket ticket, Long fromColumnId, Integer fromPoints, Long toColumnId, Integer toPoints) {
+        transitionService.record(ticket, fromColumnId, toColumnId);
+        transitionService.recordPoints(ticket, fromColumnId, fromPoints, toColumnId, toPoints);
+        counterService.apply(ticket.getProject().getId(), fromColumnId, fromPoints, toColumnId, toPoints);
+    }
+
+    /** Descriptions have no author; the reporter, if any, is treated as the one mentioning. */
+    private void publishMentions(Ticket ticket, Set<String> usernames) {
+        if (!usernames.isEmpty()) {
+            Long actorId = ticket.getReporter() != null ? ticket.getReporter().getId() : null;
+            eventPublisher.publishEvent(new MentionEvent(ticket.getId(), null, actorId, usernames));
+        }
+    }
+
+    private void recordChange(Ticket ticket, ChangeType changeType) {
+        projectService.touchBoard(ticket.getProject().getId());
+        eventPublisher.publishEvent(new TicketChangedEvent(ticket.getId(), ticket.getProject().getId(), changeType));
+    }
+
+    private UserDto internUser(AppUser user, Map<Long, UserDto> users) {
+        return user == null ? null : users.computeIfAbsent(user.getId(), id -> userService.toDto(user));
+    }
+
+    private static UserDto internUser(Long id, String username, String email, String displayName,
+                                      String avatarUrl, Instant createdAt, Map<Long, UserDto> users) {
+        if (id == null) {
+            return null;
+        }
+        return users.computeIfAbsent(id, key -> {
+            UserDto dto = new UserDto();
+            dto.setId(id);
+            dto.setUsername(username);
+            dto.setEmail(email);
+            dto.setDisplayName(displayName);
+            dto.setAvatarUrl(avatarUrl);
+            dto.setCreatedAt(createdAt);
+            return dto;
+        });
     }
 
     private Ticket getTicketOrThrow(Long id) {
@@ -125,6 +289,14 @@ public class TicketService {
     }
 
     public TicketDto toDto(Ticket ticket) {
+        return toDto(ticket, new HashMap<>());
+    }
+
+    /**
+     * Maps a ticket for a list response; {@code users} interns UserDtos by id so a board
+     * builds one per person rather than one per card.
+     */
+    public TicketDto toDto(Ticket ticket, Map<Long, UserDto> users) {
         TicketDto dto = new TicketDto();
         dto.setId(ticket.getId());
         dto.setTitle(ticket.getTitle());
@@ -138,10 +310,37 @@ public class TicketService {
         dto.setProjectKey(ticket.getProject().getKey());
         dto.setColumnId(ticket.getColumn().getId());
         dto.setColumnName(ticket.getColumn().getName());
-        dto.setAssignee(userService.toDto(ticket.getAssignee()));
-        dto.setReporter(userService.toDto(ticket.getReporter()));
+        dto.setAssignee(internUser(ticket.getAssignee(), users));
+        dto.setAssigneeId(ticket.getAssignee() != null ? ticket.getAssignee().getId() : null);
+        dto.setReporter(internUser(ticket.getReporter(), users));
+        dto.setReporterId(ticket.getReporter() != null ? ticket.getReporter().getId() : null);
         dto.setCreatedAt(ticket.getCreatedAt());
         dto.setUpdatedAt(ticket.getUpdatedAt());
         return dto;
     }
+
+    /** Same shape as {@link #toDto(Ticket, Map)} minus the description, from a projection row. */
+    public TicketDto toDto(TicketCardRow row, Map<Long, UserDto> users) {
+        TicketDto dto = new TicketDto();
+        dto.setId(row.getId());
+        dto.setTitle(row.getTitle());
+        dto.setPriority(row.getPriority());
+        dto.setTicketType(row.getTicketType());
+        dto.setPosition(row.getPosition());
+        dto.setStoryPoints(row.getStoryPoints());
+        dto.setDueDate(row.getDueDate());
+        dto.setProjectId(row.getProjectId());
+        dto.setProjectKey(row.getProjectKey());
+        dto.setColumnId(row.getColumnId());
+        dto.setColumnName(row.getColumnName());
+        dto.setAssignee(internUser(row.getAssigneeId(), row.getAssigneeUsername(), row.getAssigneeEmail(),
+                row.getAssigneeDisplayName(), row.getAssigneeAvatarUrl(), row.getAssigneeCreatedAt(), users));
+        dto.setAssigneeId(row.getAssigneeId());
+        dto.setReporter(internUser(row.getReporterId(), row.getReporterUsername(), row.getReporterEmail(),
+                row.getReporterDisplayName(), row.getReporterAvatarUrl(), row.getReporterCreatedAt(), users));
+        dto.setReporterId(row.getReporterId());
+        dto.setCreatedAt(row.getCreatedAt());
+        dto.setUpdatedAt(row.getUpdatedAt());
+        return dto;
+    }
 }
@@ -0,0 +1,83 @@
+package com.jiralike.service;
+
+import com.jiralike.entity.Ticket;
+import com.jiralike.entity.TicketTransition;
+import com.jiralike.repository.TicketTransitionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+/**
+ * Appends to the ticket column history and keeps the daily flow, flow-time and story point
+ * rollups in step, inside the caller's transaction.
+ */
+@Service
+@RequiredArgsConstructor
+public class TicketTransitionService {
+
+    private final TicketTransitionRepository transitionRepository;
+
+    /** Records a column change; {@code fromColumnId} is null on create, {@code toColumnId} null on delete. */
+    @Transactional
+    public void record(Ticket ticket, Long fromColumnId, Long toColumnId) {
+        if (Objects.equals(fromColumnId, toColumnId)) {
+            return;
+        }
+        Long projectId = ticket.getProject().getId();
+        Instant at = Instant.now();
+        LocalDate day = LocalDate.ofInstant(at, ZoneOffset.UTC);
+
+        transitionRepository.save(new TicketTransition(null, ticket.getId(), projectId, fromColumnId, toColumnId, at));
+        if (fromColumnId != null) {
+            transitionRepository.addDailyFlow(projectId, fromColumnId, day, 0, 1);
+        }
+        if (toColumnId != null) {
+            transitionRepository.addDailyFlow(projectId, toColumnId, day, 1, 0);
+        }
+
+        if (fromColumnId == null) {
+            transitionRepository.insertFlowTimes(ticket.getId(), projectId, toColumnId, at);
+        } else if (toColumnId != null) {
+            transitionRepository.updateFlowTimes(ticket.getId(), projectId, toColumnId, at);
+        } else {
+            transitionRepository.deleteFlowTimes(ticket.getId());
+        }
+    }
+
+    /**
+     * Applies a story point change to the daily points rollup. Column ids follow {@link #record};
+     * null points count as zero.
+     */
+    @Transactional
+    public void recordPoints(Ticket ticket, Long fromColumnId, Integer fromPoints, Long toColumnId, Integer toPoints) {
+        int before = fromPoints != null ? fromPoints : 0;
+        int after = toPoints != null ? toPoints : 0;
+        Long projectId = ticket.getProject().getId();
+        LocalDate day = LocalDate.now(ZoneOffset.UTC);
+
+        if (fromColumnId != null && fromColumnId.equals(toColumnId)) {
+            int diff = after - before;
+            if (diff != 0) {
+                transitionRepository.addDailyPoints(projectId, toColumnId, day,
+                        Math.max(diff, 0), Math.max(-diff, 0), Math.max(diff, 0), Math.max(-diff, 0));
+            }
+            return;
+        }
+        if (fromColumnId != null && before != 0) {
+            int removed = toColumnId == null ? before : 0;
+            transitionRepository.addDailyPoints(projectId, fromColumnId, day, 0, before, 0, removed);
+        }
+        if (toColumnId != null) {
+            int added = fromColumnId == null ? after : Math.max(after - before, 0);
+            int removed = fromColumnId == null ? 0 : Math.max(before - after, 0);
+            if (after != 0 || removed != 0) {
+                transitionRepository.addDailyPoints(projectId, toColumnId, day, after, 0, added, removed);
+            }
+        }
+    }
+}
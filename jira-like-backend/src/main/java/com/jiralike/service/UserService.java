@@ -2,25 +2,61 @@ package com.jiralike.service;
 
 import com.jiralike.dto.UserCreateDto;
 import com.jiralike.dto.UserDto;
+import com.jiralike.dto.UserSummaryDto;
+import com.jiralike.dto.UserSyncResultDto;
 import com.jiralike.entity.AppUser;
+import com.jiralike.event.UserChangedEvent;
+import com.jiralike.event.UserChangedEvent.ChangeType;
+import com.jiralike.event.UsersSyncedEvent;
 import com.jiralike.repository.AppUserRepository;
+import com.jiralike.repository.projection.UserListRow;
+import com.jiralike.repository.projection.UserUpsertRow;
+import com.jiralike.search.UserPrefixIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
+    static final int DEFAULT_SUGGEST_LIMIT = 10;
+    static final int MAX_SUGGEST_LIMIT = 50;
+    static final int MAX_BATCH_IDS = 500;
+    static final int SYNC_BATCH_SIZE = 2000;
+
     private final AppUserRepository userRepository;
+    private final UserPrefixIndex userPrefixIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<UserDto> findAll() {
-        return userRepository.findAll().stream()
+        return userRepository.findAllRows().stream()
+                .map(UserService::fromRow)
+                .collect(Collectors.toList());
+    }
+
+    /** Batch lookup in the order of {@code ids}; unknown ids are skipped, duplicates collapsed. */
+    public List<UserDto> findByIds(Collection<Long> ids) {
+        Set<Long> distinct = new LinkedHashSet<>(ids);
+        if (distinct.size() > MAX_BATCH_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_BATCH_IDS + " user ids per request");
+        }
+        if (distinct.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, AppUser> byId = userRepository.findAllById(distinct).stream()
+                .collect(Collectors.toMap(AppUser::getId, Function.identity()));
+        return distinct.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
                 .map(this::toDto)
                 .collect(Collectors.toList());
     }
@@ -29,6 +65,11 @@ public class UserService {
         return toDto(getUserOrThrow(id));
     }
 
+    public List<UserSummaryDto> suggest(String query, Integer limit) {
+        int size = (limit == null) ? DEFAULT_SUGGEST_LIMIT : Math.max(1, Math.min(limit, MAX_SUGGEST_LIMIT));
+        return userPrefixIndex.suggest(query, size);
+    }
+
     @Transactional
     public UserDto create(UserCreateDto dto) {
         if (userRepository.existsByUsername(dto.getUsername())) {
@@ -42,7 +83,53 @@ public class UserService {
         user.setEmail(dto.getEmail());
         user.setDisplayName(dto.getDisplayName());
         user.setAvatarUrl(dto.getAvatarUrl());
-        return toDto(userRepository.save(user));
+        AppUser saved = userRepository.save(user);
+        publish(saved, ChangeType.CREATED);
+        return toDto(saved);
+    }
+
+    /**
+     * Directory sync: upserts users by username in batches of {@link #SYNC_BATCH_SIZE}, updating
+     * email, display name and avatar. Users missing from the list are left alone. A repeated
+     * username keeps its last entry; a repeated email keeps its first and reports the rest as
+     * conflicts.
+     */
+    @Transactional
+    public UserSyncResultDto sync(List<UserCreateDto> users) {
+        Map<String, UserCreateDto> byUsername = new LinkedHashMap<>();
+        users.forEach(u -> byUsername.put(u.getUsername(), u));
+
+        UserSyncResultDto result = new UserSyncResultDto();
+        Set<String> emails = new HashSet<>();
+        List<AppUser> rows = new ArrayList<>(byUsername.size());
+        for (UserCreateDto dto : byUsername.values()) {
+            if (!emails.add(dto.getEmail())) {
+                result.getConflicts().add(dto.getUsername());
+                continue;
+            }
+            AppUser user = new AppUser();
+            user.setUsername(dto.getUsername());
+            user.setEmail(dto.getEmail());
+            user.setDisplayName(dto.getDisplayName());
+            user.setAvatarUrl(dto.getAvatarUrl());
+            rows.add(user);
+        }
+
+        for (int from = 0; from < rows.size(); from += SYNC_BATCH_SIZE) {
+            List<AppUser> batch = rows.subList(from, Math.min(from + SYNC_BATCH_SIZE, rows.size()));
+            for (UserUpsertRow row : userRepository.upsertBatch(batch)) {
+                switch (row.getOutcome()) {
+                    case "CREATED" -> result.setCreated(result.getCreated() + 1);
+                    case "UPDATED" -> result.setUpdated(result.getUpdated() + 1);
+                    case "CONFLICT" -> result.getConflicts().add(row.getUsername());
+                    default -> result.setUnchanged(result.getUnchanged() + 1);
+                }
+            }
+        }
+        if (result.getCreated() > 0 || result.getUpdated() > 0) {
+            eventPublisher.publishEvent(new UsersSyncedEvent(result.getCreated(), result.getUpdated()));
+        }
+        return result;
     }
 
     @Transactional
@@ -50,13 +137,20 @@ public class UserService {
         AppUser user = getUserOrThrow(id);
         user.setDisplayName(dto.getDisplayName());
         user.setAvatarUrl(dto.getAvatarUrl());
-        return toDto(userRepository.save(user));
+        AppUser saved = userRepository.save(user);
+        publish(saved, ChangeType.UPDATED);
+        return toDto(saved);
     }
 
     @Transactional
     public void delete(Long id) {
         getUserOrThrow(id);
         userRepository.deleteById(id);
+        eventPublisher.publishEvent(new UserChangedEvent(id, null, ChangeType.DELETED));
+    }
+
+    private void publish(AppUser user, ChangeType changeType) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), toSummaryDto(user), changeType));
     }
 
     public AppUser getUserOrThrow(Long id) {
@@ -75,4 +169,20 @@ public class UserService {
         dto.setCreatedAt(user.getCreatedAt());
         return dto;
     }
+
+    private static UserDto fromRow(UserListRow row) {
+        UserDto dto = new UserDto();
+        dto.setId(row.getId());
+        dto.setUsername(row.getUsername());
+        dto.setEmail(row.getEmail());
+        dto.setDisplayName(row.getDisplayName());
+        dto.setAvatarUrl(row.getAvatarUrl());
+        dto.setCreatedAt(row.getCreatedAt());
+        return dto;
+    }
+
+    public UserSummaryDto toSummaryDto(AppUser user) {
+        if (user == null) return null;
+        return new UserSummaryDto(user.getId(), user.getUsername(), user.getDisplayName(), user.getAvatarUrl());
+    }
 }
@@ -0,0 +1,125 @@
+package com.jiralike.service;
+
+import com.jiralike.cache.ProjectVersionCache;
+import com.jiralike.dto.ColumnWorkloadDto;
+import com.jiralike.dto.ProjectWorkloadDto;
+import com.jiralike.dto.UserSummaryDto;
+import com.jiralike.dto.UserWorkloadDto;
+import com.jiralike.event.UserChangedEvent;
+import com.jiralike.event.UsersSyncedEvent;
+import com.jiralike.repository.ProjectRepository;
+import com.jiralike.repository.TicketRepository;
+import com.jiralike.repository.projection.ProjectVersionRow;
+import com.jiralike.repository.projection.WorkloadRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Assigned ticket count and story points per user and column, for capacity planning.
+ * Cached per board version; all cache misses in a request share one grouped query.
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkloadService {
+
+    static final int CACHE_SIZE = 256;
+    static final int MAX_PROJECTS = 100;
+
+    private final ProjectRepository projectRepository;
+    private final TicketRepository ticketRepository;
+
+    private final ProjectVersionCache<ProjectWorkloadDto> cache = new ProjectVersionCache<>(CACHE_SIZE);
+
+    /** Results follow the order of {@code projectIds}; duplicates are ignored. */
+    @Transactional(readOnly = true)
+    public List<ProjectWorkloadDto> getWorkload(Collection<Long> projectIds) {
+        Set<Long> ids = new LinkedHashSet<>(projectIds);
+        if (ids.isEmpty() || ids.size() > MAX_PROJECTS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Between 1 and " + MAX_PROJECTS + " project ids are required");
+        }
+
+        // Versions are read before the aggregate, so a cached value is never older than its key.
+        Map<Long, Long> versions = new HashMap<>();
+        for (ProjectVersionRow row : projectRepository.findBoardVersions(ids)) {
+            versions.put(row.getId(), row.getBoardVersion());
+        }
+        List<Long> missing = ids.stream().filter(id -> !versions.containsKey(id)).collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found: " + missing);
+        }
+
+        Map<Long, ProjectWorkloadDto> result = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : ids) {
+            ProjectWorkloadDto cached = cache.getIfCurrent(id, "", versions.get(id));
+            if (cached != null) {
+                result.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            Map<Long, ProjectWorkloadDto> loaded = fold(ticketRepository.findWorkload(misses), misses, versions);
+            loaded.forEach((id, dto) -> cache.put(id, "", dto.getBoardVersion(), dto));
+            result.putAll(loaded);
+        }
+        return ids.stream().map(result::get).collect(Collectors.toList());
+    }
+
+    /** Renames and avatar changes do not bump board versions. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        cache.clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUsersSynced(UsersSyncedEvent event) {
+        cache.clear();
+    }
+
+    ProjectVersionCache<ProjectWorkloadDto> getCache() {
+        return cache;
+    }
+
+    private static Map<Long, ProjectWorkloadDto> fold(List<WorkloadRow> rows, List<Long> projectIds,
+                                                      Map<Long, Long> versions) {
+        Map<Long, Map<Long, UserWorkloadDto>> byProject = new HashMap<>();
+        for (Long id : projectIds) {
+            byProject.put(id, new LinkedHashMap<>());
+        }
+        for (WorkloadRow row : rows) {
+            // A null assignee id is a valid HashMap key and collects the unassigned tickets.
+            UserWorkloadDto user = byProject.get(row.getProjectId()).computeIfAbsent(row.getAssigneeId(), id -> {
+                UserWorkloadDto dto = new UserWorkloadDto();
+                if (id != null) {
+                    dto.setUser(new UserSummaryDto(id, row.getUsername(), row.getDisplayName(), row.getAvatarUrl()));
+                }
+                return dto;
+            });
+            user.setTicketCount(user.getTicketCount() + row.getTicketCount());
+            user.setStoryPoints(user.getStoryPoints() + row.getStoryPoints());
+            user.getColumns().add(new ColumnWorkloadDto(row.getColumnId(), row.getTicketCount(), row.getStoryPoints()));
+        }
+
+        Map<Long, ProjectWorkloadDto> result = new HashMap<>();
+        byProject.forEach((projectId, users) -> {
+            List<UserWorkloadDto> sorted = new ArrayList<>(users.values());
+            sorted.sort(Comparator.comparingLong(UserWorkloadDto::getStoryPoints)
+                    .thenComparingLong(UserWorkloadDto::getTicketCount).reversed());
+            ProjectWorkloadDto dto = new ProjectWorkloadDto();
+            dto.setProjectId(projectId);
+            dto.setBoardVersion(versions.get(projectId));
+            dto.setUsers(sorted);
+            result.put(projectId, dto);
+        });
+        return result;
+    }
+}
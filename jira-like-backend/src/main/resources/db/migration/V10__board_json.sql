@@ -0,0 +1,17 @@
+-- ============================================================
+-- V10__board_json.sql
+-- Formats a timestamp the way Jackson writes a java.time.Instant
+-- (ISO-8601 UTC, fraction trimmed to 0, 3 or 6 digits), so board
+-- JSON assembled in SQL matches the DTO serialization byte for byte.
+-- ============================================================
+
+CREATE OR REPLACE FUNCTION json_instant(ts TIMESTAMPTZ) RETURNS TEXT AS $$
+    SELECT CASE
+        WHEN ts IS NULL THEN NULL
+        WHEN CAST(EXTRACT(MICROSECONDS FROM ts) AS BIGINT) % 1000000 = 0
+            THEN to_char(ts AT TIME ZONE 'UTC', 'YYYY-MM-DD"T"HH24:MI:SS"Z"')
+        WHEN CAST(EXTRACT(MICROSECONDS FROM ts) AS BIGINT) % 1000 = 0
+            THEN to_char(ts AT TIME ZONE 'UTC', 'YYYY-MM-DD"T"HH24:MI:SS.MS"Z"')
+        ELSE to_char(ts AT TIME ZONE 'UTC', 'YYYY-MM-DD"T"HH24:MI:SS.US"Z"')
+    END
+$$ LANGUAGE sql IMMUTABLE;
@@ -0,0 +1,24 @@
+-- ============================================================
+-- V11__flow_times_backfill.sql
+-- Repairs ticket_flow_times rows that V4 and the first version
+-- of the create path left incomplete.
+--
+-- Tickets sitting in their project's done column (right-most by
+-- position, then id) get a completion time; without a recorded
+-- move, the ticket's last update stands in for it. Tickets
+-- created directly in done are started when completed.
+-- Rows of tickets deleted since V4 are dropped, as ticket
+-- deletes now do.
+-- ============================================================
+
+UPDATE ticket_flow_times f
+   SET completed_at = COALESCE(f.completed_at, t.updated_at, t.created_at),
+       started_at   = COALESCE(f.started_at, f.completed_at, t.updated_at, t.created_at)
+  FROM tickets t
+ WHERE t.id = f.ticket_id
+   AND t.column_id = (SELECT c.id FROM board_columns c WHERE c.project_id = t.project_id
+                      ORDER BY c.position DESC, c.id DESC LIMIT 1)
+   AND (f.completed_at IS NULL OR f.started_at IS NULL);
+
+DELETE FROM ticket_flow_times f
+ WHERE NOT EXISTS (SELECT 1 FROM tickets t WHERE t.id = f.ticket_id);
@@ -0,0 +1,100 @@
+-- ============================================================
+-- V2__ticket_full_text_search.sql
+-- Full-text search over ticket titles, descriptions and comments.
+-- search_vector is maintained by triggers so the application
+-- never has to recompute it:
+--   * tickets: recomputed only when title, description or the
+--     aggregated comment text actually change (position shifts
+--     from drag-and-drop do not touch it)
+--   * comments: new comments are appended to comments_tsv; edits
+--     and deletes re-aggregate the comments of that one ticket
+-- ============================================================
+
+ALTER TABLE tickets ADD COLUMN IF NOT EXISTS comments_tsv  TSVECTOR NOT NULL DEFAULT ''::tsvector;
+ALTER TABLE tickets ADD COLUMN IF NOT EXISTS search_vector TSVECTOR;
+
+-- ------------------------------------------------------------
+-- Backfill existing rows
+-- ------------------------------------------------------------
+UPDATE tickets t
+SET comments_tsv = COALESCE((
+        SELECT to_tsvector('english', string_agg(c.content, ' ' ORDER BY c.created_at))
+        FROM comments c
+        WHERE c.ticket_id = t.id
+    ), ''::tsvector);
+
+UPDATE tickets
+SET search_vector = setweight(to_tsvector('english', COALESCE(title, '')), 'A')
+                 || setweight(to_tsvector('english', COALESCE(description, '')), 'B')
+                 || setweight(comments_tsv, 'C');
+
+CREATE INDEX IF NOT EXISTS idx_tickets_search_vector
+    ON tickets USING GIN (search_vector);
+
+-- ------------------------------------------------------------
+-- tickets.search_vector maintenance
+-- ------------------------------------------------------------
+CREATE OR REPLACE FUNCTION tickets_refresh_search_vector() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector := setweight(to_tsvector('english', COALESCE(NEW.title, '')), 'A')
+                      || setweight(to_tsvector('english', COALESCE(NEW.description, '')), 'B')
+                      || setweight(NEW.comments_tsv, 'C');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_tickets_search_vector_insert ON tickets;
+CREATE TRIGGER trg_tickets_search_vector_insert
+    BEFORE INSERT ON tickets
+    FOR EACH ROW EXECUTE FUNCTION tickets_refresh_search_vector();
+
+DROP TRIGGER IF EXISTS trg_tickets_search_vector_update ON tickets;
+CREATE TRIGGER trg_tickets_search_vector_update
+    BEFORE UPDATE OF title, description, comments_tsv ON tickets
+    FOR EACH ROW
+    WHEN (OLD.title        IS DISTINCT FROM NEW.title
+       OR OLD.description  IS DISTINCT FROM NEW.description
+       OR OLD.comments_tsv IS DISTINCT FROM NEW.comments_tsv)
+    EXECUTE FUNCTION tickets_refresh_search_vector();
+
+-- ------------------------------------------------------------
+-- tickets.comments_tsv maintenance
+-- ------------------------------------------------------------
+CREATE OR REPLACE FUNCTION comments_append_ticket_tsv() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE tickets
+    SET comments_tsv = comments_tsv || to_tsvector('english', NEW.content)
+    WHERE id = NEW.ticket_id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION comments_rebuild_ticket_tsv() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE tickets t
+    SET comments_tsv = COALESCE((
+            SELECT to_tsvector('english', string_agg(c.content, ' ' ORDER BY c.created_at))
+            FROM comments c
+            WHERE c.ticket_id = t.id
+        ), ''::tsvector)
+    WHERE t.id = OLD.ticket_id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_comments_tsv_insert ON comments;
+CREATE TRIGGER trg_comments_tsv_insert
+    AFTER INSERT ON comments
+    FOR EACH ROW EXECUTE FUNCTION comments_append_ticket_tsv();
+
+DROP TRIGGER IF EXISTS trg_comments_tsv_update ON comments;
+CREATE TRIGGER trg_comments_tsv_update
+    AFTER UPDATE OF content ON comments
+    FOR EACH ROW
+    WHEN (OLD.content IS DISTINCT FROM NEW.content)
+    EXECUTE FUNCTION comments_rebuild_ticket_tsv();
+
+DROP TRIGGER IF EXISTS trg_comments_tsv_delete ON comments;
+CREATE TRIGGER trg_comments_tsv_delete
+    AFTER DELETE ON comments
+    FOR EACH ROW EXECUTE FUNCTION comments_rebuild_ticket_tsv();
@@ -0,0 +1,13 @@
+-- ============================================================
+-- V3__board_version_and_facets.sql
+-- projects.board_version is bumped by the application on every
+-- ticket or column write in the project; read-side caches key on
+-- it. Not mapped on the Project entity so entity saves can never
+-- write back a stale value.
+-- ============================================================
+
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS board_version BIGINT NOT NULL DEFAULT 0;
+
+-- Covering index so facet counts are an index-only scan of one project
+CREATE INDEX IF NOT EXISTS idx_tickets_project_facets
+    ON tickets (project_id) INCLUDE (priority, ticket_type, assignee_id, column_id);
@@ -0,0 +1,74 @@
+-- ============================================================
+-- V4__ticket_transitions_and_flow_rollups.sql
+-- Column history for cumulative flow and cycle-time analytics.
+--
+-- ticket_transitions  one row per column change (from/to NULL on
+--                     create/delete); no FK to tickets so history
+--                     outlives deleted tickets.
+-- column_daily_flow   per-day entered/exited counts per column,
+--                     upserted in the same transaction as the
+--                     transition. CFD reads only this table.
+-- ticket_flow_times   created/started/completed per ticket, so
+--                     cycle-time percentiles never touch raw history.
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS ticket_transitions (
+    id              BIGSERIAL   PRIMARY KEY,
+    ticket_id       BIGINT      NOT NULL,
+    project_id      BIGINT      NOT NULL,
+    from_column_id  BIGINT,
+    to_column_id    BIGINT,
+    transitioned_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT fk_ticket_transitions_project
+        FOREIGN KEY (project_id) REFERENCES projects (id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_ticket_transitions_ticket
+    ON ticket_transitions (ticket_id, transitioned_at);
+
+CREATE INDEX IF NOT EXISTS idx_ticket_transitions_project
+    ON ticket_transitions (project_id, transitioned_at);
+
+CREATE TABLE IF NOT EXISTS column_daily_flow (
+    project_id BIGINT  NOT NULL,
+    column_id  BIGINT  NOT NULL,
+    day        DATE    NOT NULL,
+    entered    INTEGER NOT NULL DEFAULT 0,
+    exited     INTEGER NOT NULL DEFAULT 0,
+
+    CONSTRAINT pk_column_daily_flow PRIMARY KEY (project_id, column_id, day),
+    CONSTRAINT fk_column_daily_flow_project
+        FOREIGN KEY (project_id) REFERENCES projects (id)
+        ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS ticket_flow_times (
+    ticket_id    BIGINT      PRIMARY KEY,
+    project_id   BIGINT      NOT NULL,
+    created_at   TIMESTAMPTZ NOT NULL,
+    started_at   TIMESTAMPTZ,
+    completed_at TIMESTAMPTZ,
+
+    CONSTRAINT fk_ticket_flow_times_project
+        FOREIGN KEY (project_id) REFERENCES projects (id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_ticket_flow_times_completed
+    ON ticket_flow_times (project_id, completed_at)
+    WHERE completed_at IS NOT NULL;
+
+-- Backfill: existing tickets are treated as having entered their
+-- current column when they were created.
+INSERT INTO ticket_transitions (ticket_id, project_id, from_column_id, to_column_id, transitioned_at)
+SELECT id, project_id, NULL, column_id, created_at FROM tickets;
+
+INSERT INTO column_daily_flow (project_id, column_id, day, entered, exited)
+SELECT project_id, column_id, (created_at AT TIME ZONE 'UTC')::date, COUNT(*), 0
+FROM tickets
+GROUP BY project_id, column_id, (created_at AT TIME ZONE 'UTC')::date;
+
+INSERT INTO ticket_flow_times (ticket_id, project_id, created_at)
+SELECT id, project_id, created_at FROM tickets;
@@ -0,0 +1,33 @@
+-- ============================================================
+-- V5__story_point_rollups.sql
+-- Story points per column per UTC day, maintained by the
+-- application alongside ticket writes. Burndown and velocity
+-- read only this table.
+--
+-- entered/exited  points arriving in / leaving the column
+--                 (running sum = points in the column)
+-- added/removed   scope change: new tickets, deleted tickets and
+--                 story point edits
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS column_daily_points (
+    project_id BIGINT  NOT NULL,
+    column_id  BIGINT  NOT NULL,
+    day        DATE    NOT NULL,
+    entered    INTEGER NOT NULL DEFAULT 0,
+    exited     INTEGER NOT NULL DEFAULT 0,
+    added      INTEGER NOT NULL DEFAULT 0,
+    removed    INTEGER NOT NULL DEFAULT 0,
+
+    CONSTRAINT pk_column_daily_points PRIMARY KEY (project_id, column_id, day),
+    CONSTRAINT fk_column_daily_points_project
+        FOREIGN KEY (project_id) REFERENCES projects (id)
+        ON DELETE CASCADE
+);
+
+-- Backfill from current ticket positions
+INSERT INTO column_daily_points (project_id, column_id, day, entered, added)
+SELECT project_id, column_id, (created_at AT TIME ZONE 'UTC')::date, SUM(story_points), SUM(story_points)
+FROM tickets
+WHERE story_points > 0
+GROUP BY project_id, column_id, (created_at AT TIME ZONE 'UTC')::date;
@@ -0,0 +1,34 @@
+-- ============================================================
+-- V6__ticket_counters.sql
+-- Denormalized ticket counters for the project list and board
+-- header. Adjusted by the application in the same transaction as
+-- each ticket write and reconciled by a nightly job. Mapped
+-- read-only on the entities.
+--
+-- open_ticket_count counts tickets outside the project's
+-- right-most (done) column.
+-- ============================================================
+
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS ticket_count      INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS open_ticket_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS story_points      BIGINT  NOT NULL DEFAULT 0;
+
+ALTER TABLE board_columns ADD COLUMN IF NOT EXISTS ticket_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE board_columns ADD COLUMN IF NOT EXISTS story_points BIGINT  NOT NULL DEFAULT 0;
+
+UPDATE board_columns c
+   SET ticket_count = s.cnt, story_points = s.pts
+  FROM (SELECT column_id, COUNT(*) AS cnt, COALESCE(SUM(story_points), 0) AS pts
+          FROM tickets GROUP BY column_id) s
+ WHERE c.id = s.column_id;
+
+UPDATE projects p
+   SET ticket_count = s.cnt, open_ticket_count = s.open_cnt, story_points = s.pts
+  FROM (SELECT t.project_id,
+               COUNT(*) AS cnt,
+               COUNT(*) FILTER (WHERE t.column_id <> (SELECT c.id FROM board_columns c
+                                                       WHERE c.project_id = t.project_id
+                                                       ORDER BY c.position DESC, c.id DESC LIMIT 1)) AS open_cnt,
+               COALESCE(SUM(t.story_points), 0) AS pts
+          FROM tickets t GROUP BY t.project_id) s
+ WHERE p.id = s.project_id;
@@ -0,0 +1,9 @@
+-- ============================================================
+-- V7__assignee_work_index.sql
+-- Serves GET /api/users/{id}/tickets: equality on assignee_id,
+-- then the keyset order (due date, nulls last; id).
+-- ============================================================
+
+CREATE INDEX IF NOT EXISTS idx_tickets_assignee_due
+    ON tickets (assignee_id, (COALESCE(due_date, DATE '9999-12-31')), id)
+    WHERE assignee_id IS NOT NULL;
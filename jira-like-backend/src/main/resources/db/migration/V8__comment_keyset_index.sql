@@ -0,0 +1,11 @@
+-- ============================================================
+-- V8__comment_keyset_index.sql
+-- Comment pages are read in (created_at, id) order per ticket.
+-- The composite index also serves the plain ticket_id lookups
+-- and the per-ticket count, so the old single-column index goes.
+-- ============================================================
+
+CREATE INDEX IF NOT EXISTS idx_comments_ticket_created
+    ON comments (ticket_id, created_at, id);
+
+DROP INDEX IF EXISTS idx_comments_ticket_id;
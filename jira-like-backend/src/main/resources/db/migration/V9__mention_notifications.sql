@@ -0,0 +1,50 @@
+-- ============================================================
+-- V9__mention_notifications.sql
+-- @mention notifications.
+--
+-- notifications             one row per mentioned user per comment
+--                           or description; written in batches by
+--                           NotificationService, never inline with
+--                           the comment/ticket write.
+-- user_notification_counts  unread count per user, adjusted in the
+--                           same transaction as the rows above so the
+--                           badge is a primary-key read.
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS notifications (
+    id         BIGSERIAL   PRIMARY KEY,
+    user_id    BIGINT      NOT NULL,
+    ticket_id  BIGINT      NOT NULL,
+    comment_id BIGINT,
+    actor_id   BIGINT,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    read_at    TIMESTAMPTZ,
+
+    CONSTRAINT fk_notifications_user
+        FOREIGN KEY (user_id) REFERENCES app_users (id)
+        ON DELETE CASCADE,
+    CONSTRAINT fk_notifications_ticket
+        FOREIGN KEY (ticket_id) REFERENCES tickets (id)
+        ON DELETE CASCADE,
+    CONSTRAINT fk_notifications_comment
+        FOREIGN KEY (comment_id) REFERENCES comments (id)
+        ON DELETE CASCADE,
+    CONSTRAINT fk_notifications_actor
+        FOREIGN KEY (actor_id) REFERENCES app_users (id)
+        ON DELETE SET NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_notifications_user
+    ON notifications (user_id, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_notifications_user_unread
+    ON notifications (user_id) WHERE read_at IS NULL;
+
+CREATE TABLE IF NOT EXISTS user_notification_counts (
+    user_id BIGINT  PRIMARY KEY,
+    unread  INTEGER NOT NULL DEFAULT 0,
+
+    CONSTRAINT fk_user_notification_counts_user
+        FOREIGN KEY (user_id) REFERENCES app_users (id)
+        ON DELETE CASCADE
+);
@@ -0,0 +1,142 @@
+package com.jiralike.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jiralike.cache.BodyFormat;
+import com.jiralike.cache.EncodedBody;
+import com.jiralike.dto.BoardColumnDto;
+import com.jiralike.dto.TicketDto;
+import com.jiralike.dto.UserDto;
+import com.jiralike.entity.Ticket;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Payload size and encode/decode time of each {@link BodyFormat} for a generated board, decoded
+ * back into DTOs as a Java client would. Not a test; run with {@code ./gradlew formatBenchmark}
+ * (optionally {@code --args="<tickets> <iterations>"}). Numbers are per board, single-threaded.
+ */
+public final class FormatBenchmark {
+
+    private static final String[] COLUMNS = {"Backlog", "To Do", "In Progress", "In Review", "Done"};
+    private static final String[] WORDS = {"login", "fails", "when", "the", "session", "expires", "board",
+            "column", "drag", "ticket", "update", "api", "slow", "query", "cache", "user", "avatar", "release"};
+
+    private FormatBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int tickets = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+
+        // Configured like the application's mapper: java.time support, ISO timestamps.
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        List<BoardColumnDto> board = board(tickets, new Random(42));
+
+        System.out.printf(Locale.ROOT, "Board: %d columns, %d tickets, %d iterations%n",
+                COLUMNS.length, tickets, iterations);
+        System.out.printf(Locale.ROOT, "%-6s %12s %12s %14s %14s%n",
+                "format", "bytes", "gzip bytes", "encode us/op", "decode us/op");
+        for (BodyFormat format : BodyFormat.values()) {
+            ObjectMapper mapper = format.mapper(json);
+            byte[] body = mapper.writeValueAsBytes(board);
+            EncodedBody encoded = EncodedBody.of(body, 0);
+
+            for (int i = 0; i < iterations; i++) {
+                mapper.writeValueAsBytes(board);
+                mapper.readValue(body, BoardColumnDto[].class);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                mapper.writeValueAsBytes(board);
+            }
+            long encodeNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                mapper.readValue(body, BoardColumnDto[].class);
+            }
+            long decodeNanos = System.nanoTime() - start;
+
+            System.out.printf(Locale.ROOT, "%-6s %12d %12d %14.1f %14.1f%n", format.name().toLowerCase(Locale.ROOT),
+                    body.length, encoded.gzip() == null ? body.length : encoded.gzip().length,
+                    encodeNanos / 1_000.0 / iterations, decodeNanos / 1_000.0 / iterations);
+        }
+    }
+
+    /** Tickets spread over the columns, 25 users, descriptions from empty to a few paragraphs. */
+    private static List<BoardColumnDto> board(int tickets, Random random) {
+        Instant now = Instant.parse("2024-05-01T10:15:30.123456Z");
+        List<UserDto> users = new ArrayList<>();
+        for (long id = 1; id <= 25; id++) {
+            UserDto user = new UserDto();
+            user.setId(id);
+            user.setUsername("user" + id);
+            user.setEmail("user" + id + "@example.com");
+            user.setDisplayName("User Number " + id);
+            user.setAvatarUrl(id % 3 == 0 ? null : "https://avatars.example.com/u/" + id + ".png");
+            user.setCreatedAt(now.minus(400 - id, ChronoUnit.DAYS));
+            users.add(user);
+        }
+
+        List<BoardColumnDto> columns = new ArrayList<>();
+        for (int c = 0; c < COLUMNS.length; c++) {
+            BoardColumnDto column = new BoardColumnDto();
+            column.setId(10L + c);
+            column.setName(COLUMNS[c]);
+            column.setPosition(c);
+            column.setColor("#6B7280");
+            column.setProjectId(1L);
+            column.setTickets(new ArrayList<>());
+            columns.add(column);
+        }
+        for (int t = 0; t < tickets; t++) {
+            BoardColumnDto column = columns.get(random.nextInt(columns.size()));
+            TicketDto ticket = new TicketDto();
+            ticket.setId(1000L + t);
+            ticket.setTitle(sentence(random, 4 + random.nextInt(8)));
+            ticket.setDescription(random.nextInt(4) == 0 ? null : sentence(random, random.nextInt(120)));
+            ticket.setPriority(Ticket.Priority.values()[random.nextInt(Ticket.Priority.values().length)]);
+            ticket.setTicketType(Ticket.TicketType.values()[random.nextInt(Ticket.TicketType.values().length)]);
+            ticket.setPosition(column.getTickets().size());
+            ticket.setStoryPoints(random.nextBoolean() ? 1 + random.nextInt(13) : null);
+            ticket.setDueDate(random.nextInt(3) == 0 ? LocalDate.of(2024, 6, 1).plusDays(random.nextInt(90)) : null);
+            ticket.setProjectId(1L);
+            ticket.setProjectKey("DEMO");
+            ticket.setColumnId(column.getId());
+            ticket.setColumnName(column.getName());
+            if (random.nextInt(5) != 0) {
+                UserDto assignee = users.get(random.nextInt(users.size()));
+                ticket.setAssignee(assignee);
+                ticket.setAssigneeId(assignee.getId());
+            }
+            UserDto reporter = users.get(random.nextInt(users.size()));
+            ticket.setReporter(reporter);
+            ticket.setReporterId(reporter.getId());
+            ticket.setCommentCount((long) random.nextInt(12));
+            ticket.setCreatedAt(now.minus(random.nextInt(200_000), ChronoUnit.MINUTES));
+            ticket.setUpdatedAt(now.minus(random.nextInt(20_000), ChronoUnit.MINUTES));
+            column.getTickets().add(ticket);
+        }
+        return columns;
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(i % 15 == 0 ? ".\n\n" : " ");
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,35 @@
+package com.jiralike.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EncodedBodyTest {
+
+    @Test
+    void of_largeBody_storesGzipThatInflatesToIdentity() throws IOException {
+        byte[] json = "[{\"name\":\"To Do\"}]".repeat(200).getBytes(StandardCharsets.UTF_8);
+
+        EncodedBody encoded = EncodedBody.of(json, 42);
+
+        assertThat(encoded.gzip()).isNotNull().hasSizeLessThan(json.length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(encoded.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(json);
+        }
+        assertThat(encoded.serializeNanos()).isEqualTo(42);
+        assertThat(encoded.size()).isEqualTo(json.length + encoded.gzip().length);
+    }
+
+    @Test
+    void of_smallBody_skipsCompression() {
+        EncodedBody encoded = EncodedBody.of("[]".getBytes(StandardCharsets.UTF_8), 1);
+
+        assertThat(encoded.gzip()).isNull();
+        assertThat(encoded.size()).isEqualTo(2);
+    }
+}
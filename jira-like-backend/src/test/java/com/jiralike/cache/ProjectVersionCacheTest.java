@@ -0,0 +1,109 @@
+package com.jiralike.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectVersionCacheTest {
+
+    @Test
+    void get_sameVersion_returnsCachedValue() {
+        ProjectVersionCache<String> cache = new ProjectVersionCache<>(10);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, "", 3, () -> "v" + loads.incrementAndGet());
+        String second = cache.get(1L, "", 3, () -> "v" + loads.incrementAndGet());
+
+        assertThat(second).isEqualTo("v1");
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void get_newVersion_reloadsAndReplaces() {
+        ProjectVersionCache<String> cache = new ProjectVersionCache<>(10);
+
+        cache.get(1L, "", 3, () -> "old");
+        String fresh = cache.get(1L, "", 4, () -> "new");
+
+        assertThat(fresh).isEqualTo("new");
+        assertThat(cache.get(1L, "", 4, () -> "unused")).isEqualTo("new");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void get_olderVersionLoad_doesNotOverwriteNewerEntry() {
+        ProjectVersionCache<String> cache = new ProjectVersionCache<>(10);
+
+        cache.get(1L, "", 5, () -> "newer");
+        assertThat(cache.get(1L, "", 4, () -> "older")).isEqualTo("older");
+
+        assertThat(cache.get(1L, "", 5, () -> "unused")).isEqualTo("newer");
+    }
+
+    @Test
+    void put_afterClear_dropsLoadFromEarlierGeneration() {
+        ProjectVersionCache<String> cache = new ProjectVersionCache<>(10);
+        long generation = cache.generation();
+
+        cache.clear();
+        cache.put(1L, "", 3, generation, "stale");
+        assertThat(cache.size()).isZero();
+
+        cache.put(1L, "", 3, cache.generation(), "fresh");
+        assertThat(cache.getIfCurrent(1L, "", 3)).isEqualTo("fresh");
+    }
+
+    @Test
+    void weigher_boundsTotalWeightEvictingLeastRecentlyUsed() {
+        ProjectVersionCache<String> cache = new ProjectVersionCache<>(10, 10, String::length);
+
+        cache.put(1L, "", 1, "aaaa");
+        cache.put(2L, "", 1, "bbbb");
+        cache.getIfCurrent(1L, "", 1);
+        cache.put(3L, "", 1, "cccc");
+
+        assertThat(cache.getIfCurrent(2L, "", 1)).isNull();
+        assertThat(cache.getIfCurrent(1L, "", 1)).isEqualTo("aaaa");
+        assertThat(cache.weight()).isEqualTo(8);
+
+        cache.put(1L, "", 2, "a");
+        assertThat(cache.weight()).isEqualTo(5);
+        cache.put(4L, "", 1, "way too heavy");
+        assertThat(cache.size()).isEqualTo(2);
+        cache.evictProject(3L);
+        assertThat(cache.weight()).isEqualTo(1);
+        cache.clear();
+        assertThat(cache.weight()).isZero();
+    }
+
+    @Test
+    void variantsAndProjectsAreSeparateAndEvictable() {
+        ProjectVersionCache<String> cache = new ProjectVersionCache<>(10);
+
+        cache.get(1L, "", 1, () -> "all");
+        cache.get(1L, "type = BUG", 1, () -> "bugs");
+        cache.get(2L, "", 1, () -> "other");
+
+        assertThat(cache.get(1L, "type = BUG", 1, () -> "unused")).isEqualTo("bugs");
+        cache.evictProject(1L);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvicted() {
+        ProjectVersionCache<String> cache = new ProjectVersionCache<>(2);
+
+        cache.get(1L, "", 1, () -> "a");
+        cache.get(2L, "", 1, () -> "b");
+        cache.get(1L, "", 1, () -> "unused");
+        cache.get(3L, "", 1, () -> "c");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(1L, "", 1, () -> "reloaded")).isEqualTo("a");
+        assertThat(cache.get(2L, "", 1, () -> "reloaded")).isEqualTo("reloaded");
+    }
+}
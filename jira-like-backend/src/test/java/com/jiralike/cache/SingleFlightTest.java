@@ -0,0 +1,117 @@
+package com.jiralike.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> flights = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /** Starts a leader on another thread that blocks in its loader until {@code release} opens. */
+    private Future<SingleFlight.Result<String>> startLeader(CountDownLatch started, CountDownLatch release,
+                                                            AtomicInteger loads, Runnable body) {
+        return executor.submit(() -> flights.execute("board", 5000, () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            body.run();
+            return "value";
+        }));
+    }
+
+    /** Lets the leader finish only after the test thread has joined its flight. */
+    private void releaseOnceJoined(CountDownLatch release) {
+        new Thread(() -> {
+            while (flights.getCollapsed() == 0) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+        }).start();
+    }
+
+    @Test
+    void execute_concurrentCallers_shareOneLoad() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Future<SingleFlight.Result<String>> leader = startLeader(started, release, loads, () -> { });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        releaseOnceJoined(release);
+        SingleFlight.Result<String> follower = flights.execute("board", 5000, () -> {
+            loads.incrementAndGet();
+            return "other";
+        });
+
+        assertThat(follower).isEqualTo(new SingleFlight.Result<>("value", true));
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(new SingleFlight.Result<>("value", false));
+        assertThat(loads).hasValue(1);
+        assertThat(flights.getFlights()).isEqualTo(1);
+        assertThat(flights.getCollapsed()).isEqualTo(1);
+        assertThat(flights.inFlight()).isZero();
+    }
+
+    @Test
+    void execute_leaderFails_followerGetsSameException() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalArgumentException failure = new IllegalArgumentException("boom");
+        Future<SingleFlight.Result<String>> leader = startLeader(started, release, new AtomicInteger(), () -> {
+            throw failure;
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        releaseOnceJoined(release);
+
+        assertThatThrownBy(() -> flights.execute("board", 5000, () -> "other")).isSameAs(failure);
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        assertThat(flights.getFailures()).isEqualTo(1);
+        assertThat(flights.inFlight()).isZero();
+    }
+
+    @Test
+    void execute_slowLeader_followerTimesOut() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<SingleFlight.Result<String>> leader = startLeader(started, release, new AtomicInteger(), () -> { });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> flights.execute("board", 10, () -> "other")).isInstanceOf(TimeoutException.class);
+        assertThat(flights.getTimeouts()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS).value()).isEqualTo("value");
+    }
+
+    @Test
+    void execute_sequentialCalls_loadEachTime() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+
+        flights.execute("board", 10, () -> "v" + loads.incrementAndGet());
+        SingleFlight.Result<String> second = flights.execute("board", 10, () -> "v" + loads.incrementAndGet());
+
+        assertThat(second).isEqualTo(new SingleFlight.Result<>("v2", false));
+        assertThat(flights.getCollapsed()).isZero();
+    }
+}
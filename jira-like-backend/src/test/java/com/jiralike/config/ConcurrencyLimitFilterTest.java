@@ -0,0 +1,96 @@
+package com.jiralike.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    @Test
+    void apiRequest_withinLimit_passesAndReleasesPermit() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, 10);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/projects"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(filter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void apiRequest_overLimit_returns503() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, 10);
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        Thread holder = new Thread(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/projects"), new MockHttpServletResponse(),
+                        (req, res) -> {
+                            inside.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+            } catch (Exception e) {
+                failure.set(e);
+            }
+        });
+        holder.start();
+        inside.await();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/projects"), response, new MockFilterChain());
+
+        release.countDown();
+        holder.join();
+        assertThat(failure.get()).isNull();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(filter.availablePermits()).isEqualTo(1);
+    }
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(ConcurrencyLimitFilter.class);
+
+    /** Runs in the Java 21 CI job; on 17 the same switch is a no-op (see below). */
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThreadsEnabled_onJava21_registersFilter() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true", "jiralike.concurrency.max-in-flight=3")
+                .run(context -> assertThat(context.getBean(ConcurrencyLimitFilter.class).availablePermits()).isEqualTo(3));
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void virtualThreadsEnabled_beforeJava21_leavesFilterOut() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true")
+                .run(context -> assertThat(context).doesNotHaveBean(ConcurrencyLimitFilter.class));
+    }
+
+    @Test
+    void platformThreads_leaveFilterOut() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(ConcurrencyLimitFilter.class));
+    }
+
+    @Test
+    void nonApiRequest_isNotLimited() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(0, 10);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+}
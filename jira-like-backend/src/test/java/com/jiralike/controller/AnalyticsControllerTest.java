@@ -0,0 +1,93 @@
+package com.jiralike.controller;
+
+import com.jiralike.dto.BurndownDayDto;
+import com.jiralike.dto.BurndownDto;
+import com.jiralike.dto.CumulativeFlowDto;
+import com.jiralike.dto.CumulativeFlowSeriesDto;
+import com.jiralike.dto.CycleTimeDto;
+import com.jiralike.dto.PercentilesDto;
+import com.jiralike.dto.VelocityDto;
+import com.jiralike.dto.VelocityWeekDto;
+import com.jiralike.service.FlowAnalyticsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AnalyticsController.class)
+class AnalyticsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private FlowAnalyticsService flowAnalyticsService;
+
+    @Test
+    void cumulativeFlow_parsesDatesAndReturnsSeries() throws Exception {
+        CumulativeFlowDto dto = new CumulativeFlowDto();
+        dto.setFrom(LocalDate.of(2024, 3, 1));
+        dto.setTo(LocalDate.of(2024, 3, 2));
+        dto.setSeries(List.of(new CumulativeFlowSeriesDto(10L, "To Do", List.of(3L, 2L))));
+        when(flowAnalyticsService.cumulativeFlow(1L, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 2)))
+                .thenReturn(dto);
+
+        mockMvc.perform(get("/api/projects/1/analytics/cumulative-flow")
+                        .param("from", "2024-03-01").param("to", "2024-03-02"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.series[0].columnName").value("To Do"))
+                .andExpect(jsonPath("$.series[0].counts[1]").value(2));
+    }
+
+    @Test
+    void cycleTime_returnsPercentiles() throws Exception {
+        CycleTimeDto dto = new CycleTimeDto();
+        dto.setCompleted(4);
+        dto.setCycleTimeHours(new PercentilesDto(5.0, 8.0, 9.5));
+        when(flowAnalyticsService.cycleTime(1L, null, null)).thenReturn(dto);
+
+        mockMvc.perform(get("/api/projects/1/analytics/cycle-time"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completed").value(4))
+                .andExpect(jsonPath("$.cycleTimeHours.p85").value(8.0));
+    }
+
+    @Test
+    void cumulativeFlow_badDate_returns400() throws Exception {
+        mockMvc.perform(get("/api/projects/1/analytics/cumulative-flow").param("from", "yesterday"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void burndown_returnsDays() throws Exception {
+        BurndownDto dto = new BurndownDto();
+        dto.setDays(List.of(new BurndownDayDto(LocalDate.of(2024, 3, 1), 8, 2, 1, 0)));
+        when(flowAnalyticsService.burndown(1L, LocalDate.of(2024, 3, 1), null)).thenReturn(dto);
+
+        mockMvc.perform(get("/api/projects/1/analytics/burndown").param("from", "2024-03-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.days[0].remaining").value(8))
+                .andExpect(jsonPath("$.days[0].completed").value(2));
+    }
+
+    @Test
+    void velocity_returnsWeeks() throws Exception {
+        VelocityDto dto = new VelocityDto();
+        dto.setWeeks(List.of(new VelocityWeekDto(LocalDate.of(2024, 3, 4), 5)));
+        dto.setAverage(5.0);
+        when(flowAnalyticsService.velocity(1L, 4)).thenReturn(dto);
+
+        mockMvc.perform(get("/api/projects/1/analytics/velocity").param("weeks", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.weeks[0].points").value(5))
+                .andExpect(jsonPath("$.average").value(5.0));
+    }
+}
@@ -0,0 +1,216 @@
+package com.jiralike.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jiralike.dto.*;
+import com.jiralike.service.BatchService;
+import com.jiralike.service.BoardSnapshotService;
+import com.jiralike.service.CommentService;
+import com.jiralike.service.ReactiveBoardService;
+import com.jiralike.service.TicketFilterService;
+import com.jiralike.service.TicketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest({BatchController.class, TicketController.class, ReactiveReadController.class})
+@Import({BatchService.class, BatchDispatcher.class})
+class BatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private TicketService ticketService;
+
+    @MockBean
+    private CommentService commentService;
+
+    @MockBean
+    private TicketFilterService filterService;
+
+    @MockBean
+    private BoardSnapshotService snapshotService;
+
+    @MockBean
+    private ReactiveBoardService reactiveBoardService;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+    }
+
+    private static Map<String, Object> op(String method, String path) {
+        return Map.of("method", method, "path", path);
+    }
+
+    private static Map<String, Object> op(String method, String path, Object body) {
+        return Map.of("method", method, "path", path, "body", body);
+    }
+
+    private ResultActions batch(boolean atomic, List<Map<String, Object>> operations) throws Exception {
+        return mockMvc.perform(post("/api/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("atomic", atomic, "operations", operations))));
+    }
+
+    private static TicketDto ticket(Long id) {
+        TicketDto dto = new TicketDto();
+        dto.setId(id);
+        dto.setTitle("Ticket " + id);
+        dto.setReporterId(7L);
+        return dto;
+    }
+
+    @Test
+    void reads_runThroughControllersInOneReadOnlyTransaction() throws Exception {
+        CommentDto comment = new CommentDto();
+        comment.setId(5L);
+        comment.setContent("Hi");
+        CommentPageDto page = new CommentPageDto();
+        page.setComments(List.of(comment));
+        page.setNextCursor("next");
+        when(ticketService.findById(1L)).thenReturn(ticket(1L));
+        when(commentService.findPage(1L, null, 1)).thenReturn(page);
+        when(ticketService.findById(9L))
+                .thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Ticket not found: 9"));
+
+        batch(false, List.of(op("GET", "/api/tickets/1"), op("GET", "/api/tickets/1/comments?limit=1"),
+                op("GET", "/api/tickets/9")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rolledBack").value(false))
+                .andExpect(jsonPath("$.results[0].status").value(200))
+                .andExpect(jsonPath("$.results[0].body.title").value("Ticket 1"))
+                .andExpect(jsonPath("$.results[1].body[0].content").value("Hi"))
+                .andExpect(jsonPath("$.results[1].headers['X-Next-Cursor']").value("next"))
+                .andExpect(jsonPath("$.results[2].status").value(404))
+                .andExpect(jsonPath("$.results[2].error").value("Ticket not found: 9"));
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        ArgumentCaptor<TransactionStatus> status = ArgumentCaptor.forClass(TransactionStatus.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        verify(transactionManager).commit(status.capture());
+        assertThat(definition.getValue().isReadOnly()).isTrue();
+        // the 404 ends the shared transaction as a rollback rather than failing the commit
+        assertThat(status.getValue().isRollbackOnly()).isTrue();
+    }
+
+    @Test
+    void writes_outsideAtomicBatch_runWithoutSharedTransaction() throws Exception {
+        when(ticketService.findById(1L)).thenReturn(ticket(1L));
+
+        batch(false, List.of(op("DELETE", "/api/tickets/1"), op("GET", "/api/tickets/1"), op("DELETE", "/api/tickets/2")))
+                .andExpect(jsonPath("$.results[0].status").value(204))
+                .andExpect(jsonPath("$.results[0].body").doesNotExist())
+                .andExpect(jsonPath("$.results[1].status").value(200))
+                .andExpect(jsonPath("$.results[2].status").value(204));
+
+        verify(ticketService).delete(1L);
+        verify(ticketService).delete(2L);
+        verify(transactionManager, times(1)).getTransaction(any());
+    }
+
+    @Test
+    void atomic_referencesEarlierResultsAndCommits() throws Exception {
+        when(ticketService.create(any())).thenReturn(ticket(100L));
+        CommentDto created = new CommentDto();
+        created.setId(8L);
+        when(commentService.create(eq(100L), any())).thenReturn(created);
+
+        batch(true, List.of(
+                op("POST", "/api/tickets", Map.of("title", "New", "projectId", 1, "columnId", 10)),
+                op("POST", "/api/tickets/${0.id}/comments", Map.of("content", "First", "authorId", "${0.reporterId}"))))
+                .andExpect(jsonPath("$.rolledBack").value(false))
+                .andExpect(jsonPath("$.results[0].status").value(201))
+                .andExpect(jsonPath("$.results[1].status").value(201))
+                .andExpect(jsonPath("$.results[1].body.id").value(8));
+
+        ArgumentCaptor<CommentCreateDto> comment = ArgumentCaptor.forClass(CommentCreateDto.class);
+        verify(commentService).create(eq(100L), comment.capture());
+        assertThat(comment.getValue().getAuthorId()).isEqualTo(7L);
+        ArgumentCaptor<TransactionStatus> status = ArgumentCaptor.forClass(TransactionStatus.class);
+        verify(transactionManager).commit(status.capture());
+        assertThat(status.getValue().isRollbackOnly()).isFalse();
+    }
+
+    @Test
+    void atomic_failure_rollsBackAndSkipsTheRest() throws Exception {
+        when(ticketService.create(any())).thenReturn(ticket(100L));
+
+        batch(true, List.of(
+                op("POST", "/api/tickets", Map.of("title", "New", "projectId", 1, "columnId", 10)),
+                op("POST", "/api/tickets/${0.id}/comments", Map.of("content", "", "authorId", 1)),
+                op("DELETE", "/api/tickets/3")))
+                .andExpect(jsonPath("$.rolledBack").value(true))
+                .andExpect(jsonPath("$.results[1].status").value(400))
+                .andExpect(jsonPath("$.results[1].error").value("content: must not be blank"))
+                .andExpect(jsonPath("$.results[2].status").value(424))
+                .andExpect(jsonPath("$.results[2].error").value("Not run: operation 1 failed"));
+
+        verify(ticketService, never()).delete(any());
+        ArgumentCaptor<TransactionStatus> status = ArgumentCaptor.forClass(TransactionStatus.class);
+        verify(transactionManager).commit(status.capture());
+        assertThat(status.getValue().isRollbackOnly()).isTrue();
+    }
+
+    @Test
+    void atomic_withReads_returns400() throws Exception {
+        batch(true, List.of(op("GET", "/api/tickets/1")))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(ticketService, transactionManager);
+    }
+
+    @Test
+    void invalidBatch_returns400() throws Exception {
+        batch(false, List.of()).andExpect(status().isBadRequest());
+        batch(false, List.of(op("TRACE", "/api/tickets/1"))).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void unsupportedOperations_failIndividually() throws Exception {
+        batch(false, List.of(
+                op("POST", "/api/batch", Map.of("operations", List.of())),
+                op("GET", "/api/reactive/projects/1/columns"),
+                op("GET", "/api/nothing"),
+                op("GET", "/actuator/health"),
+                op("GET", "/api/tickets/${5.id}"),
+                op("PUT", "/api/tickets/1/move")))
+                .andExpect(jsonPath("$.results[0].error").value("Batches cannot be nested"))
+                .andExpect(jsonPath("$.results[1].error").value("Asynchronous endpoints cannot be batched"))
+                .andExpect(jsonPath("$.results[2].status").value(404))
+                .andExpect(jsonPath("$.results[3].error").value("Only /api paths can be batched"))
+                .andExpect(jsonPath("$.results[4].error").value("${5.id} refers to an operation that has not run"))
+                .andExpect(jsonPath("$.results[5].status").value(405));
+
+        verifyNoInteractions(reactiveBoardService);
+    }
+}
@@ -1,9 +1,18 @@
 package com.jiralike.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jiralike.cache.BodyFormat;
+import com.jiralike.cache.EncodedBody;
 import com.jiralike.dto.BoardColumnCreateDto;
 import com.jiralike.dto.BoardColumnDto;
+import com.jiralike.dto.BoardJsonCheckDto;
+import com.jiralike.dto.FilterTimingDto;
+import com.jiralike.dto.FilteredResultDto;
+import com.jiralike.dto.TicketDto;
+import com.jiralike.dto.UserDto;
 import com.jiralike.service.BoardColumnService;
+import com.jiralike.service.BoardSnapshotService;
+import com.jiralike.service.TicketFilterService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -13,8 +22,12 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -33,6 +46,12 @@ class BoardColumnControllerTest {
     @MockBean
     private BoardColumnService columnService;
 
+    @MockBean
+    private TicketFilterService filterService;
+
+    @MockBean
+    private BoardSnapshotService snapshotService;
+
     private BoardColumnDto buildColumnDto(Long id, String name) {
         BoardColumnDto dto = new BoardColumnDto();
         dto.setId(id);
@@ -52,25 +71,124 @@ class BoardColumnControllerTest {
         return dto;
     }
 
+    private BoardSnapshotService.Snapshot snapshot(List<BoardColumnDto> columns, boolean cached) throws Exception {
+        return new BoardSnapshotService.Snapshot(EncodedBody.of(objectMapper.writeValueAsBytes(columns), 0), cached, false);
+    }
+
     @Test
     void getByProject_returnsColumnList() throws Exception {
-        when(columnService.findByProject(1L)).thenReturn(List.of(buildColumnDto(10L, "To Do")));
+        when(snapshotService.getBoard(1L, BodyFormat.JSON)).thenReturn(snapshot(List.of(buildColumnDto(10L, "To Do")), false));
 
         mockMvc.perform(get("/api/projects/1/columns"))
                 .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().doesNotExist("Content-Encoding"))
                 .andExpect(jsonPath("$[0].id").value(10))
-                .andExpect(jsonPath("$[0].name").value("To Do"));
+                .andExpect(jsonPath("$[0].name").value("To Do"))
+                .andExpect(header().doesNotExist(SnapshotResponses.SNAPSHOT_HEADER));
+
+        verify(columnService, never()).findByProject(any());
+    }
+
+    @Test
+    void getByProject_acceptsGzip_servesStoredGzipBody() throws Exception {
+        List<BoardColumnDto> columns = new ArrayList<>();
+        for (long i = 0; i < 50; i++) {
+            columns.add(buildColumnDto(i, "Column " + i));
+        }
+        BoardSnapshotService.Snapshot snapshot = snapshot(columns, true);
+        when(snapshotService.getBoard(1L, BodyFormat.JSON)).thenReturn(snapshot);
+        when(snapshotService.stats()).thenReturn("hits=1");
+
+        byte[] body = mockMvc.perform(get("/api/projects/1/columns").param("debug", "true")
+                        .header("Accept-Encoding", "br;q=1.0, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string(SnapshotResponses.SNAPSHOT_HEADER,
+                        "cached=true; shared=false; format=json; encoding=gzip; hits=1"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(in.readAllBytes()).isEqualTo(snapshot.body().identity());
+        }
+        verify(snapshotService).recordCompressed(snapshot.body());
+    }
+
+    @Test
+    void getByProject_stillLoading_returns503() throws Exception {
+        when(snapshotService.getBoard(1L, BodyFormat.JSON))
+                .thenThrow(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Board 1 is still loading"));
+
+        mockMvc.perform(get("/api/projects/1/columns"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void checkSqlJson_returnsComparison() throws Exception {
+        BoardJsonCheckDto check = new BoardJsonCheckDto();
+        check.setProjectId(1L);
+        check.setMatches(true);
+        check.setDtoBytes(120);
+        check.setSqlBytes(120);
+        when(snapshotService.checkSqlJson(1L)).thenReturn(check);
+
+        mockMvc.perform(get("/api/projects/1/columns/json-check"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.matches").value(true))
+                .andExpect(jsonPath("$.firstDifference").value(-1));
+    }
+
+    @Test
+    void getByProject_withFilter_returnsFilteredBoard() throws Exception {
+        FilterTimingDto timing = new FilterTimingDto();
+        timing.setPlan("priority >= HIGH");
+        when(filterService.findBoard(1L, "priority >= HIGH", null))
+                .thenReturn(new FilteredResultDto<>(List.of(buildColumnDto(10L, "To Do")), timing));
+
+        mockMvc.perform(get("/api/projects/1/columns").param("filter", "priority >= HIGH").param("debug", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(10))
+                .andExpect(header().string("X-Filter-Plan", "priority >= HIGH"));
+
+        verify(columnService, never()).findByProject(any());
     }
 
     @Test
     void getByProject_empty_returnsEmptyList() throws Exception {
-        when(columnService.findByProject(1L)).thenReturn(List.of());
+        when(snapshotService.getBoard(1L, BodyFormat.JSON)).thenReturn(snapshot(List.of(), false));
 
         mockMvc.perform(get("/api/projects/1/columns"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isEmpty());
     }
 
+    @Test
+    void getByProject_userDictionary_listsUsersOnce() throws Exception {
+        UserDto alice = new UserDto();
+        alice.setId(5L);
+        alice.setUsername("alice");
+        BoardColumnDto column = buildColumnDto(10L, "To Do");
+        column.setTickets(List.of(buildTicket(100L, alice), buildTicket(101L, alice)));
+        when(columnService.findByProject(1L)).thenReturn(List.of(column));
+
+        mockMvc.perform(get("/api/projects/1/columns").param("userDictionary", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users['5'].username").value("alice"))
+                .andExpect(jsonPath("$.items[0].tickets[1].assigneeId").value(5))
+                .andExpect(jsonPath("$.items[0].tickets[1].assignee").doesNotExist())
+                .andExpect(jsonPath("$.items[0].tickets[1].reporter").doesNotExist());
+    }
+
+    private TicketDto buildTicket(Long id, UserDto user) {
+        TicketDto ticket = new TicketDto();
+        ticket.setId(id);
+        ticket.setAssignee(user);
+        ticket.setAssigneeId(user.getId());
+        ticket.setReporter(user);
+        ticket.setReporterId(user.getId());
+        return ticket;
+    }
+
     @Test
     void create_validRequest_returns201() throws Exception {
         when(columnService.create(any(BoardColumnCreateDto.class))).thenReturn(buildColumnDto(10L, "To Do"));
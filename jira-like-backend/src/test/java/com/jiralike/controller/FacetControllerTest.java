@@ -0,0 +1,51 @@
+package com.jiralike.controller;
+
+import com.jiralike.dto.FacetBucketDto;
+import com.jiralike.dto.FacetCountsDto;
+import com.jiralike.service.BoardFacetService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(FacetController.class)
+class FacetControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private BoardFacetService facetService;
+
+    @Test
+    void getFacets_returnsCounts() throws Exception {
+        FacetCountsDto facets = new FacetCountsDto();
+        facets.setTotal(3);
+        facets.setPriority(List.of(new FacetBucketDto("HIGH", 3)));
+        when(facetService.getFacets(1L, "type = BUG", 5L)).thenReturn(facets);
+
+        mockMvc.perform(get("/api/projects/1/facets").param("filter", "type = BUG").param("me", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.priority[0].value").value("HIGH"))
+                .andExpect(jsonPath("$.priority[0].count").value(3));
+    }
+
+    @Test
+    void getFacets_projectNotFound_returns404() throws Exception {
+        when(facetService.getFacets(99L, null, null))
+                .thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found: 99"));
+
+        mockMvc.perform(get("/api/projects/99/facets"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,247 @@
+package com.jiralike.controller;
+
+import com.jiralike.config.GraphQlConfig;
+import com.jiralike.dto.BoardColumnDto;
+import com.jiralike.dto.CommentDto;
+import com.jiralike.dto.ProjectDto;
+import com.jiralike.dto.TicketDto;
+import com.jiralike.dto.UserDto;
+import com.jiralike.graphql.FieldTimingInstrumentation;
+import com.jiralike.graphql.FieldTimings;
+import com.jiralike.graphql.GraphQlExceptionResolver;
+import com.jiralike.service.BoardColumnService;
+import com.jiralike.service.CommentService;
+import com.jiralike.service.MarkdownService;
+import com.jiralike.service.ProjectService;
+import com.jiralike.service.TicketService;
+import com.jiralike.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.GraphQlTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.graphql.test.tester.ExecutionGraphQlServiceTester;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@GraphQlTest(GraphQlController.class)
+@Import({GraphQlConfig.class, GraphQlExceptionResolver.class})
+class GraphQlControllerTest {
+
+    @Autowired
+    private ExecutionGraphQlServiceTester graphQlTester;
+
+    @MockBean
+    private ProjectService projectService;
+
+    @MockBean
+    private BoardColumnService boardColumnService;
+
+    @MockBean
+    private TicketService ticketService;
+
+    @MockBean
+    private CommentService commentService;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private MarkdownService markdownService;
+
+    private static ProjectDto project(Long id) {
+        ProjectDto dto = new ProjectDto();
+        dto.setId(id);
+        dto.setName("Project " + id);
+        dto.setKey("P" + id);
+        return dto;
+    }
+
+    private static BoardColumnDto column(Long id, Long projectId) {
+        BoardColumnDto dto = new BoardColumnDto();
+        dto.setId(id);
+        dto.setName("Column " + id);
+        dto.setPosition(0);
+        dto.setProjectId(projectId);
+        return dto;
+    }
+
+    private static TicketDto ticket(Long id, Long columnId) {
+        TicketDto dto = new TicketDto();
+        dto.setId(id);
+        dto.setTitle("Ticket " + id);
+        dto.setColumnId(columnId);
+        return dto;
+    }
+
+    @Test
+    void projects_loadEachFieldOnceForAllParents() {
+        when(projectService.findAll()).thenReturn(List.of(project(1L), project(2L)));
+        when(boardColumnService.findByProjects(List.of(1L, 2L)))
+                .thenReturn(Map.of(1L, List.of(column(10L, 1L), column(11L, 1L))));
+        when(ticketService.findCardPagesByProjects(argThat(ids -> Set.copyOf(ids).equals(Set.of(1L, 2L))), eq(100), isNull()))
+                .thenReturn(Map.of(2L, List.of(ticket(100L, 20L), ticket(101L, 20L))));
+        when(ticketService.countComments(anyList())).thenReturn(Map.of(101L, 4L));
+
+        graphQlTester.document("{ projects { key columns { id } tickets { id commentCount } } }")
+                .execute()
+                .path("projects[0].columns").entityList(Object.class).hasSize(2)
+                .path("projects[0].tickets").entityList(Object.class).hasSize(0)
+                .path("projects[1].columns").entityList(Object.class).hasSize(0)
+                .path("projects[1].tickets[0].commentCount").entity(Long.class).isEqualTo(0L)
+                .path("projects[1].tickets[1].commentCount").entity(Long.class).isEqualTo(4L);
+
+        verify(boardColumnService, times(1)).findByProjects(any());
+        verify(ticketService, times(1)).findCardPagesByProjects(any(), anyInt(), any());
+        verify(ticketService, times(1)).countComments(any());
+    }
+
+    @Test
+    void board_cardDescriptionsShareOneLoader() {
+        when(projectService.findWithoutColumns(1L)).thenReturn(project(1L));
+        when(boardColumnService.findByProjects(List.of(1L)))
+                .thenReturn(Map.of(1L, List.of(column(10L, 1L), column(11L, 1L))));
+        when(ticketService.findCardsByColumns(List.of(10L, 11L)))
+                .thenReturn(Map.of(10L, List.of(ticket(100L, 10L)), 11L, List.of(ticket(101L, 11L))));
+        Map<Long, String> descriptions = new HashMap<>();
+        descriptions.put(100L, "**Bold**");
+        descriptions.put(101L, null);
+        when(ticketService.findDescriptions(Set.of(100L, 101L))).thenReturn(descriptions);
+        when(markdownService.render("**Bold**")).thenReturn("<p><strong>Bold</strong></p>");
+
+        graphQlTester.document("{ project(id: 1) { columns { tickets { description renderedDescription } } } }")
+                .execute()
+                .path("project.columns[0].tickets[0].description").entity(String.class).isEqualTo("**Bold**")
+                .path("project.columns[0].tickets[0].renderedDescription").entity(String.class)
+                .isEqualTo("<p><strong>Bold</strong></p>")
+                .path("project.columns[1].tickets[0].description").valueIsNull();
+
+        verify(ticketService, times(1)).findCardsByColumns(any());
+        verify(ticketService, times(1)).findDescriptions(any());
+    }
+
+    @Test
+    void ticket_withDescription_skipsLoaderAndLoadsComments() {
+        TicketDto dto = ticket(100L, 10L);
+        dto.setDescription("Raw");
+        dto.setRenderedDescription("<p>Raw</p>");
+        UserDto author = new UserDto();
+        author.setId(5L);
+        author.setUsername("dev");
+        author.setEmail("dev@example.com");
+        CommentDto comment = new CommentDto();
+        comment.setId(7L);
+        comment.setContent("Hi");
+        comment.setTicketId(100L);
+        comment.setAuthor(author);
+        when(ticketService.findById(100L)).thenReturn(dto);
+        when(commentService.findPages(List.of(100L), 50, null)).thenReturn(Map.of(100L, List.of(comment)));
+
+        graphQlTester.document("{ ticket(id: 100) { description renderedDescription comments { content author { username } } } }")
+                .execute()
+                .path("ticket.description").entity(String.class).isEqualTo("Raw")
+                .path("ticket.renderedDescription").entity(String.class).isEqualTo("<p>Raw</p>")
+                .path("ticket.comments[0].author.username").entity(String.class).isEqualTo("dev");
+
+        verify(ticketService, never()).findDescriptions(any());
+    }
+
+    @Test
+    void pagedLists_passFirstAndAfterAndShareOneQueryPerPage() {
+        when(projectService.findWithoutColumns(1L)).thenReturn(project(1L));
+        when(ticketService.findCardPagesByProjects(List.of(1L), 2, 100L))
+                .thenReturn(Map.of(1L, List.of(ticket(101L, 10L), ticket(102L, 10L))));
+        when(commentService.findPages(argThat(ids -> Set.copyOf(ids).equals(Set.of(101L, 102L))), eq(1), isNull()))
+                .thenReturn(Map.of());
+
+        graphQlTester.document("{ project(id: 1) { tickets(first: 2, after: 100) { id comments(first: 1) { content } } } }")
+                .execute()
+                .path("project.tickets[*].id").entityList(Long.class).containsExactly(101L, 102L)
+                .path("project.tickets[0].comments").entityList(Object.class).hasSize(0);
+
+        verify(commentService, times(1)).findPages(any(), anyInt(), any());
+    }
+
+    @Test
+    void pagedList_invalidFirst_returnsBadRequestError() {
+        when(projectService.findWithoutColumns(1L)).thenReturn(project(1L));
+        when(ticketService.findCardPagesByProjects(List.of(1L), 1000, null))
+                .thenThrow(new ResponseStatusException(HttpStatus.BAD_REQUEST, "first must be between 1 and 500"));
+
+        graphQlTester.document("{ project(id: 1) { name tickets(first: 1000) { id } } }")
+                .execute()
+                .errors()
+                .expect(error -> error.getErrorType() == ErrorType.BAD_REQUEST
+                        && "first must be between 1 and 500".equals(error.getMessage()))
+                .verify();
+    }
+
+    @Test
+    void users_returnsList() {
+        UserDto user = new UserDto();
+        user.setId(1L);
+        user.setUsername("alice");
+        user.setEmail("alice@example.com");
+        when(userService.findAll()).thenReturn(List.of(user));
+        when(userService.findById(1L)).thenReturn(user);
+
+        graphQlTester.document("{ users { username } user(id: 1) { email } }")
+                .execute()
+                .path("users[0].username").entity(String.class).isEqualTo("alice")
+                .path("user.email").entity(String.class).isEqualTo("alice@example.com");
+    }
+
+    @Test
+    void project_notFound_returnsNotFoundErrorAndNull() {
+        when(projectService.findWithoutColumns(99L))
+                .thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found: 99"));
+
+        graphQlTester.document("{ project(id: 99) { name } }")
+                .execute()
+                .errors()
+                .expect(error -> error.getErrorType() == ErrorType.NOT_FOUND
+                        && "Project not found: 99".equals(error.getMessage()))
+                .verify()
+                .path("project").valueIsNull();
+    }
+
+    @Test
+    void nestedLists_overComplexityLimit_rejectedBeforeResolving() {
+        graphQlTester.document("{ projects { columns { tickets { comments { content author { username } } } } } }")
+                .execute()
+                .errors()
+                .expect(error -> error.getMessage().startsWith("maximum query complexity exceeded"))
+                .verify()
+                .path("projects").pathDoesNotExist();
+
+        verifyNoInteractions(projectService, boardColumnService, ticketService, commentService);
+    }
+
+    @Test
+    void timingContext_addsFieldTimingExtension() {
+        when(userService.findAll()).thenReturn(List.of());
+
+        Map<String, Object> timing = graphQlTester.mutate()
+                .configureExecutionInput((input, builder) ->
+                        builder.graphQLContext(Map.of(FieldTimings.class, new FieldTimings())).build())
+                .build()
+                .document("{ users { id } }")
+                .execute()
+                .path("$.extensions." + FieldTimingInstrumentation.EXTENSION + "['Query.users']")
+                .entity(new ParameterizedTypeReference<Map<String, Object>>() {}).get();
+
+        assertThat(timing).containsEntry("calls", 1).containsKeys("totalMs", "maxMs");
+    }
+}
@@ -0,0 +1,104 @@
+package com.jiralike.controller;
+
+import com.jiralike.dto.BoardColumnDto;
+import com.jiralike.dto.CommentDto;
+import com.jiralike.dto.TicketDto;
+import com.jiralike.service.ReactiveBoardService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReactiveReadController.class)
+class ReactiveReadControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ReactiveBoardService boardService;
+
+    private TicketDto ticket(Long id, String title) {
+        TicketDto dto = new TicketDto();
+        dto.setId(id);
+        dto.setTitle(title);
+        return dto;
+    }
+
+    @Test
+    void getBoard_json_returnsArray() throws Exception {
+        BoardColumnDto column = new BoardColumnDto();
+        column.setId(10L);
+        column.setName("To Do");
+        column.setTickets(List.of(ticket(100L, "First")));
+        when(boardService.board(1L)).thenReturn(Flux.just(column));
+
+        MvcResult result = mockMvc.perform(get("/api/reactive/projects/1/columns").accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("To Do"))
+                .andExpect(jsonPath("$[0].tickets[0].title").value("First"));
+    }
+
+    @Test
+    void getTickets_wildcardAccept_returnsJsonArray() throws Exception {
+        when(boardService.tickets(1L)).thenReturn(Flux.just(ticket(100L, "First"), ticket(101L, "Second")));
+
+        MvcResult result = mockMvc.perform(get("/api/reactive/projects/1/tickets").accept(MediaType.ALL))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[1].title").value("Second"));
+    }
+
+    @Test
+    void getTickets_ndjson_writesOneTicketPerLine() throws Exception {
+        when(boardService.tickets(1L)).thenReturn(Flux.just(ticket(100L, "First"), ticket(101L, "Second")));
+
+        MvcResult result = mockMvc.perform(get("/api/reactive/projects/1/tickets").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        String[] lines = result.getResponse().getContentAsString().trim().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"title\":\"First\"");
+        assertThat(lines[1]).contains("\"title\":\"Second\"");
+        assertThat(result.getResponse().getContentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+    }
+
+    @Test
+    void getComments_returnsRenderedComments() throws Exception {
+        CommentDto comment = new CommentDto();
+        comment.setId(5L);
+        comment.setContent("**hi**");
+        comment.setRendered("<p><strong>hi</strong></p>\n");
+        when(boardService.comments(100L)).thenReturn(Flux.just(comment));
+
+        MvcResult result = mockMvc.perform(get("/api/reactive/tickets/100/comments").accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].rendered").value("<p><strong>hi</strong></p>\n"));
+    }
+}
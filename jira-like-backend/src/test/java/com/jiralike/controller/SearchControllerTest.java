@@ -0,0 +1,109 @@
+package com.jiralike.controller;
+
+import com.jiralike.dto.TicketSearchPageDto;
+import com.jiralike.dto.TicketSearchResultDto;
+import com.jiralike.dto.TicketSuggestionDto;
+import com.jiralike.search.EmbeddedTicketIndex;
+import com.jiralike.service.TicketSearchService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SearchController.class)
+class SearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TicketSearchService searchService;
+
+    @MockBean
+    private EmbeddedTicketIndex embeddedIndex;
+
+    private TicketSearchPageDto buildPage() {
+        TicketSearchResultDto result = new TicketSearchResultDto();
+        result.setId(100L);
+        result.setTitle("Login bug");
+        result.setTitleHighlight("<mark>Login</mark> bug");
+        TicketSearchPageDto page = new TicketSearchPageDto();
+        page.setResults(List.of(result));
+        page.setNextCursor("0.5_100");
+        return page;
+    }
+
+    @Test
+    void searchAll_returnsPage() throws Exception {
+        when(searchService.search("login", null, null, null)).thenReturn(buildPage());
+
+        mockMvc.perform(get("/api/search/tickets").param("q", "login"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].id").value(100))
+                .andExpect(jsonPath("$.results[0].titleHighlight").value("<mark>Login</mark> bug"))
+                .andExpect(jsonPath("$.nextCursor").value("0.5_100"));
+    }
+
+    @Test
+    void searchProject_passesProjectCursorAndLimit() throws Exception {
+        when(searchService.search("login", 1L, "0.5_100", 10)).thenReturn(buildPage());
+
+        mockMvc.perform(get("/api/projects/1/search/tickets")
+                        .param("q", "login")
+                        .param("cursor", "0.5_100")
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].title").value("Login bug"));
+
+        verify(searchService).search("login", 1L, "0.5_100", 10);
+    }
+
+    @Test
+    void searchAll_missingQuery_returns400() throws Exception {
+        mockMvc.perform(get("/api/search/tickets"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(searchService);
+    }
+
+    @Test
+    void searchAll_blankQuery_returns400() throws Exception {
+        when(searchService.search(" ", null, null, null))
+                .thenThrow(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search query must not be blank"));
+
+        mockMvc.perform(get("/api/search/tickets").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void suggest_returnsSuggestionsWithDefaultLimit() throws Exception {
+        TicketSuggestionDto suggestion = new TicketSuggestionDto();
+        suggestion.setId(100L);
+        suggestion.setTitle("Login bug");
+        when(embeddedIndex.suggest("log", "TEST", SearchController.DEFAULT_SUGGEST_LIMIT))
+                .thenReturn(List.of(suggestion));
+
+        mockMvc.perform(get("/api/search/tickets/suggest").param("q", "log").param("projectKey", "TEST"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(100))
+                .andExpect(jsonPath("$[0].title").value("Login bug"));
+    }
+
+    @Test
+    void suggest_limitIsClamped() throws Exception {
+        when(embeddedIndex.suggest("log", null, SearchController.MAX_SUGGEST_LIMIT)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/search/tickets/suggest").param("q", "log").param("limit", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+}
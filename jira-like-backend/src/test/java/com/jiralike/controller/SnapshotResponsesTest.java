@@ -0,0 +1,50 @@
+package com.jiralike.controller;
+
+import com.jiralike.cache.BodyFormat;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnapshotResponsesTest {
+
+    @Test
+    void acceptsGzip_listedOrWildcard() {
+        assertThat(SnapshotResponses.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(SnapshotResponses.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(SnapshotResponses.acceptsGzip("*")).isTrue();
+    }
+
+    @Test
+    void acceptsGzip_absentOrRefused() {
+        assertThat(SnapshotResponses.acceptsGzip(null)).isFalse();
+        assertThat(SnapshotResponses.acceptsGzip("identity")).isFalse();
+        assertThat(SnapshotResponses.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(SnapshotResponses.acceptsGzip("*;q=1, gzip;q=0.0")).isFalse();
+        assertThat(SnapshotResponses.acceptsGzip("*;q=0")).isFalse();
+    }
+
+    @Test
+    void acceptsGzip_malformedQuality_treatedAsAccepted() {
+        assertThat(SnapshotResponses.acceptsGzip("gzip;q=high")).isTrue();
+        assertThat(SnapshotResponses.acceptsGzip("gzip;level=1")).isTrue();
+    }
+
+    @Test
+    void negotiate_picksHighestQualityProducibleFormat() {
+        assertThat(SnapshotResponses.negotiate("application/cbor")).isEqualTo(BodyFormat.CBOR);
+        assertThat(SnapshotResponses.negotiate("application/json;q=0.5, application/x-jackson-smile"))
+                .isEqualTo(BodyFormat.SMILE);
+        assertThat(SnapshotResponses.negotiate("application/cbor, application/json")).isEqualTo(BodyFormat.CBOR);
+        assertThat(SnapshotResponses.negotiate("text/html, application/cbor;q=0.9")).isEqualTo(BodyFormat.CBOR);
+    }
+
+    @Test
+    void negotiate_defaultsToJson() {
+        assertThat(SnapshotResponses.negotiate(null)).isEqualTo(BodyFormat.JSON);
+        assertThat(SnapshotResponses.negotiate("*/*")).isEqualTo(BodyFormat.JSON);
+        assertThat(SnapshotResponses.negotiate("application/*, application/cbor;q=0.5")).isEqualTo(BodyFormat.JSON);
+        assertThat(SnapshotResponses.negotiate("text/html")).isEqualTo(BodyFormat.JSON);
+        assertThat(SnapshotResponses.negotiate("application/cbor;q=0")).isEqualTo(BodyFormat.JSON);
+        assertThat(SnapshotResponses.negotiate("not a media type")).isEqualTo(BodyFormat.JSON);
+    }
+}
@@ -1,9 +1,14 @@
 package com.jiralike.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jiralike.cache.BodyFormat;
+import com.jiralike.cache.EncodedBody;
 import com.jiralike.dto.*;
 import com.jiralike.entity.Ticket;
+import com.jiralike.service.BoardSnapshotService;
 import com.jiralike.service.CommentService;
+import com.jiralike.service.TicketFilterService;
 import com.jiralike.service.TicketService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,7 +21,11 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -38,6 +47,16 @@ class TicketControllerTest {
     @MockBean
     private CommentService commentService;
 
+    @MockBean
+    private TicketFilterService filterService;
+
+    @MockBean
+    private BoardSnapshotService snapshotService;
+
+    private BoardSnapshotService.Snapshot snapshot(List<TicketDto> tickets) throws Exception {
+        return new BoardSnapshotService.Snapshot(EncodedBody.of(objectMapper.writeValueAsBytes(tickets), 0), true, false);
+    }
+
     private TicketDto buildTicketDto(Long id) {
         TicketDto dto = new TicketDto();
         dto.setId(id);
@@ -71,18 +90,108 @@ class TicketControllerTest {
         return dto;
     }
 
+    @Test
+    void getByProject_withFilterAndDebug_returnsTimingHeaders() throws Exception {
+        FilterTimingDto timing = new FilterTimingDto();
+        timing.setPlan("assignee = me");
+        when(filterService.findTickets(1L, "assignee = me", 5L))
+                .thenReturn(new FilteredResultDto<>(List.of(buildTicketDto(1L)), timing));
+
+        mockMvc.perform(get("/api/projects/1/tickets")
+                        .param("filter", "assignee = me")
+                        .param("me", "5")
+                        .param("debug", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(header().string("X-Filter-Plan", "assignee = me"))
+                .andExpect(header().string("Server-Timing", startsWith("parse;dur=")));
+
+        verify(ticketService, never()).findByProject(any());
+    }
+
+    @Test
+    void getByProject_withFilterWithoutDebug_omitsTimingHeaders() throws Exception {
+        when(filterService.findTickets(1L, "type = BUG", null))
+                .thenReturn(new FilteredResultDto<>(List.of(), new FilterTimingDto()));
+
+        mockMvc.perform(get("/api/projects/1/tickets").param("filter", "type = BUG"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Server-Timing"));
+    }
+
+    @Test
+    void getByProject_invalidFilter_returns400() throws Exception {
+        when(filterService.findTickets(1L, "type >", null))
+                .thenThrow(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid filter"));
+
+        mockMvc.perform(get("/api/projects/1/tickets").param("filter", "type >"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getByProject_returnsTickets() throws Exception {
-        when(ticketService.findByProject(1L)).thenReturn(List.of(buildTicketDto(1L)));
+        when(snapshotService.getTickets(1L, BodyFormat.JSON)).thenReturn(snapshot(List.of(buildTicketDto(1L))));
 
         mockMvc.perform(get("/api/projects/1/tickets"))
                 .andExpect(status().isOk())
+                .andExpect(header().stringValues("Vary", hasItem("Accept, Accept-Encoding")))
                 .andExpect(jsonPath("$[0].id").value(1));
+
+        verify(ticketService, never()).findByProject(any());
+    }
+
+    @Test
+    void getByProject_acceptCbor_returnsCborSnapshot() throws Exception {
+        ObjectMapper cbor = BodyFormat.CBOR.mapper(objectMapper);
+        byte[] body = cbor.writeValueAsBytes(List.of(buildTicketDto(1L)));
+        when(snapshotService.getTickets(1L, BodyFormat.CBOR))
+                .thenReturn(new BoardSnapshotService.Snapshot(EncodedBody.of(body, 0), true, false));
+
+        byte[] response = mockMvc.perform(get("/api/projects/1/tickets").accept(BodyFormat.CBOR.getMediaType()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(BodyFormat.CBOR.getMediaType()))
+                .andExpect(header().stringValues("Vary", hasItem("Accept, Accept-Encoding")))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(cbor.readTree(response).get(0).get("title").asText()).isEqualTo("Ticket 1");
+    }
+
+    @Test
+    void getById_acceptSmile_serializesDtoWithIsoTimestamps() throws Exception {
+        TicketDto dto = buildTicketDto(1L);
+        dto.setCreatedAt(Instant.parse("2024-05-01T10:15:30Z"));
+        when(ticketService.findById(1L)).thenReturn(dto);
+
+        byte[] response = mockMvc.perform(get("/api/tickets/1").accept(BodyFormat.SMILE.getMediaType()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(BodyFormat.SMILE.getMediaType()))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode ticket = BodyFormat.SMILE.mapper(objectMapper).readTree(response);
+        assertThat(ticket.get("createdAt").asText()).isEqualTo("2024-05-01T10:15:30Z");
+        assertThat(ticket.get("priority").asText()).isEqualTo("MEDIUM");
+    }
+
+    @Test
+    void getByProject_userDictionary_usesTicketService() throws Exception {
+        UserDto alice = new UserDto();
+        alice.setId(5L);
+        TicketDto ticket = buildTicketDto(1L);
+        ticket.setAssignee(alice);
+        ticket.setAssigneeId(5L);
+        when(ticketService.findByProject(1L)).thenReturn(List.of(ticket));
+
+        mockMvc.perform(get("/api/projects/1/tickets").param("userDictionary", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users['5'].id").value(5))
+                .andExpect(jsonPath("$.items[0].assignee").doesNotExist());
+
+        verifyNoInteractions(snapshotService);
     }
 
     @Test
     void getByProject_empty_returnsEmptyList() throws Exception {
-        when(ticketService.findByProject(1L)).thenReturn(List.of());
+        when(snapshotService.getTickets(1L, BodyFormat.JSON)).thenReturn(snapshot(List.of()));
 
         mockMvc.perform(get("/api/projects/1/tickets"))
                 .andExpect(status().isOk())
@@ -212,11 +321,28 @@ class TicketControllerTest {
 
     @Test
     void getComments_returnsComments() throws Exception {
-        when(commentService.findByTicket(100L)).thenReturn(List.of(buildCommentDto(1L)));
+        CommentPageDto page = new CommentPageDto();
+        page.setComments(List.of(buildCommentDto(1L)));
+        when(commentService.findPage(100L, null, null)).thenReturn(page);
 
         mockMvc.perform(get("/api/tickets/100/comments"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].content").value("Comment 1"));
+                .andExpect(jsonPath("$[0].content").value("Comment 1"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    void getComments_withMorePages_setsNextCursorHeader() throws Exception {
+        CommentPageDto page = new CommentPageDto();
+        page.setComments(List.of(buildCommentDto(1L)));
+        page.setNextCursor("2024-05-01T10:15:30Z_1");
+        when(commentService.findPage(100L, "2024-05-01T10:00:00Z_0", 1)).thenReturn(page);
+
+        mockMvc.perform(get("/api/tickets/100/comments")
+                        .param("cursor", "2024-05-01T10:00:00Z_0")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "2024-05-01T10:15:30Z_1"));
     }
 
     @Test
@@ -263,6 +389,17 @@ class TicketControllerTest {
                 .andExpect(jsonPath("$.id").value(1));
     }
 
+    @Test
+    void getLatestComments_returnsCommentsKeyedByTicket() throws Exception {
+        when(commentService.findLatest(List.of(100L, 101L), 2))
+                .thenReturn(Map.of(100L, List.of(buildCommentDto(1L)), 101L, List.of()));
+
+        mockMvc.perform(get("/api/comments/latest").param("ticketIds", "100,101").param("perTicket", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['100'][0].content").value("Comment 1"))
+                .andExpect(jsonPath("$['101']").isEmpty());
+    }
+
     @Test
     void deleteComment_existing_returns204() throws Exception {
         doNothing().when(commentService).delete(1L);
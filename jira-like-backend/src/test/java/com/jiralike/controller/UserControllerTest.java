@@ -1,8 +1,18 @@
 package com.jiralike.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jiralike.dto.NotificationDto;
+import com.jiralike.dto.TicketSummaryDto;
+import com.jiralike.dto.TicketSummaryPageDto;
 import com.jiralike.dto.UserCreateDto;
 import com.jiralike.dto.UserDto;
+import com.jiralike.dto.UserSummaryDto;
+import com.jiralike.dto.UserSyncDto;
+import com.jiralike.dto.UserSyncResultDto;
+import com.jiralike.entity.BoardColumn;
+import com.jiralike.entity.Ticket;
+import com.jiralike.service.MyWorkService;
+import com.jiralike.service.NotificationService;
 import com.jiralike.service.UserService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,9 +24,11 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -34,6 +46,12 @@ class UserControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private MyWorkService myWorkService;
+
+    @MockBean
+    private NotificationService notificationService;
+
     private UserDto buildUserDto(Long id, String username) {
         UserDto dto = new UserDto();
         dto.setId(id);
@@ -61,6 +79,18 @@ class UserControllerTest {
                 .andExpect(jsonPath("$[0].username").value("jdoe"));
     }
 
+    @Test
+    void getAll_withIds_usesBatchLookup() throws Exception {
+        when(userService.findByIds(List.of(2L, 1L))).thenReturn(List.of(buildUserDto(2L, "bob"), buildUserDto(1L, "jdoe")));
+
+        mockMvc.perform(get("/api/users").param("ids", "2,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].username").value("bob"))
+                .andExpect(jsonPath("$[1].username").value("jdoe"));
+
+        verify(userService, never()).findAll();
+    }
+
     @Test
     void getAll_returnsEmptyList() throws Exception {
         when(userService.findAll()).thenReturn(List.of());
@@ -101,6 +131,38 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.username").value("jdoe"));
     }
 
+    @Test
+    void sync_returnsCounts() throws Exception {
+        UserSyncResultDto result = new UserSyncResultDto();
+        result.setCreated(1);
+        result.setConflicts(List.of("dup"));
+        when(userService.sync(anyList())).thenReturn(result);
+        UserSyncDto dto = new UserSyncDto();
+        dto.setUsers(List.of(buildCreateDto()));
+
+        mockMvc.perform(post("/api/users/sync")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.conflicts[0]").value("dup"));
+    }
+
+    @Test
+    void sync_invalidUser_returns400() throws Exception {
+        UserCreateDto invalid = buildCreateDto();
+        invalid.setEmail("not-an-email");
+        UserSyncDto dto = new UserSyncDto();
+        dto.setUsers(List.of(invalid));
+
+        mockMvc.perform(post("/api/users/sync")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isBadRequest());
+
+        verify(userService, never()).sync(any());
+    }
+
     @Test
     void create_blankUsername_returns400() throws Exception {
         UserCreateDto dto = buildCreateDto();
@@ -176,4 +238,73 @@ class UserControllerTest {
         mockMvc.perform(delete("/api/users/99"))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    void suggest_returnsSummariesWithoutEmail() throws Exception {
+        when(userService.suggest("jo", 5)).thenReturn(List.of(new UserSummaryDto(1L, "jdoe", "John Doe", null)));
+
+        mockMvc.perform(get("/api/users/suggest").param("q", "jo").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].username").value("jdoe"))
+                .andExpect(jsonPath("$[0].email").doesNotExist());
+    }
+
+    @Test
+    void getAssignedTickets_bindsFiltersAndReturnsPage() throws Exception {
+        TicketSummaryDto summary = new TicketSummaryDto();
+        summary.setId(100L);
+        summary.setProjectKey("TEST");
+        summary.setCategory(BoardColumn.Category.TODO);
+        TicketSummaryPageDto page = new TicketSummaryPageDto();
+        page.setResults(List.of(summary));
+        page.setNextCursor("2024-05-01_100");
+        when(myWorkService.findAssigned(1L, List.of(Ticket.Priority.HIGH, Ticket.Priority.CRITICAL),
+                LocalDate.of(2024, 6, 1), List.of(BoardColumn.Category.TODO), null, 10)).thenReturn(page);
+
+        mockMvc.perform(get("/api/users/1/tickets")
+                        .param("priority", "HIGH,CRITICAL")
+                        .param("dueBefore", "2024-06-01")
+                        .param("category", "TODO")
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].projectKey").value("TEST"))
+                .andExpect(jsonPath("$.results[0].category").value("TODO"))
+                .andExpect(jsonPath("$.nextCursor").value("2024-05-01_100"));
+    }
+
+    @Test
+    void getNotifications_returnsLatest() throws Exception {
+        NotificationDto notification = new NotificationDto();
+        notification.setId(7L);
+        notification.setTicketId(100L);
+        when(notificationService.findLatest(1L, 10)).thenReturn(List.of(notification));
+
+        mockMvc.perform(get("/api/users/1/notifications").param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].ticketId").value(100))
+                .andExpect(jsonPath("$[0].read").value(false));
+    }
+
+    @Test
+    void getUnreadCount_returnsCounter() throws Exception {
+        when(notificationService.getUnreadCount(1L)).thenReturn(3);
+
+        mockMvc.perform(get("/api/users/1/notifications/unread-count"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unread").value(3));
+    }
+
+    @Test
+    void markNotificationsRead_returns204() throws Exception {
+        mockMvc.perform(post("/api/users/1/notifications/read"))
+                .andExpect(status().isNoContent());
+
+        verify(notificationService).markAllRead(1L);
+    }
+
+    @Test
+    void getAssignedTickets_invalidPriority_returns400() throws Exception {
+        mockMvc.perform(get("/api/users/1/tickets").param("priority", "URGENT"))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,57 @@
+package com.jiralike.controller;
+
+import com.jiralike.dto.ProjectWorkloadDto;
+import com.jiralike.service.WorkloadService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(WorkloadController.class)
+class WorkloadControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private WorkloadService workloadService;
+
+    private ProjectWorkloadDto workload(Long projectId) {
+        ProjectWorkloadDto dto = new ProjectWorkloadDto();
+        dto.setProjectId(projectId);
+        dto.setUsers(List.of());
+        return dto;
+    }
+
+    @Test
+    void getWorkload_multipleProjects() throws Exception {
+        when(workloadService.getWorkload(List.of(1L, 2L))).thenReturn(List.of(workload(1L), workload(2L)));
+
+        mockMvc.perform(get("/api/workload").param("projectIds", "1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].projectId").value(2));
+    }
+
+    @Test
+    void getProjectWorkload_singleProject() throws Exception {
+        when(workloadService.getWorkload(List.of(1L))).thenReturn(List.of(workload(1L)));
+
+        mockMvc.perform(get("/api/projects/1/workload"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projectId").value(1));
+    }
+
+    @Test
+    void getWorkload_missingIds_returns400() throws Exception {
+        mockMvc.perform(get("/api/workload"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,204 @@
+package com.jiralike.filter;
+
+import com.jiralike.entity.AppUser;
+import com.jiralike.entity.Ticket;
+import com.jiralike.repository.AppUserRepository;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FilterCompilerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 5, 1);
+
+    @Mock
+    private AppUserRepository userRepository;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Root<Ticket> root;
+
+    @Mock
+    private CriteriaQuery<?> query;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private CriteriaBuilder cb;
+
+    private FilterCompiler compiler;
+
+    @BeforeEach
+    void setUp() {
+        compiler = new FilterCompiler(userRepository, 5L, TODAY);
+    }
+
+    private void apply(String filter) {
+        Specification<Ticket> spec = compiler.compile(FilterParser.parse(filter));
+        spec.toPredicate(root, query, cb);
+    }
+
+    @Test
+    void assigneeMe_bindsCurrentUserId() {
+        apply("assignee = me");
+
+        verify(cb).equal(any(), eq(5L));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void reporterUsername_isResolvedToId() {
+        AppUser user = new AppUser();
+        user.setId(7L);
+        when(userRepository.findByUsername("jdoe")).thenReturn(Optional.of(user));
+
+        apply("reporter != jdoe");
+
+        verify(cb).notEqual(any(), eq(7L));
+        verify(cb).isNull(any());
+    }
+
+    @Test
+    void userIn_andEmptyChecks() {
+        Path<Object> idPath = root.get("assignee").get("id");
+        apply("assignee IN (me)");
+        apply("assignee IS EMPTY");
+        apply("assignee IS NOT EMPTY");
+
+        verify(idPath).in(List.of(5L));
+        verify(cb).isNull(any());
+        verify(cb).isNotNull(any());
+    }
+
+    @Test
+    void unknownUser_andMeWithoutCurrentUser_areRejected() {
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> apply("assignee = ghost"))
+                .isInstanceOf(FilterSyntaxException.class)
+                .hasMessage("Unknown user 'ghost'");
+        assertThatThrownBy(() -> new FilterCompiler(userRepository, null, TODAY)
+                .compile(FilterParser.parse("assignee = me")))
+                .hasMessageContaining("no current user");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void priorityOrdering_compilesToInOverLevels() {
+        Path<Object> priority = root.get("priority");
+        apply("priority >= HIGH");
+        apply("priority < medium");
+
+        verify(priority).in(List.of(Ticket.Priority.HIGH, Ticket.Priority.CRITICAL));
+        verify(priority).in(List.of(Ticket.Priority.LOW));
+    }
+
+    @Test
+    void priorityAndTypeEquality() {
+        apply("priority = LOW");
+        apply("type != bug");
+        apply("type IN (STORY, EPIC)");
+
+        verify(cb).equal(any(), eq(Ticket.Priority.LOW));
+        verify(cb).notEqual(any(), eq(Ticket.TicketType.BUG));
+        verify(root.get("ticketType")).in(List.of(Ticket.TicketType.STORY, Ticket.TicketType.EPIC));
+    }
+
+    @Test
+    void relativeAndAbsoluteDates() {
+        apply("due < +7d");
+        apply("due >= -2w");
+        apply("due <= +1m");
+        apply("due > today");
+        apply("due = 2024-06-01");
+        apply("due != 2024-06-02");
+
+        verify(cb).lessThan(any(), eq(LocalDate.of(2024, 5, 8)));
+        verify(cb).greaterThanOrEqualTo(any(), eq(LocalDate.of(2024, 4, 17)));
+        verify(cb).lessThanOrEqualTo(any(), eq(LocalDate.of(2024, 6, 1)));
+        verify(cb).greaterThan(any(), eq(TODAY));
+        verify(cb).equal(any(), eq(LocalDate.of(2024, 6, 1)));
+        verify(cb).notEqual(any(), eq(LocalDate.of(2024, 6, 2)));
+    }
+
+    @Test
+    void pointsComparisons() {
+        apply("points >= 5 AND points IS NOT EMPTY");
+        apply("points IN (1, 2)");
+        apply("points IS EMPTY");
+
+        verify(cb).greaterThanOrEqualTo(any(), eq(5));
+        verify(root.get("storyPoints")).in(List.of(1, 2));
+        verify(cb).and(any(), any());
+    }
+
+    @Test
+    void createdAndUpdated_compareWholeUtcDays() {
+        apply("created = 2024-05-01");
+        apply("created < 2024-05-01");
+        apply("updated <= 2024-05-01");
+        apply("updated > 2024-05-01");
+        apply("created >= 2024-05-01");
+
+        Instant start = Instant.parse("2024-05-01T00:00:00Z");
+        Instant end = Instant.parse("2024-05-02T00:00:00Z");
+        verify(cb, times(2)).greaterThanOrEqualTo(any(), eq(start));
+        verify(cb, times(2)).lessThan(any(), eq(end));
+        verify(cb).lessThan(any(), eq(start));
+        verify(cb).greaterThanOrEqualTo(any(), eq(end));
+    }
+
+    @Test
+    void columnAndTextMatching() {
+        apply("column = 'In Progress'");
+        apply("column != Done");
+        apply("column IN (Done)");
+        apply("title ~ '50%_off'");
+        apply("text ~ login OR description ~ crash");
+
+        verify(cb).equal(any(), eq("in progress"));
+        verify(cb).notEqual(any(), eq("done"));
+        verify(cb).like(any(), eq("%50\\%\\_off%"), eq('\\'));
+        verify(cb, times(2)).like(any(), eq("%login%"), eq('\\'));
+        verify(cb).like(any(), eq("%crash%"), eq('\\'));
+    }
+
+    @Test
+    void notNegatesOperand() {
+        apply("NOT type = BUG");
+
+        verify(cb).not(any());
+    }
+
+    @Test
+    void invalidCombinations_areRejected() {
+        assertThatThrownBy(() -> apply("sprint = 4")).hasMessage("Unknown field 'sprint'");
+        assertThatThrownBy(() -> apply("title = x")).hasMessageContaining("Operator = is not supported");
+        assertThatThrownBy(() -> apply("priority ~ HIGH")).hasMessageContaining("Operator ~ is not supported");
+        assertThatThrownBy(() -> apply("priority > URGENT")).hasMessageContaining("Invalid value 'URGENT'");
+        assertThatThrownBy(() -> apply("type < BUG")).hasMessageContaining("Operator < is not supported");
+        assertThatThrownBy(() -> apply("column > Done")).hasMessageContaining("not supported");
+        assertThatThrownBy(() -> apply("assignee > me")).hasMessageContaining("not supported");
+        assertThatThrownBy(() -> apply("points ~ 3")).hasMessageContaining("not supported");
+        assertThatThrownBy(() -> apply("points = many")).hasMessageContaining("Invalid number 'many'");
+        assertThatThrownBy(() -> apply("due < tomorrow")).hasMessageContaining("Invalid date 'tomorrow'");
+        assertThatThrownBy(() -> apply("created IN (today)")).hasMessageContaining("not supported");
+    }
+}
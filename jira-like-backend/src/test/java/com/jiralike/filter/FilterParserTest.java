@@ -0,0 +1,87 @@
+package com.jiralike.filter;
+
+import com.jiralike.filter.FilterNode.Comparison;
+import com.jiralike.filter.FilterNode.Operator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FilterParserTest {
+
+    @Test
+    void parse_singleComparison() {
+        FilterNode node = FilterParser.parse("Priority >= high");
+
+        assertThat(node).isEqualTo(new Comparison("priority", Operator.GE, List.of("high")));
+    }
+
+    @Test
+    void parse_andBindsTighterThanOr() {
+        FilterNode node = FilterParser.parse("type = BUG or type = STORY and assignee = me");
+
+        assertThat(node.toString()).isEqualTo("(type = BUG OR (type = STORY AND assignee = me))");
+    }
+
+    @Test
+    void parse_parenthesesAndNot() {
+        FilterNode node = FilterParser.parse("NOT (type = BUG OR type = TASK) AND due < +7d");
+
+        assertThat(node.toString()).isEqualTo("(NOT (type = BUG OR type = TASK) AND due < +7d)");
+    }
+
+    @Test
+    void parse_allOperators() {
+        assertThat(FilterParser.parse("points != 3").toString()).isEqualTo("points != 3");
+        assertThat(FilterParser.parse("points < 3").toString()).isEqualTo("points < 3");
+        assertThat(FilterParser.parse("points <= 3").toString()).isEqualTo("points <= 3");
+        assertThat(FilterParser.parse("points > 3").toString()).isEqualTo("points > 3");
+        assertThat(FilterParser.parse("title ~ login").toString()).isEqualTo("title ~ login");
+    }
+
+    @Test
+    void parse_inListAndQuotedStrings() {
+        FilterNode node = FilterParser.parse("column IN ('In Progress', \"In \\\"Review\\\"\", Done)");
+
+        assertThat(node).isEqualTo(new Comparison("column", Operator.IN,
+                List.of("In Progress", "In \"Review\"", "Done")));
+        assertThat(node.toString()).isEqualTo("column IN (\"In Progress\", \"In \\\"Review\\\"\", Done)");
+    }
+
+    @Test
+    void parse_isEmptyAndIsNotEmpty() {
+        assertThat(FilterParser.parse("assignee IS EMPTY"))
+                .isEqualTo(new Comparison("assignee", Operator.IS_EMPTY, List.of()));
+        assertThat(FilterParser.parse("due is not empty").toString()).isEqualTo("due IS NOT EMPTY");
+    }
+
+    @Test
+    void parse_errors_reportPosition() {
+        assertThatThrownBy(() -> FilterParser.parse("priority >= "))
+                .isInstanceOf(FilterSyntaxException.class)
+                .hasMessageContaining("Expected a value at position 12");
+        assertThatThrownBy(() -> FilterParser.parse("priority HIGH"))
+                .hasMessageContaining("Expected an operator");
+        assertThatThrownBy(() -> FilterParser.parse("(type = BUG"))
+                .hasMessageContaining("Expected ')'");
+        assertThatThrownBy(() -> FilterParser.parse("type = BUG type = TASK"))
+                .hasMessageContaining("Unexpected 'type'");
+        assertThatThrownBy(() -> FilterParser.parse("due IS NULL"))
+                .hasMessageContaining("Expected EMPTY");
+    }
+
+    @Test
+    void parse_lexicalErrors() {
+        assertThatThrownBy(() -> FilterParser.parse("  "))
+                .isInstanceOf(FilterSyntaxException.class)
+                .hasMessage("Filter is empty");
+        assertThatThrownBy(() -> FilterParser.parse("title ~ 'open"))
+                .hasMessageContaining("Unterminated string");
+        assertThatThrownBy(() -> FilterParser.parse("type ! BUG"))
+                .hasMessageContaining("Expected '!='");
+        assertThatThrownBy(() -> FilterParser.parse("type = BUG; DROP"))
+                .hasMessageContaining("Unexpected character ';'");
+    }
+}
@@ -0,0 +1,36 @@
+package com.jiralike.graphql;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FieldTimingsTest {
+
+    @Test
+    void record_aggregatesPerFieldSlowestFirst() {
+        FieldTimings timings = new FieldTimings();
+        timings.record("Column.tickets", 1_000_000);
+        timings.record("Column.tickets", 3_000_000);
+        timings.record("Query.project", 5_000_000);
+
+        Map<String, Map<String, Object>> extension = timings.toExtension();
+
+        assertThat(extension).containsOnlyKeys("Query.project", "Column.tickets");
+        assertThat(extension.keySet()).first().isEqualTo("Query.project");
+        assertThat(extension.get("Column.tickets"))
+                .containsEntry("calls", 2L)
+                .containsEntry("totalMs", 4.0)
+                .containsEntry("maxMs", 3.0);
+        assertThat(timings.toServerTiming()).isEqualTo("Query.project;dur=5.000, Column.tickets;dur=4.000");
+    }
+
+    @Test
+    void empty_untilRecorded() {
+        FieldTimings timings = new FieldTimings();
+
+        assertThat(timings.isEmpty()).isTrue();
+        assertThat(timings.toServerTiming()).isEmpty();
+    }
+}
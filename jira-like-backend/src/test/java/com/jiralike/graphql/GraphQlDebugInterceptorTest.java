@@ -0,0 +1,51 @@
+package com.jiralike.graphql;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResultImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.graphql.support.DefaultExecutionGraphQlResponse;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GraphQlDebugInterceptorTest {
+
+    private final GraphQlDebugInterceptor interceptor = new GraphQlDebugInterceptor();
+
+    private static WebGraphQlRequest request(String url) {
+        return new WebGraphQlRequest(URI.create(url), new HttpHeaders(), null, Map.of(),
+                Map.of("query", "{ users { id } }"), "1", null);
+    }
+
+    /** Stands in for the engine: records a field in the request's timings, if there are any. */
+    private static final WebGraphQlInterceptor.Chain ENGINE = request -> {
+        ExecutionInput input = request.toExecutionInput();
+        FieldTimings timings = input.getGraphQLContext().get(FieldTimings.class);
+        if (timings != null) {
+            timings.record("Query.users", 2_500_000);
+        }
+        return Mono.just(new WebGraphQlResponse(
+                new DefaultExecutionGraphQlResponse(input, ExecutionResultImpl.newExecutionResult().build())));
+    };
+
+    @Test
+    void debug_addsServerTimingHeader() {
+        WebGraphQlResponse response = interceptor.intercept(request("/api/graphql?debug=true"), ENGINE).block();
+
+        assertThat(response.getResponseHeaders().getFirst("Server-Timing")).isEqualTo("Query.users;dur=2.500");
+    }
+
+    @Test
+    void withoutDebug_noTimings() {
+        WebGraphQlResponse response = interceptor.intercept(request("/api/graphql"), ENGINE).block();
+
+        assertThat(response.getResponseHeaders().containsKey("Server-Timing")).isFalse();
+    }
+}
@@ -0,0 +1,191 @@
+package com.jiralike.search;
+
+import com.jiralike.dto.TicketSuggestionDto;
+import com.jiralike.entity.AppUser;
+import com.jiralike.entity.Project;
+import com.jiralike.entity.Ticket;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmbeddedTicketIndexTest {
+
+    @TempDir
+    Path indexDir;
+
+    private EmbeddedTicketIndex index;
+    private Project project;
+    private AppUser assignee;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        index = new EmbeddedTicketIndex(indexDir.toString());
+
+        project = new Project();
+        project.setId(1L);
+        project.setKey("TEST");
+
+        assignee = new AppUser();
+        assignee.setId(5L);
+        assignee.setUsername("jdoe");
+        assignee.setDisplayName("John Doe");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        index.close();
+    }
+
+    private Ticket buildTicket(Long id, String title, String description) {
+        Ticket ticket = new Ticket();
+        ticket.setId(id);
+        ticket.setTitle(title);
+        ticket.setDescription(description);
+        ticket.setPriority(Ticket.Priority.HIGH);
+        ticket.setTicketType(Ticket.TicketType.BUG);
+        ticket.setProject(project);
+        return ticket;
+    }
+
+    @Test
+    void suggest_prefixOfLastToken_matchesTitle() {
+        Ticket ticket = buildTicket(100L, "Login page crashes", "Stack trace attached");
+        ticket.setAssignee(assignee);
+        index.index(ticket);
+        index.commit();
+
+        List<TicketSuggestionDto> results = index.suggest("login cra", null, 10);
+
+        assertThat(results).hasSize(1);
+        TicketSuggestionDto hit = results.get(0);
+        assertThat(hit.getId()).isEqualTo(100L);
+        assertThat(hit.getProjectId()).isEqualTo(1L);
+        assertThat(hit.getProjectKey()).isEqualTo("TEST");
+        assertThat(hit.getTitle()).isEqualTo("Login page crashes");
+        assertThat(hit.getPriority()).isEqualTo(Ticket.Priority.HIGH);
+        assertThat(hit.getTicketType()).isEqualTo(Ticket.TicketType.BUG);
+        assertThat(hit.getAssigneeName()).isEqualTo("John Doe");
+    }
+
+    @Test
+    void suggest_trailingWhitespace_requiresWholeToken() {
+        index.index(buildTicket(100L, "Login page crashes", null));
+        index.commit();
+
+        assertThat(index.suggest("cra ", null, 10)).isEmpty();
+        assertThat(index.suggest("crashes ", null, 10)).hasSize(1);
+    }
+
+    @Test
+    void suggest_matchesAssigneeTypeAndDescription() {
+        Ticket ticket = buildTicket(100L, "Checkout", "Payment provider timeout");
+        ticket.setAssignee(assignee);
+        index.index(ticket);
+        index.commit();
+
+        assertThat(index.suggest("jdo", null, 10)).hasSize(1);
+        assertThat(index.suggest("bug", null, 10)).hasSize(1);
+        assertThat(index.suggest("timeo", null, 10)).hasSize(1);
+    }
+
+    @Test
+    void suggest_titleMatchOutranksDescriptionMatch() {
+        index.index(buildTicket(100L, "Unrelated", "mentions search in passing"));
+        index.index(buildTicket(101L, "Search results empty", null));
+        index.commit();
+
+        List<TicketSuggestionDto> results = index.suggest("sear", null, 10);
+
+        assertThat(results).extracting(TicketSuggestionDto::getId).containsExactly(101L, 100L);
+    }
+
+    @Test
+    void suggest_projectKeyFilter_excludesOtherProjects() {
+        Project other = new Project();
+        other.setId(2L);
+        other.setKey("OTHER");
+        Ticket foreign = buildTicket(200L, "Login broken", null);
+        foreign.setProject(other);
+        index.index(buildTicket(100L, "Login broken", null));
+        index.index(foreign);
+        index.commit();
+
+        assertThat(index.suggest("login", "test", 10))
+                .extracting(TicketSuggestionDto::getId).containsExactly(100L);
+    }
+
+    @Test
+    void index_sameTicketTwice_replacesDocument() {
+        index.index(buildTicket(100L, "Old title", null));
+        index.index(buildTicket(100L, "New title", null));
+        index.commit();
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.suggest("old", null, 10)).isEmpty();
+        assertThat(index.suggest("new", null, 10)).hasSize(1);
+    }
+
+    @Test
+    void findTicketIdsByAssignee_returnsOnlyThatAssigneesTickets() {
+        Ticket assigned = buildTicket(100L, "Assigned", null);
+        assigned.setAssignee(assignee);
+        index.index(assigned);
+        index.index(buildTicket(101L, "Unassigned", null));
+
+        assertThat(index.findTicketIdsByAssignee(5L)).containsExactly(100L);
+        assertThat(index.findTicketIdsByAssignee(6L)).isEmpty();
+    }
+
+    @Test
+    void delete_removesDocument() {
+        index.index(buildTicket(100L, "First", null));
+        index.index(buildTicket(101L, "Second", null));
+        index.commit();
+
+        index.delete(100L);
+        index.commit();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void deleteOtherGenerations_keepsOnlyDocumentsRewrittenSinceStart() {
+        index.index(buildTicket(100L, "Stale", null));
+        index.index(buildTicket(101L, "Second", null));
+        index.commit();
+
+        String generation = index.startGeneration();
+        index.index(buildTicket(101L, "Second", null));
+        index.commit();
+        // the old generation still answers until the rebuild drops it
+        assertThat(index.suggest("stale", null, 10)).hasSize(1);
+
+        index.deleteOtherGenerations(generation);
+        index.commit();
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.suggest("stale", null, 10)).isEmpty();
+        assertThat(index.suggest("second", null, 10)).extracting(TicketSuggestionDto::getId).containsExactly(101L);
+    }
+
+    @Test
+    void commitPending_commitsOnlyWhenSomethingChanged() {
+        index.commit();
+        assertThat(index.commitPending()).isFalse();
+
+        index.index(buildTicket(100L, "First", null));
+
+        assertThat(index.commitPending()).isTrue();
+        assertThat(index.commitPending()).isFalse();
+    }
+
+    @Test
+    void suggest_blankOrNullInput_returnsEmpty() {
+        assertThat(index.suggest("   ", null, 10)).isEmpty();
+        assertThat(index.suggest(null, null, 10)).isEmpty();
+    }
+}
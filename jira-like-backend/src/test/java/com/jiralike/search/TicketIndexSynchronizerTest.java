@@ -0,0 +1,167 @@
+package com.jiralike.search;
+
+import com.jiralike.entity.Ticket;
+import com.jiralike.event.TicketChangedEvent;
+import com.jiralike.event.TicketChangedEvent.ChangeType;
+import com.jiralike.event.UserChangedEvent;
+import com.jiralike.event.UsersSyncedEvent;
+import com.jiralike.repository.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketIndexSynchronizerTest {
+
+    @Mock
+    private EmbeddedTicketIndex index;
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TicketIndexSynchronizer synchronizer;
+
+    @BeforeEach
+    void setUp() {
+        synchronizer = new TicketIndexSynchronizer(index, ticketRepository, transactionManager, true);
+    }
+
+    private Ticket buildTicket(Long id) {
+        Ticket ticket = new Ticket();
+        ticket.setId(id);
+        return ticket;
+    }
+
+    @Test
+    void onApplicationReady_rebuildsInBatches() {
+        List<Ticket> fullBatch = new ArrayList<>();
+        for (long i = 1; i <= TicketIndexSynchronizer.BATCH_SIZE; i++) {
+            fullBatch.add(buildTicket(i));
+        }
+        long lastId = TicketIndexSynchronizer.BATCH_SIZE;
+        when(ticketRepository.findBatchForIndexing(eq(0L), any(Pageable.class))).thenReturn(fullBatch);
+        when(ticketRepository.findBatchForIndexing(eq(lastId), any(Pageable.class)))
+                .thenReturn(List.of(buildTicket(lastId + 1)));
+        when(index.startGeneration()).thenReturn("g2");
+
+        synchronizer.onApplicationReady();
+
+        // the previous generation is only removed once the new one is complete
+        var order = inOrder(index);
+        order.verify(index).startGeneration();
+        order.verify(index, times(TicketIndexSynchronizer.BATCH_SIZE + 1)).index(any(Ticket.class));
+        order.verify(index).deleteOtherGenerations("g2");
+        order.verify(index).commit();
+        verify(index, never()).delete(any());
+    }
+
+    @Test
+    void onApplicationReady_disabled_doesNotRebuild() {
+        new TicketIndexSynchronizer(index, ticketRepository, transactionManager, false).onApplicationReady();
+
+        verifyNoInteractions(index, ticketRepository);
+    }
+
+    @Test
+    void rebuild_emptyTable_commitsEmptyIndex() {
+        when(ticketRepository.findBatchForIndexing(eq(0L), any(Pageable.class))).thenReturn(List.of());
+
+        assertThat(synchronizer.rebuild()).isZero();
+        verify(index).commit();
+    }
+
+    @Test
+    void commitPending_failure_isSwallowed() {
+        when(index.commitPending()).thenThrow(new IllegalStateException("disk full"));
+
+        synchronizer.commitPending();
+
+        verify(index).commitPending();
+    }
+
+    @Test
+    void onTicketChanged_update_reindexesTicket() {
+        Ticket ticket = buildTicket(100L);
+        when(ticketRepository.findByIdForIndexing(100L)).thenReturn(Optional.of(ticket));
+
+        synchronizer.onTicketChanged(new TicketChangedEvent(100L, 1L, ChangeType.UPDATED));
+
+        verify(index).index(ticket);
+    }
+
+    @Test
+    void onTicketChanged_delete_removesDocument() {
+        synchronizer.onTicketChanged(new TicketChangedEvent(100L, 1L, ChangeType.DELETED));
+
+        verify(index).delete(100L);
+        verifyNoInteractions(ticketRepository);
+    }
+
+    @Test
+    void onTicketChanged_indexFailure_isSwallowed() {
+        when(ticketRepository.findByIdForIndexing(100L)).thenThrow(new IllegalStateException("boom"));
+
+        synchronizer.onTicketChanged(new TicketChangedEvent(100L, 1L, ChangeType.CREATED));
+
+        verify(index, never()).index(any());
+    }
+
+    @Test
+    void onUserChanged_update_reindexesAssignedTickets() {
+        Ticket first = buildTicket(100L);
+        Ticket second = buildTicket(101L);
+        when(index.findTicketIdsByAssignee(5L)).thenReturn(List.of(100L, 101L));
+        when(ticketRepository.findAllByIdForIndexing(List.of(100L, 101L))).thenReturn(List.of(first, second));
+
+        synchronizer.onUserChanged(new UserChangedEvent(5L, null, UserChangedEvent.ChangeType.UPDATED));
+
+        verify(index).index(first);
+        verify(index).index(second);
+    }
+
+    @Test
+    void onUserChanged_delete_reindexesTicketsTheIndexStillLinks() {
+        Ticket unassigned = buildTicket(100L);
+        when(index.findTicketIdsByAssignee(5L)).thenReturn(List.of(100L));
+        when(ticketRepository.findAllByIdForIndexing(List.of(100L))).thenReturn(List.of(unassigned));
+
+        synchronizer.onUserChanged(new UserChangedEvent(5L, null, UserChangedEvent.ChangeType.DELETED));
+
+        verify(index).index(unassigned);
+    }
+
+    @Test
+    void onUserChanged_create_touchesNothing() {
+        synchronizer.onUserChanged(new UserChangedEvent(5L, null, UserChangedEvent.ChangeType.CREATED));
+
+        verifyNoInteractions(index, ticketRepository);
+    }
+
+    @Test
+    void onUsersSynced_withUpdates_rebuilds() {
+        when(ticketRepository.findBatchForIndexing(eq(0L), any(Pageable.class))).thenReturn(List.of());
+
+        synchronizer.onUsersSynced(new UsersSyncedEvent(2, 0));
+        verifyNoInteractions(index);
+
+        synchronizer.onUsersSynced(new UsersSyncedEvent(0, 3));
+        verify(index).startGeneration();
+        verify(index).commit();
+    }
+}
@@ -0,0 +1,122 @@
+package com.jiralike.search;
+
+import com.jiralike.dto.UserSummaryDto;
+import com.jiralike.entity.AppUser;
+import com.jiralike.event.UserChangedEvent;
+import com.jiralike.event.UsersSyncedEvent;
+import com.jiralike.repository.AppUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserPrefixIndexTest {
+
+    @Mock
+    private AppUserRepository userRepository;
+
+    @InjectMocks
+    private UserPrefixIndex index;
+
+    private final UserSummaryDto john = new UserSummaryDto(1L, "jdoe", "John Doe", null);
+    private final UserSummaryDto jane = new UserSummaryDto(2L, "jsmith", "Jane Smith", null);
+    private final UserSummaryDto bob = new UserSummaryDto(3L, "bob", "Robert Doering", null);
+
+    @BeforeEach
+    void setUp() {
+        index.replaceAll(List.of(john, jane, bob));
+    }
+
+    @Test
+    void suggest_matchesUsernameDisplayNameAndWords() {
+        assertThat(index.suggest("jd", 10)).containsExactly(john);
+        assertThat(index.suggest("JANE", 10)).containsExactly(jane);
+        assertThat(index.suggest("smi", 10)).containsExactly(jane);
+        assertThat(index.suggest("doe", 10)).containsExactly(john, bob);
+    }
+
+    @Test
+    void suggest_returnsEachUserOnceAndHonoursLimit() {
+        assertThat(index.suggest("j", 10)).containsExactlyInAnyOrder(john, jane);
+        assertThat(index.suggest("j", 1)).hasSize(1);
+    }
+
+    @Test
+    void suggest_blankOrUnknown_returnsEmpty() {
+        assertThat(index.suggest(" ", 10)).isEmpty();
+        assertThat(index.suggest(null, 10)).isEmpty();
+        assertThat(index.suggest("zzz", 10)).isEmpty();
+    }
+
+    @Test
+    void put_replacesExistingKeysOfUser() {
+        index.put(new UserSummaryDto(1L, "jdoe", "Johnny Walker", null));
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.suggest("walk", 10)).extracting(UserSummaryDto::getId).containsExactly(1L);
+        assertThat(index.suggest("doe", 10)).containsExactly(bob);
+    }
+
+    @Test
+    void put_newUser_isMergedInOrder() {
+        UserSummaryDto alice = new UserSummaryDto(4L, "alice", "Alice Doe", null);
+
+        index.put(alice);
+
+        assertThat(index.suggest("a", 10)).containsExactly(alice);
+        assertThat(index.suggest("doe", 10)).containsExactly(john, alice, bob);
+    }
+
+    @Test
+    void remove_dropsUserAndIgnoresUnknownIds() {
+        index.remove(2L);
+        index.remove(99L);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.suggest("jane", 10)).isEmpty();
+    }
+
+    @Test
+    void onUserChanged_appliesCreateAndDelete() {
+        UserSummaryDto carol = new UserSummaryDto(5L, "carol", "Carol King", null);
+
+        index.onUserChanged(new UserChangedEvent(5L, carol, UserChangedEvent.ChangeType.CREATED));
+        assertThat(index.suggest("king", 10)).containsExactly(carol);
+
+        index.onUserChanged(new UserChangedEvent(5L, null, UserChangedEvent.ChangeType.DELETED));
+        assertThat(index.suggest("king", 10)).isEmpty();
+    }
+
+    @Test
+    void onUsersSynced_reloadsFromRepository() {
+        when(userRepository.findAll()).thenReturn(List.of());
+
+        index.onUsersSynced(new UsersSyncedEvent(10, 2));
+
+        verify(userRepository).findAll();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void load_replacesContentsFromRepository() {
+        AppUser user = new AppUser();
+        user.setId(7L);
+        user.setUsername("dave");
+        user.setDisplayName("Dave Grohl");
+        when(userRepository.findAll()).thenReturn(List.of(user));
+
+        index.load();
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.suggest("gro", 10)).extracting(UserSummaryDto::getUsername).containsExactly("dave");
+    }
+}
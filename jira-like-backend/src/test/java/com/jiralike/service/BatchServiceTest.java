@@ -0,0 +1,73 @@
+package com.jiralike.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jiralike.dto.BatchOperationDto;
+import com.jiralike.dto.BatchResultDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BatchResultDto result(String json) throws Exception {
+        BatchResultDto result = new BatchResultDto();
+        result.setStatus(200);
+        result.setBody(objectMapper.readTree(json));
+        return result;
+    }
+
+    private BatchOperationDto operation(String path, String body) throws Exception {
+        BatchOperationDto operation = new BatchOperationDto();
+        operation.setMethod("POST");
+        operation.setPath(path);
+        operation.setBody(body == null ? null : objectMapper.readTree(body));
+        return operation;
+    }
+
+    @Test
+    void resolve_substitutesPathTextAndWholeBodyValues() throws Exception {
+        List<BatchResultDto> results = List.of(result("{\"id\":4,\"assignee\":{\"id\":9}}"), result("[{\"id\":12}]"));
+        BatchOperationDto original = operation("/api/tickets/${0.id}/comments?after=${1.0.id}",
+                "{\"authorId\":\"${0.assignee.id}\",\"content\":\"see ${0.id}\",\"ids\":[\"${1.0.id}\"],\"user\":\"${0.assignee}\"}");
+
+        BatchOperationDto resolved = BatchService.resolve(original, results);
+
+        assertThat(resolved.getPath()).isEqualTo("/api/tickets/4/comments?after=12");
+        assertThat(resolved.getBody().get("authorId").isNumber()).isTrue();
+        assertThat(resolved.getBody().get("authorId").asLong()).isEqualTo(9L);
+        assertThat(resolved.getBody().get("content").asText()).isEqualTo("see ${0.id}");
+        assertThat(resolved.getBody().get("ids").get(0).asInt()).isEqualTo(12);
+        assertThat(resolved.getBody().get("user").get("id").asInt()).isEqualTo(9);
+        // the request itself is left as sent
+        assertThat(original.getBody().get("authorId").asText()).isEqualTo("${0.assignee.id}");
+    }
+
+    @Test
+    void resolve_withoutReferences_keepsOperation() throws Exception {
+        BatchOperationDto resolved = BatchService.resolve(operation("/api/users", null), List.of());
+
+        assertThat(resolved.getPath()).isEqualTo("/api/users");
+        assertThat(resolved.getBody()).isNull();
+    }
+
+    @Test
+    void resolve_invalidReferences_throw() throws Exception {
+        List<BatchResultDto> results = List.of(result("{\"id\":4,\"assignee\":null,\"tags\":[1]}"),
+                BatchService.failure(HttpStatus.NOT_FOUND, "gone"));
+
+        assertThatThrownBy(() -> BatchService.resolve(operation("/api/tickets/${0.tags}", null), results))
+                .hasMessage("${0.tags} is not a single value");
+        assertThatThrownBy(() -> BatchService.resolve(operation("/api/x", "{\"a\":\"${0.assignee}\"}"), results))
+                .hasMessage("${0.assignee} does not match a value");
+        assertThatThrownBy(() -> BatchService.resolve(operation("/api/tickets/${1.id}", null), results))
+                .hasMessage("${1.id} refers to operation 1, which failed or returned no body");
+        assertThatThrownBy(() -> BatchService.resolve(operation("/api/tickets/${2.id}", null), results))
+                .hasMessage("${2.id} refers to an operation that has not run");
+    }
+}
@@ -6,6 +6,7 @@ import com.jiralike.dto.TicketDto;
 import com.jiralike.entity.BoardColumn;
 import com.jiralike.entity.Project;
 import com.jiralike.entity.Ticket;
+import com.jiralike.event.TicketChangedEvent;
 import com.jiralike.repository.BoardColumnRepository;
 import com.jiralike.repository.TicketRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,15 +15,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +45,15 @@ class BoardColumnServiceTest {
     @Mock
     private TicketService ticketService;
 
+    @Mock
+    private TicketCounterService counterService;
+
+    @Mock
+    private TicketTransitionService transitionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BoardColumnService boardColumnService;
 
@@ -63,35 +77,56 @@ class BoardColumnServiceTest {
 
     @Test
     void findByProject_returnsMappedColumnsWithTickets() {
-        Ticket ticket = new Ticket();
-        ticket.setId(1L);
-        ticket.setTitle("T1");
-        ticket.setProject(project);
-        ticket.setColumn(column);
+        BoardColumn other = new BoardColumn();
+        other.setId(11L);
+        other.setProject(project);
+        TicketDto card = new TicketDto();
+        card.setId(1L);
+        card.setColumnId(10L);
 
         BoardColumnDto colDto = new BoardColumnDto();
         colDto.setId(10L);
         colDto.setName("To Do");
         colDto.setProjectId(1L);
+        BoardColumnDto otherDto = new BoardColumnDto();
+        otherDto.setId(11L);
 
-        when(columnRepository.findByProjectIdOrderByPositionAsc(1L)).thenReturn(List.of(column));
-        when(ticketRepository.findByColumnIdOrderByPositionAsc(10L)).thenReturn(List.of(ticket));
+        when(columnRepository.findByProjectIdOrderByPositionAscIdAsc(1L)).thenReturn(List.of(column, other));
+        when(ticketService.findCardsByProject(eq(1L), anyMap())).thenReturn(List.of(card));
         when(projectService.toColumnDtoWithoutTickets(column)).thenReturn(colDto);
-        when(ticketService.toDto(ticket)).thenReturn(new TicketDto());
+        when(projectService.toColumnDtoWithoutTickets(other)).thenReturn(otherDto);
 
         List<BoardColumnDto> result = boardColumnService.findByProject(1L);
 
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getTickets()).hasSize(1);
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getTickets()).containsExactly(card);
+        assertThat(result.get(1).getTickets()).isEmpty();
+        verify(ticketService).withCommentCounts(List.of(card));
+        verify(ticketRepository, never()).findByColumnIdOrderByPositionAsc(any());
     }
 
     @Test
     void findByProject_empty_returnsEmpty() {
-        when(columnRepository.findByProjectIdOrderByPositionAsc(1L)).thenReturn(List.of());
+        when(columnRepository.findByProjectIdOrderByPositionAscIdAsc(1L)).thenReturn(List.of());
 
         assertThat(boardColumnService.findByProject(1L)).isEmpty();
     }
 
+    @Test
+    void findByProjects_groupsColumnsByProject() {
+        BoardColumnDto colDto = new BoardColumnDto();
+        colDto.setId(10L);
+        colDto.setProjectId(1L);
+        when(columnRepository.findByProjectIdInOrderByPositionAscIdAsc(List.of(1L, 2L))).thenReturn(List.of(column));
+        when(projectService.toColumnDtoWithoutTickets(column)).thenReturn(colDto);
+
+        Map<Long, List<BoardColumnDto>> result = boardColumnService.findByProjects(List.of(1L, 2L));
+
+        assertThat(result).containsOnlyKeys(1L);
+        assertThat(result.get(1L)).containsExactly(colDto);
+        verifyNoInteractions(ticketService);
+    }
+
     @Test
     void create_setsPositionAndSaves() {
         BoardColumnCreateDto dto = new BoardColumnCreateDto();
@@ -118,6 +153,7 @@ class BoardColumnServiceTest {
 
         assertThat(result).isNotNull();
         verify(columnRepository).save(argThat(c -> c.getPosition() == 3));
+        verify(counterService).recount(1L);
     }
 
     @Test
@@ -181,6 +217,30 @@ class BoardColumnServiceTest {
         boardColumnService.delete(10L);
 
         verify(columnRepository).deleteById(10L);
+        verify(counterService).recount(1L);
+    }
+
+    @Test
+    void delete_recordsCascadedTicketsLeavingBeforeTheDelete() {
+        Ticket first = new Ticket();
+        first.setId(1L);
+        first.setProject(project);
+        Ticket second = new Ticket();
+        second.setId(2L);
+        second.setProject(project);
+        second.setStoryPoints(10);
+        when(columnRepository.findById(10L)).thenReturn(Optional.of(column));
+        when(ticketRepository.findByColumnIdOrderByPositionAsc(10L)).thenReturn(List.of(first, second));
+
+        boardColumnService.delete(10L);
+
+        var order = inOrder(transitionService, columnRepository);
+        order.verify(transitionService).record(first, 10L, null);
+        order.verify(transitionService).record(second, 10L, null);
+        order.verify(transitionService).recordPoints(second, 10L, 10, null, null);
+        order.verify(columnRepository).deleteById(10L);
+        verify(eventPublisher).publishEvent(new TicketChangedEvent(1L, 1L, TicketChangedEvent.ChangeType.DELETED));
+        verify(eventPublisher).publishEvent(new TicketChangedEvent(2L, 1L, TicketChangedEvent.ChangeType.DELETED));
     }
 
     @Test
@@ -0,0 +1,100 @@
+package com.jiralike.service;
+
+import com.jiralike.dto.FacetBucketDto;
+import com.jiralike.dto.FacetCountsDto;
+import com.jiralike.entity.Ticket;
+import com.jiralike.repository.TicketRepository;
+import com.jiralike.repository.projection.FacetCountRow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoardFacetServiceTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private TicketFilterService filterService;
+
+    @InjectMocks
+    private BoardFacetService facetService;
+
+    private record Row(Integer getGrouping, String getPriority, String getTicketType,
+                       Long getAssigneeId, Long getColumnId, Long getCount) implements FacetCountRow {
+    }
+
+    private static FacetCountRow row(int grouping, String priority, String type, Long assigneeId, Long columnId, long count) {
+        return new Row(grouping, priority, type, assigneeId, columnId, count);
+    }
+
+    @Test
+    void getFacets_unfiltered_foldsGroupingSetsAndCachesPerVersion() {
+        when(projectService.getBoardVersionOrThrow(1L)).thenReturn(7L);
+        when(ticketRepository.countFacets(1L)).thenReturn(List.of(
+                row(0b0111, "HIGH", null, null, null, 3),
+                row(0b0111, "LOW", null, null, null, 2),
+                row(0b1011, null, "BUG", null, null, 5),
+                row(0b1101, null, null, 5L, null, 4),
+                row(0b1101, null, null, null, null, 1),
+                row(0b1110, null, null, null, 10L, 5),
+                row(0b1111, null, null, null, null, 5)));
+
+        FacetCountsDto facets = facetService.getFacets(1L, null, null);
+        facetService.getFacets(1L, " ", null);
+
+        assertThat(facets.getBoardVersion()).isEqualTo(7L);
+        assertThat(facets.getTotal()).isEqualTo(5);
+        assertThat(facets.getPriority()).containsExactly(
+                new FacetBucketDto("LOW", 2), new FacetBucketDto("MEDIUM", 0),
+                new FacetBucketDto("HIGH", 3), new FacetBucketDto("CRITICAL", 0));
+        assertThat(facets.getTicketType()).contains(new FacetBucketDto("BUG", 5), new FacetBucketDto("TASK", 0));
+        assertThat(facets.getAssignee()).containsExactly(new FacetBucketDto("5", 4), new FacetBucketDto(null, 1));
+        assertThat(facets.getColumn()).containsExactly(new FacetBucketDto("10", 5));
+        verify(ticketRepository, times(1)).countFacets(1L);
+    }
+
+    @Test
+    void getFacets_versionChange_recomputes() {
+        when(projectService.getBoardVersionOrThrow(1L)).thenReturn(1L, 2L);
+        when(ticketRepository.countFacets(1L)).thenReturn(List.of());
+
+        facetService.getFacets(1L, null, null);
+        FacetCountsDto second = facetService.getFacets(1L, null, null);
+
+        assertThat(second.getBoardVersion()).isEqualTo(2L);
+        verify(ticketRepository, times(2)).countFacets(1L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getFacets_filtered_foldsCombinationRows() {
+        Specification<Ticket> spec = mock(Specification.class);
+        when(projectService.getBoardVersionOrThrow(1L)).thenReturn(3L);
+        when(filterService.compileForProject(1L, "type = BUG", 5L)).thenReturn(spec);
+        when(ticketRepository.countFacetCombinations(spec)).thenReturn(List.of(
+                row(0, "HIGH", "BUG", 5L, 10L, 2),
+                row(0, "LOW", "BUG", null, 11L, 1)));
+
+        FacetCountsDto facets = facetService.getFacets(1L, "type = BUG", 5L);
+        facetService.getFacets(1L, "type = BUG", 5L);
+
+        assertThat(facets.getTotal()).isEqualTo(3);
+        assertThat(facets.getTicketType()).contains(new FacetBucketDto("BUG", 3));
+        assertThat(facets.getColumn()).containsExactly(new FacetBucketDto("10", 2), new FacetBucketDto("11", 1));
+        verify(ticketRepository, times(1)).countFacetCombinations(spec);
+        assertThat(facetService.getCache().getHits()).isEqualTo(1);
+    }
+}
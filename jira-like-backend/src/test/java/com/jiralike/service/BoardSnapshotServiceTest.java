@@ -0,0 +1,265 @@
+package com.jiralike.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jiralike.cache.BodyFormat;
+import com.jiralike.dto.BoardColumnDto;
+import com.jiralike.dto.BoardJsonCheckDto;
+import com.jiralike.dto.TicketDto;
+import com.jiralike.event.UserChangedEvent;
+import com.jiralike.event.UsersSyncedEvent;
+import com.jiralike.repository.BoardColumnRepository;
+import com.jiralike.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoardSnapshotServiceTest {
+
+    @Mock
+    private BoardColumnService columnService;
+
+    @Mock
+    private TicketService ticketService;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private BoardColumnRepository columnRepository;
+
+    private BoardSnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        snapshotService = service("dto");
+    }
+
+    private BoardSnapshotService service(String jsonSource) {
+        return new BoardSnapshotService(columnService, ticketService, projectRepository, columnRepository,
+                new ObjectMapper(), 50, jsonSource, 64 * 1024);
+    }
+
+    private BoardColumnDto column(String name) {
+        BoardColumnDto dto = new BoardColumnDto();
+        dto.setId(10L);
+        dto.setName(name);
+        dto.setTickets(List.of());
+        return dto;
+    }
+
+    private String json(BoardSnapshotService.Snapshot snapshot) {
+        return new String(snapshot.body().identity(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void getBoard_serializesOncePerVersion() {
+        when(projectRepository.findBoardVersion(1L)).thenReturn(3L);
+        when(columnService.findByProject(1L)).thenReturn(List.of(column("To Do")));
+
+        BoardSnapshotService.Snapshot first = snapshotService.getBoard(1L, BodyFormat.JSON);
+        BoardSnapshotService.Snapshot second = snapshotService.getBoard(1L, BodyFormat.JSON);
+
+        assertThat(json(first)).contains("\"name\":\"To Do\"");
+        assertThat(first.cached()).isFalse();
+        assertThat(second.cached()).isTrue();
+        assertThat(second.body()).isSameAs(first.body());
+        verify(columnService, times(1)).findByProject(1L);
+        assertThat(snapshotService.stats())
+                .startsWith("hits=1; misses=1; cachedBytes=" + first.body().size() + "; flights=1; collapsed=0");
+    }
+
+    @Test
+    void getBoard_newVersion_reloads() {
+        when(projectRepository.findBoardVersion(1L)).thenReturn(3L, 4L);
+        when(columnService.findByProject(1L)).thenReturn(List.of(column("To Do"))).thenReturn(List.of(column("Done")));
+
+        snapshotService.getBoard(1L, BodyFormat.JSON);
+        BoardSnapshotService.Snapshot second = snapshotService.getBoard(1L, BodyFormat.JSON);
+
+        assertThat(json(second)).contains("\"name\":\"Done\"");
+        assertThat(second.cached()).isFalse();
+    }
+
+    @Test
+    void getTickets_cachedSeparatelyFromBoard() {
+        TicketDto ticket = new TicketDto();
+        ticket.setId(100L);
+        when(projectRepository.findBoardVersion(1L)).thenReturn(3L);
+        when(columnService.findByProject(1L)).thenReturn(List.of(column("To Do")));
+        when(ticketService.findByProject(1L)).thenReturn(List.of(ticket));
+
+        snapshotService.getBoard(1L, BodyFormat.JSON);
+        BoardSnapshotService.Snapshot tickets = snapshotService.getTickets(1L, BodyFormat.JSON);
+
+        assertThat(json(tickets)).contains("\"id\":100");
+        assertThat(tickets.cached()).isFalse();
+        assertThat(snapshotService.getCache().size()).isEqualTo(2);
+    }
+
+    @Test
+    void getBoard_unknownProject_notCached() {
+        when(projectRepository.findBoardVersion(9L)).thenReturn(null);
+        when(columnService.findByProject(9L)).thenReturn(List.of());
+
+        BoardSnapshotService.Snapshot snapshot = snapshotService.getBoard(9L, BodyFormat.JSON);
+
+        assertThat(json(snapshot)).isEqualTo("[]");
+        assertThat(snapshotService.getCache().size()).isZero();
+        assertThat(snapshotService.getFlights().getFlights()).isZero();
+    }
+
+    @Test
+    void getBoard_loadFails_propagatesAndCachesNothing() {
+        when(projectRepository.findBoardVersion(1L)).thenReturn(3L);
+        when(columnService.findByProject(1L)).thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> snapshotService.getBoard(1L, BodyFormat.JSON)).hasMessage("db down");
+        assertThat(snapshotService.getFlights().getFailures()).isEqualTo(1);
+        assertThat(snapshotService.getCache().size()).isZero();
+    }
+
+    @Test
+    void getBoard_joinedFlightTooSlow_returns503() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(projectRepository.findBoardVersion(1L)).thenReturn(3L);
+        when(columnService.findByProject(1L)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(column("To Do"));
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<BoardSnapshotService.Snapshot> leader = executor.submit(() -> snapshotService.getBoard(1L, BodyFormat.JSON));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> snapshotService.getBoard(1L, BodyFormat.JSON))
+                    .isInstanceOfSatisfying(ResponseStatusException.class,
+                            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+
+            release.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS).shared()).isFalse();
+            verify(columnService, times(1)).findByProject(1L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void recordCompressed_countsBytesSaved() {
+        when(projectRepository.findBoardVersion(1L)).thenReturn(3L);
+        when(columnService.findByProject(1L)).thenReturn(List.of(column("x".repeat(4000))));
+        BoardSnapshotService.Snapshot snapshot = snapshotService.getBoard(1L, BodyFormat.JSON);
+
+        snapshotService.recordCompressed(snapshot.body());
+
+        long saved = snapshot.body().identity().length - snapshot.body().gzip().length;
+        assertThat(snapshotService.stats()).endsWith("; bytesSaved=" + saved);
+    }
+
+    @Test
+    void userEvents_clearCache() {
+        when(projectRepository.findBoardVersion(1L)).thenReturn(3L);
+        when(columnService.findByProject(1L)).thenReturn(List.of(column("To Do")));
+        snapshotService.getBoard(1L, BodyFormat.JSON);
+
+        snapshotService.onUserChanged(new UserChangedEvent(5L, null, UserChangedEvent.ChangeType.UPDATED));
+        assertThat(snapshotService.getCache().size()).isZero();
+
+        snapshotService.getBoard(1L, BodyFormat.JSON);
+        snapshotService.onUsersSynced(new UsersSyncedEvent(1, 0));
+        assertThat(snapshotService.getCache().size()).isZero();
+    }
+
+    @Test
+    void userChangeDuringLoad_loadIsNotCached() {
+        when(projectRepository.findBoardVersion(1L)).thenReturn(3L);
+        when(columnService.findByProject(1L)).thenAnswer(invocation -> {
+            // the rename commits while the board is being read with the old name
+            snapshotService.onUserChanged(new UserChangedEvent(5L, null, UserChangedEvent.ChangeType.UPDATED));
+            return List.of(column("To Do"));
+        }).thenReturn(List.of(column("To Do")));
+
+        snapshotService.getBoard(1L, BodyFormat.JSON);
+        assertThat(snapshotService.getCache().size()).isZero();
+
+        BoardSnapshotService.Snapshot reloaded = snapshotService.getBoard(1L, BodyFormat.JSON);
+        assertThat(reloaded.cached()).isFalse();
+        assertThat(snapshotService.getCache().size()).isEqualTo(1);
+        verify(columnService, times(2)).findByProject(1L);
+    }
+
+    @Test
+    void getBoard_sqlSource_usesDatabaseDocument() {
+        BoardSnapshotService sqlService = service("sql");
+        when(projectRepository.findBoardVersion(1L)).thenReturn(3L);
+        when(columnRepository.findBoardJson(1L)).thenReturn("[{\"id\":10}]");
+
+        BoardSnapshotService.Snapshot snapshot = sqlService.getBoard(1L, BodyFormat.JSON);
+
+        assertThat(json(snapshot)).isEqualTo("[{\"id\":10}]");
+        verifyNoInteractions(columnService);
+    }
+
+    @Test
+    void getBoard_sqlSourceBinaryFormat_serializesDtosPerFormat() throws Exception {
+        BoardSnapshotService sqlService = service("sql");
+        when(projectRepository.findBoardVersion(1L)).thenReturn(3L);
+        when(columnService.findByProject(1L)).thenReturn(List.of(column("To Do")));
+
+        BoardSnapshotService.Snapshot cbor = sqlService.getBoard(1L, BodyFormat.CBOR);
+        BoardSnapshotService.Snapshot smile = sqlService.getBoard(1L, BodyFormat.SMILE);
+
+        ObjectMapper cborMapper = BodyFormat.CBOR.mapper(new ObjectMapper());
+        assertThat(cborMapper.readTree(cbor.body().identity()).get(0).get("name").asText()).isEqualTo("To Do");
+        assertThat(smile.body().identity()).startsWith(new byte[]{':', ')', '\n'});
+        assertThat(sqlService.getCache().size()).isEqualTo(2);
+        verify(columnRepository, never()).findBoardJson(any());
+    }
+
+    @Test
+    void checkSqlJson_identicalDocuments_matches() throws Exception {
+        BoardColumnDto column = column("To Do");
+        when(columnService.findByProject(1L)).thenReturn(List.of(column));
+        when(columnRepository.findBoardJson(1L)).thenReturn(new ObjectMapper().writeValueAsString(List.of(column)));
+
+        BoardJsonCheckDto check = snapshotService.checkSqlJson(1L);
+
+        assertThat(check.isMatches()).isTrue();
+        assertThat(check.getFirstDifference()).isEqualTo(-1);
+        assertThat(check.getSqlBytes()).isEqualTo(check.getDtoBytes());
+        assertThat(check.getDtoExcerpt()).isNull();
+    }
+
+    @Test
+    void checkSqlJson_differentDocuments_reportsFirstDifference() throws Exception {
+        BoardColumnDto column = column("To Do");
+        when(columnService.findByProject(1L)).thenReturn(List.of(column));
+        String dto = new ObjectMapper().writeValueAsString(List.of(column));
+        when(columnRepository.findBoardJson(1L)).thenReturn(dto.replace("\"To Do\"", "\"To do\""));
+
+        BoardJsonCheckDto check = snapshotService.checkSqlJson(1L);
+
+        assertThat(check.isMatches()).isFalse();
+        assertThat(check.getFirstDifference()).isEqualTo(dto.indexOf("Do\""));
+        assertThat(check.getDtoExcerpt()).contains("To Do");
+        assertThat(check.getSqlExcerpt()).contains("To do");
+    }
+}
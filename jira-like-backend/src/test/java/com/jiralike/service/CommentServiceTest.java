@@ -2,26 +2,33 @@ package com.jiralike.service;
 
 import com.jiralike.dto.CommentCreateDto;
 import com.jiralike.dto.CommentDto;
+import com.jiralike.dto.CommentPageDto;
 import com.jiralike.dto.UserDto;
 import com.jiralike.entity.AppUser;
 import com.jiralike.entity.BoardColumn;
 import com.jiralike.entity.Comment;
 import com.jiralike.entity.Project;
 import com.jiralike.entity.Ticket;
+import com.jiralike.event.MentionEvent;
 import com.jiralike.repository.CommentRepository;
 import com.jiralike.repository.TicketRepository;
+import com.jiralike.repository.projection.LatestCommentRow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -40,6 +47,15 @@ class CommentServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private MarkdownService markdownService;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -79,25 +95,47 @@ class CommentServiceTest {
     }
 
     @Test
-    void findByTicket_returnsMappedComments() {
+    void findPage_firstPage_returnsMappedCommentsWithoutCursor() {
         UserDto authorDto = new UserDto();
         authorDto.setId(5L);
         authorDto.setUsername("jdoe");
 
-        when(commentRepository.findByTicketIdOrderByCreatedAtAsc(100L)).thenReturn(List.of(comment));
+        when(commentRepository.findFirstPage(100L, PageRequest.of(0, 100))).thenReturn(List.of(comment));
         when(userService.toDto(author)).thenReturn(authorDto);
 
-        List<CommentDto> result = commentService.findByTicket(100L);
+        CommentPageDto result = commentService.findPage(100L, null, null);
+
+        assertThat(result.getComments()).hasSize(1);
+        assertThat(result.getComments().get(0).getContent()).isEqualTo("Great work!");
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void findPage_fullPage_returnsCursorOfLastComment() {
+        comment.setCreatedAt(Instant.parse("2024-05-01T10:15:30.123456Z"));
+        when(commentRepository.findFirstPage(100L, PageRequest.of(0, 1))).thenReturn(List.of(comment));
+
+        CommentPageDto result = commentService.findPage(100L, null, 1);
 
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getContent()).isEqualTo("Great work!");
+        assertThat(result.getNextCursor()).isEqualTo("2024-05-01T10:15:30.123456Z_200");
     }
 
     @Test
-    void findByTicket_empty_returnsEmpty() {
-        when(commentRepository.findByTicketIdOrderByCreatedAtAsc(100L)).thenReturn(List.of());
+    void findPage_withCursor_continuesAfterKey() {
+        when(commentRepository.findPageAfter(100L, Instant.parse("2024-05-01T10:15:30.123456Z"), 200L,
+                PageRequest.of(0, 500))).thenReturn(List.of());
+
+        CommentPageDto result = commentService.findPage(100L, "2024-05-01T10:15:30.123456Z_200", 1000);
 
-        assertThat(commentService.findByTicket(100L)).isEmpty();
+        assertThat(result.getComments()).isEmpty();
+    }
+
+    @Test
+    void findPage_invalidCursor_throwsBadRequest() {
+        assertThatThrownBy(() -> commentService.findPage(100L, "yesterday", null))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
+                        .isEqualTo(HttpStatus.BAD_REQUEST));
     }
 
     @Test
@@ -123,6 +161,41 @@ class CommentServiceTest {
         assertThat(result.getContent()).isEqualTo("New comment");
         assertThat(result.getTicketId()).isEqualTo(100L);
         verify(commentRepository).save(any(Comment.class));
+        verify(projectService).touchBoard(1L);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void create_withMentions_publishesMentionEvent() {
+        CommentCreateDto dto = new CommentCreateDto();
+        dto.setContent("@alice @bob please review");
+        dto.setAuthorId(5L);
+
+        when(ticketRepository.findById(100L)).thenReturn(Optional.of(ticket));
+        when(userService.getUserOrThrow(5L)).thenReturn(author);
+        when(commentRepository.save(any(Comment.class))).thenAnswer(inv -> {
+            Comment c = inv.getArgument(0);
+            c.setId(201L);
+            return c;
+        });
+
+        commentService.create(100L, dto);
+
+        verify(eventPublisher).publishEvent(new MentionEvent(100L, 201L, 5L, Set.of("alice", "bob")));
+    }
+
+    @Test
+    void update_onlyNewMentions_arePublished() {
+        comment.setContent("cc @alice");
+        CommentCreateDto dto = new CommentCreateDto();
+        dto.setContent("cc @alice @carol");
+
+        when(commentRepository.findById(200L)).thenReturn(Optional.of(comment));
+        when(commentRepository.save(comment)).thenReturn(comment);
+
+        commentService.update(200L, dto);
+
+        verify(eventPublisher).publishEvent(new MentionEvent(100L, 200L, 5L, Set.of("carol")));
     }
 
     @Test
@@ -158,6 +231,7 @@ class CommentServiceTest {
 
         assertThat(result.getContent()).isEqualTo("Updated content");
         verify(commentRepository).save(comment);
+        verify(markdownService).evict("Great work!");
     }
 
     @Test
@@ -177,6 +251,7 @@ class CommentServiceTest {
         commentService.delete(200L);
 
         verify(commentRepository).deleteById(200L);
+        verify(projectService).touchBoard(1L);
     }
 
     @Test
@@ -198,8 +273,10 @@ class CommentServiceTest {
         authorDto.setUsername("jdoe");
 
         when(userService.toDto(author)).thenReturn(authorDto);
+        when(markdownService.render("Great work!")).thenReturn("<p>Great work!</p>\n");
 
         CommentDto dto = commentService.toDto(comment);
+        assertThat(dto.getRendered()).isEqualTo("<p>Great work!</p>\n");
 
         assertThat(dto.getId()).isEqualTo(200L);
         assertThat(dto.getContent()).isEqualTo("Great work!");
@@ -208,4 +285,65 @@ class CommentServiceTest {
         assertThat(dto.getCreatedAt()).isNotNull();
         assertThat(dto.getUpdatedAt()).isNotNull();
     }
+
+    @Test
+    void findPages_groupsRowsByTicket() {
+        long micros = 1_714_558_530_123_456L;
+        when(commentRepository.findPageByTicketIds(List.of(100L, 101L), 2, 7L)).thenReturn(List.of(
+                new LatestRow(8L, 100L, "First", micros, micros, 5L, "jdoe", "j@x.io", "J Doe", null, micros),
+                new LatestRow(9L, 100L, "Second", micros, micros, 5L, "jdoe", "j@x.io", "J Doe", null, micros)));
+
+        Map<Long, List<CommentDto>> result = commentService.findPages(List.of(100L, 101L), 2, 7L);
+
+        assertThat(result).containsOnlyKeys(100L);
+        assertThat(result.get(100L)).extracting(CommentDto::getContent).containsExactly("First", "Second");
+    }
+
+    @Test
+    void findPages_firstOutOfRange_throwsBadRequest() {
+        assertThatThrownBy(() -> commentService.findPages(List.of(100L), 0, null))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
+                        .isEqualTo(HttpStatus.BAD_REQUEST));
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    void findLatest_groupsRowsByTicketInRequestOrder() {
+        long micros = 1_714_558_530_123_456L;
+        when(commentRepository.findLatestByTicketIds(Set.of(2L, 1L), 1)).thenReturn(List.of(
+                new LatestRow(9L, 2L, "Newest", micros, micros, 5L, "jdoe", "j@x.io", "J Doe", null, micros)));
+
+        Map<Long, List<CommentDto>> result = commentService.findLatest(List.of(2L, 1L, 2L), null);
+
+        assertThat(result).containsOnlyKeys(2L, 1L);
+        assertThat(result.keySet()).containsExactly(2L, 1L);
+        assertThat(result.get(1L)).isEmpty();
+        CommentDto dto = result.get(2L).get(0);
+        assertThat(dto.getContent()).isEqualTo("Newest");
+        assertThat(dto.getCreatedAt()).isEqualTo(Instant.parse("2024-05-01T10:15:30.123456Z"));
+        assertThat(dto.getAuthor().getDisplayName()).isEqualTo("J Doe");
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void findLatest_invalidPerTicket_throwsBadRequest() {
+        assertThatThrownBy(() -> commentService.findLatest(List.of(1L), 21))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
+                        .isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    void findLatest_noTicketIds_throwsBadRequest() {
+        assertThatThrownBy(() -> commentService.findLatest(List.of(), 1))
+                .isInstanceOf(ResponseStatusException.class);
+        verifyNoInteractions(commentRepository);
+    }
+
+    private record LatestRow(Long getId, Long getTicketId, String getContent, Long getCreatedAtMicros,
+                             Long getUpdatedAtMicros, Long getAuthorId, String getAuthorUsername,
+                             String getAuthorEmail, String getAuthorDisplayName, String getAuthorAvatarUrl,
+                             Long getAuthorCreatedAtMicros) implements LatestCommentRow {
+    }
 }
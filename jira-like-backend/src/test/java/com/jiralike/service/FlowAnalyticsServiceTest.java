@@ -0,0 +1,228 @@
+package com.jiralike.service;
+
+import com.jiralike.dto.BurndownDto;
+import com.jiralike.dto.CumulativeFlowDto;
+import com.jiralike.dto.CycleTimeDto;
+import com.jiralike.dto.VelocityDto;
+import com.jiralike.entity.BoardColumn;
+import com.jiralike.repository.BoardColumnRepository;
+import com.jiralike.repository.TicketTransitionRepository;
+import com.jiralike.repository.projection.BurndownRow;
+import com.jiralike.repository.projection.CumulativeFlowRow;
+import com.jiralike.repository.projection.FlowTimePercentiles;
+import com.jiralike.repository.projection.VelocityRow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FlowAnalyticsServiceTest {
+
+    @Mock
+    private TicketTransitionRepository transitionRepository;
+
+    @Mock
+    private BoardColumnRepository columnRepository;
+
+    @Mock
+    private ProjectService projectService;
+
+    @InjectMocks
+    private FlowAnalyticsService analyticsService;
+
+    private record Row(Long getColumnId, Integer getDayIndex, Long getCount) implements CumulativeFlowRow {
+    }
+
+    private record Percentiles(Long getCompleted, Double getCycleP50, Double getCycleP85, Double getCycleP95,
+                               Double getLeadP50, Double getLeadP85, Double getLeadP95) implements FlowTimePercentiles {
+    }
+
+    private record PointsRow(Long getColumnId, Integer getDayIndex, Long getPoints,
+                             Long getAdded, Long getRemoved) implements BurndownRow {
+    }
+
+    private record WeekRow(String getWeekStart, Long getPoints) implements VelocityRow {
+    }
+
+    private static BoardColumn column(Long id, String name) {
+        BoardColumn column = new BoardColumn();
+        column.setId(id);
+        column.setName(name);
+        return column;
+    }
+
+    @Test
+    void cumulativeFlow_buildsOneSeriesPerColumnInBoardOrder() {
+        LocalDate from = LocalDate.of(2024, 3, 1);
+        LocalDate to = LocalDate.of(2024, 3, 3);
+        when(transitionRepository.cumulativeFlow(1L, from, to)).thenReturn(List.of(
+                new Row(10L, 0, 4L), new Row(10L, 1, 3L), new Row(10L, 2, 2L),
+                new Row(20L, 0, 0L), new Row(20L, 1, 1L), new Row(20L, 2, 2L)));
+        when(columnRepository.findByProjectIdOrderByPositionAscIdAsc(1L))
+                .thenReturn(List.of(column(10L, "To Do"), column(20L, "Done"), column(30L, "New")));
+
+        CumulativeFlowDto result = analyticsService.cumulativeFlow(1L, from, to);
+
+        assertThat(result.getFrom()).isEqualTo(from);
+        assertThat(result.getSeries()).hasSize(3);
+        assertThat(result.getSeries().get(0).getCounts()).containsExactly(4L, 3L, 2L);
+        assertThat(result.getSeries().get(1).getColumnName()).isEqualTo("Done");
+        assertThat(result.getSeries().get(1).getCounts()).containsExactly(0L, 1L, 2L);
+        assertThat(result.getSeries().get(2).getCounts()).containsExactly(0L, 0L, 0L);
+    }
+
+    @Test
+    void cumulativeFlow_keepsDeletedColumnsWithHistoryAfterTheBoard() {
+        LocalDate from = LocalDate.of(2024, 3, 1);
+        LocalDate to = LocalDate.of(2024, 3, 2);
+        when(transitionRepository.cumulativeFlow(1L, from, to)).thenReturn(List.of(
+                new Row(10L, 0, 1L), new Row(10L, 1, 1L),
+                new Row(5L, 0, 3L), new Row(5L, 1, 0L),
+                new Row(7L, 0, 0L), new Row(7L, 1, 0L)));
+        when(columnRepository.findByProjectIdOrderByPositionAscIdAsc(1L)).thenReturn(List.of(column(10L, "To Do")));
+
+        CumulativeFlowDto result = analyticsService.cumulativeFlow(1L, from, to);
+
+        assertThat(result.getSeries()).extracting("columnId").containsExactly(10L, 5L);
+        assertThat(result.getSeries().get(1).getColumnName()).isNull();
+        assertThat(result.getSeries().get(1).getCounts()).containsExactly(3L, 0L);
+    }
+
+    @Test
+    void cumulativeFlow_defaultsToLast30Days() {
+        CumulativeFlowDto result = analyticsService.cumulativeFlow(1L, null, LocalDate.of(2024, 3, 30));
+
+        assertThat(result.getFrom()).isEqualTo(LocalDate.of(2024, 3, 1));
+        verify(transitionRepository).cumulativeFlow(1L, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 30));
+    }
+
+    @Test
+    void cumulativeFlow_fromAfterTo_throwsBadRequest() {
+        assertThatThrownBy(() -> analyticsService.cumulativeFlow(1L, LocalDate.of(2024, 3, 2), LocalDate.of(2024, 3, 1)))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
+                        .isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    void cumulativeFlow_rangeTooLong_throwsBadRequest() {
+        assertThatThrownBy(() -> analyticsService.cumulativeFlow(1L, LocalDate.of(2022, 1, 1), LocalDate.of(2024, 1, 1)))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
+                        .isEqualTo(HttpStatus.BAD_REQUEST));
+        verifyNoInteractions(transitionRepository);
+    }
+
+    @Test
+    void cycleTime_mapsPercentiles() {
+        when(transitionRepository.flowTimePercentiles(eq(1L), any(Instant.class), any(Instant.class)))
+                .thenReturn(new Percentiles(12L, 10.0, 30.0, 48.0, 20.0, 60.0, 90.0));
+
+        CycleTimeDto result = analyticsService.cycleTime(1L, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+
+        assertThat(result.getCompleted()).isEqualTo(12);
+        assertThat(result.getCycleTimeHours().getP85()).isEqualTo(30.0);
+        assertThat(result.getLeadTimeHours().getP95()).isEqualTo(90.0);
+        verify(transitionRepository).flowTimePercentiles(1L,
+                Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2025-01-01T00:00:00Z"));
+    }
+
+    @Test
+    void cycleTime_projectNotFound_throwsNotFound() {
+        when(projectService.getProjectOrThrow(9L))
+                .thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found: 9"));
+
+        assertThatThrownBy(() -> analyticsService.cycleTime(9L, null, null))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void burndown_splitsRemainingAndCompletedByDoneColumn() {
+        LocalDate from = LocalDate.of(2024, 3, 1);
+        LocalDate to = LocalDate.of(2024, 3, 2);
+        when(columnRepository.findFirstByProjectIdOrderByPositionDescIdDesc(1L))
+                .thenReturn(Optional.of(column(30L, "Done")));
+        when(transitionRepository.burndown(1L, from, to)).thenReturn(List.of(
+                new PointsRow(10L, 0, 8L, 0L, 0L), new PointsRow(10L, 1, 5L, 2L, 0L),
+                new PointsRow(20L, 0, 3L, 0L, 0L), new PointsRow(20L, 1, 3L, 0L, 1L),
+                new PointsRow(30L, 0, 0L, 0L, 0L), new PointsRow(30L, 1, 4L, 0L, 0L)));
+
+        BurndownDto result = analyticsService.burndown(1L, from, to);
+
+        assertThat(result.getDoneColumnId()).isEqualTo(30L);
+        assertThat(result.getDays()).hasSize(2);
+        assertThat(result.getDays().get(0).getRemaining()).isEqualTo(11);
+        assertThat(result.getDays().get(1).getDate()).isEqualTo(to);
+        assertThat(result.getDays().get(1).getRemaining()).isEqualTo(8);
+        assertThat(result.getDays().get(1).getCompleted()).isEqualTo(4);
+        assertThat(result.getDays().get(1).getAdded()).isEqualTo(2);
+        assertThat(result.getDays().get(1).getRemoved()).isEqualTo(1);
+    }
+
+    @Test
+    void burndown_keepsScopeOfDeletedColumns() {
+        LocalDate from = LocalDate.of(2024, 3, 1);
+        LocalDate to = LocalDate.of(2024, 3, 2);
+        when(columnRepository.findFirstByProjectIdOrderByPositionDescIdDesc(1L))
+                .thenReturn(Optional.of(column(30L, "Done")));
+        // column 5 was deleted on the second day with its 10-point ticket
+        when(transitionRepository.burndown(1L, from, to)).thenReturn(List.of(
+                new PointsRow(5L, 0, 10L, 10L, 0L), new PointsRow(5L, 1, 0L, 0L, 10L),
+                new PointsRow(30L, 0, 0L, 0L, 0L), new PointsRow(30L, 1, 0L, 0L, 0L)));
+
+        BurndownDto result = analyticsService.burndown(1L, from, to);
+
+        assertThat(result.getDays().get(0).getRemaining()).isEqualTo(10);
+        assertThat(result.getDays().get(0).getAdded()).isEqualTo(10);
+        assertThat(result.getDays().get(1).getRemaining()).isZero();
+        assertThat(result.getDays().get(1).getRemoved()).isEqualTo(10);
+    }
+
+    @Test
+    void velocity_fillsMissingWeeksAndAverages() {
+        LocalDate thisWeek = LocalDate.now(ZoneOffset.UTC).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        when(columnRepository.findFirstByProjectIdOrderByPositionDescIdDesc(1L))
+                .thenReturn(Optional.of(column(30L, "Done")));
+        when(transitionRepository.velocity(eq(1L), eq(30L), eq(thisWeek.minusWeeks(2)), any(LocalDate.class)))
+                .thenReturn(List.of(new WeekRow(thisWeek.minusWeeks(2).toString(), 6L), new WeekRow(thisWeek.toString(), 3L)));
+
+        VelocityDto result = analyticsService.velocity(1L, 3);
+
+        assertThat(result.getWeeks()).extracting("points").containsExactly(6L, 0L, 3L);
+        assertThat(result.getAverage()).isEqualTo(3.0);
+    }
+
+    @Test
+    void velocity_noColumns_returnsZeroWeeks() {
+        VelocityDto result = analyticsService.velocity(1L, null);
+
+        assertThat(result.getWeeks()).hasSize(8);
+        assertThat(result.getDoneColumnId()).isNull();
+        verify(transitionRepository, never()).velocity(any(), any(), any(), any());
+    }
+
+    @Test
+    void velocity_tooManyWeeks_throwsBadRequest() {
+        assertThatThrownBy(() -> analyticsService.velocity(1L, 53))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
+                        .isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+}
@@ -0,0 +1,59 @@
+package com.jiralike.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MarkdownServiceTest {
+
+    private final MarkdownService markdownService = new MarkdownService();
+
+    @Test
+    void render_formatsMarkdownAndTables() {
+        String html = markdownService.render("**bold**\n\n| a | b |\n|---|---|\n| 1 | 2 |\n");
+
+        assertThat(html).contains("<strong>bold</strong>").contains("<table>").contains("<td>2</td>");
+    }
+
+    @Test
+    void render_escapesRawHtmlAndUnsafeLinks() {
+        String html = markdownService.render("<script>alert(1)</script>\n\n[x](javascript:alert(1))");
+
+        assertThat(html).doesNotContain("<script>").contains("&lt;script&gt;");
+        assertThat(html).doesNotContain("javascript:");
+    }
+
+    @Test
+    void render_blank_returnsNull() {
+        assertThat(markdownService.render(null)).isNull();
+        assertThat(markdownService.render("  ")).isNull();
+        assertThat(markdownService.size()).isZero();
+    }
+
+    @Test
+    void render_sameText_servedFromCache() {
+        String first = markdownService.render("# Title");
+        String second = markdownService.render("# Title");
+
+        assertThat(second).isSameAs(first);
+        assertThat(markdownService.size()).isEqualTo(1);
+    }
+
+    @Test
+    void evict_removesCachedRendering() {
+        markdownService.render("# Title");
+        markdownService.evict("# Title");
+        markdownService.evict(null);
+
+        assertThat(markdownService.size()).isZero();
+    }
+
+    @Test
+    void render_isBoundedByCacheSize() {
+        for (int i = 0; i <= MarkdownService.CACHE_SIZE; i++) {
+            markdownService.render("item " + i);
+        }
+
+        assertThat(markdownService.size()).isEqualTo(MarkdownService.CACHE_SIZE);
+    }
+}
@@ -0,0 +1,33 @@
+package com.jiralike.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MentionParserTest {
+
+    @Test
+    void parse_extractsDistinctMentionsInOrder() {
+        assertThat(MentionParser.parse("@bob and @alice, then @bob again"))
+                .containsExactly("bob", "alice");
+    }
+
+    @Test
+    void parse_dropsTrailingPunctuationAndKeepsInnerDots() {
+        assertThat(MentionParser.parse("Thanks @j.doe. Also (@ann-lee)."))
+                .containsExactly("j.doe", "ann-lee");
+    }
+
+    @Test
+    void parse_ignoresEmailAddressesAndNull() {
+        assertThat(MentionParser.parse("mail jdoe@example.com")).isEmpty();
+        assertThat(MentionParser.parse("@@x")).isEmpty();
+        assertThat(MentionParser.parse(null)).isEmpty();
+    }
+
+    @Test
+    void added_returnsOnlyNewMentions() {
+        assertThat(MentionParser.added("@alice", "@alice @carol")).containsExactly("carol");
+        assertThat(MentionParser.added(null, "@alice")).containsExactly("alice");
+    }
+}
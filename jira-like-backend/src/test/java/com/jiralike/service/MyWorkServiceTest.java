@@ -0,0 +1,99 @@
+package com.jiralike.service;
+
+import com.jiralike.dto.TicketSummaryPageDto;
+import com.jiralike.entity.BoardColumn;
+import com.jiralike.entity.Ticket;
+import com.jiralike.repository.TicketRepository;
+import com.jiralike.repository.projection.TicketSummaryRow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MyWorkServiceTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private UserService userService;
+
+    @InjectMocks
+    private MyWorkService myWorkService;
+
+    private record Row(Long getId, String getTitle, String getPriority, String getTicketType, Integer getStoryPoints,
+                       String getDueDate, Long getProjectId, String getProjectKey, Long getColumnId,
+                       String getColumnName, String getCategory) implements TicketSummaryRow {
+    }
+
+    private static Row row(long id, String dueDate) {
+        return new Row(id, "Ticket " + id, "HIGH", "BUG", 3, dueDate, 1L, "TEST", 10L, "In Progress", "IN_PROGRESS");
+    }
+
+    @Test
+    void findAssigned_defaults_queryAllPrioritiesAndOpenCategories() {
+        when(ticketRepository.findAssigned(5L, List.of("LOW", "MEDIUM", "HIGH", "CRITICAL"),
+                List.of("TODO", "IN_PROGRESS"), null, null, null, 25))
+                .thenReturn(List.of(row(100L, "2024-05-01")));
+
+        TicketSummaryPageDto page = myWorkService.findAssigned(5L, null, null, null, null, null);
+
+        assertThat(page.getResults()).hasSize(1);
+        assertThat(page.getResults().get(0).getPriority()).isEqualTo(Ticket.Priority.HIGH);
+        assertThat(page.getResults().get(0).getDueDate()).isEqualTo(LocalDate.of(2024, 5, 1));
+        assertThat(page.getResults().get(0).getCategory()).isEqualTo(BoardColumn.Category.IN_PROGRESS);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void findAssigned_fullPage_setsCursorWithUndatedSentinel() {
+        when(ticketRepository.findAssigned(eq(5L), eq(List.of("CRITICAL")), eq(List.of("DONE")),
+                eq(LocalDate.of(2024, 6, 1)), any(), any(), eq(2)))
+                .thenReturn(List.of(row(100L, "2024-05-01"), row(101L, null)));
+
+        TicketSummaryPageDto page = myWorkService.findAssigned(5L, List.of(Ticket.Priority.CRITICAL),
+                LocalDate.of(2024, 6, 1), List.of(BoardColumn.Category.DONE), null, 2);
+
+        assertThat(page.getResults().get(1).getDueDate()).isNull();
+        assertThat(page.getNextCursor()).isEqualTo("9999-12-31_101");
+    }
+
+    @Test
+    void findAssigned_withCursor_passesKeyset() {
+        myWorkService.findAssigned(5L, null, null, null, "2024-05-01_100", 500);
+
+        verify(ticketRepository).findAssigned(eq(5L), any(), any(), isNull(),
+                eq(LocalDate.of(2024, 5, 1)), eq(100L), eq(100));
+    }
+
+    @Test
+    void findAssigned_invalidCursor_throwsBadRequest() {
+        assertThatThrownBy(() -> myWorkService.findAssigned(5L, null, null, null, "bogus", null))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
+                        .isEqualTo(HttpStatus.BAD_REQUEST));
+        verify(ticketRepository, never()).findAssigned(any(), any(), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void findAssigned_unknownUser_throwsNotFound() {
+        when(userService.getUserOrThrow(9L))
+                .thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found: 9"));
+
+        assertThatThrownBy(() -> myWorkService.findAssigned(9L, null, null, null, null, null))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+}
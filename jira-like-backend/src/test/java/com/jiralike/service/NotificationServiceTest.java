@@ -0,0 +1,173 @@
+package com.jiralike.service;
+
+import com.jiralike.dto.NotificationDto;
+import com.jiralike.entity.AppUser;
+import com.jiralike.entity.Notification;
+import com.jiralike.event.MentionEvent;
+import com.jiralike.repository.AppUserRepository;
+import com.jiralike.repository.NotificationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private AppUserRepository userRepository;
+
+    @InjectMocks
+    private NotificationService notificationService;
+
+    private static AppUser user(Long id, String username) {
+        AppUser user = new AppUser();
+        user.setId(id);
+        user.setUsername(username);
+        return user;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_resolvesUsernamesOnceAndCountsPerRecipient() {
+        notificationService.onMention(new MentionEvent(100L, 200L, 1L, Set.of("alice", "bob", "ghost")));
+        notificationService.onMention(new MentionEvent(101L, null, null, Set.of("alice", "self")));
+        notificationService.onMention(new MentionEvent(102L, 201L, 9L, Set.of("self")));
+        when(userRepository.findByUsernameIn(Set.of("alice", "bob", "ghost", "self")))
+                .thenReturn(List.of(user(2L, "alice"), user(3L, "bob"), user(9L, "self")));
+        when(notificationRepository.lockExistingTicketIds(Set.of(100L, 101L, 102L))).thenReturn(List.of(100L, 101L, 102L));
+        when(notificationRepository.lockExistingCommentIds(Set.of(200L, 201L))).thenReturn(List.of(200L, 201L));
+
+        int written = notificationService.flush();
+
+        // ghost is unknown; "self" mentioning themselves on ticket 102 is skipped
+        assertThat(written).isEqualTo(4);
+        ArgumentCaptor<List<Notification>> saved = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(Notification::getUserId).containsExactlyInAnyOrder(2L, 3L, 2L, 9L);
+        verify(notificationRepository).addUnread(2L, 2);
+        verify(notificationRepository).addUnread(3L, 1);
+        verify(notificationRepository).addUnread(9L, 1);
+        verify(userRepository, times(1)).findByUsernameIn(anyCollection());
+        assertThat(notificationService.queuedCount()).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_skipsMentionsOfDeletedTicketsAndComments() {
+        notificationService.onMention(new MentionEvent(100L, 200L, 1L, Set.of("alice")));
+        notificationService.onMention(new MentionEvent(101L, null, 1L, Set.of("alice")));
+        notificationService.onMention(new MentionEvent(102L, 202L, 1L, Set.of("alice")));
+        when(userRepository.findByUsernameIn(Set.of("alice"))).thenReturn(List.of(user(2L, "alice")));
+        // ticket 101 was deleted while queued, and comment 202 with it
+        when(notificationRepository.lockExistingTicketIds(Set.of(100L, 101L, 102L))).thenReturn(List.of(100L, 102L));
+        when(notificationRepository.lockExistingCommentIds(Set.of(200L, 202L))).thenReturn(List.of(200L));
+
+        int written = notificationService.flush();
+
+        assertThat(written).isEqualTo(1);
+        ArgumentCaptor<List<Notification>> saved = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(Notification::getTicketId).containsExactly(100L);
+        verify(notificationRepository).addUnread(2L, 1);
+    }
+
+    @Test
+    void flush_emptyQueue_doesNothing() {
+        assertThat(notificationService.flush()).isZero();
+        verifyNoInteractions(userRepository, notificationRepository);
+    }
+
+    @Test
+    void flush_noKnownUsers_writesNothing() {
+        notificationService.onMention(new MentionEvent(100L, 200L, 1L, Set.of("ghost")));
+        when(userRepository.findByUsernameIn(Set.of("ghost"))).thenReturn(List.of());
+
+        assertThat(notificationService.flush()).isZero();
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    void flush_writesAtMostOneBatch() {
+        for (int i = 0; i < NotificationService.BATCH_SIZE + 3; i++) {
+            notificationService.onMention(new MentionEvent((long) i, null, null, Set.of("ghost")));
+        }
+        when(userRepository.findByUsernameIn(Set.of("ghost"))).thenReturn(List.of());
+
+        notificationService.flush();
+
+        assertThat(notificationService.queuedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void onMention_queueFull_dropsEvent() {
+        for (int i = 0; i < NotificationService.QUEUE_CAPACITY + 1; i++) {
+            notificationService.onMention(new MentionEvent((long) i, null, null, Set.of("x")));
+        }
+
+        assertThat(notificationService.queuedCount()).isEqualTo(NotificationService.QUEUE_CAPACITY);
+    }
+
+    @Test
+    void getUnreadCount_missingRow_returnsZero() {
+        when(notificationRepository.findUnreadCount(1L)).thenReturn(null);
+        when(notificationRepository.findUnreadCount(2L)).thenReturn(4);
+
+        assertThat(notificationService.getUnreadCount(1L)).isZero();
+        assertThat(notificationService.getUnreadCount(2L)).isEqualTo(4);
+    }
+
+    @Test
+    void findLatest_mapsReadState() {
+        Notification unread = new Notification(5L, 1L, 100L, 200L, 2L, Instant.now(), null);
+        Notification read = new Notification(4L, 1L, 100L, null, null, Instant.now(), Instant.now());
+        when(notificationRepository.findLatest(1L, PageRequest.of(0, 50))).thenReturn(List.of(unread, read));
+
+        List<NotificationDto> result = notificationService.findLatest(1L, null);
+
+        assertThat(result).extracting(NotificationDto::isRead).containsExactly(false, true);
+        assertThat(result.get(0).getCommentId()).isEqualTo(200L);
+    }
+
+    @Test
+    void findLatest_invalidLimit_throwsBadRequest() {
+        assertThatThrownBy(() -> notificationService.findLatest(1L, 0))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
+                        .isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    void markAllRead_resetsCounter() {
+        notificationService.markAllRead(1L);
+
+        verify(notificationRepository).markAllRead(1L);
+        verify(notificationRepository).resetUnread(1L);
+    }
+
+    @Test
+    void reconcileUnreadCounts_runsRepairQuery() {
+        when(notificationRepository.reconcileUnreadCounts()).thenReturn(2);
+
+        notificationService.reconcileUnreadCounts();
+
+        verify(notificationRepository).reconcileUnreadCounts();
+    }
+}
@@ -5,14 +5,18 @@ import com.jiralike.dto.ProjectCreateDto;
 import com.jiralike.dto.ProjectDto;
 import com.jiralike.entity.BoardColumn;
 import com.jiralike.entity.Project;
+import com.jiralike.event.TicketChangedEvent;
 import com.jiralike.repository.BoardColumnRepository;
 import com.jiralike.repository.ProjectRepository;
+import com.jiralike.repository.TicketRepository;
+import com.jiralike.repository.projection.ProjectListRow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -28,12 +32,23 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class ProjectServiceTest {
 
+    private record Row(Long getId, String getName, String getKey, String getDescription, Instant getCreatedAt,
+                       Instant getUpdatedAt, int getTicketCount, int getOpenTicketCount, long getStoryPoints)
+            implements ProjectListRow {
+    }
+
     @Mock
     private ProjectRepository projectRepository;
 
     @Mock
     private BoardColumnRepository columnRepository;
 
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -52,17 +67,21 @@ class ProjectServiceTest {
 
     @Test
     void findAll_returnsAllProjects() {
-        when(projectRepository.findAll()).thenReturn(List.of(project));
+        when(projectRepository.findAllRows()).thenReturn(List.of(
+                new Row(1L, "Test Project", "TEST", "A test project", Instant.now(), Instant.now(), 7, 5, 21)));
 
         List<ProjectDto> result = projectService.findAll();
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getKey()).isEqualTo("TEST");
+        assertThat(result.get(0).getTicketCount()).isEqualTo(7);
+        assertThat(result.get(0).getOpenTicketCount()).isEqualTo(5);
+        assertThat(result.get(0).getStoryPoints()).isEqualTo(21);
     }
 
     @Test
     void findAll_returnsEmpty() {
-        when(projectRepository.findAll()).thenReturn(List.of());
+        when(projectRepository.findAllRows()).thenReturn(List.of());
 
         assertThat(projectService.findAll()).isEmpty();
     }
@@ -70,7 +89,7 @@ class ProjectServiceTest {
     @Test
     void findById_found_returnsDtoWithColumns() {
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-        when(columnRepository.findByProjectIdOrderByPositionAsc(1L)).thenReturn(List.of());
+        when(columnRepository.findByProjectIdOrderByPositionAscIdAsc(1L)).thenReturn(List.of());
 
         ProjectDto result = projectService.findById(1L);
 
@@ -78,6 +97,17 @@ class ProjectServiceTest {
         assertThat(result.getColumns()).isEmpty();
     }
 
+    @Test
+    void findWithoutColumns_skipsColumnQuery() {
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+
+        ProjectDto result = projectService.findWithoutColumns(1L);
+
+        assertThat(result.getKey()).isEqualTo("TEST");
+        assertThat(result.getColumns()).isNull();
+        verifyNoInteractions(columnRepository);
+    }
+
     @Test
     void findById_notFound_throwsNotFound() {
         when(projectRepository.findById(99L)).thenReturn(Optional.empty());
@@ -91,7 +121,7 @@ class ProjectServiceTest {
     @Test
     void findByKey_found_returnsDtoWithColumns() {
         when(projectRepository.findByKey("TEST")).thenReturn(Optional.of(project));
-        when(columnRepository.findByProjectIdOrderByPositionAsc(1L)).thenReturn(List.of());
+        when(columnRepository.findByProjectIdOrderByPositionAscIdAsc(1L)).thenReturn(List.of());
 
         ProjectDto result = projectService.findByKey("TEST");
 
@@ -122,7 +152,7 @@ class ProjectServiceTest {
             return p;
         });
         when(projectRepository.findById(2L)).thenReturn(Optional.of(project));
-        when(columnRepository.findByProjectIdOrderByPositionAsc(any())).thenReturn(List.of());
+        when(columnRepository.findByProjectIdOrderByPositionAscIdAsc(any())).thenReturn(List.of());
 
         ProjectDto result = projectService.create(dto);
 
@@ -155,7 +185,7 @@ class ProjectServiceTest {
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
         when(projectRepository.save(project)).thenReturn(project);
-        when(columnRepository.findByProjectIdOrderByPositionAsc(1L)).thenReturn(List.of());
+        when(columnRepository.findByProjectIdOrderByPositionAscIdAsc(1L)).thenReturn(List.of());
 
         ProjectDto result = projectService.update(1L, dto);
 
@@ -174,12 +204,15 @@ class ProjectServiceTest {
     }
 
     @Test
-    void delete_existingProject_deletesById() {
+    void delete_existingProject_deletesInBulkAndPublishesTicketDeletes() {
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(ticketRepository.findIdsByProjectId(1L)).thenReturn(List.of(100L, 101L));
 
         projectService.delete(1L);
 
-        verify(projectRepository).deleteById(1L);
+        verify(projectRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(eventPublisher).publishEvent(new TicketChangedEvent(100L, 1L, TicketChangedEvent.ChangeType.DELETED));
+        verify(eventPublisher).publishEvent(new TicketChangedEvent(101L, 1L, TicketChangedEvent.ChangeType.DELETED));
     }
 
     @Test
@@ -191,7 +224,7 @@ class ProjectServiceTest {
                 .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
                         .isEqualTo(HttpStatus.NOT_FOUND));
 
-        verify(projectRepository, never()).deleteById(any());
+        verify(projectRepository, never()).deleteAllByIdInBatch(any());
     }
 
     @Test
@@ -213,6 +246,30 @@ class ProjectServiceTest {
                         .isEqualTo(HttpStatus.NOT_FOUND));
     }
 
+    @Test
+    void touchBoard_incrementsVersion() {
+        projectService.touchBoard(1L);
+
+        verify(projectRepository).incrementBoardVersion(1L);
+    }
+
+    @Test
+    void getBoardVersionOrThrow_found_returnsVersion() {
+        when(projectRepository.findBoardVersion(1L)).thenReturn(4L);
+
+        assertThat(projectService.getBoardVersionOrThrow(1L)).isEqualTo(4L);
+    }
+
+    @Test
+    void getBoardVersionOrThrow_missing_throwsNotFound() {
+        when(projectRepository.findBoardVersion(5L)).thenReturn(null);
+
+        assertThatThrownBy(() -> projectService.getBoardVersionOrThrow(5L))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
+                        .isEqualTo(HttpStatus.NOT_FOUND));
+    }
+
     @Test
     void toColumnDtoWithoutTickets_mapsAllFields() {
         BoardColumn col = new BoardColumn();
@@ -221,6 +278,8 @@ class ProjectServiceTest {
         col.setPosition(0);
         col.setColor("#6B7280");
         col.setProject(project);
+        col.setTicketCount(4);
+        col.setStoryPoints(13);
 
         BoardColumnDto dto = projectService.toColumnDtoWithoutTickets(col);
 
@@ -229,6 +288,8 @@ class ProjectServiceTest {
         assertThat(dto.getPosition()).isEqualTo(0);
         assertThat(dto.getColor()).isEqualTo("#6B7280");
         assertThat(dto.getProjectId()).isEqualTo(1L);
+        assertThat(dto.getTicketCount()).isEqualTo(4);
+        assertThat(dto.getStoryPoints()).isEqualTo(13);
     }
 
     @Test
@@ -241,7 +302,7 @@ class ProjectServiceTest {
         col.setProject(project);
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-        when(columnRepository.findByProjectIdOrderByPositionAsc(1L)).thenReturn(List.of(col));
+        when(columnRepository.findByProjectIdOrderByPositionAscIdAsc(1L)).thenReturn(List.of(col));
 
         ProjectDto result = projectService.findById(1L);
 
@@ -0,0 +1,96 @@
+package com.jiralike.service;
+
+import com.jiralike.dto.BoardColumnDto;
+import com.jiralike.dto.CommentDto;
+import com.jiralike.dto.TicketDto;
+import com.jiralike.repository.ReactiveReadRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveBoardServiceTest {
+
+    @Mock
+    private ReactiveReadRepository readRepository;
+
+    @Mock
+    private MarkdownService markdownService;
+
+    @InjectMocks
+    private ReactiveBoardService boardService;
+
+    private BoardColumnDto column(Long id, String name) {
+        BoardColumnDto dto = new BoardColumnDto();
+        dto.setId(id);
+        dto.setName(name);
+        dto.setTickets(new ArrayList<>());
+        return dto;
+    }
+
+    private TicketDto ticket(Long id, Long columnId) {
+        TicketDto dto = new TicketDto();
+        dto.setId(id);
+        dto.setColumnId(columnId);
+        return dto;
+    }
+
+    @Test
+    void board_attachesTicketsToColumnsInOrder() {
+        when(readRepository.findColumns(1L)).thenReturn(Flux.just(column(10L, "To Do"), column(11L, "Done")));
+        when(readRepository.findCardsByProject(1L))
+                .thenReturn(Flux.just(ticket(100L, 10L), ticket(101L, 10L)));
+
+        StepVerifier.create(boardService.board(1L))
+                .assertNext(c -> {
+                    assertThat(c.getName()).isEqualTo("To Do");
+                    assertThat(c.getTickets()).extracting(TicketDto::getId).containsExactly(100L, 101L);
+                })
+                .assertNext(c -> {
+                    assertThat(c.getName()).isEqualTo("Done");
+                    assertThat(c.getTickets()).isEmpty();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void board_noColumns_completesEmpty() {
+        when(readRepository.findColumns(1L)).thenReturn(Flux.empty());
+        when(readRepository.findCardsByProject(1L)).thenReturn(Flux.empty());
+
+        StepVerifier.create(boardService.board(1L)).verifyComplete();
+    }
+
+    @Test
+    void tickets_streamsRepositoryRows() {
+        when(readRepository.findTicketsByProject(1L)).thenReturn(Flux.just(ticket(100L, 10L), ticket(101L, 11L)));
+
+        StepVerifier.create(boardService.tickets(1L), 1)
+                .assertNext(t -> assertThat(t.getId()).isEqualTo(100L))
+                .thenRequest(1)
+                .assertNext(t -> assertThat(t.getId()).isEqualTo(101L))
+                .verifyComplete();
+    }
+
+    @Test
+    void comments_renderMarkdown() {
+        CommentDto comment = new CommentDto();
+        comment.setId(5L);
+        comment.setContent("**hi**");
+        when(readRepository.findComments(100L)).thenReturn(Flux.just(comment));
+        when(markdownService.render("**hi**")).thenReturn("<p><strong>hi</strong></p>\n");
+
+        StepVerifier.create(boardService.comments(100L))
+                .assertNext(c -> assertThat(c.getRendered()).isEqualTo("<p><strong>hi</strong></p>\n"))
+                .verifyComplete();
+    }
+}
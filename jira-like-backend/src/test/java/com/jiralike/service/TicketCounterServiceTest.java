@@ -0,0 +1,111 @@
+package com.jiralike.service;
+
+import com.jiralike.entity.BoardColumn;
+import com.jiralike.entity.Project;
+import com.jiralike.repository.BoardColumnRepository;
+import com.jiralike.repository.ProjectRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketCounterServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private BoardColumnRepository columnRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private TicketCounterService counterService;
+
+    @Test
+    void apply_created_incrementsColumnAndProject() {
+        counterService.apply(1L, null, null, 10L, 3);
+
+        verify(columnRepository).adjustCounters(10L, 1, 3);
+        verify(projectRepository).adjustCounters(1L, 1, 3, null, 10L);
+    }
+
+    @Test
+    void apply_moved_shiftsBetweenColumns() {
+        counterService.apply(1L, 10L, 3, 20L, 5);
+
+        verify(columnRepository).adjustCounters(10L, -1, -3);
+        verify(columnRepository).adjustCounters(20L, 1, 5);
+        verify(projectRepository).adjustCounters(1L, 0, 2, 10L, 20L);
+    }
+
+    @Test
+    void apply_deleted_decrementsColumnAndProject() {
+        counterService.apply(1L, 10L, null, null, null);
+
+        verify(columnRepository).adjustCounters(10L, -1, 0);
+        verify(projectRepository).adjustCounters(1L, -1, 0, 10L, null);
+    }
+
+    @Test
+    void apply_sameColumnPointChange_adjustsPointsOnly() {
+        counterService.apply(1L, 10L, 2, 10L, 5);
+
+        verify(columnRepository).adjustCounters(10L, 0, 3);
+        verify(projectRepository).adjustCounters(1L, 0, 3, null, null);
+    }
+
+    @Test
+    void apply_noChange_isNoOp() {
+        counterService.apply(1L, 10L, 2, 10L, 2);
+
+        verifyNoInteractions(columnRepository, projectRepository);
+    }
+
+    @Test
+    void apply_refreshesOnlyEntitiesAlreadyLoaded() {
+        Project project = new Project();
+        BoardColumn from = new BoardColumn();
+        BoardColumn to = mock(BoardColumn.class, withSettings().extraInterfaces(HibernateProxy.class));
+        LazyInitializer lazy = mock(LazyInitializer.class);
+        when(lazy.isUninitialized()).thenReturn(true);
+        when(((HibernateProxy) to).asHibernateProxy()).thenReturn((HibernateProxy) to);
+        when(((HibernateProxy) to).getHibernateLazyInitializer()).thenReturn(lazy);
+        when(entityManager.getReference(Project.class, 1L)).thenReturn(project);
+        when(entityManager.getReference(BoardColumn.class, 10L)).thenReturn(from);
+        when(entityManager.getReference(BoardColumn.class, 20L)).thenReturn(to);
+
+        counterService.apply(1L, 10L, 3, 20L, 3);
+
+        var order = inOrder(projectRepository, entityManager);
+        order.verify(projectRepository).adjustCounters(1L, 0, 0, 10L, 20L);
+        order.verify(entityManager).refresh(from);
+        order.verify(entityManager).refresh(project);
+        verify(entityManager, never()).refresh(to);
+    }
+
+    @Test
+    void recount_reconcilesOneProject() {
+        counterService.recount(1L);
+
+        verify(columnRepository).reconcileCounters(1L);
+        verify(projectRepository).reconcileCounters(1L);
+    }
+
+    @Test
+    void reconcileAll_reconcilesEverything() {
+        when(columnRepository.reconcileCounters(null)).thenReturn(2);
+
+        counterService.reconcileAll();
+
+        verify(projectRepository).reconcileCounters(null);
+    }
+}
@@ -0,0 +1,123 @@
+package com.jiralike.service;
+
+import com.jiralike.dto.BoardColumnDto;
+import com.jiralike.dto.FilteredResultDto;
+import com.jiralike.dto.TicketDto;
+import com.jiralike.entity.BoardColumn;
+import com.jiralike.entity.Project;
+import com.jiralike.entity.Ticket;
+import com.jiralike.repository.AppUserRepository;
+import com.jiralike.repository.BoardColumnRepository;
+import com.jiralike.repository.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketFilterServiceTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private BoardColumnRepository columnRepository;
+
+    @Mock
+    private AppUserRepository userRepository;
+
+    @Mock
+    private TicketService ticketService;
+
+    @Mock
+    private ProjectService projectService;
+
+    @InjectMocks
+    private TicketFilterService filterService;
+
+    private BoardColumn todo;
+    private BoardColumn done;
+    private Ticket ticket;
+
+    @BeforeEach
+    void setUp() {
+        Project project = new Project();
+        project.setId(1L);
+
+        todo = new BoardColumn();
+        todo.setId(10L);
+        todo.setProject(project);
+        done = new BoardColumn();
+        done.setId(11L);
+        done.setProject(project);
+
+        ticket = new Ticket();
+        ticket.setId(100L);
+        ticket.setProject(project);
+        ticket.setColumn(todo);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findTickets_runsCompiledQueryAndReportsTiming() {
+        TicketDto dto = new TicketDto();
+        dto.setId(100L);
+        when(ticketRepository.findAll(any(Specification.class), any(Sort.class))).thenReturn(List.of(ticket));
+        when(ticketService.toDto(eq(ticket), anyMap())).thenReturn(dto);
+        when(ticketService.withCommentCounts(List.of(dto))).thenReturn(List.of(dto));
+
+        FilteredResultDto<TicketDto> result = filterService.findTickets(1L, "priority >= high and type = bug", null);
+
+        assertThat(result.getItems()).containsExactly(dto);
+        assertThat(result.getTiming().getPlan()).isEqualTo("(priority >= high AND type = bug)");
+        assertThat(result.getTiming().getQueryMs()).isNotNegative();
+        assertThat(result.getTiming().toServerTiming()).startsWith("parse;dur=");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findBoard_groupsTicketsIntoAllColumns() {
+        TicketDto dto = new TicketDto();
+        dto.setId(100L);
+        when(ticketRepository.findAll(any(Specification.class), any(Sort.class))).thenReturn(List.of(ticket));
+        when(ticketService.toDto(eq(ticket), anyMap())).thenReturn(dto);
+        when(columnRepository.findByProjectIdOrderByPositionAscIdAsc(1L)).thenReturn(List.of(todo, done));
+        when(projectService.toColumnDtoWithoutTickets(any(BoardColumn.class))).thenAnswer(inv -> {
+            BoardColumnDto col = new BoardColumnDto();
+            col.setId(((BoardColumn) inv.getArgument(0)).getId());
+            return col;
+        });
+
+        FilteredResultDto<BoardColumnDto> result = filterService.findBoard(1L, "points > 3", null);
+
+        assertThat(result.getItems()).hasSize(2);
+        assertThat(result.getItems().get(0).getTickets()).containsExactly(dto);
+        assertThat(result.getItems().get(1).getTickets()).isEmpty();
+        verify(ticketService).withCommentCounts(List.of(dto));
+    }
+
+    @Test
+    void findTickets_invalidFilter_throwsBadRequest() {
+        assertThatThrownBy(() -> filterService.findTickets(1L, "priority >>", null))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
+                        .isEqualTo(HttpStatus.BAD_REQUEST));
+
+        verifyNoInteractions(ticketRepository);
+    }
+}
@@ -0,0 +1,124 @@
+package com.jiralike.service;
+
+import com.jiralike.dto.TicketSearchPageDto;
+import com.jiralike.entity.Ticket;
+import com.jiralike.repository.TicketRepository;
+import com.jiralike.repository.projection.TicketSearchHit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketSearchServiceTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @InjectMocks
+    private TicketSearchService searchService;
+
+    private TicketSearchHit buildHit(Long id, float rank) {
+        TicketSearchHit hit = mock(TicketSearchHit.class);
+        lenient().when(hit.getId()).thenReturn(id);
+        lenient().when(hit.getProjectId()).thenReturn(1L);
+        lenient().when(hit.getProjectKey()).thenReturn("TEST");
+        lenient().when(hit.getColumnId()).thenReturn(10L);
+        lenient().when(hit.getTitle()).thenReturn("Login bug");
+        lenient().when(hit.getPriority()).thenReturn("HIGH");
+        lenient().when(hit.getTicketType()).thenReturn("BUG");
+        lenient().when(hit.getRank()).thenReturn(rank);
+        lenient().when(hit.getTitleHighlight()).thenReturn("\u0002Login\u0003 bug");
+        lenient().when(hit.getDescriptionHighlight()).thenReturn("");
+        return hit;
+    }
+
+    @Test
+    void search_firstPage_mapsHitsAndOmitsCursorWhenPageNotFull() {
+        TicketSearchHit hit = buildHit(100L, 0.5f);
+        when(ticketRepository.search("login", 1L, null, null, 20)).thenReturn(List.of(hit));
+
+        TicketSearchPageDto page = searchService.search(" login ", 1L, null, null);
+
+        assertThat(page.getResults()).hasSize(1);
+        assertThat(page.getResults().get(0).getPriority()).isEqualTo(Ticket.Priority.HIGH);
+        assertThat(page.getResults().get(0).getTicketType()).isEqualTo(Ticket.TicketType.BUG);
+        assertThat(page.getResults().get(0).getTitleHighlight()).isEqualTo("<mark>Login</mark> bug");
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void search_highlightsEscapeTicketTextAndKeepOnlyMatchMarkup() {
+        TicketSearchHit hit = buildHit(100L, 0.5f);
+        when(hit.getTitleHighlight()).thenReturn("<img src=x onerror=alert(1)> \u0002Login\u0003 & <mark>");
+        when(hit.getDescriptionHighlight()).thenReturn("\"\u0002login\u0003\" <script>alert('x')</script>");
+        when(ticketRepository.search("login", null, null, null, 20)).thenReturn(List.of(hit));
+
+        TicketSearchPageDto page = searchService.search("login", null, null, null);
+
+        assertThat(page.getResults().get(0).getTitleHighlight())
+                .isEqualTo("&lt;img src=x onerror=alert(1)&gt; <mark>Login</mark> &amp; &lt;mark&gt;");
+        assertThat(page.getResults().get(0).getDescriptionHighlight())
+                .isEqualTo("&quot;<mark>login</mark>&quot; &lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt;");
+    }
+
+    @Test
+    void search_fullPage_returnsCursorOfLastHit() {
+        TicketSearchHit first = buildHit(100L, 0.9f);
+        TicketSearchHit second = buildHit(90L, 0.5f);
+        when(ticketRepository.search("login", null, null, null, 2)).thenReturn(List.of(first, second));
+
+        TicketSearchPageDto page = searchService.search("login", null, null, 2);
+
+        assertThat(page.getNextCursor()).isEqualTo("0.5_90");
+    }
+
+    @Test
+    void search_withCursor_passesKeysetBounds() {
+        when(ticketRepository.search("login", null, 0.5f, 90L, 20)).thenReturn(List.of());
+
+        TicketSearchPageDto page = searchService.search("login", null, "0.5_90", null);
+
+        assertThat(page.getResults()).isEmpty();
+        verify(ticketRepository).search("login", null, 0.5f, 90L, 20);
+    }
+
+    @Test
+    void search_limitIsClamped() {
+        when(ticketRepository.search(anyString(), any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        searchService.search("login", null, null, 5000);
+        searchService.search("login", null, null, 0);
+
+        verify(ticketRepository).search("login", null, null, null, TicketSearchService.MAX_LIMIT);
+        verify(ticketRepository).search("login", null, null, null, 1);
+    }
+
+    @Test
+    void search_blankQuery_throwsBadRequest() {
+        assertThatThrownBy(() -> searchService.search("  ", null, null, null))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
+                        .isEqualTo(HttpStatus.BAD_REQUEST));
+
+        verifyNoInteractions(ticketRepository);
+    }
+
+    @Test
+    void search_malformedCursor_throwsBadRequest() {
+        assertThatThrownBy(() -> searchService.search("login", null, "garbage", null))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
+                        .isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+}
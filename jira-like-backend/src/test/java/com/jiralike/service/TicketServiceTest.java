@@ -3,24 +3,35 @@ package com.jiralike.service;
 import com.jiralike.dto.TicketCreateDto;
 import com.jiralike.dto.TicketDto;
 import com.jiralike.dto.TicketMoveDto;
+import com.jiralike.dto.UserDto;
 import com.jiralike.entity.*;
 import com.jiralike.entity.Ticket.Priority;
+import com.jiralike.event.MentionEvent;
+import com.jiralike.event.TicketChangedEvent;
 import com.jiralike.repository.BoardColumnRepository;
+import com.jiralike.repository.CommentRepository;
 import com.jiralike.repository.TicketRepository;
+import com.jiralike.repository.projection.TicketCommentCount;
+import com.jiralike.repository.projection.TicketDescriptionRow;
+import com.jiralike.repository.projection.TicketListRow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -32,18 +43,54 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class TicketServiceTest {
 
+    private record Row(Long getId, String getTitle, Priority getPriority, Ticket.TicketType getTicketType,
+                       Integer getPosition, Integer getStoryPoints, LocalDate getDueDate, Long getProjectId,
+                       String getProjectKey, Long getColumnId, String getColumnName, Instant getCreatedAt,
+                       Instant getUpdatedAt, Long getAssigneeId, String getAssigneeUsername,
+                       String getAssigneeEmail, String getAssigneeDisplayName, String getAssigneeAvatarUrl,
+                       Instant getAssigneeCreatedAt, Long getReporterId, String getReporterUsername,
+                       String getReporterEmail, String getReporterDisplayName, String getReporterAvatarUrl,
+                       Instant getReporterCreatedAt, String getDescription) implements TicketListRow {
+    }
+
+    private static Row row(Long id, Long assigneeId, Long reporterId) {
+        Instant now = Instant.now();
+        return new Row(id, "Fix bug", Priority.HIGH, Ticket.TicketType.BUG, 0, 3, null, 1L, "TEST", 10L, "To Do",
+                now, now,
+                assigneeId, assigneeId == null ? null : "dev", assigneeId == null ? null : "dev@example.com",
+                assigneeId == null ? null : "Dev", null, assigneeId == null ? null : now,
+                reporterId, reporterId == null ? null : "dev", reporterId == null ? null : "dev@example.com",
+                reporterId == null ? null : "Dev", null, reporterId == null ? null : now,
+                "A bug to fix");
+    }
+
     @Mock
     private TicketRepository ticketRepository;
 
     @Mock
     private BoardColumnRepository columnRepository;
 
+    @Mock
+    private CommentRepository commentRepository;
+
     @Mock
     private ProjectService projectService;
 
     @Mock
     private UserService userService;
 
+    @Mock
+    private MarkdownService markdownService;
+
+    @Mock
+    private TicketTransitionService transitionService;
+
+    @Mock
+    private TicketCounterService counterService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TicketService ticketService;
 
@@ -86,28 +133,153 @@ class TicketServiceTest {
 
     @Test
     void findByProject_returnsMappedTickets() {
-        when(ticketRepository.findByProjectIdWithUsers(1L)).thenReturn(List.of(ticket));
+        when(ticketRepository.findListByProject(1L)).thenReturn(List.of(row(100L, null, null)));
+        TicketCommentCount count = mock(TicketCommentCount.class);
+        when(count.getTicketId()).thenReturn(100L);
+        when(count.getCount()).thenReturn(3L);
+        when(commentRepository.countByProjectId(1L)).thenReturn(List.of(count));
 
         List<TicketDto> result = ticketService.findByProject(1L);
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getTitle()).isEqualTo("Fix bug");
+        assertThat(result.get(0).getDescription()).isEqualTo("A bug to fix");
+        assertThat(result.get(0).getCommentCount()).isEqualTo(3L);
+    }
+
+    @Test
+    void findCardsByProject_omitsDescriptionAndSharesUsers() {
+        when(ticketRepository.findCardsByProject(1L)).thenReturn(List.of(row(100L, 5L, 5L), row(101L, 5L, null)));
+        Map<Long, UserDto> users = new HashMap<>();
+
+        List<TicketDto> cards = ticketService.findCardsByProject(1L, users);
+
+        assertThat(cards).hasSize(2);
+        assertThat(cards.get(0).getDescription()).isNull();
+        assertThat(cards.get(0).getAssignee()).isSameAs(cards.get(1).getAssignee()).isSameAs(users.get(5L));
+        assertThat(cards.get(0).getReporter().getUsername()).isEqualTo("dev");
+        assertThat(cards.get(1).getReporter()).isNull();
+        assertThat(cards.get(1).getReporterId()).isNull();
+        verifyNoInteractions(userService, commentRepository);
+    }
+
+    @Test
+    void findCardPagesByProjects_loadsPagedIdsThenGroupsCardsByProject() {
+        when(ticketRepository.findPageIdsByProjectIds(List.of(1L, 2L), 10, 99L)).thenReturn(List.of(100L));
+        when(ticketRepository.findCardsByIds(List.of(100L))).thenReturn(List.of(row(100L, 5L, null)));
+
+        Map<Long, List<TicketDto>> result = ticketService.findCardPagesByProjects(List.of(1L, 2L), 10, 99L);
+
+        assertThat(result).containsOnlyKeys(1L);
+        assertThat(result.get(1L).get(0).getId()).isEqualTo(100L);
+    }
+
+    @Test
+    void findCardPagesByProjects_emptyPage_skipsCardQuery() {
+        when(ticketRepository.findPageIdsByProjectIds(List.of(1L), 10, null)).thenReturn(List.of());
+
+        assertThat(ticketService.findCardPagesByProjects(List.of(1L), 10, null)).isEmpty();
+        verify(ticketRepository, never()).findCardsByIds(any());
+    }
+
+    @Test
+    void findCardPagesByProjects_firstOutOfRange_throwsBadRequest() {
+        assertThatThrownBy(() -> ticketService.findCardPagesByProjects(List.of(1L), 501, null))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
+                        .isEqualTo(HttpStatus.BAD_REQUEST));
+        verifyNoInteractions(ticketRepository);
+    }
+
+    @Test
+    void findCardsByColumns_groupsByColumn() {
+        when(ticketRepository.findCardsByColumnIds(List.of(10L)))
+                .thenReturn(List.of(row(100L, 5L, 5L), row(101L, null, 5L)));
+
+        Map<Long, List<TicketDto>> result = ticketService.findCardsByColumns(List.of(10L));
+
+        assertThat(result.get(10L)).extracting(TicketDto::getId).containsExactly(100L, 101L);
+        assertThat(result.get(10L).get(1).getReporter()).isSameAs(result.get(10L).get(0).getAssignee());
+    }
+
+    @Test
+    void findDescriptions_keepsNullDescriptions() {
+        TicketDescriptionRow withText = mock(TicketDescriptionRow.class);
+        when(withText.getId()).thenReturn(100L);
+        when(withText.getDescription()).thenReturn("Text");
+        TicketDescriptionRow empty = mock(TicketDescriptionRow.class);
+        when(empty.getId()).thenReturn(101L);
+        when(ticketRepository.findDescriptions(List.of(100L, 101L))).thenReturn(List.of(withText, empty));
+
+        Map<Long, String> result = ticketService.findDescriptions(List.of(100L, 101L));
+
+        assertThat(result).containsEntry(100L, "Text").containsEntry(101L, null);
+    }
+
+    @Test
+    void toDto_row_mapsAllFields() {
+        TicketDto dto = ticketService.toDto(row(100L, 5L, null), new HashMap<>());
+
+        assertThat(dto.getId()).isEqualTo(100L);
+        assertThat(dto.getPriority()).isEqualTo(Priority.HIGH);
+        assertThat(dto.getStoryPoints()).isEqualTo(3);
+        assertThat(dto.getProjectKey()).isEqualTo("TEST");
+        assertThat(dto.getColumnName()).isEqualTo("To Do");
+        assertThat(dto.getAssigneeId()).isEqualTo(5L);
+        assertThat(dto.getAssignee().getEmail()).isEqualTo("dev@example.com");
+    }
+
+    @Test
+    void toDto_sharedUsers_mapsEachUserOnce() {
+        ticket.setAssignee(assignee);
+        ticket.setReporter(assignee);
+        UserDto assigneeDto = new UserDto();
+        assigneeDto.setId(5L);
+        when(userService.toDto(assignee)).thenReturn(assigneeDto);
+        Map<Long, UserDto> users = new HashMap<>();
+
+        TicketDto first = ticketService.toDto(ticket, users);
+        TicketDto second = ticketService.toDto(ticket, users);
+
+        assertThat(first.getAssignee()).isSameAs(second.getReporter());
+        assertThat(first.getAssigneeId()).isEqualTo(5L);
+        assertThat(second.getReporterId()).isEqualTo(5L);
+        verify(userService, times(1)).toDto(assignee);
+    }
+
+    @Test
+    void withCommentCounts_ticketWithoutComments_getsZero() {
+        TicketDto dto = new TicketDto();
+        dto.setId(7L);
+
+        ticketService.withCommentCounts(List.of(dto));
+
+        assertThat(dto.getCommentCount()).isZero();
+    }
+
+    @Test
+    void withCommentCounts_empty_skipsQuery() {
+        assertThat(ticketService.withCommentCounts(List.of())).isEmpty();
+        verifyNoInteractions(commentRepository);
     }
 
     @Test
     void findByProject_empty_returnsEmptyList() {
-        when(ticketRepository.findByProjectIdWithUsers(1L)).thenReturn(List.of());
+        when(ticketRepository.findListByProject(1L)).thenReturn(List.of());
 
         assertThat(ticketService.findByProject(1L)).isEmpty();
     }
 
     @Test
     void findById_found_returnsDto() {
+        ticket.setDescription("**Bold**");
         when(ticketRepository.findById(100L)).thenReturn(Optional.of(ticket));
+        when(markdownService.render("**Bold**")).thenReturn("<p><strong>Bold</strong></p>\n");
 
         TicketDto result = ticketService.findById(100L);
 
         assertThat(result.getId()).isEqualTo(100L);
+        assertThat(result.getRenderedDescription()).isEqualTo("<p><strong>Bold</strong></p>\n");
     }
 
     @Test
@@ -132,6 +304,7 @@ class TicketServiceTest {
         dto.setTicketType(Ticket.TicketType.STORY);
         dto.setStoryPoints(3);
         dto.setDueDate(LocalDate.now().plusDays(7));
+        dto.setDescription("Pairing with @alice");
 
         when(projectService.getProjectOrThrow(1L)).thenReturn(project);
         when(columnRepository.findById(10L)).thenReturn(Optional.of(column));
@@ -142,12 +315,18 @@ class TicketServiceTest {
             t.setId(101L);
             return t;
         });
+        when(markdownService.render("Pairing with @alice")).thenReturn("<p>Pairing with @alice</p>\n");
 
         TicketDto result = ticketService.create(dto);
 
         assertThat(result.getTitle()).isEqualTo("New ticket");
         assertThat(result.getPosition()).isEqualTo(3);
+        assertThat(result.getRenderedDescription()).isEqualTo("<p>Pairing with @alice</p>\n");
         verify(ticketRepository).save(any(Ticket.class));
+        verify(transitionService).record(any(Ticket.class), isNull(), eq(10L));
+        verify(transitionService).recordPoints(any(Ticket.class), isNull(), isNull(), eq(10L), eq(3));
+        verify(eventPublisher).publishEvent(new TicketChangedEvent(101L, 1L, TicketChangedEvent.ChangeType.CREATED));
+        verify(eventPublisher).publishEvent(new MentionEvent(101L, null, 5L, Set.of("alice")));
     }
 
     @Test
@@ -228,10 +407,14 @@ class TicketServiceTest {
         when(userService.getUserOrThrow(5L)).thenReturn(assignee);
         when(ticketRepository.save(any(Ticket.class))).thenReturn(ticket);
 
+        String previousDescription = ticket.getDescription();
+
         TicketDto result = ticketService.update(100L, dto);
 
         assertThat(result).isNotNull();
+        verify(markdownService).evict(previousDescription);
         verify(columnRepository).findById(20L);
+        verify(transitionService).record(ticket, 10L, 20L);
     }
 
     @Test
@@ -336,11 +519,15 @@ class TicketServiceTest {
         when(ticketRepository.findByColumnIdOrderByPositionAsc(10L))
                 .thenReturn(new ArrayList<>(List.of(ticket, other)));
         when(ticketRepository.save(any(Ticket.class))).thenAnswer(inv -> inv.getArgument(0));
+        ticket.setDescription("**Bold**");
+        when(markdownService.render("**Bold**")).thenReturn("<p><strong>Bold</strong></p>\n");
 
         TicketDto result = ticketService.move(100L, dto);
 
-        assertThat(result).isNotNull();
+        assertThat(result.getRenderedDescription()).isEqualTo("<p><strong>Bold</strong></p>\n");
         assertThat(other.getPosition()).isEqualTo(3);
+        verify(transitionService).record(ticket, 10L, 10L);
+        verify(eventPublisher).publishEvent(new TicketChangedEvent(100L, 1L, TicketChangedEvent.ChangeType.MOVED));
     }
 
     @Test
@@ -365,6 +552,10 @@ class TicketServiceTest {
         ticketService.delete(100L);
 
         verify(ticketRepository).deleteById(100L);
+        verify(transitionService).record(ticket, 10L, null);
+        verify(transitionService).recordPoints(ticket, 10L, null, null, null);
+        verify(counterService).apply(1L, 10L, null, null, null);
+        verify(eventPublisher).publishEvent(new TicketChangedEvent(100L, 1L, TicketChangedEvent.ChangeType.DELETED));
     }
 
     @Test
@@ -399,10 +590,11 @@ class TicketServiceTest {
     @Test
     void toDto_nullAssignee_assigneeDtoIsNull() {
         ticket.setAssignee(null);
-        when(userService.toDto(null)).thenReturn(null);
 
         TicketDto dto = ticketService.toDto(ticket);
 
         assertThat(dto.getAssignee()).isNull();
+        assertThat(dto.getAssigneeId()).isNull();
+        verify(userService, never()).toDto(null);
     }
 }
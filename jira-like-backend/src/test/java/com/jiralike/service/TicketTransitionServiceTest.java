@@ -0,0 +1,121 @@
+package com.jiralike.service;
+
+import com.jiralike.entity.Project;
+import com.jiralike.entity.Ticket;
+import com.jiralike.entity.TicketTransition;
+import com.jiralike.repository.TicketTransitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketTransitionServiceTest {
+
+    @Mock
+    private TicketTransitionRepository transitionRepository;
+
+    @InjectMocks
+    private TicketTransitionService transitionService;
+
+    private Ticket ticket;
+
+    @BeforeEach
+    void setUp() {
+        Project project = new Project();
+        project.setId(1L);
+        ticket = new Ticket();
+        ticket.setId(100L);
+        ticket.setProject(project);
+    }
+
+    @Test
+    void record_created_insertsTransitionFlowAndFlowTimes() {
+        transitionService.record(ticket, null, 10L);
+
+        ArgumentCaptor<TicketTransition> captor = ArgumentCaptor.forClass(TicketTransition.class);
+        verify(transitionRepository).save(captor.capture());
+        assertThat(captor.getValue().getTicketId()).isEqualTo(100L);
+        assertThat(captor.getValue().getFromColumnId()).isNull();
+        assertThat(captor.getValue().getToColumnId()).isEqualTo(10L);
+        verify(transitionRepository).addDailyFlow(eq(1L), eq(10L), any(LocalDate.class), eq(1), eq(0));
+        verify(transitionRepository).insertFlowTimes(eq(100L), eq(1L), eq(10L), any(Instant.class));
+        verify(transitionRepository, never()).updateFlowTimes(any(), any(), any(), any());
+        verify(transitionRepository, never()).deleteFlowTimes(any());
+    }
+
+    @Test
+    void record_moved_updatesBothColumnsAndFlowTimes() {
+        transitionService.record(ticket, 10L, 20L);
+
+        verify(transitionRepository).addDailyFlow(eq(1L), eq(10L), any(LocalDate.class), eq(0), eq(1));
+        verify(transitionRepository).addDailyFlow(eq(1L), eq(20L), any(LocalDate.class), eq(1), eq(0));
+        verify(transitionRepository).updateFlowTimes(eq(100L), eq(1L), eq(20L), any(Instant.class));
+        verify(transitionRepository, never()).deleteFlowTimes(any());
+    }
+
+    @Test
+    void record_deleted_recordsExitAndDropsFlowTimes() {
+        transitionService.record(ticket, 10L, null);
+
+        verify(transitionRepository).save(any(TicketTransition.class));
+        verify(transitionRepository).addDailyFlow(eq(1L), eq(10L), any(LocalDate.class), eq(0), eq(1));
+        verify(transitionRepository).deleteFlowTimes(100L);
+        verify(transitionRepository, never()).insertFlowTimes(any(), any(), any(), any());
+        verify(transitionRepository, never()).updateFlowTimes(any(), any(), any(), any());
+    }
+
+    @Test
+    void record_sameColumn_isNoOp() {
+        transitionService.record(ticket, 10L, 10L);
+
+        verifyNoInteractions(transitionRepository);
+    }
+
+    @Test
+    void recordPoints_created_addsPointsToColumn() {
+        transitionService.recordPoints(ticket, null, null, 10L, 5);
+
+        verify(transitionRepository).addDailyPoints(eq(1L), eq(10L), any(LocalDate.class), eq(5), eq(0), eq(5), eq(0));
+    }
+
+    @Test
+    void recordPoints_deleted_removesPointsFromColumn() {
+        transitionService.recordPoints(ticket, 10L, 3, null, null);
+
+        verify(transitionRepository).addDailyPoints(eq(1L), eq(10L), any(LocalDate.class), eq(0), eq(3), eq(0), eq(3));
+    }
+
+    @Test
+    void recordPoints_sameColumnEdit_recordsDifferenceAsScopeChange() {
+        transitionService.recordPoints(ticket, 10L, 5, 10L, 3);
+
+        verify(transitionRepository).addDailyPoints(eq(1L), eq(10L), any(LocalDate.class), eq(0), eq(2), eq(0), eq(2));
+    }
+
+    @Test
+    void recordPoints_moveWithIncrease_movesPointsAndRecordsAddition() {
+        transitionService.recordPoints(ticket, 10L, 3, 20L, 5);
+
+        verify(transitionRepository).addDailyPoints(eq(1L), eq(10L), any(LocalDate.class), eq(0), eq(3), eq(0), eq(0));
+        verify(transitionRepository).addDailyPoints(eq(1L), eq(20L), any(LocalDate.class), eq(5), eq(0), eq(2), eq(0));
+    }
+
+    @Test
+    void recordPoints_noPointsOrNoChange_isNoOp() {
+        transitionService.recordPoints(ticket, 10L, null, 20L, null);
+        transitionService.recordPoints(ticket, 10L, 4, 10L, 4);
+
+        verifyNoInteractions(transitionRepository);
+    }
+}
@@ -2,24 +2,37 @@ package com.jiralike.service;
 
 import com.jiralike.dto.UserCreateDto;
 import com.jiralike.dto.UserDto;
+import com.jiralike.dto.UserSummaryDto;
+import com.jiralike.dto.UserSyncResultDto;
 import com.jiralike.entity.AppUser;
+import com.jiralike.event.UserChangedEvent;
+import com.jiralike.event.UsersSyncedEvent;
 import com.jiralike.repository.AppUserRepository;
+import com.jiralike.repository.projection.UserListRow;
+import com.jiralike.repository.projection.UserUpsertRow;
+import com.jiralike.search.UserPrefixIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +41,12 @@ class UserServiceTest {
     @Mock
     private AppUserRepository userRepository;
 
+    @Mock
+    private UserPrefixIndex userPrefixIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -46,17 +65,101 @@ class UserServiceTest {
 
     @Test
     void findAll_returnsAllUsers() {
-        when(userRepository.findAll()).thenReturn(List.of(user));
+        when(userRepository.findAllRows()).thenReturn(List.of(new Row(1L, "jdoe", "jdoe@example.com", "John Doe",
+                "https://example.com/avatar.png", user.getCreatedAt())));
 
         List<UserDto> result = userService.findAll();
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getUsername()).isEqualTo("jdoe");
+        assertThat(result.get(0).getAvatarUrl()).isEqualTo("https://example.com/avatar.png");
+    }
+
+    @Test
+    void findByIds_keepsRequestOrderAndSkipsUnknown() {
+        AppUser other = new AppUser();
+        other.setId(2L);
+        other.setUsername("bob");
+        when(userRepository.findAllById(Set.of(2L, 1L, 9L))).thenReturn(List.of(user, other));
+
+        List<UserDto> result = userService.findByIds(List.of(2L, 1L, 9L, 2L));
+
+        assertThat(result).extracting(UserDto::getUsername).containsExactly("bob", "jdoe");
+    }
+
+    @Test
+    void findByIds_empty_skipsQuery() {
+        assertThat(userService.findByIds(List.of())).isEmpty();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void findByIds_tooMany_throwsBadRequest() {
+        List<Long> ids = LongStream.rangeClosed(1, UserService.MAX_BATCH_IDS + 1).boxed().toList();
+
+        assertThatThrownBy(() -> userService.findByIds(ids))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
+                        .isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sync_dedupesAndCountsOutcomes() {
+        when(userRepository.upsertBatch(anyList())).thenReturn(List.of(
+                new Outcome("alice", "CREATED"), new Outcome("bob", "UPDATED"),
+                new Outcome("carol", "UNCHANGED"), new Outcome("dave", "CONFLICT")));
+
+        UserSyncResultDto result = userService.sync(List.of(
+                syncUser("alice", "a@x.io"), syncUser("bob", "old@x.io"), syncUser("bob", "b@x.io"),
+                syncUser("carol", "c@x.io"), syncUser("dave", "d@x.io"), syncUser("eve", "a@x.io")));
+
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getUnchanged()).isEqualTo(1);
+        assertThat(result.getConflicts()).containsExactly("eve", "dave");
+        ArgumentCaptor<List<AppUser>> batch = ArgumentCaptor.forClass(List.class);
+        verify(userRepository).upsertBatch(batch.capture());
+        assertThat(batch.getValue()).extracting(AppUser::getEmail)
+                .containsExactly("a@x.io", "b@x.io", "c@x.io", "d@x.io");
+        verify(eventPublisher).publishEvent(new UsersSyncedEvent(1, 1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sync_splitsIntoBatches() {
+        List<UserCreateDto> users = IntStream.range(0, UserService.SYNC_BATCH_SIZE + 1)
+                .mapToObj(i -> syncUser("user" + i, "user" + i + "@x.io"))
+                .toList();
+        when(userRepository.upsertBatch(anyList())).thenAnswer(inv -> ((List<AppUser>) inv.getArgument(0)).stream()
+                .map(u -> (UserUpsertRow) new Outcome(u.getUsername(), "UNCHANGED"))
+                .toList());
+
+        UserSyncResultDto result = userService.sync(users);
+
+        assertThat(result.getUnchanged()).isEqualTo(UserService.SYNC_BATCH_SIZE + 1);
+        verify(userRepository, times(2)).upsertBatch(anyList());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static UserCreateDto syncUser(String username, String email) {
+        UserCreateDto dto = new UserCreateDto();
+        dto.setUsername(username);
+        dto.setEmail(email);
+        dto.setDisplayName(username);
+        return dto;
+    }
+
+    private record Row(Long getId, String getUsername, String getEmail, String getDisplayName, String getAvatarUrl,
+                       Instant getCreatedAt) implements UserListRow {
+    }
+
+    private record Outcome(String getUsername, String getOutcome) implements UserUpsertRow {
     }
 
     @Test
     void findAll_returnsEmptyList() {
-        when(userRepository.findAll()).thenReturn(List.of());
+        when(userRepository.findAllRows()).thenReturn(List.of());
 
         List<UserDto> result = userService.findAll();
 
@@ -104,6 +207,9 @@ class UserServiceTest {
         assertThat(result.getUsername()).isEqualTo("newuser");
         assertThat(result.getEmail()).isEqualTo("new@example.com");
         verify(userRepository).save(any(AppUser.class));
+        verify(eventPublisher).publishEvent(new UserChangedEvent(2L,
+                new UserSummaryDto(2L, "newuser", "New User", "https://example.com/new.png"),
+                UserChangedEvent.ChangeType.CREATED));
     }
 
     @Test
@@ -155,6 +261,7 @@ class UserServiceTest {
         UserDto result = userService.update(1L, dto);
 
         verify(userRepository).save(user);
+        verify(eventPublisher).publishEvent(any(UserChangedEvent.class));
         assertThat(result).isNotNull();
     }
 
@@ -175,6 +282,25 @@ class UserServiceTest {
         userService.delete(1L);
 
         verify(userRepository).deleteById(1L);
+        verify(eventPublisher).publishEvent(new UserChangedEvent(1L, null, UserChangedEvent.ChangeType.DELETED));
+    }
+
+    @Test
+    void suggest_defaultsAndClampsLimit() {
+        UserSummaryDto summary = new UserSummaryDto(1L, "jdoe", "John Doe", null);
+        when(userPrefixIndex.suggest("jo", UserService.DEFAULT_SUGGEST_LIMIT)).thenReturn(List.of(summary));
+
+        assertThat(userService.suggest("jo", null)).containsExactly(summary);
+
+        userService.suggest("jo", 10_000);
+        verify(userPrefixIndex).suggest("jo", UserService.MAX_SUGGEST_LIMIT);
+    }
+
+    @Test
+    void toSummaryDto_mapsFieldsAndHandlesNull() {
+        assertThat(userService.toSummaryDto(null)).isNull();
+        assertThat(userService.toSummaryDto(user))
+                .isEqualTo(new UserSummaryDto(1L, "jdoe", "John Doe", "https://example.com/avatar.png"));
     }
 
     @Test
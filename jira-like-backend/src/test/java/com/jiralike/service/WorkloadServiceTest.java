@@ -0,0 +1,125 @@
+package com.jiralike.service;
+
+import com.jiralike.dto.ProjectWorkloadDto;
+import com.jiralike.dto.UserWorkloadDto;
+import com.jiralike.event.UserChangedEvent;
+import com.jiralike.event.UsersSyncedEvent;
+import com.jiralike.repository.ProjectRepository;
+import com.jiralike.repository.TicketRepository;
+import com.jiralike.repository.projection.ProjectVersionRow;
+import com.jiralike.repository.projection.WorkloadRow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkloadServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @InjectMocks
+    private WorkloadService workloadService;
+
+    private record Version(Long getId, Long getBoardVersion) implements ProjectVersionRow {
+    }
+
+    private record Row(Long getProjectId, Long getAssigneeId, String getUsername, String getDisplayName,
+                       String getAvatarUrl, Long getColumnId, Long getTicketCount, Long getStoryPoints)
+            implements WorkloadRow {
+    }
+
+    @Test
+    void getWorkload_foldsRowsPerProjectAndUser() {
+        when(projectRepository.findBoardVersions(Set.of(1L, 2L)))
+                .thenReturn(List.of(new Version(1L, 4L), new Version(2L, 9L)));
+        when(ticketRepository.findWorkload(List.of(1L, 2L))).thenReturn(List.of(
+                new Row(1L, 5L, "jdoe", "John Doe", null, 10L, 2L, 5L),
+                new Row(1L, 5L, "jdoe", "John Doe", null, 20L, 1L, 8L),
+                new Row(1L, null, null, null, null, 10L, 3L, 0L),
+                new Row(2L, 6L, "asmith", "Alice Smith", null, 30L, 1L, 2L)));
+
+        List<ProjectWorkloadDto> result = workloadService.getWorkload(List.of(1L, 2L));
+
+        assertThat(result).extracting(ProjectWorkloadDto::getProjectId).containsExactly(1L, 2L);
+        List<UserWorkloadDto> users = result.get(0).getUsers();
+        assertThat(users).hasSize(2);
+        assertThat(users.get(0).getUser().getUsername()).isEqualTo("jdoe");
+        assertThat(users.get(0).getTicketCount()).isEqualTo(3);
+        assertThat(users.get(0).getStoryPoints()).isEqualTo(13);
+        assertThat(users.get(0).getColumns()).hasSize(2);
+        assertThat(users.get(1).getUser()).isNull();
+        assertThat(users.get(1).getTicketCount()).isEqualTo(3);
+        assertThat(result.get(1).getBoardVersion()).isEqualTo(9L);
+    }
+
+    @Test
+    void getWorkload_cachedProjectsAreNotRequeried() {
+        when(projectRepository.findBoardVersions(any()))
+                .thenReturn(List.of(new Version(1L, 4L)))
+                .thenReturn(List.of(new Version(1L, 4L), new Version(2L, 1L)));
+
+        workloadService.getWorkload(List.of(1L));
+        workloadService.getWorkload(List.of(1L, 2L));
+
+        verify(ticketRepository).findWorkload(List.of(1L));
+        verify(ticketRepository).findWorkload(List.of(2L));
+        assertThat(workloadService.getCache().getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void onUserChanged_clearsCache() {
+        when(projectRepository.findBoardVersions(any())).thenReturn(List.of(new Version(1L, 4L)));
+        workloadService.getWorkload(List.of(1L));
+
+        workloadService.onUserChanged(new UserChangedEvent(5L, null, UserChangedEvent.ChangeType.UPDATED));
+        workloadService.getWorkload(List.of(1L));
+
+        verify(ticketRepository, times(2)).findWorkload(List.of(1L));
+    }
+
+    @Test
+    void onUsersSynced_clearsCache() {
+        when(projectRepository.findBoardVersions(any())).thenReturn(List.of(new Version(1L, 4L)));
+        workloadService.getWorkload(List.of(1L));
+
+        workloadService.onUsersSynced(new UsersSyncedEvent(0, 3));
+        workloadService.getWorkload(List.of(1L));
+
+        verify(ticketRepository, times(2)).findWorkload(List.of(1L));
+    }
+
+    @Test
+    void getWorkload_unknownProject_throwsNotFound() {
+        when(projectRepository.findBoardVersions(any())).thenReturn(List.of(new Version(1L, 4L)));
+
+        assertThatThrownBy(() -> workloadService.getWorkload(List.of(1L, 99L)))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
+                        .isEqualTo(HttpStatus.NOT_FOUND));
+        verifyNoInteractions(ticketRepository);
+    }
+
+    @Test
+    void getWorkload_noIds_throwsBadRequest() {
+        assertThatThrownBy(() -> workloadService.getWorkload(List.of()))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
+                        .isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+}
@@ -63,10 +63,6 @@ function TicketCard({ ticket, onClick, isDragging }) {
 
       <h4 className="ticket-title">{ticket.title}</h4>
 
-      {ticket.description && (
-        <p className="ticket-description">{ticket.description}</p>
-      )}
-
       <div className="ticket-card-footer">
         <div className="ticket-meta-left">
           {ticket.storyPoints != null && (
@@ -87,8 +83,8 @@ function TicketCard({ ticket, onClick, isDragging }) {
 
       <div className="ticket-id-row">
         <span className="ticket-id">{ticket.projectKey}-{ticket.id}</span>
-        {ticket.comments?.length > 0 && (
-          <span className="comment-count">💬 {ticket.comments.length}</span>
+        {ticket.commentCount > 0 && (
+          <span className="comment-count">💬 {ticket.commentCount}</span>
         )}
       </div>
     </div>
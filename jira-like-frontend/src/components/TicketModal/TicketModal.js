@@ -1,10 +1,13 @@
 import React, { useState, useEffect } from 'react';
-import { ticketsApi, commentsApi } from '../../services/api';
+import { ticketsApi, commentsApi, batchApi } from '../../services/api';
 import './TicketModal.css';
 
 const PRIORITIES = ['LOW', 'MEDIUM', 'HIGH', 'CRITICAL'];
 const TICKET_TYPES = ['STORY', 'BUG', 'TASK', 'EPIC', 'SUBTASK'];
 
+// Pages after the first are fetched at the server's maximum page size.
+const COMMENT_PAGE_SIZE = 500;
+
 const PRIORITY_COLORS = {
   LOW: '#10b981', MEDIUM: '#f59e0b', HIGH: '#f97316', CRITICAL: '#ef4444',
 };
@@ -27,21 +30,41 @@ function TicketModal({ ticket, users, columns, onClose, onUpdated, onDeleted })
     reporterId: ticket.reporter?.id || '',
   });
   const [comments, setComments] = useState([]);
+  const [renderedDescription, setRenderedDescription] = useState(null);
   const [newComment, setNewComment] = useState('');
   const [commentAuthorId, setCommentAuthorId] = useState(users[0]?.id || '');
   const [saving, setSaving] = useState(false);
   const [activeTab, setActiveTab] = useState('details');
 
   useEffect(() => {
-    loadComments();
+    loadDetails();
   }, [ticket.id]);
 
-  const loadComments = async () => {
+  // Board cards omit the description; the single-ticket read has it, plus server-rendered HTML.
+  // It and the first page of comments arrive in one batch round trip; later pages follow the cursor.
+  const loadDetails = async () => {
     try {
-      const data = await commentsApi.getByTicket(ticket.id);
-      setComments(data);
+      const { results: [full, thread] } = await batchApi.execute([
+        { method: 'GET', path: `/api/tickets/${ticket.id}` },
+        { method: 'GET', path: `/api/tickets/${ticket.id}/comments` },
+      ]);
+      if (full.status === 200) {
+        setForm(f => ({ ...f, description: full.body.description || '' }));
+        setRenderedDescription(full.body.renderedDescription);
+      }
+      if (thread.status === 200) {
+        let loaded = thread.body;
+        let cursor = thread.headers?.['X-Next-Cursor'];
+        setComments(loaded);
+        while (cursor) {
+          const page = await commentsApi.getPage(ticket.id, { cursor, limit: COMMENT_PAGE_SIZE });
+          loaded = [...loaded, ...page.comments];
+          cursor = page.nextCursor;
+          setComments(loaded);
+        }
+      }
     } catch {
-      // silently ignore
+      // fall back to raw text and whatever comments loaded
     }
   };
 
@@ -58,6 +81,7 @@ function TicketModal({ ticket, users, columns, onClose, onUpdated, onDeleted })
         storyPoints: form.storyPoints ? Number(form.storyPoints) : null,
         dueDate: form.dueDate || null,
       });
+      setRenderedDescription(updated.renderedDescription);
       onUpdated(updated);
       setEditing(false);
     } catch (err) {
@@ -307,9 +331,16 @@ function TicketModal({ ticket, users, columns, onClose, onUpdated, onDeleted })
                     rows={5}
                   />
                 ) : (
-                  <div className="description-text">
-                    {ticket.description || <span className="empty-desc">No description</span>}
-                  </div>
+                  renderedDescription ? (
+                    <div
+                      className="description-text markdown-body"
+                      dangerouslySetInnerHTML={{ __html: renderedDescription }}
+                    />
+                  ) : (
+                    <div className="description-text">
+                      {form.description || <span className="empty-desc">No description</span>}
+                    </div>
+                  )
                 )}
               </div>
 
@@ -351,7 +382,14 @@ function TicketModal({ ticket, users, columns, onClose, onUpdated, onDeleted })
                         ✕
                       </button>
                     </div>
-                    <p className="comment-content">{comment.content}</p>
+                    {comment.rendered ? (
+                      <div
+                        className="comment-content markdown-body"
+                        dangerouslySetInnerHTML={{ __html: comment.rendered }}
+                      />
+                    ) : (
+                      <p className="comment-content">{comment.content}</p>
+                    )}
                   </div>
                 ))}
               </div>
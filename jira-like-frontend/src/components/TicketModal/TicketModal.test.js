@@ -0,0 +1,76 @@
+import React from 'react';
+import { createRoot } from 'react-dom/client';
+import { act } from 'react-dom/test-utils';
+import TicketModal from './TicketModal';
+import { batchApi, commentsApi } from '../../services/api';
+
+jest.mock('../../services/api', () => ({
+  ticketsApi: {},
+  batchApi: { execute: jest.fn() },
+  commentsApi: { getPage: jest.fn() },
+}));
+
+const comments = (from, count) =>
+  Array.from({ length: count }, (_, i) => ({ id: from + i, content: `comment ${from + i}` }));
+
+let container;
+let root;
+
+beforeEach(() => {
+  container = document.createElement('div');
+  document.body.appendChild(container);
+  root = createRoot(container);
+});
+
+afterEach(() => {
+  act(() => root.unmount());
+  container.remove();
+  jest.resetAllMocks();
+});
+
+const renderModal = async () => {
+  await act(async () => {
+    root.render(
+      <TicketModal
+        ticket={{ id: 7, title: 'Paged', projectId: 1, projectKey: 'DEMO', ticketType: 'TASK' }}
+        users={[]}
+        columns={[]}
+        onClose={() => {}}
+        onUpdated={() => {}}
+        onDeleted={() => {}}
+      />
+    );
+  });
+};
+
+it('follows the comment cursor past the first page', async () => {
+  batchApi.execute.mockResolvedValue({
+    results: [
+      { status: 200, body: { id: 7, description: '', renderedDescription: '' } },
+      { status: 200, headers: { 'X-Next-Cursor': 'c1' }, body: comments(1, 100) },
+    ],
+  });
+  commentsApi.getPage
+    .mockResolvedValueOnce({ comments: comments(101, 500), nextCursor: 'c2' })
+    .mockResolvedValueOnce({ comments: comments(601, 3), nextCursor: null });
+
+  await renderModal();
+
+  expect(commentsApi.getPage).toHaveBeenNthCalledWith(1, 7, { cursor: 'c1', limit: 500 });
+  expect(commentsApi.getPage).toHaveBeenNthCalledWith(2, 7, { cursor: 'c2', limit: 500 });
+  expect(container.textContent).toContain('Comments (603)');
+});
+
+it('stops after the first page when there is no cursor', async () => {
+  batchApi.execute.mockResolvedValue({
+    results: [
+      { status: 200, body: { id: 7, description: '', renderedDescription: '' } },
+      { status: 200, headers: {}, body: comments(1, 2) },
+    ],
+  });
+
+  await renderModal();
+
+  expect(commentsApi.getPage).not.toHaveBeenCalled();
+  expect(container.textContent).toContain('Comments (2)');
+});
@@ -111,7 +111,7 @@ function ProjectsPage() {
                 )}
                 <div className="project-card-footer">
                   <span className="project-meta">
-                    {project.columns ? `${project.columns.length} columns` : ""}
+                    {`${project.openTicketCount} open · ${project.ticketCount} tickets · ${project.storyPoints} pts`}
                   </span>
                   <span className="project-link">Open Board →</span>
                 </div>
@@ -13,11 +13,18 @@ export const projectsApi = {
   create: (data) => api.post('/projects', data).then(r => r.data),
   update: (id, data) => api.put(`/projects/${id}`, data).then(r => r.data),
   delete: (id) => api.delete(`/projects/${id}`),
+  facets: (id, params) => api.get(`/projects/${id}/facets`, { params }).then(r => r.data),
+  cumulativeFlow: (id, params) => api.get(`/projects/${id}/analytics/cumulative-flow`, { params }).then(r => r.data),
+  cycleTime: (id, params) => api.get(`/projects/${id}/analytics/cycle-time`, { params }).then(r => r.data),
+  burndown: (id, params) => api.get(`/projects/${id}/analytics/burndown`, { params }).then(r => r.data),
+  velocity: (id, params) => api.get(`/projects/${id}/analytics/velocity`, { params }).then(r => r.data),
+  workload: (id) => api.get(`/projects/${id}/workload`).then(r => r.data),
+  workloadFor: (projectIds) => api.get('/workload', { params: { projectIds: projectIds.join(',') } }).then(r => r.data),
 };
 
 // Board Columns
 export const columnsApi = {
-  getByProject: (projectId) => api.get(`/projects/${projectId}/columns`).then(r => r.data),
+  getByProject: (projectId, params) => api.get(`/projects/${projectId}/columns`, { params }).then(r => r.data),
   create: (data) => api.post('/columns', data).then(r => r.data),
   update: (id, data) => api.put(`/columns/${id}`, data).then(r => r.data),
   delete: (id) => api.delete(`/columns/${id}`),
@@ -25,7 +32,7 @@ export const columnsApi = {
 
 // Tickets
 export const ticketsApi = {
-  getByProject: (projectId) => api.get(`/projects/${projectId}/tickets`).then(r => r.data),
+  getByProject: (projectId, params) => api.get(`/projects/${projectId}/tickets`, { params }).then(r => r.data),
   getById: (id) => api.get(`/tickets/${id}`).then(r => r.data),
   create: (data) => api.post('/tickets', data).then(r => r.data),
   update: (id, data) => api.put(`/tickets/${id}`, data).then(r => r.data),
@@ -36,7 +43,13 @@ export const ticketsApi = {
 // Users
 export const usersApi = {
   getAll: () => api.get('/users').then(r => r.data),
+  getByIds: (ids) => api.get('/users', { params: { ids: ids.join(',') } }).then(r => r.data),
+  suggest: (q, limit) => api.get('/users/suggest', { params: { q, limit } }).then(r => r.data),
   getById: (id) => api.get(`/users/${id}`).then(r => r.data),
+  getAssignedTickets: (id, params) => api.get(`/users/${id}/tickets`, { params }).then(r => r.data),
+  getNotifications: (id, limit) => api.get(`/users/${id}/notifications`, { params: { limit } }).then(r => r.data),
+  getUnreadCount: (id) => api.get(`/users/${id}/notifications/unread-count`).then(r => r.data.unread),
+  markNotificationsRead: (id) => api.post(`/users/${id}/notifications/read`),
   create: (data) => api.post('/users', data).then(r => r.data),
   update: (id, data) => api.put(`/users/${id}`, data).then(r => r.data),
   delete: (id) => api.delete(`/users/${id}`),
@@ -44,10 +57,29 @@ export const usersApi = {
 
 // Comments
 export const commentsApi = {
-  getByTicket: (ticketId) => api.get(`/tickets/${ticketId}/comments`).then(r => r.data),
+  getByTicket: (ticketId, params) => api.get(`/tickets/${ticketId}/comments`, { params }).then(r => r.data),
+  // One oldest-first page plus the cursor of the next one (null on the last page).
+  getPage: (ticketId, params) => api.get(`/tickets/${ticketId}/comments`, { params })
+    .then(r => ({ comments: r.data, nextCursor: r.headers['x-next-cursor'] || null })),
   create: (ticketId, data) => api.post(`/tickets/${ticketId}/comments`, data).then(r => r.data),
+  getLatest: (ticketIds, perTicket) =>
+    api.get('/comments/latest', { params: { ticketIds: ticketIds.join(','), perTicket } }).then(r => r.data),
   update: (id, data) => api.put(`/comments/${id}`, data).then(r => r.data),
   delete: (id) => api.delete(`/comments/${id}`),
 };
 
+// Search
+export const searchApi = {
+  tickets: (q, params = {}) => api.get('/search/tickets', { params: { q, ...params } }).then(r => r.data),
+  projectTickets: (projectId, q, params = {}) =>
+    api.get(`/projects/${projectId}/search/tickets`, { params: { q, ...params } }).then(r => r.data),
+  suggest: (q, params = {}) => api.get('/search/tickets/suggest', { params: { q, ...params } }).then(r => r.data),
+};
+
+// Batch: several calls in one round trip. Paths include /api; each result carries its own status.
+// atomic runs writes in one transaction that is rolled back if any of them fails.
+export const batchApi = {
+  execute: (operations, atomic = false) => api.post('/batch', { atomic, operations }).then(r => r.data),
+};
+
 export default api;